@@ -0,0 +1,63 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.util.ReflectUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanUtil}拷贝和转换基准测试
+ *
+ * @author looly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanCopyBenchmark {
+
+	@Param({Payloads.SMALL, Payloads.NESTED, Payloads.WIDE})
+	public String payload;
+
+	private Object source;
+	private Class<?> beanType;
+	private Map<String, Object> map;
+
+	@Setup
+	public void setup() {
+		source = Payloads.create(payload);
+		beanType = source.getClass();
+		map = BeanUtil.beanToMap(source);
+	}
+
+	@Benchmark
+	public Object copyProperties() {
+		final Object target = ReflectUtil.newInstance(beanType);
+		BeanUtil.copyProperties(source, target);
+		return target;
+	}
+
+	@Benchmark
+	public Object beanToMap() {
+		return BeanUtil.beanToMap(source);
+	}
+
+	@Benchmark
+	public Object mapToBean() {
+		return BeanUtil.toBean(map, beanType);
+	}
+}
@@ -0,0 +1,89 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH结果对比工具，用于比较基线结果和当前结果（均为{@code -rf json}输出的JSON文件）<br>
+ * 对于平均耗时等模式，分数越低越好；对于吞吐量模式，分数越高越好。
+ * 任一基准的退化比例超过阈值时，以退出码1结束，便于在CI中使用。
+ *
+ * <pre>
+ * java -cp benchmarks.jar cn.hutool.benchmark.BenchmarkCompare baseline.json current.json [threshold]
+ * </pre>
+ *
+ * @author looly
+ */
+public class BenchmarkCompare {
+
+	/**
+	 * 默认退化阈值：10%
+	 */
+	private static final double DEFAULT_THRESHOLD = 0.1D;
+
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: BenchmarkCompare <baseline.json> <current.json> [threshold, default 0.1]");
+			System.exit(2);
+		}
+		final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+		final Map<String, JSONObject> baseline = load(args[0]);
+		final Map<String, JSONObject> current = load(args[1]);
+
+		int regressions = 0;
+		System.out.printf("%-70s %14s %14s %-8s %9s%n", "Benchmark", "Baseline", "Current", "Unit", "Change");
+		for (Map.Entry<String, JSONObject> entry : current.entrySet()) {
+			final JSONObject base = baseline.get(entry.getKey());
+			final JSONObject metric = entry.getValue().getJSONObject("primaryMetric");
+			final double score = metric.getDouble("score");
+			final String unit = metric.getStr("scoreUnit");
+			if (null == base) {
+				System.out.printf("%-70s %14s %14.3f %-8s %9s%n", entry.getKey(), "-", score, unit, "new");
+				continue;
+			}
+
+			final double baseScore = base.getJSONObject("primaryMetric").getDouble("score");
+			final double change = (score - baseScore) / baseScore;
+			// 吞吐量模式分数越高越好，其它模式分数越低越好
+			final boolean higherIsBetter = "thrpt".equals(entry.getValue().getStr("mode"));
+			final boolean regressed = higherIsBetter ? change < -threshold : change > threshold;
+			if (regressed) {
+				regressions++;
+			}
+			System.out.printf("%-70s %14.3f %14.3f %-8s %+8.1f%%%s%n", entry.getKey(), baseScore, score, unit,
+					change * 100, regressed ? " REGRESSION" : "");
+		}
+
+		System.out.printf("%n%d benchmark(s) regressed more than %.1f%%%n", regressions, threshold * 100);
+		if (regressions > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * 读取JMH的JSON结果，key为基准方法名加参数
+	 *
+	 * @param path JSON结果文件路径
+	 * @return 基准名称和结果的对应关系
+	 */
+	private static Map<String, JSONObject> load(String path) {
+		final JSONArray results = JSONUtil.parseArray(FileUtil.readUtf8String(path));
+		final Map<String, JSONObject> map = new LinkedHashMap<>();
+		for (JSONObject result : results.jsonIter()) {
+			final JSONObject params = result.getJSONObject("params");
+			String name = StrUtil.removePrefix(result.getStr("benchmark"), "cn.hutool.benchmark.");
+			if (null != params) {
+				name += new TreeMap<>(params);
+			}
+			map.put(name, result);
+		}
+		return map;
+	}
+}
@@ -0,0 +1,72 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Convert}类型转换基准测试
+ *
+ * @author looly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertBenchmark {
+
+	private static final TypeReference<List<Integer>> INT_LIST = new TypeReference<List<Integer>>() {
+	};
+
+	private final String intStr = "12345";
+	private final Integer intValue = 12345;
+	private final String decimalStr = "12345.6789";
+	private final String dateStr = "2024-11-20 12:34:56";
+	private final List<String> strList = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8");
+
+	@Benchmark
+	public Object stringToInt() {
+		return Convert.convert(Integer.class, intStr);
+	}
+
+	@Benchmark
+	public Object intToLong() {
+		return Convert.convert(Long.class, intValue);
+	}
+
+	@Benchmark
+	public Object identity() {
+		return Convert.convert(Integer.class, intValue);
+	}
+
+	@Benchmark
+	public Object stringToBigDecimal() {
+		return Convert.convert(BigDecimal.class, decimalStr);
+	}
+
+	@Benchmark
+	public Object stringToDate() {
+		return Convert.convert(Date.class, dateStr);
+	}
+
+	@Benchmark
+	public Object stringListToIntList() {
+		return Convert.convert(INT_LIST, strList);
+	}
+}
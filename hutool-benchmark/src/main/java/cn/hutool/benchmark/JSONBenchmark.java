@@ -0,0 +1,59 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.json.JSONUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JSONUtil}序列化和反序列化基准测试
+ *
+ * @author looly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONBenchmark {
+
+	@Param({Payloads.SMALL, Payloads.NESTED, Payloads.WIDE, Payloads.LARGE})
+	public String payload;
+
+	private Object bean;
+	private Class<?> beanType;
+	private String jsonStr;
+
+	@Setup
+	public void setup() {
+		bean = Payloads.create(payload);
+		beanType = bean.getClass();
+		jsonStr = JSONUtil.toJsonStr(bean);
+	}
+
+	@Benchmark
+	public String toJsonStr() {
+		return JSONUtil.toJsonStr(bean);
+	}
+
+	@Benchmark
+	public Object toBean() {
+		return JSONUtil.toBean(jsonStr, beanType);
+	}
+
+	@Benchmark
+	public Object parse() {
+		return JSONUtil.parse(jsonStr);
+	}
+}
@@ -0,0 +1,472 @@
+package cn.hutool.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试使用的样本数据，分为以下几种：
+ * <ul>
+ *     <li>small：字段较少的扁平Bean</li>
+ *     <li>nested：包含子对象、列表和Map的多层Bean</li>
+ *     <li>wide：字段较多的扁平Bean</li>
+ *     <li>large：包含大量子对象的Bean</li>
+ * </ul>
+ * 所有数据使用固定的种子生成，保证多次运行之间的结果可比较。
+ *
+ * @author looly
+ */
+public class Payloads {
+
+	/**
+	 * 样本类型
+	 */
+	public static final String SMALL = "small";
+	public static final String NESTED = "nested";
+	public static final String WIDE = "wide";
+	public static final String LARGE = "large";
+
+	/**
+	 * 固定的时间戳，避免不同运行之间数据差异
+	 */
+	private static final long BASE_TIME = 1700000000000L;
+
+	/**
+	 * 根据样本类型创建Bean
+	 *
+	 * @param type 样本类型
+	 * @return Bean
+	 */
+	public static Object create(String type) {
+		switch (type) {
+			case SMALL:
+				return user(1);
+			case NESTED:
+				return order(1, 10);
+			case WIDE:
+				return wide(1);
+			case LARGE:
+				return order(1, 1000);
+			default:
+				throw new IllegalArgumentException("Unknown payload type: " + type);
+		}
+	}
+
+	/**
+	 * 根据样本类型获取Bean类型
+	 *
+	 * @param type 样本类型
+	 * @return Bean类型
+	 */
+	public static Class<?> typeOf(String type) {
+		return create(type).getClass();
+	}
+
+	/**
+	 * 创建用户
+	 *
+	 * @param id ID
+	 * @return 用户
+	 */
+	public static User user(int id) {
+		final User user = new User();
+		user.setId(id);
+		user.setName("user-" + id);
+		user.setEmail("user" + id + "@hutool.cn");
+		user.setAge(20 + id % 50);
+		user.setActive(id % 2 == 0);
+		user.setScore(id * 1.5D);
+		user.setBirthday(new Date(BASE_TIME - id * 86400000L));
+		return user;
+	}
+
+	/**
+	 * 创建订单
+	 *
+	 * @param id        ID
+	 * @param itemCount 订单项数量
+	 * @return 订单
+	 */
+	public static Order order(int id, int itemCount) {
+		final Order order = new Order();
+		order.setId((long) id);
+		order.setUser(user(id));
+		final List<Item> items = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			final Item item = new Item();
+			item.setSku("SKU-" + i);
+			item.setQuantity(i % 5 + 1);
+			item.setPrice(9.9D * (i + 1));
+			items.add(item);
+		}
+		order.setItems(items);
+		final Map<String, String> attrs = new LinkedHashMap<>();
+		attrs.put("channel", "web");
+		attrs.put("coupon", "NONE");
+		order.setAttrs(attrs);
+		return order;
+	}
+
+	/**
+	 * 创建宽Bean
+	 *
+	 * @param id ID
+	 * @return 宽Bean
+	 */
+	public static WideBean wide(int id) {
+		final WideBean bean = new WideBean();
+		bean.setF01("v" + id);
+		bean.setF02(id);
+		bean.setF03(id * 10L);
+		bean.setF04(id * 0.5D);
+		bean.setF05(true);
+		bean.setF06("text-" + id);
+		bean.setF07(id + 1);
+		bean.setF08(id * 100L);
+		bean.setF09(id * 0.25D);
+		bean.setF10(false);
+		bean.setF11("field-" + id);
+		bean.setF12(id + 2);
+		bean.setF13(id * 1000L);
+		bean.setF14(id * 0.125D);
+		bean.setF15(true);
+		bean.setF16("value-" + id);
+		bean.setF17(id + 3);
+		bean.setF18(id * 10000L);
+		bean.setF19(id * 0.0625D);
+		bean.setF20(new Date(BASE_TIME));
+		return bean;
+	}
+
+	/**
+	 * 用户
+	 */
+	public static class User {
+		private int id;
+		private String name;
+		private String email;
+		private Integer age;
+		private boolean active;
+		private Double score;
+		private Date birthday;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public Integer getAge() {
+			return age;
+		}
+
+		public void setAge(Integer age) {
+			this.age = age;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public Double getScore() {
+			return score;
+		}
+
+		public void setScore(Double score) {
+			this.score = score;
+		}
+
+		public Date getBirthday() {
+			return birthday;
+		}
+
+		public void setBirthday(Date birthday) {
+			this.birthday = birthday;
+		}
+	}
+
+	/**
+	 * 订单项
+	 */
+	public static class Item {
+		private String sku;
+		private int quantity;
+		private double price;
+
+		public String getSku() {
+			return sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+	}
+
+	/**
+	 * 订单
+	 */
+	public static class Order {
+		private Long id;
+		private User user;
+		private List<Item> items;
+		private Map<String, String> attrs;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public User getUser() {
+			return user;
+		}
+
+		public void setUser(User user) {
+			this.user = user;
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+
+		public void setItems(List<Item> items) {
+			this.items = items;
+		}
+
+		public Map<String, String> getAttrs() {
+			return attrs;
+		}
+
+		public void setAttrs(Map<String, String> attrs) {
+			this.attrs = attrs;
+		}
+	}
+
+	/**
+	 * 包含20个字段的宽Bean
+	 */
+	public static class WideBean {
+		private String f01;
+		private int f02;
+		private long f03;
+		private double f04;
+		private boolean f05;
+		private String f06;
+		private int f07;
+		private long f08;
+		private double f09;
+		private boolean f10;
+		private String f11;
+		private int f12;
+		private long f13;
+		private double f14;
+		private boolean f15;
+		private String f16;
+		private int f17;
+		private long f18;
+		private double f19;
+		private Date f20;
+
+		public String getF01() {
+			return f01;
+		}
+
+		public void setF01(String f01) {
+			this.f01 = f01;
+		}
+
+		public int getF02() {
+			return f02;
+		}
+
+		public void setF02(int f02) {
+			this.f02 = f02;
+		}
+
+		public long getF03() {
+			return f03;
+		}
+
+		public void setF03(long f03) {
+			this.f03 = f03;
+		}
+
+		public double getF04() {
+			return f04;
+		}
+
+		public void setF04(double f04) {
+			this.f04 = f04;
+		}
+
+		public boolean isF05() {
+			return f05;
+		}
+
+		public void setF05(boolean f05) {
+			this.f05 = f05;
+		}
+
+		public String getF06() {
+			return f06;
+		}
+
+		public void setF06(String f06) {
+			this.f06 = f06;
+		}
+
+		public int getF07() {
+			return f07;
+		}
+
+		public void setF07(int f07) {
+			this.f07 = f07;
+		}
+
+		public long getF08() {
+			return f08;
+		}
+
+		public void setF08(long f08) {
+			this.f08 = f08;
+		}
+
+		public double getF09() {
+			return f09;
+		}
+
+		public void setF09(double f09) {
+			this.f09 = f09;
+		}
+
+		public boolean isF10() {
+			return f10;
+		}
+
+		public void setF10(boolean f10) {
+			this.f10 = f10;
+		}
+
+		public String getF11() {
+			return f11;
+		}
+
+		public void setF11(String f11) {
+			this.f11 = f11;
+		}
+
+		public int getF12() {
+			return f12;
+		}
+
+		public void setF12(int f12) {
+			this.f12 = f12;
+		}
+
+		public long getF13() {
+			return f13;
+		}
+
+		public void setF13(long f13) {
+			this.f13 = f13;
+		}
+
+		public double getF14() {
+			return f14;
+		}
+
+		public void setF14(double f14) {
+			this.f14 = f14;
+		}
+
+		public boolean isF15() {
+			return f15;
+		}
+
+		public void setF15(boolean f15) {
+			this.f15 = f15;
+		}
+
+		public String getF16() {
+			return f16;
+		}
+
+		public void setF16(String f16) {
+			this.f16 = f16;
+		}
+
+		public int getF17() {
+			return f17;
+		}
+
+		public void setF17(int f17) {
+			this.f17 = f17;
+		}
+
+		public long getF18() {
+			return f18;
+		}
+
+		public void setF18(long f18) {
+			this.f18 = f18;
+		}
+
+		public double getF19() {
+			return f19;
+		}
+
+		public void setF19(double f19) {
+			this.f19 = f19;
+		}
+
+		public Date getF20() {
+			return f20;
+		}
+
+		public void setF20(Date f20) {
+			this.f20 = f20;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StrUtil#format(CharSequence, Object...)}基准测试
+ *
+ * @author looly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrFormatBenchmark {
+
+	private final String userId = "10086";
+	private final long elapsed = 128L;
+
+	@Benchmark
+	public String noPlaceholder() {
+		return StrUtil.format("Request finished without any placeholder", userId);
+	}
+
+	@Benchmark
+	public String twoPlaceholders() {
+		return StrUtil.format("User {} request finished in {}ms", userId, elapsed);
+	}
+
+	@Benchmark
+	public String escapedPlaceholder() {
+		return StrUtil.format("User {} literal \\{} and {}ms", userId, elapsed);
+	}
+
+	@Benchmark
+	public String manyPlaceholders() {
+		return StrUtil.format("{}-{}-{}-{}-{}-{}-{}-{}", 1, 2, 3, 4, 5, 6, 7, 8);
+	}
+}
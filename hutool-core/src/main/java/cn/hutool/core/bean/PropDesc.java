@@ -2,7 +2,10 @@ package cn.hutool.core.bean;
 
 import cn.hutool.core.annotation.AnnotationUtil;
 import cn.hutool.core.annotation.PropIgnore;
+import cn.hutool.core.convert.BasicType;
 import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.lang.reflect.LambdaFactory;
 import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.ModifierUtil;
 import cn.hutool.core.util.ReflectUtil;
@@ -10,8 +13,11 @@ import cn.hutool.core.util.TypeUtil;
 
 import java.beans.Transient;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * 属性描述，包括了字段、getter、setter和相应的方法执行
@@ -32,6 +38,22 @@ public class PropDesc {
 	 * Setter方法
 	 */
 	protected Method setter;
+	/**
+	 * Getter方法或public字段读取对应的函数，首次使用时生成
+	 */
+	private Function<Object, Object> getterFunc;
+	/**
+	 * Setter方法或public字段赋值对应的函数，首次使用时生成，volatile保证参数类型先于函数可见
+	 */
+	private volatile BiConsumer<Object, Object> setterFunc;
+	/**
+	 * Setter方法的参数类型或字段类型
+	 */
+	private Class<?> setterParamType;
+	/**
+	 * Setter方法的参数类型或字段类型（包装类型）
+	 */
+	private Class<?> setterParamClass;
 
 	/**
 	 * 构造<br>
@@ -151,13 +173,28 @@ public class PropDesc {
 	 * @since 4.0.5
 	 */
 	public Object getValue(Object bean) {
-		if (null != this.getter) {
-			return ReflectUtil.invoke(bean, this.getter);
-		} else if (ModifierUtil.isPublic(this.field)) {
-			return ReflectUtil.getFieldValue(bean, this.field);
+		Function<Object, Object> getterFunc = this.getterFunc;
+		if (null == getterFunc) {
+			if (null != this.getter) {
+				getterFunc = LambdaFactory.buildGetter(this.getter);
+			} else if (ModifierUtil.isPublic(this.field)) {
+				getterFunc = LambdaFactory.buildFieldGetter(this.field);
+			} else {
+				return null;
+			}
+			this.getterFunc = getterFunc;
 		}
 
-		return null;
+		if (null == this.getter) {
+			// 字段读取的异常与ReflectUtil.getFieldValue一致
+			return getterFunc.apply(bean);
+		}
+		try {
+			return getterFunc.apply(bean);
+		} catch (Exception e) {
+			// 与反射调用的异常链保持一致
+			throw new InvocationTargetRuntimeException(new InvocationTargetException(e));
+		}
 	}
 
 	/**
@@ -222,10 +259,44 @@ public class PropDesc {
 	 * @since 4.0.5
 	 */
 	public PropDesc setValue(Object bean, Object value) {
-		if (null != this.setter) {
-			ReflectUtil.invoke(bean, this.setter, value);
-		} else if (ModifierUtil.isPublic(this.field)) {
-			ReflectUtil.setFieldValue(bean, this.field, value);
+		BiConsumer<Object, Object> setterFunc = this.setterFunc;
+		if (null == setterFunc) {
+			if (null != this.setter) {
+				this.setterParamType = this.setter.getParameterTypes()[0];
+				setterFunc = LambdaFactory.buildSetter(this.setter);
+			} else if (ModifierUtil.isPublic(this.field)) {
+				this.setterParamType = this.field.getType();
+				setterFunc = LambdaFactory.buildFieldSetter(this.field);
+			} else {
+				return this;
+			}
+			this.setterParamClass = BasicType.wrap(this.setterParamType);
+			this.setterFunc = setterFunc;
+		}
+
+		if (null == value) {
+			// 原始类型参数使用默认值
+			value = ClassUtil.getDefaultValue(this.setterParamType);
+		} else if (false == this.setterParamClass.isInstance(value)) {
+			// 类型不匹配时由ReflectUtil转换
+			if (null != this.setter) {
+				ReflectUtil.invoke(bean, this.setter, value);
+			} else {
+				ReflectUtil.setFieldValue(bean, this.field, value);
+			}
+			return this;
+		}
+
+		if (null == this.setter) {
+			// 字段赋值的异常与ReflectUtil.setFieldValue一致
+			setterFunc.accept(bean, value);
+			return this;
+		}
+		try {
+			setterFunc.accept(bean, value);
+		} catch (Exception e) {
+			// 与反射调用的异常链保持一致
+			throw new InvocationTargetRuntimeException(new InvocationTargetException(e));
 		}
 		return this;
 	}
@@ -0,0 +1,403 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanException;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.AbstractConverter;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.convert.TypeConverter;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.Opt;
+import cn.hutool.core.lang.reflect.LambdaFactory;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 编译后的Bean到Bean属性拷贝器<br>
+ * 根据源Bean类型、目标Bean类型和{@link CopyOptions}中与属性匹配相关的选项，预先计算需要拷贝的属性对，
+ * 并通过{@link LambdaFactory}将Getter和Setter转换为函数调用，拷贝时不再遍历属性Map、匹配字段名和反射调用。<br>
+ * 与值相关的选项（属性过滤器、值编辑器、转换器、忽略null值、覆盖、忽略错误等）在每次拷贝时从传入的{@link CopyOptions}中读取，
+ * 因此拷贝结果与{@link BeanToBeanCopier}逐属性拷贝一致。
+ *
+ * <p>当{@link CopyOptions}未设置字段名编辑器（包括字段映射）且目标类型不是泛型类型时，编译结果会被缓存，
+ * 缓存键为：源类型、目标类型（或editable）、ignoreCase、transientSupport、autoTransCamelCase和忽略的属性。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class CompiledBeanCopier {
+
+	/**
+	 * 编译结果缓存，按照源类型存放于{@link ClassValue}，键为目标类型及相关选项<br>
+	 * 拷贝器通过属性描述和生成的函数引用源类型，如果放在以源类型为弱引用键的Map中，值会使键一直可达，导致类和类加载器无法卸载；
+	 * {@link ClassValue}的值由类本身持有，只随类一同回收。注意目标类型由源类型的缓存持有，源类型卸载前目标类型不会被卸载。
+	 */
+	private static volatile ClassValue<Map<PlanKey, CompiledBeanCopier>> cache = newCache();
+
+	/**
+	 * 需要拷贝的属性对
+	 */
+	private final PropPair[] pairs;
+
+	/**
+	 * 获取编译后的拷贝器，可缓存时从缓存中获取
+	 *
+	 * @param sourceClass 源Bean类型
+	 * @param editable    目标Bean类型或限制的父类、接口
+	 * @param targetType  目标Bean的泛型类型，用于解析泛型字段，{@code null}表示使用editable
+	 * @param copyOptions 拷贝选项
+	 * @return CompiledBeanCopier
+	 */
+	public static CompiledBeanCopier of(final Class<?> sourceClass, final Class<?> editable, Type targetType, final CopyOptions copyOptions) {
+		if (null == targetType) {
+			targetType = editable;
+		}
+		if (null != copyOptions.fieldNameEditor || false == (targetType instanceof Class)) {
+			// 字段名编辑器无法判断是否相同，泛型类型不缓存
+			return new CompiledBeanCopier(sourceClass, editable, targetType, copyOptions);
+		}
+
+		final Map<PlanKey, CompiledBeanCopier> plans = cache.get(sourceClass);
+		// 查找时直接引用选项中的忽略属性集合，放入缓存时才复制，避免每次拷贝复制集合
+		CompiledBeanCopier copier = plans.get(new PlanKey(editable, (Class<?>) targetType, copyOptions, false));
+		if (null == copier) {
+			copier = new CompiledBeanCopier(sourceClass, editable, targetType, copyOptions);
+			final CompiledBeanCopier exist = plans.putIfAbsent(new PlanKey(editable, (Class<?>) targetType, copyOptions, true), copier);
+			if (null != exist) {
+				copier = exist;
+			}
+		}
+		return copier;
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public static void clearCache() {
+		// ClassValue无法遍历清空，替换后旧的值随ClassValue一同回收
+		cache = newCache();
+	}
+
+	/**
+	 * 创建编译结果缓存
+	 *
+	 * @return 缓存
+	 */
+	private static ClassValue<Map<PlanKey, CompiledBeanCopier>> newCache() {
+		return new ClassValue<Map<PlanKey, CompiledBeanCopier>>() {
+			@Override
+			protected Map<PlanKey, CompiledBeanCopier> computeValue(final Class<?> type) {
+				return new SafeConcurrentHashMap<>();
+			}
+		};
+	}
+
+	/**
+	 * 构造，计算需要拷贝的属性对
+	 *
+	 * @param sourceClass 源Bean类型
+	 * @param editable    目标Bean类型或限制的父类、接口
+	 * @param targetType  目标Bean的泛型类型
+	 * @param copyOptions 拷贝选项
+	 */
+	public CompiledBeanCopier(final Class<?> sourceClass, final Class<?> editable, final Type targetType, final CopyOptions copyOptions) {
+		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(editable).getPropMap(copyOptions.ignoreCase);
+		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(sourceClass).getPropMap(copyOptions.ignoreCase);
+
+		final List<PropPair> pairs = new ArrayList<>(sourcePropDescMap.size());
+		sourcePropDescMap.forEach((sFieldName, sDesc) -> {
+			if (null == sFieldName || false == sDesc.isReadable(copyOptions.transientSupport)) {
+				// 字段空或不可读，跳过
+				return;
+			}
+
+			sFieldName = copyOptions.editFieldName(sFieldName);
+			// 对key做转换，转换后为null的跳过
+			if (null == sFieldName) {
+				return;
+			}
+
+			// 忽略不需要拷贝的 key,
+			if (false == copyOptions.testKeyFilter(sFieldName)) {
+				return;
+			}
+
+			// 检查目标字段可写性
+			final PropDesc tDesc = copyOptions.findPropDesc(targetPropDescMap, sFieldName);
+			if (null == tDesc || false == tDesc.isWritable(copyOptions.transientSupport)) {
+				// 字段不可写，跳过之
+				return;
+			}
+
+			pairs.add(new PropPair(sFieldName, sDesc, tDesc, TypeUtil.getActualType(targetType, tDesc.getFieldType())));
+		});
+		this.pairs = pairs.toArray(new PropPair[0]);
+	}
+
+	/**
+	 * 拷贝属性，规则与{@link BeanToBeanCopier}一致
+	 *
+	 * @param <T>         目标Bean类型
+	 * @param source      源Bean，类型必须与编译时的源类型一致
+	 * @param target      目标Bean，必须为编译时目标类型或其子类的对象
+	 * @param copyOptions 拷贝选项，与属性匹配相关的选项必须与编译时一致
+	 * @return 目标Bean
+	 */
+	public <T> T copy(final Object source, final T target, final CopyOptions copyOptions) {
+		final boolean defaultConvert = copyOptions.isDefaultConvert();
+		for (final PropPair pair : this.pairs) {
+			// 检查源对象属性是否过滤属性
+			Object value = pair.getValue(source);
+			if (false == copyOptions.testPropertyFilter(pair.sourceField, value)) {
+				continue;
+			}
+
+			// 获取目标字段真实类型并转换源值，已经是目标类型时跳过转换
+			if (false == defaultConvert || pair.needsConvert(value)) {
+				value = copyOptions.convertField(pair.targetType, value);
+			}
+			value = copyOptions.editFieldValue(pair.name, value);
+
+			// 目标赋值
+			pair.setValue(target, value, copyOptions);
+		}
+		return target;
+	}
+
+	/**
+	 * 源属性和目标属性对
+	 */
+	private static class PropPair {
+		/**
+		 * 编辑后的属性名
+		 */
+		final String name;
+		/**
+		 * 源字段，用于属性过滤器
+		 */
+		final Field sourceField;
+		final PropDesc targetDesc;
+		/**
+		 * 目标字段真实类型
+		 */
+		final Type targetType;
+		/**
+		 * 默认转换器不改变此类型的实例，{@code null}表示需要转换
+		 */
+		final Class<?> identityClass;
+		/**
+		 * identityClass对应的原始类型，非包装类型时为{@code null}，用于查找注册在原始类型上的自定义转换器
+		 */
+		final Class<?> identityPrimitiveClass;
+		/**
+		 * 目标字段类型（包装类型），用于PropDesc中的二次类型检查
+		 */
+		final Class<?> targetClass;
+
+		final Function<Object, Object> getter;
+		/**
+		 * 编译后的Setter，{@code null}表示使用{@link PropDesc#setValue(Object, Object)}
+		 */
+		final BiConsumer<Object, Object> setter;
+		/**
+		 * Setter参数为原始类型时，{@code null}值对应的默认值
+		 */
+		final Object nullValue;
+
+		PropPair(final String name, final PropDesc sourceDesc, final PropDesc targetDesc, final Type targetType) {
+			this.name = name;
+			this.sourceField = sourceDesc.getField();
+			this.targetDesc = targetDesc;
+			this.targetType = targetType;
+			this.identityClass = identityClass(targetType);
+			final Class<?> primitiveClass = (null == this.identityClass) ? null : BasicType.unWrap(this.identityClass);
+			this.identityPrimitiveClass = (null != primitiveClass && primitiveClass.isPrimitive()) ? primitiveClass : null;
+			this.targetClass = BasicType.wrap(targetDesc.getFieldClass());
+
+			final Method getterMethod = sourceDesc.getGetter();
+			this.getter = (null != getterMethod) ? LambdaFactory.buildGetter(getterMethod) : sourceDesc::getValue;
+
+			final Method setterMethod = targetDesc.getSetter();
+			if (null != setterMethod) {
+				final Class<?> paramClass = setterMethod.getParameterTypes()[0];
+				if (BasicType.wrap(paramClass).isAssignableFrom(this.targetClass)) {
+					this.setter = LambdaFactory.buildSetter(setterMethod);
+					this.nullValue = ClassUtil.getDefaultValue(paramClass);
+					return;
+				}
+			}
+			// 公共字段或Setter参数与字段类型不一致时，使用PropDesc赋值
+			this.setter = null;
+			this.nullValue = null;
+		}
+
+		/**
+		 * 读取源属性值
+		 *
+		 * @param source 源Bean
+		 * @return 值
+		 */
+		Object getValue(final Object source) {
+			try {
+				return getter.apply(source);
+			} catch (final UtilException e) {
+				throw e;
+			} catch (final Exception e) {
+				// 与反射调用的异常链保持一致
+				throw new InvocationTargetRuntimeException(new InvocationTargetException(e));
+			}
+		}
+
+		/**
+		 * 值是否需要经过转换，{@code null}和默认转换器转换后不变的值不需要转换<br>
+		 * 目标类型或其原始类型注册了自定义转换器时始终转换
+		 *
+		 * @param value 值
+		 * @return 是否需要转换
+		 */
+		boolean needsConvert(final Object value) {
+			if (null == value) {
+				return false;
+			}
+			if (null == identityClass || false == identityClass.isInstance(value)
+					|| value instanceof IJSONTypeConverter || value instanceof TypeConverter
+					|| value instanceof Opt || value instanceof Optional) {
+				return true;
+			}
+			final ConverterRegistry registry = ConverterRegistry.getInstance();
+			return null != registry.getCustomConverter(identityClass)
+					|| (null != identityPrimitiveClass && null != registry.getCustomConverter(identityPrimitiveClass));
+		}
+
+		/**
+		 * 设置目标属性值，规则与{@link PropDesc#setValue(Object, Object, boolean, boolean, boolean)}一致
+		 *
+		 * @param target      目标Bean
+		 * @param value       值
+		 * @param copyOptions 拷贝选项
+		 */
+		void setValue(final Object target, Object value, final CopyOptions copyOptions) {
+			if (null == setter) {
+				targetDesc.setValue(target, value, copyOptions.ignoreNullValue, copyOptions.ignoreError, copyOptions.override);
+				return;
+			}
+
+			if (null == value && copyOptions.ignoreNullValue) {
+				return;
+			}
+			// 非覆盖模式下，如果目标值存在，则跳过
+			if (false == copyOptions.override && null != targetDesc.getValue(target)) {
+				return;
+			}
+			// 当类型不匹配的时候，执行默认转换
+			if (null != value && false == targetClass.isInstance(value)) {
+				value = Convert.convertWithCheck(targetClass, value, null, copyOptions.ignoreError);
+			}
+
+			if (null != value || false == copyOptions.ignoreNullValue) {
+				try {
+					setter.accept(target, null == value ? nullValue : value);
+				} catch (final Exception e) {
+					if (false == copyOptions.ignoreError) {
+						throw new BeanException(e, "Set value of [{}] error!", targetDesc.getFieldName());
+					}
+					// 忽略注入失败
+				}
+			}
+		}
+
+		/**
+		 * 获取默认转换器转换后不变的类型：非泛型，且不是集合、Map等需要按照元素类型转换的类型
+		 *
+		 * @param targetType 目标类型
+		 * @return 类型，{@code null}表示需要转换
+		 */
+		private static Class<?> identityClass(final Type targetType) {
+			if (false == (targetType instanceof Class)) {
+				return null;
+			}
+			final Class<?> clazz = BasicType.wrap((Class<?>) targetType);
+			if (Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz) || Map.Entry.class.isAssignableFrom(clazz)
+					|| Optional.class.isAssignableFrom(clazz) || Opt.class.isAssignableFrom(clazz) || clazz.isArray()) {
+				return null;
+			}
+			final Object converter = ConverterRegistry.getInstance().getDefaultConverter(clazz);
+			return (null == converter || converter instanceof AbstractConverter) ? clazz : null;
+		}
+	}
+
+	/**
+	 * 缓存键，包含影响属性匹配的选项
+	 */
+	private static class PlanKey {
+		private final Class<?> editable;
+		private final Class<?> targetType;
+		private final boolean ignoreCase;
+		private final boolean transientSupport;
+		private final boolean autoTransCamelCase;
+		private final Set<String> ignoreKeySet;
+		private final int hashCode;
+
+		/**
+		 * 构造
+		 *
+		 * @param editable    目标Bean类型或限制的父类、接口
+		 * @param targetType  目标Bean类型
+		 * @param copyOptions 拷贝选项
+		 * @param copy        是否复制忽略属性集合，用于放入缓存的键
+		 */
+		PlanKey(final Class<?> editable, final Class<?> targetType, final CopyOptions copyOptions, final boolean copy) {
+			this.editable = editable;
+			this.targetType = targetType;
+			this.ignoreCase = copyOptions.ignoreCase;
+			this.transientSupport = copyOptions.transientSupport;
+			this.autoTransCamelCase = copyOptions.autoTransCamelCase;
+			final Set<String> ignoreKeySet = copyOptions.ignoreKeySet;
+			if (null == ignoreKeySet || ignoreKeySet.isEmpty()) {
+				this.ignoreKeySet = Collections.emptySet();
+			} else {
+				this.ignoreKeySet = copy ? new HashSet<>(ignoreKeySet) : ignoreKeySet;
+			}
+			this.hashCode = Objects.hash(editable, targetType, ignoreCase, transientSupport, autoTransCamelCase, ignoreKeySet);
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (false == (o instanceof PlanKey)) {
+				return false;
+			}
+			final PlanKey that = (PlanKey) o;
+			return editable == that.editable && targetType == that.targetType
+					&& ignoreCase == that.ignoreCase && transientSupport == that.transientSupport
+					&& autoTransCamelCase == that.autoTransCamelCase && ignoreKeySet.equals(that.ignoreKeySet);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
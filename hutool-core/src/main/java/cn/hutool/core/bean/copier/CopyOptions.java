@@ -59,7 +59,7 @@ public class CopyOptions implements Serializable {
 	 * 字段属性编辑器，用于自定义属性转换规则，例如驼峰转下划线等<br>
 	 * 规则为，{@link Editor#edit(Object)}属性为源对象的字段名称或key，返回值为目标对象的字段名称或key
 	 */
-	private Editor<String> fieldNameEditor;
+	protected Editor<String> fieldNameEditor;
 	/**
 	 * 字段属性值编辑器，用于自定义属性值转换规则，例如null转""等
 	 */
@@ -81,12 +81,12 @@ public class CopyOptions implements Serializable {
 	/**
 	 * 源对象和目标对象都是 {@code Map} 时, 需要忽略的源对象 {@code Map} key
 	 */
-	private Set<String> ignoreKeySet;
+	protected Set<String> ignoreKeySet;
 
 	/**
-	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 * 默认类型转换器，使用全局万能转换器转换
 	 */
-	protected TypeConverter converter = (type, value) -> {
+	private final TypeConverter defaultConverter = (type, value) -> {
 		if (null == value) {
 			return null;
 		}
@@ -98,6 +98,11 @@ public class CopyOptions implements Serializable {
 		return Convert.convertWithCheck(type, value, null, ignoreError);
 	};
 
+	/**
+	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 */
+	protected TypeConverter converter = defaultConverter;
+
 	/**
 	 * 在Bean转换时，如果源是String，目标对象是Date或LocalDateTime，则可自定义转换格式
 	 */
@@ -403,6 +408,17 @@ public class CopyOptions implements Serializable {
 			this.converter.convert(targetType, fieldValue) : fieldValue;
 	}
 
+	/**
+	 * 是否使用默认的全局万能转换器转换字段值（未设置自定义转换器和日期格式）<br>
+	 * 此时已经是目标类型的值转换后不变，可以跳过转换
+	 *
+	 * @return 是否使用默认转换
+	 * @since 5.8.34
+	 */
+	protected boolean isDefaultConvert() {
+		return this.converter == this.defaultConverter && null == this.formatIfDate;
+	}
+
 	/**
 	 * 转换字段名为编辑后的字段名
 	 *
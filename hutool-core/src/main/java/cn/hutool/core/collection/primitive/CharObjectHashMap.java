@@ -0,0 +1,380 @@
+package cn.hutool.core.collection.primitive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * key为{@code char}的哈希表，使用开放寻址（线性探测），key无装箱和Entry对象开销<br>
+ * key为0时单独存放，value不能为{@code null}（{@code null}表示不存在）。此类非线程安全。
+ *
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.34
+ */
+public class CharObjectHashMap<V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private char[] keys;
+	private Object[] values;
+	private V zeroValue;
+	/**
+	 * 哈希表中的元素个数（不含key为0的元素）
+	 */
+	private int tableCount;
+	private int mask;
+	private int threshold;
+
+	/**
+	 * 构造
+	 */
+	public CharObjectHashMap() {
+		this(16);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedSize 预期元素个数
+	 */
+	public CharObjectHashMap(int expectedSize) {
+		allocate(PrimitiveHash.tableSize(expectedSize));
+	}
+
+	/**
+	 * 元素个数
+	 *
+	 * @return 元素个数
+	 */
+	public int size() {
+		return this.tableCount + (null != this.zeroValue ? 1 : 0);
+	}
+
+	/**
+	 * 是否为空
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+
+	/**
+	 * 是否包含指定key
+	 *
+	 * @param key key
+	 * @return 是否包含
+	 */
+	public boolean containsKey(char key) {
+		return null != get(key);
+	}
+
+	/**
+	 * 获取值
+	 *
+	 * @param key key
+	 * @return 值，不存在返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(char key) {
+		if (0 == key) {
+			return this.zeroValue;
+		}
+		int index = PrimitiveHash.mix(key) & this.mask;
+		char current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				return (V) this.values[index];
+			}
+			index = (index + 1) & this.mask;
+		}
+		return null;
+	}
+
+	/**
+	 * 获取值，不存在时返回默认值
+	 *
+	 * @param key          key
+	 * @param defaultValue 默认值
+	 * @return 值
+	 */
+	public V getOrDefault(char key, V defaultValue) {
+		final V value = get(key);
+		return null == value ? defaultValue : value;
+	}
+
+	/**
+	 * 加入键值对
+	 *
+	 * @param key   key
+	 * @param value 值，不能为{@code null}
+	 * @return 原值，不存在返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(char key, V value) {
+		if (null == value) {
+			throw new NullPointerException("Value must be not null!");
+		}
+		if (0 == key) {
+			final V old = this.zeroValue;
+			this.zeroValue = value;
+			return old;
+		}
+		int index = PrimitiveHash.mix(key) & this.mask;
+		char current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				final V old = (V) this.values[index];
+				this.values[index] = value;
+				return old;
+			}
+			index = (index + 1) & this.mask;
+		}
+		insertAt(index, key, value);
+		return null;
+	}
+
+	/**
+	 * 获取值，不存在时使用给定函数创建并加入
+	 *
+	 * @param key             key
+	 * @param mappingFunction 创建值的函数，参数为key对应的int值，返回值不能为{@code null}
+	 * @return 值
+	 */
+	@SuppressWarnings("unchecked")
+	public V computeIfAbsent(char key, IntFunction<? extends V> mappingFunction) {
+		if (0 == key) {
+			if (null == this.zeroValue) {
+				this.zeroValue = checkValue(mappingFunction.apply(key));
+			}
+			return this.zeroValue;
+		}
+		int index = PrimitiveHash.mix(key) & this.mask;
+		char current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				return (V) this.values[index];
+			}
+			index = (index + 1) & this.mask;
+		}
+		final V value = checkValue(mappingFunction.apply(key));
+		insertAt(index, key, value);
+		return value;
+	}
+
+	/**
+	 * 移除指定key
+	 *
+	 * @param key key
+	 * @return 原值，不存在返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(char key) {
+		if (0 == key) {
+			final V old = this.zeroValue;
+			this.zeroValue = null;
+			return old;
+		}
+		int index = PrimitiveHash.mix(key) & this.mask;
+		char current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				final V old = (V) this.values[index];
+				this.tableCount--;
+				shiftKeys(index);
+				return old;
+			}
+			index = (index + 1) & this.mask;
+		}
+		return null;
+	}
+
+	/**
+	 * 清空，不释放已分配的空间
+	 */
+	public void clear() {
+		Arrays.fill(this.keys, (char) 0);
+		Arrays.fill(this.values, null);
+		this.tableCount = 0;
+		this.zeroValue = null;
+	}
+
+	/**
+	 * 获取所有key，顺序不固定
+	 *
+	 * @return key数组
+	 */
+	public char[] keys() {
+		final char[] result = new char[size()];
+		int i = 0;
+		if (null != this.zeroValue) {
+			result[i++] = 0;
+		}
+		for (final char key : this.keys) {
+			if (0 != key) {
+				result[i++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 获取所有值，顺序与{@link #keys()}一致
+	 *
+	 * @return 值列表
+	 */
+	@SuppressWarnings("unchecked")
+	public List<V> values() {
+		final List<V> result = new ArrayList<>(size());
+		if (null != this.zeroValue) {
+			result.add(this.zeroValue);
+		}
+		for (int i = 0; i < this.keys.length; i++) {
+			if (0 != this.keys[i]) {
+				result.add((V) this.values[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 遍历所有键值对，顺序不固定
+	 *
+	 * @param action 处理函数
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action) {
+		if (null != this.zeroValue) {
+			action.accept((char) 0, this.zeroValue);
+		}
+		for (int i = 0; i < this.keys.length; i++) {
+			if (0 != this.keys[i]) {
+				action.accept(this.keys[i], (V) this.values[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder().append('{');
+		forEach((key, value) -> {
+			if (builder.length() > 1) {
+				builder.append(", ");
+			}
+			builder.append(key).append('=').append(value);
+		});
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * 键值对处理函数
+	 *
+	 * @param <V> 值类型
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+		/**
+		 * 处理键值对
+		 *
+		 * @param key   key
+		 * @param value 值
+		 */
+		void accept(char key, V value);
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 检查值不为{@code null}
+	 *
+	 * @param value 值
+	 * @return 值
+	 */
+	private V checkValue(V value) {
+		if (null == value) {
+			throw new NullPointerException("Value must be not null!");
+		}
+		return value;
+	}
+
+	/**
+	 * 在空位插入，超过阈值时扩容
+	 *
+	 * @param index 空位
+	 * @param key   key
+	 * @param value 值
+	 */
+	private void insertAt(int index, char key, V value) {
+		this.keys[index] = key;
+		this.values[index] = value;
+		if (++this.tableCount >= this.threshold) {
+			rehash(this.keys.length << 1);
+		}
+	}
+
+	/**
+	 * 移除指定位置后，将之后探测链上的元素前移，保证查找不中断
+	 *
+	 * @param pos 被移除的位置
+	 */
+	private void shiftKeys(int pos) {
+		int last;
+		int slot;
+		char current;
+		while (true) {
+			last = pos;
+			pos = (pos + 1) & this.mask;
+			while (true) {
+				if (0 == (current = this.keys[pos])) {
+					this.keys[last] = 0;
+					this.values[last] = null;
+					return;
+				}
+				slot = PrimitiveHash.mix(current) & this.mask;
+				if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & this.mask;
+			}
+			this.keys[last] = current;
+			this.values[last] = this.values[pos];
+		}
+	}
+
+	/**
+	 * 扩容并重新放入所有元素
+	 *
+	 * @param newSize 新的哈希表大小
+	 */
+	private void rehash(int newSize) {
+		final char[] oldKeys = this.keys;
+		final Object[] oldValues = this.values;
+		allocate(newSize);
+		for (int i = 0; i < oldKeys.length; i++) {
+			final char key = oldKeys[i];
+			if (0 != key) {
+				int index = PrimitiveHash.mix(key) & this.mask;
+				while (0 != this.keys[index]) {
+					index = (index + 1) & this.mask;
+				}
+				this.keys[index] = key;
+				this.values[index] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * 分配哈希表
+	 *
+	 * @param tableSize 哈希表大小
+	 */
+	private void allocate(int tableSize) {
+		this.keys = new char[tableSize];
+		this.values = new Object[tableSize];
+		this.mask = tableSize - 1;
+		this.threshold = PrimitiveHash.threshold(tableSize);
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+}
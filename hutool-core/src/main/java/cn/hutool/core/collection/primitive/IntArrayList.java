@@ -0,0 +1,320 @@
+package cn.hutool.core.collection.primitive;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * {@code int}类型的动态数组，元素直接存放于{@code int[]}中，无装箱开销<br>
+ * 此类非线程安全。
+ *
+ * <pre>
+ * IntArrayList list = IntArrayList.of(1, 2, 3);
+ * list.add(4);
+ * list.get(0); // 1
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class IntArrayList implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int[] EMPTY = new int[0];
+	/**
+	 * 默认初始容量
+	 */
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private int[] elements;
+	private int size;
+
+	/**
+	 * 通过给定元素创建
+	 *
+	 * @param values 元素
+	 * @return IntArrayList
+	 */
+	public static IntArrayList of(int... values) {
+		final IntArrayList list = new IntArrayList(values.length);
+		list.addAll(values);
+		return list;
+	}
+
+	/**
+	 * 构造
+	 */
+	public IntArrayList() {
+		this.elements = EMPTY;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 初始容量
+	 */
+	public IntArrayList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.elements = 0 == initialCapacity ? EMPTY : new int[initialCapacity];
+	}
+
+	/**
+	 * 元素个数
+	 *
+	 * @return 元素个数
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * 是否为空
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == this.size;
+	}
+
+	/**
+	 * 获取指定位置的元素
+	 *
+	 * @param index 位置
+	 * @return 元素
+	 * @throws IndexOutOfBoundsException 位置越界
+	 */
+	public int get(int index) {
+		checkIndex(index);
+		return this.elements[index];
+	}
+
+	/**
+	 * 设置指定位置的元素
+	 *
+	 * @param index 位置
+	 * @param value 元素
+	 * @return 原元素
+	 * @throws IndexOutOfBoundsException 位置越界
+	 */
+	public int set(int index, int value) {
+		checkIndex(index);
+		final int old = this.elements[index];
+		this.elements[index] = value;
+		return old;
+	}
+
+	/**
+	 * 在末尾加入元素
+	 *
+	 * @param value 元素
+	 * @return this
+	 */
+	public IntArrayList add(int value) {
+		ensureCapacity(this.size + 1);
+		this.elements[this.size++] = value;
+		return this;
+	}
+
+	/**
+	 * 在指定位置插入元素，原位置及之后的元素后移
+	 *
+	 * @param index 位置
+	 * @param value 元素
+	 * @return this
+	 * @throws IndexOutOfBoundsException 位置越界
+	 */
+	public IntArrayList add(int index, int value) {
+		if (index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		ensureCapacity(this.size + 1);
+		System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+		this.elements[index] = value;
+		this.size++;
+		return this;
+	}
+
+	/**
+	 * 在末尾加入多个元素
+	 *
+	 * @param values 元素
+	 * @return this
+	 */
+	public IntArrayList addAll(int... values) {
+		ensureCapacity(this.size + values.length);
+		System.arraycopy(values, 0, this.elements, this.size, values.length);
+		this.size += values.length;
+		return this;
+	}
+
+	/**
+	 * 移除指定位置的元素，之后的元素前移
+	 *
+	 * @param index 位置
+	 * @return 被移除的元素
+	 * @throws IndexOutOfBoundsException 位置越界
+	 */
+	public int removeAt(int index) {
+		checkIndex(index);
+		final int old = this.elements[index];
+		final int moved = this.size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(this.elements, index + 1, this.elements, index, moved);
+		}
+		this.size--;
+		return old;
+	}
+
+	/**
+	 * 查找元素第一次出现的位置
+	 *
+	 * @param value 元素
+	 * @return 位置，未找到返回-1
+	 */
+	public int indexOf(int value) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.elements[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 是否包含指定元素
+	 *
+	 * @param value 元素
+	 * @return 是否包含
+	 */
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * 清空，不释放已分配的空间
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * 升序排序
+	 *
+	 * @return this
+	 */
+	public IntArrayList sort() {
+		Arrays.sort(this.elements, 0, this.size);
+		return this;
+	}
+
+	/**
+	 * 遍历元素
+	 *
+	 * @param action 处理函数
+	 */
+	public void forEach(IntConsumer action) {
+		for (int i = 0; i < this.size; i++) {
+			action.accept(this.elements[i]);
+		}
+	}
+
+	/**
+	 * 转为流
+	 *
+	 * @return {@link IntStream}
+	 */
+	public IntStream stream() {
+		return Arrays.stream(this.elements, 0, this.size);
+	}
+
+	/**
+	 * 转为数组，返回的数组为拷贝
+	 *
+	 * @return 数组
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(this.elements, this.size);
+	}
+
+	/**
+	 * 确保容量至少为给定值，不足时按照1.5倍扩容
+	 *
+	 * @param minCapacity 最小容量
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > this.elements.length) {
+			int newCapacity = Math.max(this.elements.length + (this.elements.length >> 1), DEFAULT_CAPACITY);
+			if (newCapacity < minCapacity) {
+				newCapacity = minCapacity;
+			}
+			this.elements = Arrays.copyOf(this.elements, newCapacity);
+		}
+	}
+
+	/**
+	 * 将容量缩减为当前元素个数
+	 */
+	public void trimToSize() {
+		if (this.size < this.elements.length) {
+			this.elements = 0 == this.size ? EMPTY : Arrays.copyOf(this.elements, this.size);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (false == (o instanceof IntArrayList)) {
+			return false;
+		}
+		final IntArrayList that = (IntArrayList) o;
+		if (this.size != that.size) {
+			return false;
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (this.elements[i] != that.elements[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < this.size; i++) {
+			result = 31 * result + Integer.hashCode(this.elements[i]);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		if (0 == this.size) {
+			return "[]";
+		}
+		final StringBuilder builder = new StringBuilder().append('[');
+		for (int i = 0; i < this.size; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(this.elements[i]);
+		}
+		return builder.append(']').toString();
+	}
+
+	/**
+	 * 检查位置是否越界
+	 *
+	 * @param index 位置
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+}
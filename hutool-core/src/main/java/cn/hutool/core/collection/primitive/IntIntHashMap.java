@@ -0,0 +1,346 @@
+package cn.hutool.core.collection.primitive;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * key和value均为{@code int}的哈希表，使用开放寻址（线性探测），无装箱和Entry对象开销<br>
+ * key为0时单独存放，不存在的key取值时返回默认值（默认为0），适合计数、索引等场景。此类非线程安全。
+ *
+ * <pre>
+ * IntIntHashMap counter = new IntIntHashMap();
+ * counter.addTo(1, 1);
+ * counter.get(1); // 1
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class IntIntHashMap implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private int[] keys;
+	private int[] values;
+	private boolean hasZeroKey;
+	private int zeroValue;
+	/**
+	 * 哈希表中的元素个数（不含key为0的元素）
+	 */
+	private int tableCount;
+	private int mask;
+	private int threshold;
+
+	/**
+	 * 构造
+	 */
+	public IntIntHashMap() {
+		this(16);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedSize 预期元素个数
+	 */
+	public IntIntHashMap(int expectedSize) {
+		allocate(PrimitiveHash.tableSize(expectedSize));
+	}
+
+	/**
+	 * 元素个数
+	 *
+	 * @return 元素个数
+	 */
+	public int size() {
+		return this.tableCount + (this.hasZeroKey ? 1 : 0);
+	}
+
+	/**
+	 * 是否为空
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+
+	/**
+	 * 是否包含指定key
+	 *
+	 * @param key key
+	 * @return 是否包含
+	 */
+	public boolean containsKey(int key) {
+		return 0 == key ? this.hasZeroKey : indexOf(key) >= 0;
+	}
+
+	/**
+	 * 获取值，key不存在时返回0
+	 *
+	 * @param key key
+	 * @return 值
+	 */
+	public int get(int key) {
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * 获取值，key不存在时返回默认值
+	 *
+	 * @param key          key
+	 * @param defaultValue 默认值
+	 * @return 值
+	 */
+	public int getOrDefault(int key, int defaultValue) {
+		if (0 == key) {
+			return this.hasZeroKey ? this.zeroValue : defaultValue;
+		}
+		final int index = indexOf(key);
+		return index >= 0 ? this.values[index] : defaultValue;
+	}
+
+	/**
+	 * 加入键值对
+	 *
+	 * @param key   key
+	 * @param value 值
+	 * @return 原值，key不存在时返回0
+	 */
+	public int put(int key, int value) {
+		if (0 == key) {
+			final int old = this.hasZeroKey ? this.zeroValue : 0;
+			this.hasZeroKey = true;
+			this.zeroValue = value;
+			return old;
+		}
+		int index = PrimitiveHash.mix(key) & this.mask;
+		int current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				final int old = this.values[index];
+				this.values[index] = value;
+				return old;
+			}
+			index = (index + 1) & this.mask;
+		}
+		insertAt(index, key, value);
+		return 0;
+	}
+
+	/**
+	 * 将指定key的值增加给定数值，key不存在时视为0，适用于计数
+	 *
+	 * @param key   key
+	 * @param delta 增加的值
+	 * @return 增加后的值
+	 */
+	public int addTo(int key, int delta) {
+		if (0 == key) {
+			this.zeroValue = (this.hasZeroKey ? this.zeroValue : 0) + delta;
+			this.hasZeroKey = true;
+			return this.zeroValue;
+		}
+		int index = PrimitiveHash.mix(key) & this.mask;
+		int current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				return this.values[index] += delta;
+			}
+			index = (index + 1) & this.mask;
+		}
+		insertAt(index, key, delta);
+		return delta;
+	}
+
+	/**
+	 * 移除指定key
+	 *
+	 * @param key key
+	 * @return 原值，key不存在时返回0
+	 */
+	public int remove(int key) {
+		if (0 == key) {
+			final int old = this.hasZeroKey ? this.zeroValue : 0;
+			this.hasZeroKey = false;
+			this.zeroValue = 0;
+			return old;
+		}
+		final int index = indexOf(key);
+		if (index < 0) {
+			return 0;
+		}
+		final int old = this.values[index];
+		this.tableCount--;
+		shiftKeys(index);
+		return old;
+	}
+
+	/**
+	 * 清空，不释放已分配的空间
+	 */
+	public void clear() {
+		Arrays.fill(this.keys, 0);
+		this.tableCount = 0;
+		this.hasZeroKey = false;
+		this.zeroValue = 0;
+	}
+
+	/**
+	 * 获取所有key，顺序不固定
+	 *
+	 * @return key数组
+	 */
+	public int[] keys() {
+		final int[] result = new int[size()];
+		int i = 0;
+		if (this.hasZeroKey) {
+			result[i++] = 0;
+		}
+		for (final int key : this.keys) {
+			if (0 != key) {
+				result[i++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 遍历所有键值对，顺序不固定
+	 *
+	 * @param action 处理函数
+	 */
+	public void forEach(EntryConsumer action) {
+		if (this.hasZeroKey) {
+			action.accept(0, this.zeroValue);
+		}
+		for (int i = 0; i < this.keys.length; i++) {
+			if (0 != this.keys[i]) {
+				action.accept(this.keys[i], this.values[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder().append('{');
+		forEach((key, value) -> {
+			if (builder.length() > 1) {
+				builder.append(", ");
+			}
+			builder.append(key).append('=').append(value);
+		});
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * 键值对处理函数
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+		/**
+		 * 处理键值对
+		 *
+		 * @param key   key
+		 * @param value 值
+		 */
+		void accept(int key, int value);
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 查找key所在位置
+	 *
+	 * @param key key，非0
+	 * @return 位置，不存在返回-1
+	 */
+	private int indexOf(int key) {
+		int index = PrimitiveHash.mix(key) & this.mask;
+		int current;
+		while (0 != (current = this.keys[index])) {
+			if (current == key) {
+				return index;
+			}
+			index = (index + 1) & this.mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * 在空位插入，超过阈值时扩容
+	 *
+	 * @param index 空位
+	 * @param key   key
+	 * @param value 值
+	 */
+	private void insertAt(int index, int key, int value) {
+		this.keys[index] = key;
+		this.values[index] = value;
+		if (++this.tableCount >= this.threshold) {
+			rehash(this.keys.length << 1);
+		}
+	}
+
+	/**
+	 * 移除指定位置后，将之后探测链上的元素前移，保证查找不中断
+	 *
+	 * @param pos 被移除的位置
+	 */
+	private void shiftKeys(int pos) {
+		int last;
+		int slot;
+		int current;
+		while (true) {
+			last = pos;
+			pos = (pos + 1) & this.mask;
+			while (true) {
+				if (0 == (current = this.keys[pos])) {
+					this.keys[last] = 0;
+					return;
+				}
+				slot = PrimitiveHash.mix(current) & this.mask;
+				if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & this.mask;
+			}
+			this.keys[last] = current;
+			this.values[last] = this.values[pos];
+		}
+	}
+
+	/**
+	 * 扩容并重新放入所有元素
+	 *
+	 * @param newSize 新的哈希表大小
+	 */
+	private void rehash(int newSize) {
+		final int[] oldKeys = this.keys;
+		final int[] oldValues = this.values;
+		allocate(newSize);
+		for (int i = 0; i < oldKeys.length; i++) {
+			final int key = oldKeys[i];
+			if (0 != key) {
+				int index = PrimitiveHash.mix(key) & this.mask;
+				while (0 != this.keys[index]) {
+					index = (index + 1) & this.mask;
+				}
+				this.keys[index] = key;
+				this.values[index] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * 分配哈希表
+	 *
+	 * @param tableSize 哈希表大小
+	 */
+	private void allocate(int tableSize) {
+		this.keys = new int[tableSize];
+		this.values = new int[tableSize];
+		this.mask = tableSize - 1;
+		this.threshold = PrimitiveHash.threshold(tableSize);
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+}
@@ -0,0 +1,257 @@
+package cn.hutool.core.collection.primitive;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * {@code long}类型的哈希集合，使用开放寻址（线性探测），无装箱开销<br>
+ * 0单独记录。此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class LongHashSet implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private long[] keys;
+	private boolean hasZero;
+	/**
+	 * 哈希表中的元素个数（不含0）
+	 */
+	private int tableCount;
+	private int mask;
+	private int threshold;
+
+	/**
+	 * 通过给定元素创建
+	 *
+	 * @param values 元素
+	 * @return LongHashSet
+	 */
+	public static LongHashSet of(long... values) {
+		final LongHashSet set = new LongHashSet(values.length);
+		for (final long value : values) {
+			set.add(value);
+		}
+		return set;
+	}
+
+	/**
+	 * 构造
+	 */
+	public LongHashSet() {
+		this(16);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedSize 预期元素个数
+	 */
+	public LongHashSet(int expectedSize) {
+		allocate(PrimitiveHash.tableSize(expectedSize));
+	}
+
+	/**
+	 * 元素个数
+	 *
+	 * @return 元素个数
+	 */
+	public int size() {
+		return this.tableCount + (this.hasZero ? 1 : 0);
+	}
+
+	/**
+	 * 是否为空
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+
+	/**
+	 * 是否包含指定元素
+	 *
+	 * @param value 元素
+	 * @return 是否包含
+	 */
+	public boolean contains(long value) {
+		if (0 == value) {
+			return this.hasZero;
+		}
+		int index = PrimitiveHash.mix(value) & this.mask;
+		long current;
+		while (0 != (current = this.keys[index])) {
+			if (current == value) {
+				return true;
+			}
+			index = (index + 1) & this.mask;
+		}
+		return false;
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param value 元素
+	 * @return 是否加入成功，已存在返回{@code false}
+	 */
+	public boolean add(long value) {
+		if (0 == value) {
+			final boolean added = false == this.hasZero;
+			this.hasZero = true;
+			return added;
+		}
+		int index = PrimitiveHash.mix(value) & this.mask;
+		long current;
+		while (0 != (current = this.keys[index])) {
+			if (current == value) {
+				return false;
+			}
+			index = (index + 1) & this.mask;
+		}
+		this.keys[index] = value;
+		if (++this.tableCount >= this.threshold) {
+			rehash(this.keys.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * 移除元素
+	 *
+	 * @param value 元素
+	 * @return 是否移除，不存在返回{@code false}
+	 */
+	public boolean remove(long value) {
+		if (0 == value) {
+			final boolean removed = this.hasZero;
+			this.hasZero = false;
+			return removed;
+		}
+		int index = PrimitiveHash.mix(value) & this.mask;
+		long current;
+		while (0 != (current = this.keys[index])) {
+			if (current == value) {
+				this.tableCount--;
+				shiftKeys(index);
+				return true;
+			}
+			index = (index + 1) & this.mask;
+		}
+		return false;
+	}
+
+	/**
+	 * 清空，不释放已分配的空间
+	 */
+	public void clear() {
+		Arrays.fill(this.keys, 0L);
+		this.tableCount = 0;
+		this.hasZero = false;
+	}
+
+	/**
+	 * 遍历元素，顺序不固定
+	 *
+	 * @param action 处理函数
+	 */
+	public void forEach(LongConsumer action) {
+		if (this.hasZero) {
+			action.accept(0L);
+		}
+		for (final long key : this.keys) {
+			if (0 != key) {
+				action.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * 转为数组，顺序不固定
+	 *
+	 * @return 数组
+	 */
+	public long[] toArray() {
+		final long[] result = new long[size()];
+		int i = 0;
+		if (this.hasZero) {
+			result[i++] = 0L;
+		}
+		for (final long key : this.keys) {
+			if (0 != key) {
+				result[i++] = key;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		final long[] values = toArray();
+		Arrays.sort(values);
+		return Arrays.toString(values);
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 移除指定位置后，将之后探测链上的元素前移，保证查找不中断
+	 *
+	 * @param pos 被移除的位置
+	 */
+	private void shiftKeys(int pos) {
+		int last;
+		int slot;
+		long current;
+		while (true) {
+			last = pos;
+			pos = (pos + 1) & this.mask;
+			while (true) {
+				if (0 == (current = this.keys[pos])) {
+					this.keys[last] = 0;
+					return;
+				}
+				slot = PrimitiveHash.mix(current) & this.mask;
+				if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & this.mask;
+			}
+			this.keys[last] = current;
+		}
+	}
+
+	/**
+	 * 扩容并重新放入所有元素
+	 *
+	 * @param newSize 新的哈希表大小
+	 */
+	private void rehash(int newSize) {
+		final long[] oldKeys = this.keys;
+		allocate(newSize);
+		for (final long key : oldKeys) {
+			if (0 != key) {
+				int index = PrimitiveHash.mix(key) & this.mask;
+				while (0 != this.keys[index]) {
+					index = (index + 1) & this.mask;
+				}
+				this.keys[index] = key;
+			}
+		}
+	}
+
+	/**
+	 * 分配哈希表
+	 *
+	 * @param tableSize 哈希表大小
+	 */
+	private void allocate(int tableSize) {
+		this.keys = new long[tableSize];
+		this.mask = tableSize - 1;
+		this.threshold = PrimitiveHash.threshold(tableSize);
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+}
@@ -0,0 +1,94 @@
+package cn.hutool.core.collection.primitive;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 原始类型集合工具类，提供包装类型集合与原始类型集合的转换，以及计数、去重等常用操作
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class PrimitiveCollUtil {
+
+	/**
+	 * 将数字集合转为{@link IntArrayList}，{@code null}元素被忽略
+	 *
+	 * @param numbers 数字集合
+	 * @return {@link IntArrayList}
+	 */
+	public static IntArrayList toIntList(Iterable<? extends Number> numbers) {
+		Assert.notNull(numbers, "Numbers must be not null!");
+		final IntArrayList list = new IntArrayList();
+		for (final Number number : numbers) {
+			if (null != number) {
+				list.add(number.intValue());
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 将数字集合转为{@link LongArrayList}，{@code null}元素被忽略
+	 *
+	 * @param numbers 数字集合
+	 * @return {@link LongArrayList}
+	 */
+	public static LongArrayList toLongList(Iterable<? extends Number> numbers) {
+		Assert.notNull(numbers, "Numbers must be not null!");
+		final LongArrayList list = new LongArrayList();
+		for (final Number number : numbers) {
+			if (null != number) {
+				list.add(number.longValue());
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 将数字集合转为{@link LongHashSet}，{@code null}元素被忽略
+	 *
+	 * @param numbers 数字集合
+	 * @return {@link LongHashSet}
+	 */
+	public static LongHashSet toLongSet(Iterable<? extends Number> numbers) {
+		Assert.notNull(numbers, "Numbers must be not null!");
+		final LongHashSet set = new LongHashSet();
+		for (final Number number : numbers) {
+			if (null != number) {
+				set.add(number.longValue());
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * 统计每个数字出现的次数
+	 *
+	 * @param values 数字
+	 * @return 数字和出现次数的对应表
+	 */
+	public static IntIntHashMap countMap(int... values) {
+		final IntIntHashMap counter = new IntIntHashMap();
+		for (final int value : values) {
+			counter.addTo(value, 1);
+		}
+		return counter;
+	}
+
+	/**
+	 * 去重，保留每个数字第一次出现的顺序
+	 *
+	 * @param values 数字
+	 * @return 去重后的数组
+	 */
+	public static long[] distinct(long... values) {
+		final LongHashSet seen = new LongHashSet(values.length);
+		final LongArrayList result = new LongArrayList(values.length);
+		for (final long value : values) {
+			if (seen.add(value)) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+}
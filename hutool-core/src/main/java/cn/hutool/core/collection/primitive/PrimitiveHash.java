@@ -0,0 +1,72 @@
+package cn.hutool.core.collection.primitive;
+
+/**
+ * 原始类型哈希集合的公共方法，包括哈希扰动和容量计算
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+final class PrimitiveHash {
+
+	/**
+	 * 负载因子
+	 */
+	static final float LOAD_FACTOR = 0.75F;
+	/**
+	 * 最大容量
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private PrimitiveHash() {
+	}
+
+	/**
+	 * 扰动int哈希值，使连续的key均匀分布
+	 *
+	 * @param key key
+	 * @return 哈希值
+	 */
+	static int mix(int key) {
+		final int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 扰动long哈希值，使连续的key均匀分布
+	 *
+	 * @param key key
+	 * @return 哈希值
+	 */
+	static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		h ^= (h >>> 32);
+		return (int) (h ^ (h >>> 16));
+	}
+
+	/**
+	 * 计算可容纳给定元素个数的哈希表大小，为2的幂
+	 *
+	 * @param expectedSize 预期元素个数
+	 * @return 哈希表大小
+	 */
+	static int tableSize(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+		}
+		final long needed = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+		if (needed >= MAX_CAPACITY) {
+			return MAX_CAPACITY;
+		}
+		return Math.max(4, Integer.highestOneBit((int) needed - 1) << 1);
+	}
+
+	/**
+	 * 计算扩容阈值
+	 *
+	 * @param tableSize 哈希表大小
+	 * @return 阈值
+	 */
+	static int threshold(int tableSize) {
+		return Math.min(tableSize - 1, (int) (tableSize * LOAD_FACTOR));
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * 原始类型集合，包括基于数组的IntArrayList、LongArrayList，以及基于开放寻址的IntIntHashMap、LongObjectHashMap、CharObjectHashMap、LongHashSet，<br>
+ * 存取过程中不会产生装箱对象，内存占用也远小于对应的JDK集合。
+ *
+ * @author looly
+ */
+package cn.hutool.core.collection.primitive;
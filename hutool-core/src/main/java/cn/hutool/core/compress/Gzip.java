@@ -1,12 +1,20 @@
 package cn.hutool.core.compress;
 
+import cn.hutool.core.io.FastByteArrayOutputStream;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
+import cn.hutool.core.lang.Assert;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -19,6 +27,11 @@ import java.util.zip.GZIPOutputStream;
  */
 public class Gzip implements Closeable {
 
+	/**
+	 * 并行压缩时默认的块大小：1MB
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
 	private InputStream source;
 	private OutputStream target;
 
@@ -70,6 +83,68 @@ public class Gzip implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 使用{@link ForkJoinPool#commonPool()}和默认块大小并行压缩，见{@link #gzipParallel(ForkJoinPool, int)}
+	 *
+	 * @return Gzip
+	 * @since 5.8.34
+	 */
+	public Gzip gzipParallel() {
+		return gzipParallel(ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * 将普通数据流并行压缩（类似pigz）<br>
+	 * 数据按照块大小切分，每块在线程池中独立压缩为一个完整的gzip成员，按照顺序拼接写出。
+	 * 根据RFC 1952，多个成员拼接的结果仍是合法的gzip数据，gunzip和{@link GZIPInputStream}解压得到原始数据。<br>
+	 * 每块独立压缩，压缩率略低于{@link #gzip()}，同时压缩的块数为线程池并行数的2倍。
+	 * 目标流已经是{@link GZIPOutputStream}时按照{@link #gzip()}处理。
+	 *
+	 * @param pool      压缩使用的线程池
+	 * @param blockSize 块大小，单位字节
+	 * @return Gzip
+	 * @since 5.8.34
+	 */
+	public Gzip gzipParallel(ForkJoinPool pool, int blockSize) {
+		Assert.notNull(pool, "pool must not be null");
+		Assert.isTrue(blockSize > 0, "Block size must be positive!");
+		if (target instanceof GZIPOutputStream) {
+			return gzip();
+		}
+
+		final Deque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+		final int window = pool.getParallelism() * 2;
+		try {
+			byte[] block;
+			boolean first = true;
+			do {
+				block = readBlock(source, blockSize);
+				// 空数据也需要输出一个成员，保证结果是合法的gzip数据
+				if (block.length > 0 || first) {
+					first = false;
+					final byte[] data = block;
+					pending.add(pool.submit(() -> gzipBlock(data)));
+				}
+				while (pending.size() >= window) {
+					target.write(pending.poll().join());
+				}
+			} while (block.length == blockSize);
+
+			while (false == pending.isEmpty()) {
+				target.write(pending.poll().join());
+			}
+			target.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			// 出错时取消未完成的块
+			for (ForkJoinTask<byte[]> task : pending) {
+				task.cancel(false);
+			}
+		}
+		return this;
+	}
+
 	/**
 	 * 将压缩流解压到target中
 	 *
@@ -86,6 +161,40 @@ public class Gzip implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 读取一块数据，直到读满块大小或流结束
+	 *
+	 * @param in        输入流
+	 * @param blockSize 块大小
+	 * @return 块数据，长度小于块大小表示流已结束
+	 * @throws IOException IO异常
+	 */
+	private static byte[] readBlock(InputStream in, int blockSize) throws IOException {
+		final byte[] block = new byte[blockSize];
+		int length = 0;
+		int n;
+		while (length < blockSize && (n = in.read(block, length, blockSize - length)) != NioUtil.EOF) {
+			length += n;
+		}
+		return length == blockSize ? block : Arrays.copyOf(block, length);
+	}
+
+	/**
+	 * 将一块数据压缩为一个完整的gzip成员
+	 *
+	 * @param block 块数据
+	 * @return gzip成员
+	 */
+	private static byte[] gzipBlock(byte[] block) {
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream((block.length >> 1) + 32);
+		try (final GZIPOutputStream gzip = new GZIPOutputStream(out, IoUtil.DEFAULT_BUFFER_SIZE)) {
+			gzip.write(block);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return out.toByteArray();
+	}
+
 	@Override
 	public void close() {
 		IoUtil.close(this.target);
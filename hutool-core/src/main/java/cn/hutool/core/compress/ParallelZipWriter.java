@@ -0,0 +1,672 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.io.ChunkedByteBuffer;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
+import cn.hutool.core.io.resource.Resource;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * 并行Zip生成封装，用法与{@link ZipWriter}一致<br>
+ * 与{@link ZipWriter}使用单个{@link java.util.zip.ZipOutputStream}依次压缩不同，每个文件在{@link ForkJoinPool}中独立压缩到临时缓冲（{@link ChunkedByteBuffer}，
+ * 较大时映射到临时文件），再按照加入顺序拼接写出，生成的压缩包与加入顺序一致，适用于大量文件的打包。
+ *
+ * <p>
+ * 同时进行压缩的文件数为线程池并行数的2倍，已压缩未写出的数据总量默认不超过64MB，超过时等待最早加入的文件压缩完成并写出。
+ * 每个文件的压缩结果只有前1MB存放于直接内存，其余映射到临时文件，避免大量并发压缩耗尽直接内存。
+ * 压缩包超过4GB或文件数超过65535时自动使用Zip64格式。
+ * </p>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class ParallelZipWriter implements Closeable {
+
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private static final int METHOD_STORED = 0;
+	private static final int METHOD_DEFLATED = 8;
+	/**
+	 * 通用标志位第11位，表示文件名和注释使用UTF-8编码
+	 */
+	private static final int FLAG_UTF8 = 0x800;
+	/**
+	 * 单个文件压缩结果使用直接内存的上限，超出部分映射到临时文件，1MB
+	 */
+	private static final long ENTRY_MAPPED_THRESHOLD = 1024 * 1024;
+	/**
+	 * 默认已压缩未写出的数据总量上限，64MB
+	 */
+	public static final long DEFAULT_MAX_PENDING_BYTES = 64L * 1024 * 1024;
+
+	/**
+	 * 创建ParallelZipWriter
+	 *
+	 * @param zipFile 生成的Zip文件
+	 * @param charset 编码
+	 * @return ParallelZipWriter
+	 */
+	public static ParallelZipWriter of(File zipFile, Charset charset) {
+		return new ParallelZipWriter(zipFile, charset);
+	}
+
+	/**
+	 * 创建ParallelZipWriter
+	 *
+	 * @param out     Zip输出的流，一般为输出文件流
+	 * @param charset 编码
+	 * @return ParallelZipWriter
+	 */
+	public static ParallelZipWriter of(OutputStream out, Charset charset) {
+		return new ParallelZipWriter(out, charset);
+	}
+
+	private File zipFile;
+	private final OutputStream out;
+	private final Charset charset;
+	private int level = Deflater.DEFAULT_COMPRESSION;
+	private byte[] comment;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	private long maxPendingBytes = DEFAULT_MAX_PENDING_BYTES;
+
+	/**
+	 * 已提交压缩，尚未写出的文件，按照加入顺序
+	 */
+	private final Deque<ForkJoinTask<Entry>> pending = new ArrayDeque<>();
+	/**
+	 * 已写出的文件，用于生成中央目录
+	 */
+	private final List<Entry> entries = new ArrayList<>();
+	private final Set<String> names = new HashSet<>();
+	/**
+	 * 已压缩未写出的字节数，包括正在压缩的文件已经产生的数据
+	 */
+	private final AtomicLong pendingBytes = new AtomicLong();
+	/**
+	 * 已写出的字节数，即下一个文件的偏移
+	 */
+	private long written;
+	/**
+	 * 压缩或写出出错后不再生成中央目录
+	 */
+	private boolean broken;
+	private final byte[] header = new byte[8];
+
+	/**
+	 * 构造
+	 *
+	 * @param zipFile 生成的Zip文件
+	 * @param charset 编码
+	 */
+	public ParallelZipWriter(File zipFile, Charset charset) {
+		this(FileUtil.getOutputStream(zipFile), charset);
+		this.zipFile = zipFile;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param out     Zip输出的流，一般为输出文件流
+	 * @param charset 编码
+	 */
+	public ParallelZipWriter(OutputStream out, Charset charset) {
+		this.out = IoUtil.toBuffered(Assert.notNull(out, "out must not be null"));
+		this.charset = null == charset ? CharsetUtil.CHARSET_UTF_8 : charset;
+	}
+
+	/**
+	 * 设置压缩级别，可选1~9，-1表示默认
+	 *
+	 * @param level 压缩级别
+	 * @return this
+	 */
+	public ParallelZipWriter setLevel(int level) {
+		Assert.isTrue((level >= 0 && level <= 9) || level == Deflater.DEFAULT_COMPRESSION, "Invalid compression level: {}", level);
+		this.level = level;
+		return this;
+	}
+
+	/**
+	 * 设置注释
+	 *
+	 * @param comment 注释
+	 * @return this
+	 */
+	public ParallelZipWriter setComment(String comment) {
+		this.comment = null == comment ? null : StrUtil.bytes(comment, this.charset);
+		return this;
+	}
+
+	/**
+	 * 设置压缩使用的线程池，默认{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param pool {@link ForkJoinPool}
+	 * @return this
+	 */
+	public ParallelZipWriter setPool(ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool, "pool must not be null");
+		return this;
+	}
+
+	/**
+	 * 设置已压缩未写出的数据总量上限，超过时等待最早加入的文件压缩完成并写出，默认{@link #DEFAULT_MAX_PENDING_BYTES}<br>
+	 * 正在压缩的文件不会中断，因此实际数据量可能略超上限
+	 *
+	 * @param maxPendingBytes 数据总量上限，必须大于0
+	 * @return this
+	 */
+	public ParallelZipWriter setMaxPendingBytes(long maxPendingBytes) {
+		Assert.isTrue(maxPendingBytes > 0, "Max pending bytes must be greater than 0!");
+		this.maxPendingBytes = maxPendingBytes;
+		return this;
+	}
+
+	/**
+	 * 对文件或文件目录进行压缩，规则见{@link ZipWriter#add(boolean, FileFilter, File...)}
+	 *
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @param files      要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(boolean withSrcDir, FileFilter filter, File... files) throws IORuntimeException {
+		for (File file : files) {
+			// 如果只是压缩一个文件，则需要截取该文件的父目录
+			String srcRootDir;
+			try {
+				srcRootDir = file.getCanonicalPath();
+				if ((false == file.isDirectory()) || withSrcDir) {
+					// 若是文件，则将父目录完整路径都截取掉；若设置包含目录，则将上级目录全部截取掉，保留本目录名
+					srcRootDir = file.getCanonicalFile().getParentFile().getCanonicalPath();
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+
+			_add(file, srcRootDir, filter);
+		}
+		return this;
+	}
+
+	/**
+	 * 添加资源到压缩包，添加后关闭资源流
+	 *
+	 * @param resources 需要压缩的资源，资源的路径为{@link Resource#getName()}
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(Resource... resources) throws IORuntimeException {
+		for (Resource resource : resources) {
+			if (null != resource) {
+				putEntry(resource.getName(), resource::getStream);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 添加文件流到压缩包，流在压缩线程中读取，读取后关闭<br>
+	 * 如果输入流为{@code null}，则只创建空目录
+	 *
+	 * @param path 压缩的路径, {@code null}和""表示根目录下
+	 * @param in   需要压缩的输入流，使用完后自动关闭，{@code null}表示加入空目录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(String path, InputStream in) throws IORuntimeException {
+		path = StrUtil.nullToEmpty(path);
+		if (null == in) {
+			// 空目录需要检查路径规范性，目录以"/"结尾
+			path = StrUtil.addSuffixIfNot(path, StrUtil.SLASH);
+			if (StrUtil.isBlank(path)) {
+				return this;
+			}
+			return putEntry(path, null);
+		}
+
+		return putEntry(path, () -> in);
+	}
+
+	/**
+	 * 对流中的数据加入到压缩文件<br>
+	 * 路径列表和流列表长度必须一致
+	 *
+	 * @param paths 流数据在压缩文件中的路径或文件名
+	 * @param ins   要压缩的源，添加完成后自动关闭流
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(String[] paths, InputStream[] ins) throws IORuntimeException {
+		if (ArrayUtil.isEmpty(paths) || ArrayUtil.isEmpty(ins)) {
+			throw new IllegalArgumentException("Paths or ins is empty !");
+		}
+		if (paths.length != ins.length) {
+			throw new IllegalArgumentException("Paths length is not equals to ins length !");
+		}
+
+		for (int i = 0; i < paths.length; i++) {
+			add(paths[i], ins[i]);
+		}
+
+		return this;
+	}
+
+	/**
+	 * 等待所有文件压缩完成并写出，写出中央目录后关闭输出流
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		try {
+			if (false == this.broken) {
+				while (false == this.pending.isEmpty()) {
+					writeNext();
+				}
+				writeCentralDirectory();
+				this.out.flush();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			discardPending();
+			IoUtil.close(this.out);
+		}
+	}
+
+	// ------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 递归压缩文件夹或压缩文件，规则见{@link ZipWriter}
+	 *
+	 * @param file       当前递归压缩的文件或目录对象
+	 * @param srcRootDir 被压缩的文件夹根目录
+	 * @param filter     文件过滤器，{@code null}表示不过滤
+	 * @throws IORuntimeException IO异常
+	 */
+	private void _add(File file, String srcRootDir, FileFilter filter) throws IORuntimeException {
+		if (null == file || (null != filter && false == filter.accept(file))) {
+			return;
+		}
+
+		// 获取文件相对于压缩文件夹根目录的子路径
+		final String subPath = FileUtil.subPath(srcRootDir, file);
+		if (file.isDirectory()) {
+			final File[] files = file.listFiles();
+			if (ArrayUtil.isEmpty(files)) {
+				// 只有空目录时才加入目录
+				add(subPath, null);
+			} else {
+				for (File childFile : files) {
+					_add(childFile, srcRootDir, filter);
+				}
+			}
+		} else {
+			// issue#IAGYDG 检查加入的文件是否为压缩结果文件本身，避免死循环
+			if (null != this.zipFile && FileUtil.equals(file, zipFile)) {
+				return;
+			}
+			// 文件在压缩线程中打开，避免同时打开过多文件
+			putEntry(subPath, () -> FileUtil.getInputStream(file));
+		}
+	}
+
+	/**
+	 * 提交文件压缩，正在压缩的文件过多或未写出的数据过多时等待最早的文件压缩完成并写出
+	 *
+	 * @param path 压缩的路径
+	 * @param in   输入流提供者，{@code null}表示目录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	private ParallelZipWriter putEntry(String path, Supplier<InputStream> in) throws IORuntimeException {
+		if (false == this.names.add(path)) {
+			if (null != in) {
+				IoUtil.close(in.get());
+			}
+			throw new IORuntimeException(new ZipException("duplicate entry: " + path));
+		}
+
+		final byte[] name = StrUtil.bytes(path, this.charset);
+		final long time = System.currentTimeMillis();
+		final int level = this.level;
+		final AtomicLong pendingBytes = this.pendingBytes;
+		this.pending.add(this.pool.submit(() -> deflate(name, time, in, level, pendingBytes)));
+
+		try {
+			final int maxPending = this.pool.getParallelism() * 2;
+			while (false == this.pending.isEmpty()
+					&& (this.pending.size() >= maxPending || this.pendingBytes.get() >= this.maxPendingBytes)) {
+				writeNext();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * 等待最早加入的文件压缩完成并写出
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeNext() throws IOException {
+		if (this.broken) {
+			throw new IOException("Zip writer is broken by previous error");
+		}
+		final Entry entry;
+		try {
+			entry = this.pending.poll().join();
+		} catch (RuntimeException e) {
+			this.broken = true;
+			throw e;
+		}
+
+		try {
+			entry.offset = this.written;
+			writeLocalHeader(entry);
+			if (null != entry.data) {
+				entry.data.writeTo(this.out);
+				this.written += entry.data.size();
+			}
+		} catch (RuntimeException | IOException e) {
+			this.broken = true;
+			throw e;
+		} finally {
+			release(entry);
+		}
+		this.entries.add(entry);
+	}
+
+	/**
+	 * 出错时等待剩余压缩任务结束并释放临时缓冲
+	 */
+	private void discardPending() {
+		ForkJoinTask<Entry> task;
+		while (null != (task = this.pending.poll())) {
+			try {
+				release(task.join());
+			} catch (RuntimeException ignore) {
+				// 已经出错，忽略其它任务的异常
+			}
+		}
+	}
+
+	/**
+	 * 释放文件的临时缓冲
+	 *
+	 * @param entry 文件
+	 */
+	private void release(Entry entry) {
+		if (null != entry.data) {
+			this.pendingBytes.addAndGet(-entry.data.size());
+			IoUtil.close(entry.data);
+			entry.data = null;
+		}
+	}
+
+	/**
+	 * 在压缩线程中压缩文件内容到临时缓冲
+	 *
+	 * @param name         文件名
+	 * @param time         修改时间
+	 * @param in           输入流提供者，{@code null}表示目录
+	 * @param level        压缩级别
+	 * @param pendingBytes 未写出的字节数，压缩过程中累加
+	 * @return 压缩后的文件
+	 */
+	private static Entry deflate(byte[] name, long time, Supplier<InputStream> in, int level, AtomicLong pendingBytes) {
+		final Entry entry = new Entry(name, dosTime(time));
+		if (null == in) {
+			entry.method = METHOD_STORED;
+			return entry;
+		}
+
+		entry.method = METHOD_DEFLATED;
+		final ChunkedByteBuffer data = new ChunkedByteBuffer(ChunkedByteBuffer.DEFAULT_CHUNK_SIZE, ENTRY_MAPPED_THRESHOLD);
+		final Deflater deflater = new Deflater(level, true);
+		final CRC32 crc = new CRC32();
+		// 已计入pendingBytes的字节数
+		long counted = 0;
+		try (final InputStream input = in.get()) {
+			final DeflaterOutputStream deflaterOut = new DeflaterOutputStream(data.getOutputStream(), deflater, IoUtil.DEFAULT_BUFFER_SIZE);
+			final byte[] buffer = new byte[IoUtil.DEFAULT_BUFFER_SIZE];
+			int n;
+			while ((n = input.read(buffer)) != NioUtil.EOF) {
+				crc.update(buffer, 0, n);
+				deflaterOut.write(buffer, 0, n);
+				pendingBytes.addAndGet(data.size() - counted);
+				counted = data.size();
+			}
+			deflaterOut.finish();
+			pendingBytes.addAndGet(data.size() - counted);
+			counted = data.size();
+			entry.crc = crc.getValue();
+			entry.size = deflater.getBytesRead();
+			entry.compressedSize = data.size();
+			entry.data = data;
+			return entry;
+		} catch (IOException | RuntimeException e) {
+			pendingBytes.addAndGet(-counted);
+			data.close();
+			throw e instanceof IOException ? new IORuntimeException(e) : (RuntimeException) e;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * 写出本地文件头，压缩后的大小已知，不使用数据描述符
+	 *
+	 * @param entry 文件
+	 * @throws IOException IO异常
+	 */
+	private void writeLocalHeader(Entry entry) throws IOException {
+		final boolean zip64 = entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+		writeInt(0x04034b50L);
+		writeShort(zip64 ? 45 : 20);
+		writeShort(flag());
+		writeShort(entry.method);
+		writeInt(entry.dosTime);
+		writeInt(entry.crc);
+		if (zip64) {
+			writeInt(ZIP64_MAGIC);
+			writeInt(ZIP64_MAGIC);
+		} else {
+			writeInt(entry.compressedSize);
+			writeInt(entry.size);
+		}
+		writeShort(entry.name.length);
+		writeShort(zip64 ? 20 : 0);
+		writeBytes(entry.name);
+		if (zip64) {
+			writeShort(0x0001);
+			writeShort(16);
+			writeLong(entry.size);
+			writeLong(entry.compressedSize);
+		}
+	}
+
+	/**
+	 * 写出中央目录和目录结束标识
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeCentralDirectory() throws IOException {
+		final long start = this.written;
+		for (Entry entry : this.entries) {
+			final boolean sizeOverflow = entry.size >= ZIP64_MAGIC;
+			final boolean compressedOverflow = entry.compressedSize >= ZIP64_MAGIC;
+			final boolean offsetOverflow = entry.offset >= ZIP64_MAGIC;
+			final int extraLength = (sizeOverflow ? 8 : 0) + (compressedOverflow ? 8 : 0) + (offsetOverflow ? 8 : 0);
+			final int version = extraLength > 0 ? 45 : 20;
+
+			writeInt(0x02014b50L);
+			writeShort(version);
+			writeShort(version);
+			writeShort(flag());
+			writeShort(entry.method);
+			writeInt(entry.dosTime);
+			writeInt(entry.crc);
+			writeInt(compressedOverflow ? ZIP64_MAGIC : entry.compressedSize);
+			writeInt(sizeOverflow ? ZIP64_MAGIC : entry.size);
+			writeShort(entry.name.length);
+			writeShort(extraLength > 0 ? extraLength + 4 : 0);
+			// 注释长度、起始磁盘号、内部属性、外部属性
+			writeShort(0);
+			writeShort(0);
+			writeShort(0);
+			writeInt(0);
+			writeInt(offsetOverflow ? ZIP64_MAGIC : entry.offset);
+			writeBytes(entry.name);
+			if (extraLength > 0) {
+				writeShort(0x0001);
+				writeShort(extraLength);
+				if (sizeOverflow) {
+					writeLong(entry.size);
+				}
+				if (compressedOverflow) {
+					writeLong(entry.compressedSize);
+				}
+				if (offsetOverflow) {
+					writeLong(entry.offset);
+				}
+			}
+		}
+
+		final long end = this.written;
+		final long size = end - start;
+		final int count = this.entries.size();
+		if (count >= ZIP64_MAGIC_COUNT || size >= ZIP64_MAGIC || start >= ZIP64_MAGIC) {
+			// Zip64目录结束记录
+			writeInt(0x06064b50L);
+			writeLong(44);
+			writeShort(45);
+			writeShort(45);
+			writeInt(0);
+			writeInt(0);
+			writeLong(count);
+			writeLong(count);
+			writeLong(size);
+			writeLong(start);
+			// Zip64目录结束记录定位
+			writeInt(0x07064b50L);
+			writeInt(0);
+			writeLong(end);
+			writeInt(1);
+		}
+
+		final byte[] comment = null == this.comment ? new byte[0] : this.comment;
+		writeInt(0x06054b50L);
+		writeShort(0);
+		writeShort(0);
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeInt(Math.min(size, ZIP64_MAGIC));
+		writeInt(Math.min(start, ZIP64_MAGIC));
+		writeShort(comment.length);
+		writeBytes(comment);
+	}
+
+	private int flag() {
+		return CharsetUtil.CHARSET_UTF_8.equals(this.charset) ? FLAG_UTF8 : 0;
+	}
+
+	private void writeShort(int v) throws IOException {
+		header[0] = (byte) v;
+		header[1] = (byte) (v >>> 8);
+		this.out.write(header, 0, 2);
+		this.written += 2;
+	}
+
+	private void writeInt(long v) throws IOException {
+		for (int i = 0; i < 4; i++) {
+			header[i] = (byte) (v >>> (i << 3));
+		}
+		this.out.write(header, 0, 4);
+		this.written += 4;
+	}
+
+	private void writeLong(long v) throws IOException {
+		for (int i = 0; i < 8; i++) {
+			header[i] = (byte) (v >>> (i << 3));
+		}
+		this.out.write(header, 0, 8);
+		this.written += 8;
+	}
+
+	private void writeBytes(byte[] bytes) throws IOException {
+		this.out.write(bytes);
+		this.written += bytes.length;
+	}
+
+	/**
+	 * 转换为MS-DOS格式的时间，早于1980年按照1980-01-01处理
+	 *
+	 * @param time 毫秒数
+	 * @return MS-DOS格式的时间
+	 */
+	private static long dosTime(long time) {
+		final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+		final int year = dateTime.getYear();
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return ((long) (year - 1980) << 25) | (dateTime.getMonthValue() << 21) | (dateTime.getDayOfMonth() << 16)
+				| (dateTime.getHour() << 11) | (dateTime.getMinute() << 5) | (dateTime.getSecond() >> 1);
+	}
+
+	/**
+	 * 压缩后等待写出的文件
+	 */
+	private static class Entry {
+		final byte[] name;
+		final long dosTime;
+		int method;
+		long crc;
+		long size;
+		long compressedSize;
+		long offset;
+		/**
+		 * 压缩后的内容，目录为{@code null}，写出后释放
+		 */
+		ChunkedByteBuffer data;
+
+		Entry(byte[] name, long dosTime) {
+			this.name = name;
+			this.dosTime = dosTime;
+		}
+	}
+}
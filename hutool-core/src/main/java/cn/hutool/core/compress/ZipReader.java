@@ -13,7 +13,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -162,14 +166,7 @@ public class ZipReader implements Closeable {
 	public File readTo(File outFile, Filter<ZipEntry> entryFilter) throws IORuntimeException {
 		read((zipEntry) -> {
 			if (null == entryFilter || entryFilter.accept(zipEntry)) {
-				//gitee issue #I4ZDQI
-				String path = zipEntry.getName();
-				if (FileUtil.isWindows()) {
-					// Win系统下
-					path = StrUtil.replace(path, "*", "_");
-				}
-				// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
-				final File outItemFile = FileUtil.file(outFile, path);
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
 				if (zipEntry.isDirectory()) {
 					// 目录
 					//noinspection ResultOfMethodCallIgnored
@@ -189,6 +186,72 @@ public class ZipReader implements Closeable {
 		return outFile;
 	}
 
+	/**
+	 * 使用{@link ForkJoinPool#commonPool()}并行解压到指定目录中，见{@link #readToParallel(File, Filter, ForkJoinPool)}
+	 *
+	 * @param outFile 解压到的目录
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public File readToParallel(File outFile) throws IORuntimeException {
+		return readToParallel(outFile, null, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 并行解压到指定目录中<br>
+	 * 目录在当前线程中依次创建，文件通过{@link ZipFile}随机读取，在线程池中同时解压写出。
+	 * 流模式只能顺序读取，按照{@link #readTo(File, Filter)}处理。
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器，排除不需要的文件
+	 * @param pool        解压使用的线程池
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public File readToParallel(File outFile, Filter<ZipEntry> entryFilter, ForkJoinPool pool) throws IORuntimeException {
+		if (null == this.zipFile) {
+			return readTo(outFile, entryFilter);
+		}
+
+		final ZipFile zipFile = this.zipFile;
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		RuntimeException error = null;
+		try {
+			readFromZipFile((zipEntry) -> {
+				if (null == entryFilter || entryFilter.accept(zipEntry)) {
+					final File outItemFile = getOutItemFile(outFile, zipEntry);
+					if (zipEntry.isDirectory()) {
+						//noinspection ResultOfMethodCallIgnored
+						outItemFile.mkdirs();
+					} else {
+						tasks.add(pool.submit(() -> {
+							FileUtil.writeFromStream(ZipUtil.getStream(zipFile, zipEntry), outItemFile, true);
+						}));
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			error = e;
+		}
+
+		// 等待已提交的文件全部结束，再抛出第一个异常
+		for (ForkJoinTask<?> task : tasks) {
+			try {
+				task.join();
+			} catch (RuntimeException e) {
+				if (null == error) {
+					error = e;
+				}
+			}
+		}
+		if (null != error) {
+			throw error;
+		}
+		return outFile;
+	}
+
 	/**
 	 * 读取并处理Zip文件中的每一个{@link ZipEntry}
 	 *
@@ -214,6 +277,24 @@ public class ZipReader implements Closeable {
 		}
 	}
 
+	/**
+	 * 获取{@link ZipEntry}解压后的文件
+	 *
+	 * @param outFile  解压到的目录
+	 * @param zipEntry {@link ZipEntry}
+	 * @return 解压后的文件
+	 */
+	private static File getOutItemFile(File outFile, ZipEntry zipEntry) {
+		//gitee issue #I4ZDQI
+		String path = zipEntry.getName();
+		if (FileUtil.isWindows()) {
+			// Win系统下
+			path = StrUtil.replace(path, "*", "_");
+		}
+		// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
+		return FileUtil.file(outFile, path);
+	}
+
 	/**
 	 * 读取并处理Zip文件中的每一个{@link ZipEntry}
 	 *
@@ -7,6 +7,7 @@ import cn.hutool.core.lang.Opt;
 import cn.hutool.core.lang.Pair;
 import cn.hutool.core.lang.TypeReference;
 import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.map.WeakConcurrentMap;
 import cn.hutool.core.util.*;
 
 import java.io.Serializable;
@@ -23,6 +24,7 @@ import java.time.*;
 import java.time.temporal.TemporalAccessor;
 import java.util.*;
 import java.util.concurrent.atomic.*;
+import java.util.function.Function;
 
 /**
  * 转换器登记中心
@@ -46,6 +48,19 @@ public class ConverterRegistry implements Serializable {
 	 * 用户自定义类型转换器
 	 */
 	private volatile Map<Type, Converter<?>> customConverterMap;
+	/**
+	 * 转换分派缓存，目标类型 -&gt; (被转换值的类型 -&gt; 分派结果)，登记自定义转换器后失效<br>
+	 * 两级的键均为弱引用，分派结果不引用目标类型和值类型，因此类卸载后对应的缓存可被回收
+	 */
+	private transient volatile WeakConcurrentMap<Type, WeakConcurrentMap<Class<?>, Dispatcher>> dispatchCache;
+	/**
+	 * 自定义转换器优先时的转换分派缓存，结构同{@link #dispatchCache}
+	 */
+	private transient volatile WeakConcurrentMap<Type, WeakConcurrentMap<Class<?>, Dispatcher>> customFirstDispatchCache;
+	/**
+	 * 无法缓存分派结果的标记，此时转换结果依赖默认值的类型
+	 */
+	private static final Dispatcher UNRESOLVED = (type, value, defaultValue) -> defaultValue;
 
 	/**
 	 * 类级的内部类，也就是静态的成员式内部类，该内部类的实例与外部类的实例 没有绑定关系，而且只有被调用到才会装载，从而实现了延迟加载
@@ -117,6 +132,9 @@ public class ConverterRegistry implements Serializable {
 			}
 		}
 		customConverterMap.put(type, converter);
+		// 自定义转换器可能改变已缓存的分派结果，更换新的缓存
+		this.dispatchCache = new WeakConcurrentMap<>();
+		this.customFirstDispatchCache = new WeakConcurrentMap<>();
 		return this;
 	}
 
@@ -216,6 +234,12 @@ public class ConverterRegistry implements Serializable {
 			return ObjUtil.defaultIfNull((T) ((TypeConverter) value).convert(type, value), defaultValue);
 		}
 
+		// 按照值类型和目标类型缓存的分派结果
+		final Dispatcher dispatcher = getDispatcher(value.getClass(), type, isCustomFirst);
+		if (UNRESOLVED != dispatcher) {
+			return (T) dispatcher.convert(type, value, defaultValue);
+		}
+
 		// 标准转换器
 		final Converter<T> converter = getConverter(type, isCustomFirst);
 		if (null != converter) {
@@ -277,6 +301,146 @@ public class ConverterRegistry implements Serializable {
 
 	// ----------------------------------------------------------- Private method start
 
+	/**
+	 * 获取缓存的分派结果，不存在时解析并缓存
+	 *
+	 * @param valueClass    被转换值的类型
+	 * @param type          目标类型
+	 * @param isCustomFirst 是否自定义转换器优先
+	 * @return 分派结果，{@link #UNRESOLVED}表示无法缓存，需按照原有流程转换
+	 */
+	private Dispatcher getDispatcher(Class<?> valueClass, Type type, boolean isCustomFirst) {
+		WeakConcurrentMap<Type, WeakConcurrentMap<Class<?>, Dispatcher>> cache = isCustomFirst ? this.customFirstDispatchCache : this.dispatchCache;
+		if (null == cache) {
+			// 首次使用或反序列化后缓存为null，创建新的缓存
+			cache = new WeakConcurrentMap<>();
+			if (isCustomFirst) {
+				this.customFirstDispatchCache = cache;
+			} else {
+				this.dispatchCache = cache;
+			}
+		}
+
+		return cache.computeIfAbsent(type, (key) -> new WeakConcurrentMap<>())
+				.computeIfAbsent(valueClass, (key) -> ObjUtil.defaultIfNull(resolveDispatcher(key, type, isCustomFirst), UNRESOLVED));
+	}
+
+	/**
+	 * 解析分派结果，将标准转换器、特殊类型转换和Bean转换的查找过程一次性完成，规则与原有流程一致：
+	 * <ol>
+	 *     <li>存在标准转换器时使用标准转换器，值类型即为目标类型时直接返回，数字转原始类型时直接取值</li>
+	 *     <li>目标类型为Collection、Map、Map.Entry、枚举、数组、Class时使用对应转换器，值为目标类型的实例时直接返回</li>
+	 *     <li>以上转换结果为{@code null}时，空值直接实例化，Bean类型使用Bean转换，否则抛出异常</li>
+	 * </ol>
+	 * 依赖目标类型的转换器在转换时按照传入的类型创建，避免缓存的分派结果引用目标类型。
+	 *
+	 * @param valueClass    被转换值的类型
+	 * @param type          目标类型
+	 * @param isCustomFirst 是否自定义转换器优先
+	 * @return 分派结果，{@code null}表示无法解析
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Dispatcher resolveDispatcher(Class<?> valueClass, Type type, boolean isCustomFirst) {
+		final Converter<Object> converter = getConverter(type, isCustomFirst);
+		if (null != converter) {
+			// 自定义转换器不做快速处理
+			final Converter<?> resolved = (converter != getDefaultConverter(type)) ? converter : resolveFastConverter(valueClass, converter);
+			return (targetType, value, defaultValue) -> ((Converter) resolved).convert(value, defaultValue);
+		}
+
+		final Class<?> rowType = TypeUtil.getClass(type);
+		if (null == rowType) {
+			// 无法识别的泛型类型，结果依赖默认值，不缓存
+			return null;
+		}
+
+		final Function<Type, Converter> special;
+		if (Collection.class.isAssignableFrom(rowType)) {
+			special = CollectionConverter::new;
+		} else if (Map.class.isAssignableFrom(rowType)) {
+			special = MapConverter::new;
+		} else if (Map.Entry.class.isAssignableFrom(rowType)) {
+			special = EntryConverter::new;
+		} else if (rowType.isAssignableFrom(valueClass)) {
+			// 默认强转
+			return (targetType, value, defaultValue) -> value;
+		} else if (rowType.isEnum()) {
+			special = targetType -> new EnumConverter(TypeUtil.getClass(targetType));
+		} else if (rowType.isArray()) {
+			special = targetType -> new ArrayConverter(TypeUtil.getClass(targetType));
+		} else if ("java.lang.Class".equals(rowType.getName())) {
+			special = targetType -> new ClassConverter();
+		} else {
+			special = null;
+		}
+
+		final boolean isBean = BeanUtil.isBean(rowType);
+		return (targetType, value, defaultValue) -> {
+			final Object result;
+			if (null != special) {
+				result = special.apply(targetType).convert(value, defaultValue);
+			} else if (ObjectUtil.isEmpty(value)) {
+				// issue#3649 空值转空对象，则直接实例化
+				result = ReflectUtil.newInstanceIfPossible(TypeUtil.getClass(targetType));
+			} else {
+				result = null;
+			}
+			if (null != result) {
+				return result;
+			}
+
+			// 尝试转Bean
+			if (isBean) {
+				return new BeanConverter<>(targetType).convert(value, defaultValue);
+			}
+			throw new ConvertException("Can not Converter from [{}] to [{}]", value.getClass().getName(), targetType.getTypeName());
+		};
+	}
+
+	/**
+	 * 对默认转换器增加快速处理：
+	 * <ul>
+	 *     <li>值类型即为转换器目标类型时，直接返回原值</li>
+	 *     <li>数字转原始类型时，直接取对应的原始值</li>
+	 * </ul>
+	 * 指定了默认值时仍交给转换器处理，以保留对默认值类型的检查。
+	 *
+	 * @param valueClass 被转换值的类型
+	 * @param converter  默认转换器
+	 * @return 转换器
+	 */
+	private Converter<?> resolveFastConverter(Class<?> valueClass, Converter<Object> converter) {
+		if (converter instanceof PrimitiveConverter && Number.class.isAssignableFrom(valueClass)) {
+			final Class<?> primitiveClass = ((PrimitiveConverter) converter).getTargetType();
+			final Function<Number, Object> getter;
+			if (byte.class == primitiveClass) {
+				getter = Number::byteValue;
+			} else if (short.class == primitiveClass) {
+				getter = Number::shortValue;
+			} else if (int.class == primitiveClass) {
+				getter = Number::intValue;
+			} else if (long.class == primitiveClass) {
+				getter = Number::longValue;
+			} else if (float.class == primitiveClass) {
+				getter = Number::floatValue;
+			} else if (double.class == primitiveClass) {
+				getter = NumberUtil::toDouble;
+			} else {
+				return converter;
+			}
+			return (value, defaultValue) -> null == defaultValue ? getter.apply((Number) value) : converter.convert(value, defaultValue);
+		}
+
+		if (converter instanceof AbstractConverter
+				&& false == Map.class.isAssignableFrom(valueClass)
+				&& valueClass == ((AbstractConverter<?>) converter).getTargetType()
+				&& AbstractConverter.class == ReflectUtil.getMethod(converter.getClass(), "convert", Object.class, Object.class).getDeclaringClass()) {
+			// 已经是目标类型，无需转换
+			return (value, defaultValue) -> (null == defaultValue || value.getClass().isInstance(defaultValue)) ? value : converter.convert(value, defaultValue);
+		}
+		return converter;
+	}
+
 	/**
 	 * 特殊类型转换<br>
 	 * 包括：
@@ -439,4 +603,20 @@ public class ConverterRegistry implements Serializable {
 		return this;
 	}
 	// ----------------------------------------------------------- Private method end
+
+	/**
+	 * 分派结果，转换时传入目标类型，自身不引用目标类型和值类型
+	 */
+	@FunctionalInterface
+	private interface Dispatcher {
+		/**
+		 * 转换
+		 *
+		 * @param type         目标类型
+		 * @param value        被转换的值
+		 * @param defaultValue 默认值
+		 * @return 转换后的值
+		 */
+		Object convert(Type type, Object value, Object defaultValue);
+	}
 }
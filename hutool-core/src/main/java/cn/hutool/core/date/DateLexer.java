@@ -0,0 +1,583 @@
+package cn.hutool.core.date;
+
+import cn.hutool.core.date.format.DateBasic;
+import cn.hutool.core.date.format.FastDateFormat;
+import cn.hutool.core.util.SystemPropsUtil;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * 日期字符串词法解析器，单次扫描识别{@link DateUtil#parse(CharSequence)}支持的常用数字格式，
+ * 直接读取各字段数值并构建日期，避免正则匹配和中间字符串。支持的格式：
+ * <ol>
+ *     <li>纯数字：yyyyMMddHHmmss、yyyyMMddHHmmssSSS、yyyyMMdd、HHmmss和13位毫秒时间戳</li>
+ *     <li>标准格式：yyyy-MM-dd、yyyy-MM-dd HH:mm、yyyy-MM-dd HH:mm:ss、yyyy-MM-dd HH:mm:ss.SSSSSS，
+ *     日期分隔符可以为"-"、"/"、"."、"年"、"月"，时间分隔符可以为":"、"时"、"分"，"日"和"秒"被忽略</li>
+ *     <li>时间：HH:mm、HH:mm:ss，日期为今天</li>
+ *     <li>ISO8601：yyyy-MM-dd'T'HH:mm、yyyy-MM-dd'T'HH:mm:ss.SSS，可带Z、+08:00、+0800、-08:00等时区</li>
+ * </ol>
+ * 解析结果与使用对应格式的{@link FastDateFormat}解析一致。
+ * 不支持的格式（如RFC2822等带有名称的格式）或非宽松模式下字段值非法时返回{@code null}，由调用者使用其它方式解析。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class DateLexer {
+
+	private static final long[] POW10 = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L,
+			1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+			1000000000000000L, 10000000000000000L, 100000000000000000L};
+
+	/**
+	 * 解析日期字符串
+	 *
+	 * @param str 日期字符串
+	 * @return 日期，无法识别的格式返回{@code null}
+	 */
+	public static DateTime parse(final CharSequence str) {
+		if (null == str) {
+			return null;
+		}
+		return new DateLexer(str).parse();
+	}
+
+	private final CharSequence str;
+	private final int end;
+	private int pos;
+	/**
+	 * 最近一次读取数字的位数
+	 */
+	private int width;
+
+	/**
+	 * 构造，去除两边的空白符
+	 *
+	 * @param str 日期字符串
+	 */
+	private DateLexer(final CharSequence str) {
+		this.str = str;
+		int begin = 0;
+		int end = str.length();
+		while (begin < end && str.charAt(begin) <= ' ') {
+			begin++;
+		}
+		while (end > begin && str.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		this.pos = begin;
+		this.end = end;
+	}
+
+	/**
+	 * 根据第一组数字和其后的分隔符判断格式类型
+	 *
+	 * @return 日期，无法识别返回{@code null}
+	 */
+	private DateTime parse() {
+		final long first = readNumber(17);
+		if (first < 0) {
+			return null;
+		}
+		final int firstWidth = this.width;
+		final int c = peek();
+		if (c < 0) {
+			return parsePure(first, firstWidth);
+		}
+		pos++;
+		if (4 == firstWidth && isDateSeparator(c)) {
+			return parseDate((int) first, c);
+		}
+		if (firstWidth <= 2 && (':' == c || '时' == c)) {
+			return parseTimeToday((int) first);
+		}
+		return null;
+	}
+
+	/**
+	 * 纯数字形式，按照位数区分格式
+	 *
+	 * @param value 数字
+	 * @param width 位数
+	 * @return 日期
+	 */
+	private static DateTime parsePure(final long value, final int width) {
+		final Calendar calendar;
+		switch (width) {
+			case 8:
+				// yyyyMMdd
+				calendar = newCalendar(DatePattern.PURE_DATE_FORMAT);
+				setDate(calendar, digits(value, width, 0, 4), digits(value, width, 4, 2), digits(value, width, 6, 2));
+				break;
+			case 14:
+				// yyyyMMddHHmmss
+				calendar = newCalendar(DatePattern.PURE_DATETIME_FORMAT);
+				setDate(calendar, digits(value, width, 0, 4), digits(value, width, 4, 2), digits(value, width, 6, 2));
+				setTime(calendar, digits(value, width, 8, 2), digits(value, width, 10, 2), digits(value, width, 12, 2), 0);
+				break;
+			case 17:
+				// yyyyMMddHHmmssSSS
+				calendar = newCalendar(DatePattern.PURE_DATETIME_MS_FORMAT);
+				setDate(calendar, digits(value, width, 0, 4), digits(value, width, 4, 2), digits(value, width, 6, 2));
+				setTime(calendar, digits(value, width, 8, 2), digits(value, width, 10, 2), digits(value, width, 12, 2),
+						digits(value, width, 14, 3));
+				break;
+			case 6:
+				// HHmmss
+				calendar = newCalendar(DatePattern.PURE_TIME_FORMAT);
+				setTime(calendar, digits(value, width, 0, 2), digits(value, width, 2, 2), digits(value, width, 4, 2), 0);
+				break;
+			case 13:
+				// 时间戳
+				return new DateTime(value);
+			default:
+				return null;
+		}
+		return toDateTime(calendar);
+	}
+
+	/**
+	 * 解析年之后的部分，包括标准格式和ISO8601格式
+	 *
+	 * @param year          年
+	 * @param dateSeparator 年后的分隔符
+	 * @return 日期
+	 */
+	private DateTime parseDate(final int year, final int dateSeparator) {
+		final long month = readNumber(2);
+		if (month < 0) {
+			return null;
+		}
+		final int monthWidth = this.width;
+		final int separator = peek();
+		if (false == isDateSeparator(separator)) {
+			return null;
+		}
+		pos++;
+		final long day = readNumber(2);
+		if (day < 0) {
+			return null;
+		}
+
+		int c = peek();
+		if (c < 0) {
+			// yyyy-MM-dd
+			final Calendar calendar = newCalendar(DatePattern.NORM_DATE_FORMAT);
+			setDate(calendar, year, (int) month, (int) day);
+			return toDateTime(calendar);
+		}
+		if ('T' == c) {
+			// ISO8601只支持定长的yyyy-MM-dd
+			if ('-' != dateSeparator || '-' != separator || 2 != monthWidth || 2 != this.width) {
+				return null;
+			}
+			pos++;
+			return parseIso(year, (int) month, (int) day);
+		}
+		if (' ' != c) {
+			return null;
+		}
+		do {
+			pos++;
+			c = peek();
+		} while (' ' == c);
+		if (c < 0) {
+			// 去除"日"后末尾留下空格的yyyy-MM-dd
+			final Calendar calendar = newCalendar(DatePattern.NORM_DATE_FORMAT);
+			setDate(calendar, year, (int) month, (int) day);
+			return toDateTime(calendar);
+		}
+		return parseNormTime(year, (int) month, (int) day);
+	}
+
+	/**
+	 * 解析标准格式中的时间部分，格式为HH:mm、HH:mm:ss、HH:mm:ss.SSSSSS，末尾可以有一个分隔符
+	 *
+	 * @param year  年
+	 * @param month 月
+	 * @param day   日
+	 * @return 日期
+	 */
+	private DateTime parseNormTime(final int year, final int month, final int day) {
+		final long hour = readNumber(2);
+		if (hour < 0 || false == isTimeSeparator(peek())) {
+			return null;
+		}
+		pos++;
+		final long minute = readNumber(2);
+		if (minute < 0) {
+			return null;
+		}
+
+		DateBasic format = DatePattern.NORM_DATETIME_MINUTE_FORMAT;
+		long second = 0;
+		int millis = 0;
+		int c = peek();
+		if (isTimeSeparator(c)) {
+			pos++;
+			c = peek();
+			if (isDigit(c)) {
+				second = readNumber(2);
+				if (second < 0) {
+					return null;
+				}
+				format = DatePattern.NORM_DATETIME_FORMAT;
+				c = peek();
+				if ('.' == c || ',' == c) {
+					// 毫秒最多6位，超出3位的部分截断
+					pos++;
+					millis = readFraction(6);
+					if (millis < 0) {
+						return null;
+					}
+					format = DatePattern.NORM_DATETIME_MS_FORMAT;
+					c = peek();
+				}
+				if (isTimeSeparator(c)) {
+					pos++;
+					c = peek();
+				}
+			}
+		}
+		// 去除"日"、"秒"后末尾可能留下空格
+		while (' ' == c) {
+			pos++;
+			c = peek();
+		}
+		if (c >= 0) {
+			return null;
+		}
+
+		final Calendar calendar = newCalendar(format);
+		setDate(calendar, year, month, day);
+		setTime(calendar, (int) hour, (int) minute, (int) second, millis);
+		return toDateTime(calendar);
+	}
+
+	/**
+	 * 解析时间，格式为HH:mm或HH:mm:ss，日期为今天
+	 *
+	 * @param hour 小时
+	 * @return 日期
+	 */
+	private DateTime parseTimeToday(final int hour) {
+		final long minute = readNumber(2);
+		if (minute < 0) {
+			return null;
+		}
+		long second = -1;
+		final int c = peek();
+		if (c >= 0) {
+			if (':' != c && '分' != c) {
+				return null;
+			}
+			pos++;
+			second = readNumber(2);
+			if (second < 0 || peek() >= 0) {
+				return null;
+			}
+		}
+
+		final DateBasic dateFormat = DatePattern.NORM_DATE_FORMAT;
+		final Calendar today = Calendar.getInstance(dateFormat.getTimeZone(), dateFormat.getLocale());
+		final Calendar calendar = newCalendar(second < 0
+				? FastDateFormat.getInstance(DatePattern.NORM_DATETIME_MINUTE_PATTERN) : DatePattern.NORM_DATETIME_FORMAT);
+		setDate(calendar, today.get(Calendar.YEAR), today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH));
+		setTime(calendar, hour, (int) minute, (int) Math.max(second, 0), 0);
+		return toDateTime(calendar);
+	}
+
+	/**
+	 * 解析ISO8601格式中T之后的部分，格式为HH:mm、HH:mm:ss、HH:mm:ss.SSS，可带有时区
+	 *
+	 * @param year  年
+	 * @param month 月
+	 * @param day   日
+	 * @return 日期
+	 */
+	private DateTime parseIso(final int year, final int month, final int day) {
+		final int hour = readFixedNumber();
+		if (hour < 0 || ':' != peek()) {
+			return null;
+		}
+		pos++;
+		final int minute = readFixedNumber();
+		if (minute < 0) {
+			return null;
+		}
+
+		int c = peek();
+		if (c < 0) {
+			// yyyy-MM-dd'T'HH:mm
+			return toDateTime(DatePattern.UTC_SIMPLE_FORMAT, null, year, month, day, hour, minute, 0, 0);
+		}
+		if (':' != c) {
+			return null;
+		}
+		pos++;
+		final int second = readFixedNumber();
+		if (second < 0) {
+			return null;
+		}
+		int millis = -1;
+		c = peek();
+		if ('.' == c) {
+			pos++;
+			millis = readFraction(Integer.MAX_VALUE);
+			if (millis < 0) {
+				return null;
+			}
+			c = peek();
+		}
+
+		if (c < 0) {
+			// yyyy-MM-dd'T'HH:mm:ss 或 yyyy-MM-dd'T'HH:mm:ss.SSS
+			return toDateTime(millis < 0 ? DatePattern.UTC_SIMPLE_FORMAT : DatePattern.UTC_SIMPLE_MS_FORMAT,
+					null, year, month, day, hour, minute, second, Math.max(millis, 0));
+		}
+		if ('Z' == c) {
+			pos++;
+			// Z结尾的毫秒只支持1~3位
+			if (peek() >= 0 || (millis >= 0 && this.width > 3)) {
+				return null;
+			}
+			return toDateTime(millis < 0 ? DatePattern.UTC_FORMAT : DatePattern.UTC_MS_FORMAT,
+					null, year, month, day, hour, minute, second, Math.max(millis, 0));
+		}
+
+		// 时区偏移，如+08:00、+0800、-08:00、-0800，符号前可以有一个空格
+		if (' ' == c) {
+			pos++;
+			c = peek();
+		}
+		if ('+' != c && '-' != c) {
+			return null;
+		}
+		pos++;
+		final int offsetHour = readFixedNumber();
+		if (offsetHour < 0) {
+			return null;
+		}
+		final boolean hasColon = ':' == peek();
+		if (hasColon) {
+			pos++;
+		}
+		final int offsetMinute = readFixedNumber();
+		if (offsetMinute < 0 || peek() >= 0 || offsetHour > 23 || offsetMinute > 59) {
+			return null;
+		}
+		if (0 != offsetMinute && (false == hasColon || '-' == c)) {
+			// 无冒号的偏移和负偏移只识别整点
+			return null;
+		}
+
+		final TimeZone timeZone = TimeZone.getTimeZone("GMT" + (char) c
+				+ (char) ('0' + offsetHour / 10) + (char) ('0' + offsetHour % 10) + ':'
+				+ (char) ('0' + offsetMinute / 10) + (char) ('0' + offsetMinute % 10));
+		return toDateTime(millis < 0 ? DatePattern.UTC_WITH_XXX_OFFSET_FORMAT : DatePattern.UTC_MS_WITH_XXX_OFFSET_FORMAT,
+				timeZone, year, month, day, hour, minute, second, Math.max(millis, 0));
+	}
+
+	// region ----- Lexer methods
+
+	/**
+	 * 查看当前字符，"日"和"秒"被忽略
+	 *
+	 * @return 当前字符，结束返回-1
+	 */
+	private int peek() {
+		while (pos < end) {
+			final char c = str.charAt(pos);
+			if ('日' != c && '秒' != c) {
+				return c;
+			}
+			pos++;
+		}
+		return -1;
+	}
+
+	/**
+	 * 读取连续的数字，位数记录在{@link #width}中
+	 *
+	 * @param maxWidth 最大位数
+	 * @return 数字，无数字或超出最大位数返回-1
+	 */
+	private long readNumber(final int maxWidth) {
+		long value = 0;
+		int count = 0;
+		int c;
+		while (isDigit(c = peek())) {
+			if (++count > maxWidth) {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+			pos++;
+		}
+		this.width = count;
+		return 0 == count ? -1 : value;
+	}
+
+	/**
+	 * 读取2位定长数字
+	 *
+	 * @return 数字，位数不符返回-1
+	 */
+	private int readFixedNumber() {
+		int value = 0;
+		for (int i = 0; i < 2; i++) {
+			final int c = peek();
+			if (false == isDigit(c)) {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+			pos++;
+		}
+		return value;
+	}
+
+	/**
+	 * 读取秒的小数部分，只保留前3位作为毫秒数，位数记录在{@link #width}中
+	 *
+	 * @param maxWidth 最大位数
+	 * @return 毫秒数，无数字或超出最大位数返回-1
+	 */
+	private int readFraction(final int maxWidth) {
+		int value = 0;
+		int count = 0;
+		int c;
+		while (isDigit(c = peek())) {
+			if (++count > maxWidth) {
+				return -1;
+			}
+			if (count <= 3) {
+				value = value * 10 + (c - '0');
+			}
+			pos++;
+		}
+		this.width = count;
+		return 0 == count ? -1 : value;
+	}
+
+	/**
+	 * 是否为数字字符
+	 *
+	 * @param c 字符
+	 * @return 是否为数字
+	 */
+	private static boolean isDigit(final int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * 是否为标准格式的日期分隔符
+	 *
+	 * @param c 字符
+	 * @return 是否为分隔符
+	 */
+	private static boolean isDateSeparator(final int c) {
+		return '-' == c || '/' == c || '.' == c || '年' == c || '月' == c;
+	}
+
+	/**
+	 * 是否为标准格式的时间分隔符
+	 *
+	 * @param c 字符
+	 * @return 是否为分隔符
+	 */
+	private static boolean isTimeSeparator(final int c) {
+		return ':' == c || '时' == c || '分' == c;
+	}
+	// endregion
+
+	// region ----- Calendar methods
+
+	/**
+	 * 截取数字中的部分位
+	 *
+	 * @param value  数字
+	 * @param width  数字总位数
+	 * @param offset 开始位置
+	 * @param length 位数
+	 * @return 截取的值
+	 */
+	private static int digits(final long value, final int width, final int offset, final int length) {
+		return (int) (value / POW10[width - offset - length] % POW10[length]);
+	}
+
+	/**
+	 * 创建与对应格式解析时相同的空{@link Calendar}
+	 *
+	 * @param format 对应的日期格式
+	 * @return {@link Calendar}
+	 */
+	private static Calendar newCalendar(final DateBasic format) {
+		return newCalendar(format.getTimeZone(), format.getLocale());
+	}
+
+	/**
+	 * 创建空{@link Calendar}，宽松模式与{@link DateTime}解析一致
+	 *
+	 * @param timeZone 时区
+	 * @param locale   {@link Locale}
+	 * @return {@link Calendar}
+	 */
+	private static Calendar newCalendar(final TimeZone timeZone, final Locale locale) {
+		final Calendar calendar = Calendar.getInstance(timeZone, locale);
+		calendar.clear();
+		calendar.setLenient(SystemPropsUtil.getBoolean(SystemPropsUtil.HUTOOL_DATE_LENIENT, true));
+		return calendar;
+	}
+
+	private static void setDate(final Calendar calendar, final int year, final int month, final int day) {
+		calendar.set(Calendar.YEAR, year);
+		calendar.set(Calendar.MONTH, month - 1);
+		calendar.set(Calendar.DAY_OF_MONTH, day);
+	}
+
+	private static void setTime(final Calendar calendar, final int hour, final int minute, final int second, final int millis) {
+		calendar.set(Calendar.HOUR_OF_DAY, hour);
+		calendar.set(Calendar.MINUTE, minute);
+		calendar.set(Calendar.SECOND, second);
+		calendar.set(Calendar.MILLISECOND, millis);
+	}
+
+	/**
+	 * 按照给定字段构建日期
+	 *
+	 * @param format   对应的日期格式
+	 * @param timeZone 解析出的时区，{@code null}表示使用格式的时区
+	 * @param year     年
+	 * @param month    月
+	 * @param day      日
+	 * @param hour     时
+	 * @param minute   分
+	 * @param second   秒
+	 * @param millis   毫秒
+	 * @return 日期
+	 */
+	private static DateTime toDateTime(final DateBasic format, final TimeZone timeZone, final int year, final int month,
+									   final int day, final int hour, final int minute, final int second, final int millis) {
+		final Calendar calendar = newCalendar(null == timeZone ? format.getTimeZone() : timeZone, format.getLocale());
+		setDate(calendar, year, month, day);
+		setTime(calendar, hour, minute, second, millis);
+		return toDateTime(calendar);
+	}
+
+	/**
+	 * 转换为{@link DateTime}，一周的第一天与{@link DateTime}解析一致为周一
+	 *
+	 * @param calendar {@link Calendar}
+	 * @return 日期，非宽松模式下字段值非法返回{@code null}
+	 */
+	private static DateTime toDateTime(final Calendar calendar) {
+		calendar.setFirstDayOfWeek(Week.MONDAY.getValue());
+		try {
+			return new DateTime(calendar);
+		} catch (final IllegalArgumentException e) {
+			// 字段值非法，交给调用者按照原有方式解析并报错
+			return null;
+		}
+	}
+	// endregion
+}
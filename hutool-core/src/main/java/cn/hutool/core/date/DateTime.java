@@ -1003,7 +1003,7 @@ public class DateTime extends Date {
 	 */
 	public String toString(TimeZone timeZone) {
 		if (null != timeZone) {
-			return toString(DateUtil.newSimpleFormat(DatePattern.NORM_DATETIME_PATTERN, null, timeZone));
+			return toString(FastDateFormat.getInstance(DatePattern.NORM_DATETIME_PATTERN, timeZone, Locale.getDefault(Locale.Category.FORMAT)));
 		}
 		return toString(DatePattern.NORM_DATETIME_FORMAT);
 	}
@@ -1016,7 +1016,7 @@ public class DateTime extends Date {
 	 */
 	public String toDateStr() {
 		if (null != this.timeZone) {
-			return toString(DateUtil.newSimpleFormat(DatePattern.NORM_DATE_PATTERN, null, timeZone));
+			return toString(FastDateFormat.getInstance(DatePattern.NORM_DATE_PATTERN, timeZone, Locale.getDefault(Locale.Category.FORMAT)));
 		}
 		return toString(DatePattern.NORM_DATE_FORMAT);
 	}
@@ -1029,7 +1029,7 @@ public class DateTime extends Date {
 	 */
 	public String toTimeStr() {
 		if (null != this.timeZone) {
-			return toString(DateUtil.newSimpleFormat(DatePattern.NORM_TIME_PATTERN, null, timeZone));
+			return toString(FastDateFormat.getInstance(DatePattern.NORM_TIME_PATTERN, timeZone, Locale.getDefault(Locale.Category.FORMAT)));
 		}
 		return toString(DatePattern.NORM_TIME_FORMAT);
 	}
@@ -539,6 +539,38 @@ public class DateUtil extends CalendarUtil {
 		return format.format(date);
 	}
 
+	/**
+	 * 根据特定格式格式化日期，结果追加到给定的{@link Appendable}中<br>
+	 * 使用{@link FastDateFormat}且格式只包含数字字段时（如{@link DatePattern#NORM_DATETIME_FORMAT}），格式化过程不创建中间对象
+	 *
+	 * @param <T>        {@link Appendable}类型
+	 * @param date       被格式化的日期，{@code null}时不追加
+	 * @param format     {@link DatePrinter} 或 {@link FastDateFormat}
+	 * @param appendable {@link Appendable}，如{@link StringBuilder}、{@link java.nio.CharBuffer}
+	 * @return 给定的{@link Appendable}
+	 * @since 5.8.34
+	 */
+	public static <T extends Appendable> T format(Date date, DatePrinter format, T appendable) {
+		if (null == format || null == date) {
+			return appendable;
+		}
+		return format.format(date, appendable);
+	}
+
+	/**
+	 * 格式化日期时间并写入给定的字符数组，格式 yyyy-MM-dd HH:mm:ss<br>
+	 * 数组剩余空间不小于19时不创建中间对象
+	 *
+	 * @param date   被格式化的日期
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入结束的位置（不包含）
+	 * @since 5.8.34
+	 */
+	public static int formatDateTime(Date date, char[] buf, int offset) {
+		return DatePattern.NORM_DATETIME_FORMAT.format(date, buf, offset);
+	}
+
 	/**
 	 * 根据特定格式格式化日期
 	 *
@@ -996,6 +1028,12 @@ public class DateUtil extends CalendarUtil {
 		if (StrUtil.isBlank(dateCharSequence)) {
 			return null;
 		}
+		// 常用的数字格式单次扫描直接解析，其它格式按照以下规则匹配
+		final DateTime dateTime = DateLexer.parse(dateCharSequence);
+		if (null != dateTime) {
+			return dateTime;
+		}
+
 		String dateStr = dateCharSequence.toString();
 		// 去掉两边空格并去掉中文日期中的“日”和“秒”，以规范长度
 		dateStr = StrUtil.removeAll(dateStr.trim(), '日', '秒');
@@ -1,10 +1,12 @@
 package cn.hutool.core.date;
 
+import cn.hutool.core.date.format.FastDateFormat;
 import cn.hutool.core.date.format.GlobalCustomFormat;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.ReUtil;
 import cn.hutool.core.util.StrUtil;
 
+import java.io.IOException;
 import java.time.*;
 import java.time.chrono.ChronoLocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,6 +24,11 @@ import java.util.TimeZone;
  */
 public class LocalDateTimeUtil {
 
+	/**
+	 * UTC时区的yyyy-MM-dd HH:mm:ss格式化器，用于将{@link LocalDateTime}按照本地字段直接写出
+	 */
+	private static final FastDateFormat NORM_DATETIME_UTC_FORMAT = FastDateFormat.getInstance(DatePattern.NORM_DATETIME_PATTERN, TimeZone.getTimeZone(ZoneOffset.UTC));
+
 	/**
 	 * 当前时间，默认时区
 	 *
@@ -352,6 +359,54 @@ public class LocalDateTimeUtil {
 		return format(time, DatePattern.NORM_DATETIME_FORMATTER);
 	}
 
+	/**
+	 * 格式化日期时间为yyyy-MM-dd HH:mm:ss格式，并写入给定的字符数组<br>
+	 * 年份在1583~9999之间且数组剩余空间不小于19时不创建中间对象
+	 *
+	 * @param time   {@link LocalDateTime}，{@code null}时不写入
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入结束的位置（不包含）
+	 * @throws IndexOutOfBoundsException 字符数组剩余空间不足
+	 * @since 5.8.34
+	 */
+	public static int formatNormal(LocalDateTime time, char[] buf, int offset) {
+		if (null == time) {
+			return offset;
+		}
+		if (isFastFormatYear(time)) {
+			return NORM_DATETIME_UTC_FORMAT.format(toUtcMillis(time), buf, offset);
+		}
+		final String str = formatNormal(time);
+		str.getChars(0, str.length(), buf, offset);
+		return offset + str.length();
+	}
+
+	/**
+	 * 格式化日期时间为yyyy-MM-dd HH:mm:ss格式，结果追加到给定的{@link Appendable}中<br>
+	 * 年份在1583~9999之间时不创建中间对象
+	 *
+	 * @param <T>        {@link Appendable}类型
+	 * @param time       {@link LocalDateTime}，{@code null}时不追加
+	 * @param appendable {@link Appendable}，如{@link StringBuilder}、{@link java.nio.CharBuffer}
+	 * @return 给定的{@link Appendable}
+	 * @since 5.8.34
+	 */
+	public static <T extends Appendable> T formatNormal(LocalDateTime time, T appendable) {
+		if (null == time) {
+			return appendable;
+		}
+		if (isFastFormatYear(time)) {
+			return NORM_DATETIME_UTC_FORMAT.format(toUtcMillis(time), appendable);
+		}
+		try {
+			appendable.append(formatNormal(time));
+		} catch (IOException e) {
+			throw new DateException(e);
+		}
+		return appendable;
+	}
+
 	/**
 	 * 格式化日期时间为指定格式
 	 *
@@ -693,4 +748,25 @@ public class LocalDateTimeUtil {
 							   ChronoLocalDateTime<?> endDate, boolean includeBegin, boolean includeEnd) {
 		return TemporalAccessorUtil.isIn(date, beginDate, endDate, includeBegin, includeEnd);
 	}
+
+	/**
+	 * 是否可以使用{@link #NORM_DATETIME_UTC_FORMAT}快速格式化，{@link FastDateFormat}使用的{@link java.util.GregorianCalendar}在1582年之前使用儒略历，与{@link LocalDateTime}不一致
+	 *
+	 * @param time {@link LocalDateTime}
+	 * @return 是否可以快速格式化
+	 */
+	private static boolean isFastFormatYear(LocalDateTime time) {
+		final int year = time.getYear();
+		return year >= 1583 && year <= 9999;
+	}
+
+	/**
+	 * 将{@link LocalDateTime}按照UTC时区转换为毫秒数，配合{@link #NORM_DATETIME_UTC_FORMAT}使用
+	 *
+	 * @param time {@link LocalDateTime}
+	 * @return 毫秒数
+	 */
+	private static long toUtcMillis(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) * 1000 + time.getNano() / 1_000_000;
+	}
 }
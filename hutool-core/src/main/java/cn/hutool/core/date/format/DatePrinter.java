@@ -75,4 +75,34 @@ public interface DatePrinter extends DateBasic {
 	 * @return the specified string buffer
 	 */
 	<B extends Appendable> B format(Calendar calendar, B buf);
+
+	/**
+	 * 格式化毫秒数并写入给定的字符数组
+	 *
+	 * @param millis 毫秒数
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入结束的位置（不包含）
+	 * @throws IndexOutOfBoundsException 字符数组剩余空间不足
+	 * @since 5.8.34
+	 */
+	default int format(final long millis, final char[] buf, final int offset) {
+		final String str = format(millis);
+		str.getChars(0, str.length(), buf, offset);
+		return offset + str.length();
+	}
+
+	/**
+	 * 格式化日期并写入给定的字符数组
+	 *
+	 * @param date   日期
+	 * @param buf    字符数组
+	 * @param offset 写入的开始位置
+	 * @return 写入结束的位置（不包含）
+	 * @throws IndexOutOfBoundsException 字符数组剩余空间不足
+	 * @since 5.8.34
+	 */
+	default int format(final Date date, final char[] buf, final int offset) {
+		return format(date.getTime(), buf, offset);
+	}
 }
@@ -328,6 +328,16 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
 		return printer.format(calendar, buf);
 	}
 
+	@Override
+	public int format(final long millis, final char[] buf, final int offset) {
+		return printer.format(millis, buf, offset);
+	}
+
+	@Override
+	public int format(final Date date, final char[] buf, final int offset) {
+		return printer.format(date, buf, offset);
+	}
+
 	// ----------------------------------------------------------------------- Parsing
 	@Override
 	public Date parse(final String source) throws ParseException {
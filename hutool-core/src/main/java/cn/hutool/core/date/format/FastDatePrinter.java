@@ -5,10 +5,12 @@ import cn.hutool.core.map.SafeConcurrentHashMap;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.nio.CharBuffer;
 import java.text.DateFormatSymbols;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -31,6 +33,14 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 	 * 估算最大长度.
 	 */
 	private transient int mMaxLengthEstimate;
+	/**
+	 * 快速格式化指令，只包含数字字段、时区偏移和文本时生成，{@code null}表示不支持快速格式化
+	 */
+	private transient int[] fastOps;
+	/**
+	 * 快速格式化结果的最大长度
+	 */
+	private transient int fastMaxLength;
 
 	// Constructor
 	// -----------------------------------------------------------------------
@@ -60,6 +70,7 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 		}
 
 		mMaxLengthEstimate = len;
+		initFastOps();
 	}
 
 	// Parse the pattern
@@ -313,6 +324,13 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public String format(long millis) {
+		if (null != fastOps) {
+			final char[] buf = new char[fastMaxLength];
+			final int end = applyFastOps(millis, buf, 0, null);
+			if (end >= 0) {
+				return new String(buf, 0, end);
+			}
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTimeInMillis(millis);
 		return applyRulesToString(c);
@@ -320,9 +338,7 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public String format(Date date) {
-		final Calendar c = Calendar.getInstance(timeZone, locale);
-		c.setTime(date);
-		return applyRulesToString(c);
+		return format(date.getTime());
 	}
 
 	@Override
@@ -332,6 +348,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public <B extends Appendable> B format(long millis, B buf) {
+		if (null != fastOps && appendFast(millis, buf)) {
+			return buf;
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTimeInMillis(millis);
 		return applyRules(c, buf);
@@ -339,9 +358,23 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public <B extends Appendable> B format(Date date, B buf) {
-		final Calendar c = Calendar.getInstance(timeZone, locale);
-		c.setTime(date);
-		return applyRules(c, buf);
+		return format(date.getTime(), buf);
+	}
+
+	@Override
+	public int format(long millis, char[] buf, int offset) {
+		if (null != fastOps && offset >= 0 && buf.length - offset >= fastMaxLength) {
+			final int end = applyFastOps(millis, buf, offset, null);
+			if (end >= 0) {
+				return end;
+			}
+		}
+		return DatePrinter.super.format(millis, buf, offset);
+	}
+
+	@Override
+	public int format(Date date, char[] buf, int offset) {
+		return format(date.getTime(), buf, offset);
 	}
 
 	@Override
@@ -395,6 +428,346 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 		return mMaxLengthEstimate;
 	}
 
+	// region ----- Fast format
+
+	private static final int OP_LITERAL = 0;
+	private static final int OP_YEAR = 1;
+	private static final int OP_TWO_DIGIT_YEAR = 2;
+	private static final int OP_MONTH = 3;
+	private static final int OP_DAY = 4;
+	private static final int OP_HOUR = 5;
+	private static final int OP_MINUTE = 6;
+	private static final int OP_SECOND = 7;
+	private static final int OP_MILLISECOND = 8;
+	private static final int OP_ISO8601_ZONE = 9;
+	private static final int OP_NUMBER_ZONE = 10;
+
+	/**
+	 * 快速格式化支持的年份范围，此范围内格里高利历按照公式计算，年份固定4位
+	 */
+	private static final int FAST_MIN_YEAR = 1583;
+	private static final int FAST_MAX_YEAR = 9999;
+	private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * 将规则转换为快速格式化指令，每个指令的低8位为类型，8~15位为数字最小宽度或时区格式，16位以上为文本字符<br>
+	 * 只有日历为{@link GregorianCalendar}且规则均为数字字段（年、月、日、时、分、秒、毫秒）、数字时区偏移和文本时支持，
+	 * 快速格式化直接从毫秒数计算各字段，不创建{@link Calendar}，也不逐个调用规则。
+	 */
+	private void initFastOps() {
+		fastOps = null;
+		if (GregorianCalendar.class != Calendar.getInstance(timeZone, locale).getClass()) {
+			return;
+		}
+
+		final List<Integer> ops = new ArrayList<>(rules.length);
+		int maxLength = 0;
+		for (final Rule rule : rules) {
+			if (rule instanceof CharacterLiteral) {
+				ops.add(literalOp(((CharacterLiteral) rule).mValue));
+				maxLength++;
+				continue;
+			}
+			if (rule instanceof StringLiteral) {
+				for (final char c : ((StringLiteral) rule).mValue.toCharArray()) {
+					ops.add(literalOp(c));
+				}
+				maxLength += rule.estimateLength();
+				continue;
+			}
+
+			final int op;
+			if (rule instanceof PaddedNumberField) {
+				op = numberOp(((PaddedNumberField) rule).mField, ((PaddedNumberField) rule).mSize);
+			} else if (rule instanceof TwoDigitNumberField) {
+				op = numberOp(((TwoDigitNumberField) rule).mField, 2);
+			} else if (rule instanceof UnpaddedNumberField) {
+				op = numberOp(((UnpaddedNumberField) rule).mField, 1);
+			} else if (rule instanceof TwoDigitMonthField) {
+				op = OP_MONTH | (2 << 8);
+			} else if (rule instanceof UnpaddedMonthField) {
+				op = OP_MONTH | (1 << 8);
+			} else if (rule instanceof TwoDigitYearField) {
+				op = OP_TWO_DIGIT_YEAR | (2 << 8);
+			} else if (rule instanceof Iso8601_Rule) {
+				op = OP_ISO8601_ZONE | (((Iso8601_Rule) rule).length << 8);
+			} else if (rule instanceof TimeZoneNumberRule) {
+				op = OP_NUMBER_ZONE | ((((TimeZoneNumberRule) rule).mColon ? 1 : 0) << 8);
+			} else {
+				op = -1;
+			}
+			if (op < 0) {
+				// 包含文本字段等不支持的规则
+				return;
+			}
+			ops.add(op);
+			maxLength += fastWidth(op);
+		}
+
+		final int[] fastOps = new int[ops.size()];
+		for (int i = 0; i < fastOps.length; i++) {
+			fastOps[i] = ops.get(i);
+		}
+		this.fastMaxLength = maxLength;
+		this.fastOps = fastOps;
+	}
+
+	/**
+	 * 文本指令
+	 *
+	 * @param c 字符
+	 * @return 指令
+	 */
+	private static int literalOp(final char c) {
+		return OP_LITERAL | (c << 16);
+	}
+
+	/**
+	 * 数字字段指令
+	 *
+	 * @param field 字段，见{@link Calendar}
+	 * @param width 最小宽度
+	 * @return 指令，不支持的字段返回-1
+	 */
+	private static int numberOp(final int field, final int width) {
+		final int type;
+		switch (field) {
+			case Calendar.YEAR:
+				type = OP_YEAR;
+				break;
+			case Calendar.DAY_OF_MONTH:
+				type = OP_DAY;
+				break;
+			case Calendar.HOUR_OF_DAY:
+				type = OP_HOUR;
+				break;
+			case Calendar.MINUTE:
+				type = OP_MINUTE;
+				break;
+			case Calendar.SECOND:
+				type = OP_SECOND;
+				break;
+			case Calendar.MILLISECOND:
+				type = OP_MILLISECOND;
+				break;
+			default:
+				return -1;
+		}
+		return width > 0xFF ? -1 : type | (width << 8);
+	}
+
+	/**
+	 * 快速格式化指令输出的最大字符数，数字字段按照快速格式化支持的取值范围计算
+	 *
+	 * @param op 指令
+	 * @return 最大字符数
+	 */
+	private static int fastWidth(final int op) {
+		final int width = (op >>> 8) & 0xFF;
+		switch (op & 0xFF) {
+			case OP_LITERAL:
+				return 1;
+			case OP_YEAR:
+				// 年份在FAST_MIN_YEAR~FAST_MAX_YEAR之间，固定4位
+				return Math.max(width, 4);
+			case OP_MILLISECOND:
+				return Math.max(width, 3);
+			case OP_ISO8601_ZONE:
+				// 宽度为+HH、+HHmm或+HH:mm的长度，Z更短
+				return width;
+			case OP_NUMBER_ZONE:
+				return 1 == width ? 6 : 5;
+			default:
+				// 两位年、月、日、时、分、秒
+				return Math.max(width, 2);
+		}
+	}
+
+	/**
+	 * 快速格式化后追加到{@link Appendable}，{@link CharBuffer}空间足够时直接写入其数组，否则逐个字符追加
+	 *
+	 * @param millis 毫秒数
+	 * @param buf    {@link Appendable}
+	 * @return 是否完成，年份超出范围返回{@code false}
+	 */
+	private boolean appendFast(final long millis, final Appendable buf) {
+		if (buf instanceof CharBuffer) {
+			final CharBuffer charBuffer = (CharBuffer) buf;
+			if (charBuffer.hasArray() && charBuffer.remaining() >= fastMaxLength) {
+				final int start = charBuffer.arrayOffset() + charBuffer.position();
+				final int end = applyFastOps(millis, charBuffer.array(), start, null);
+				if (end < 0) {
+					return false;
+				}
+				charBuffer.position(charBuffer.position() + end - start);
+				return true;
+			}
+		}
+		return applyFastOps(millis, null, 0, buf) >= 0;
+	}
+
+	/**
+	 * 按照快速格式化指令写出<br>
+	 * {@code out}为{@code null}时写入字符数组，调用前需确保数组剩余空间不小于{@link #fastMaxLength}；否则直接追加到{@code out}
+	 *
+	 * @param millis 毫秒数
+	 * @param buf    字符数组，{@code out}不为{@code null}时忽略
+	 * @param offset 开始位置
+	 * @param out    {@link Appendable}，{@code null}表示写入字符数组
+	 * @return 结束位置，年份超出范围返回-1
+	 */
+	private int applyFastOps(final long millis, final char[] buf, int offset, final Appendable out) {
+		final int zoneOffset = timeZone.getOffset(millis);
+		final long localMillis = millis + zoneOffset;
+		final long days = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+		final int millisOfDay = (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+
+		// 从1970-01-01起的天数计算年月日，算法见：http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+		final long z = days + 719468;
+		final long era = Math.floorDiv(z, 146097);
+		final int dayOfEra = (int) (z - era * 146097);
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int mp = (5 * dayOfYear + 2) / 153;
+		final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		final int month = mp < 10 ? mp + 3 : mp - 9;
+		final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		if (year < FAST_MIN_YEAR || year > FAST_MAX_YEAR) {
+			return -1;
+		}
+
+		try {
+			for (final int op : this.fastOps) {
+				final int width = (op >>> 8) & 0xFF;
+				switch (op & 0xFF) {
+					case OP_LITERAL:
+						offset = put(buf, offset, out, (char) (op >>> 16));
+						break;
+					case OP_YEAR:
+						offset = putNumber(buf, offset, out, (int) year, width);
+						break;
+					case OP_TWO_DIGIT_YEAR:
+						offset = putNumber(buf, offset, out, (int) (year % 100), width);
+						break;
+					case OP_MONTH:
+						offset = putNumber(buf, offset, out, month, width);
+						break;
+					case OP_DAY:
+						offset = putNumber(buf, offset, out, day, width);
+						break;
+					case OP_HOUR:
+						offset = putNumber(buf, offset, out, millisOfDay / 3600000, width);
+						break;
+					case OP_MINUTE:
+						offset = putNumber(buf, offset, out, millisOfDay / 60000 % 60, width);
+						break;
+					case OP_SECOND:
+						offset = putNumber(buf, offset, out, millisOfDay / 1000 % 60, width);
+						break;
+					case OP_MILLISECOND:
+						offset = putNumber(buf, offset, out, millisOfDay % 1000, width);
+						break;
+					case OP_ISO8601_ZONE:
+						if (0 == zoneOffset) {
+							offset = put(buf, offset, out, 'Z');
+						} else {
+							offset = putZoneOffset(buf, offset, out, zoneOffset, width >= 5, 6 == width);
+						}
+						break;
+					default:
+						// OP_NUMBER_ZONE
+						offset = putZoneOffset(buf, offset, out, zoneOffset, true, 1 == width);
+				}
+			}
+		} catch (final IOException e) {
+			throw new DateException(e);
+		}
+		return offset;
+	}
+
+	/**
+	 * 写出一个字符
+	 *
+	 * @param buf 字符数组，{@code out}不为{@code null}时忽略
+	 * @param pos 开始位置
+	 * @param out {@link Appendable}，{@code null}表示写入字符数组
+	 * @param c   字符
+	 * @return 结束位置
+	 * @throws IOException 追加失败
+	 */
+	private static int put(final char[] buf, final int pos, final Appendable out, final char c) throws IOException {
+		if (null == out) {
+			buf[pos] = c;
+		} else {
+			out.append(c);
+		}
+		return pos + 1;
+	}
+
+	/**
+	 * 写出非负数字，位数不足最小宽度时左侧补0
+	 *
+	 * @param buf   字符数组，{@code out}不为{@code null}时忽略
+	 * @param pos   开始位置
+	 * @param out   {@link Appendable}，{@code null}表示写入字符数组
+	 * @param value 数字
+	 * @param width 最小宽度
+	 * @return 结束位置
+	 * @throws IOException 追加失败
+	 */
+	private static int putNumber(final char[] buf, int pos, final Appendable out, final int value, final int width) throws IOException {
+		if (2 == width && value < 100) {
+			// 最常见的两位数字段
+			pos = put(buf, pos, out, (char) ('0' + value / 10));
+			return put(buf, pos, out, (char) ('0' + value % 10));
+		}
+		int digits = 1;
+		int divisor = 1;
+		while (value / divisor >= 10) {
+			divisor *= 10;
+			digits++;
+		}
+		for (int i = width - digits; i > 0; i--) {
+			pos = put(buf, pos, out, '0');
+		}
+		for (; divisor > 0; divisor /= 10) {
+			pos = put(buf, pos, out, (char) ('0' + value / divisor % 10));
+		}
+		return pos;
+	}
+
+	/**
+	 * 写出时区偏移，格式为+HH、+HHmm或+HH:mm
+	 *
+	 * @param buf         字符数组，{@code out}不为{@code null}时忽略
+	 * @param pos         开始位置
+	 * @param out         {@link Appendable}，{@code null}表示写入字符数组
+	 * @param offset      时区偏移毫秒数
+	 * @param withMinutes 是否输出分钟
+	 * @param colon       小时和分钟之间是否有冒号
+	 * @return 结束位置
+	 * @throws IOException 追加失败
+	 */
+	private static int putZoneOffset(final char[] buf, int pos, final Appendable out, int offset,
+									 final boolean withMinutes, final boolean colon) throws IOException {
+		if (offset < 0) {
+			pos = put(buf, pos, out, '-');
+			offset = -offset;
+		} else {
+			pos = put(buf, pos, out, '+');
+		}
+		final int hours = offset / (60 * 60 * 1000);
+		pos = putNumber(buf, pos, out, hours, 2);
+		if (withMinutes) {
+			if (colon) {
+				pos = put(buf, pos, out, ':');
+			}
+			pos = putNumber(buf, pos, out, offset / (60 * 1000) - 60 * hours, 2);
+		}
+		return pos;
+	}
+	// endregion
+
 	// Serializing
 	// -----------------------------------------------------------------------
 
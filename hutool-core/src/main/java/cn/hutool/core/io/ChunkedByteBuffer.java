@@ -0,0 +1,624 @@
+package cn.hutool.core.io;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 堆外分块缓冲，与{@link FastByteBuffer}类似按块增长，但数据存放于堆外内存：
+ * <ul>
+ *     <li>总大小未超过阈值时，使用直接内存（{@link ByteBuffer#allocateDirect(int)}）分块存放，默认大小的块在关闭后放回全局池复用</li>
+ *     <li>总大小超过阈值后，新的块映射自临时文件（{@link FileChannel#map(FileChannel.MapMode, long, long)}），由操作系统页缓存管理，不占用堆内存</li>
+ * </ul>
+ * 大小使用long表示，可以超过2GB。通过{@link #getOutputStream()}、{@link #getWritableChannel()}写入，
+ * 通过{@link #getInputStream()}读取，通过{@link #transferTo(WritableByteChannel)}直接写出到通道，文件映射部分使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}零拷贝写出。
+ *
+ * <p>
+ * 此类非线程安全，使用完毕后必须调用{@link #close()}释放内存、解除文件映射并删除临时文件，
+ * 关闭后之前创建的读取流不再可用（读取时抛出{@link IORuntimeException}），避免读到放回全局池后被其它缓冲复用的块。
+ * </p>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class ChunkedByteBuffer implements Closeable {
+
+	/**
+	 * 默认块大小，64KB
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+	/**
+	 * 默认使用文件映射的阈值，64MB
+	 */
+	public static final long DEFAULT_MAPPED_THRESHOLD = 64L * 1024 * 1024;
+	/**
+	 * 文件映射块的最小大小，8MB，避免映射次数过多
+	 */
+	private static final int MIN_MAPPED_CHUNK_SIZE = 8 * 1024 * 1024;
+	/**
+	 * 全局池中最多保留的块数
+	 */
+	private static final int MAX_POOLED_CHUNKS = 64;
+	/**
+	 * 默认大小直接内存块的全局池
+	 */
+	private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger POOLED_COUNT = new AtomicInteger();
+
+	private final int chunkSize;
+	private final long mappedThreshold;
+	/**
+	 * 所有块，每个块的position即已写入的字节数
+	 */
+	private final List<ByteBuffer> chunks = new ArrayList<>();
+	private ByteBuffer current;
+	private long size;
+
+	/**
+	 * 映射使用的临时文件通道，关闭时删除文件
+	 */
+	private FileChannel mappedChannel;
+	/**
+	 * 第一个映射块的索引，-1表示未使用映射
+	 */
+	private int firstMappedIndex = -1;
+	/**
+	 * 已映射的文件长度
+	 */
+	private long mappedLength;
+	private boolean closed;
+
+	/**
+	 * 构造，使用默认块大小和映射阈值
+	 */
+	public ChunkedByteBuffer() {
+		this(DEFAULT_CHUNK_SIZE, DEFAULT_MAPPED_THRESHOLD);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param chunkSize       直接内存块大小
+	 * @param mappedThreshold 使用文件映射的阈值，总大小达到此值后新的块映射自临时文件，{@link Long#MAX_VALUE}表示不使用文件映射
+	 */
+	public ChunkedByteBuffer(int chunkSize, long mappedThreshold) {
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0!");
+		Assert.isTrue(mappedThreshold >= 0, "Mapped threshold must be not negative!");
+		this.chunkSize = chunkSize;
+		this.mappedThreshold = mappedThreshold;
+	}
+
+	/**
+	 * 已写入的字节数
+	 *
+	 * @return 字节数
+	 */
+	public long size() {
+		return this.size;
+	}
+
+	/**
+	 * 是否为空
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == this.size;
+	}
+
+	/**
+	 * 是否使用了文件映射
+	 *
+	 * @return 是否使用了文件映射
+	 */
+	public boolean isMapped() {
+		return this.firstMappedIndex >= 0;
+	}
+
+	/**
+	 * 写入一个字节
+	 *
+	 * @param b 字节
+	 * @return this
+	 * @throws IORuntimeException 已关闭或创建临时文件失败
+	 */
+	public ChunkedByteBuffer write(int b) throws IORuntimeException {
+		writableChunk().put((byte) b);
+		this.size++;
+		return this;
+	}
+
+	/**
+	 * 写入字节数组
+	 *
+	 * @param b   字节数组
+	 * @param off 开始位置
+	 * @param len 长度
+	 * @return this
+	 * @throws IORuntimeException 已关闭或创建临时文件失败
+	 */
+	public ChunkedByteBuffer write(byte[] b, int off, int len) throws IORuntimeException {
+		if (off < 0 || len < 0 || off + len > b.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		while (len > 0) {
+			final ByteBuffer chunk = writableChunk();
+			final int n = Math.min(len, chunk.remaining());
+			chunk.put(b, off, n);
+			off += n;
+			len -= n;
+			this.size += n;
+		}
+		return this;
+	}
+
+	/**
+	 * 写入{@link ByteBuffer}中剩余的数据
+	 *
+	 * @param src 数据
+	 * @return 写入的字节数
+	 * @throws IORuntimeException 已关闭或创建临时文件失败
+	 */
+	public int write(ByteBuffer src) throws IORuntimeException {
+		final int total = src.remaining();
+		while (src.hasRemaining()) {
+			final ByteBuffer chunk = writableChunk();
+			final int n = Math.min(src.remaining(), chunk.remaining());
+			final ByteBuffer slice = src.duplicate();
+			slice.limit(slice.position() + n);
+			chunk.put(slice);
+			src.position(src.position() + n);
+			this.size += n;
+		}
+		return total;
+	}
+
+	/**
+	 * 从通道读取全部数据写入缓冲，数据直接读入块中，不经过中间数组<br>
+	 * 非阻塞通道暂无数据（读取返回0）时停止读取并返回，不会空转等待
+	 *
+	 * @param in 输入通道
+	 * @return 读取的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long readFrom(ReadableByteChannel in) throws IORuntimeException {
+		long total = 0;
+		try {
+			int n;
+			while ((n = in.read(writableChunk())) > 0) {
+				total += n;
+				this.size += n;
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return total;
+	}
+
+	/**
+	 * 从流读取全部数据写入缓冲
+	 *
+	 * @param in 输入流
+	 * @return 读取的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long readFrom(InputStream in) throws IORuntimeException {
+		if (in instanceof FileInputStream) {
+			return readFrom(((FileInputStream) in).getChannel());
+		}
+		return readFrom(Channels.newChannel(in));
+	}
+
+	/**
+	 * 将全部数据写出到通道，直接内存部分直接写出，文件映射部分使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}零拷贝写出
+	 *
+	 * @param target 目标通道，如{@link FileChannel}
+	 * @return 写出的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long transferTo(WritableByteChannel target) throws IORuntimeException {
+		checkOpen();
+		long total = 0;
+		try {
+			final int chunkCount = this.chunks.size();
+			final int directCount = isMapped() ? this.firstMappedIndex : chunkCount;
+			for (int i = 0; i < directCount; i++) {
+				final ByteBuffer view = readableView(this.chunks.get(i));
+				while (view.hasRemaining()) {
+					total += target.write(view);
+				}
+			}
+			if (isMapped()) {
+				// 映射块在文件中连续存放，直接由文件通道写出
+				long mappedSize = 0;
+				for (int i = directCount; i < chunkCount; i++) {
+					mappedSize += this.chunks.get(i).position();
+				}
+				long position = 0;
+				while (position < mappedSize) {
+					position += this.mappedChannel.transferTo(position, mappedSize - position, target);
+				}
+				total += mappedSize;
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return total;
+	}
+
+	/**
+	 * 将全部数据写出到流
+	 *
+	 * @param out 输出流
+	 * @return 写出的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long writeTo(OutputStream out) throws IORuntimeException {
+		return transferTo(Channels.newChannel(out));
+	}
+
+	/**
+	 * 转为字节数组，数据大小不能超过数组的最大长度
+	 *
+	 * @return 字节数组
+	 * @throws IORuntimeException 数据过大
+	 */
+	public byte[] toByteArray() throws IORuntimeException {
+		checkOpen();
+		if (this.size > Integer.MAX_VALUE - 8) {
+			throw new IORuntimeException("Buffer size [{}] is too large for byte array!", this.size);
+		}
+		final byte[] result = new byte[(int) this.size];
+		int offset = 0;
+		for (final ByteBuffer chunk : this.chunks) {
+			final ByteBuffer view = readableView(chunk);
+			final int n = view.remaining();
+			view.get(result, offset, n);
+			offset += n;
+		}
+		return result;
+	}
+
+	/**
+	 * 获取读取流，从头读取创建时已写入的数据，之后写入的数据不可见
+	 *
+	 * @return {@link InputStream}
+	 */
+	public InputStream getInputStream() {
+		checkOpen();
+		final ByteBuffer[] views = new ByteBuffer[this.chunks.size()];
+		for (int i = 0; i < views.length; i++) {
+			views[i] = readableView(this.chunks.get(i));
+		}
+		return new ChunkInputStream(views, this.size);
+	}
+
+	/**
+	 * 获取写入流，写入的数据追加到缓冲末尾，关闭流不会关闭缓冲
+	 *
+	 * @return {@link OutputStream}
+	 */
+	public OutputStream getOutputStream() {
+		return new OutputStream() {
+			@Override
+			public void write(final int b) {
+				ChunkedByteBuffer.this.write(b);
+			}
+
+			@Override
+			public void write(final byte[] b, final int off, final int len) {
+				ChunkedByteBuffer.this.write(b, off, len);
+			}
+		};
+	}
+
+	/**
+	 * 获取写入通道，写入的数据追加到缓冲末尾，关闭通道不会关闭缓冲
+	 *
+	 * @return {@link WritableByteChannel}
+	 */
+	public WritableByteChannel getWritableChannel() {
+		return new WritableByteChannel() {
+			private boolean open = true;
+
+			@Override
+			public int write(final ByteBuffer src) {
+				return ChunkedByteBuffer.this.write(src);
+			}
+
+			@Override
+			public boolean isOpen() {
+				return open && false == closed;
+			}
+
+			@Override
+			public void close() {
+				open = false;
+			}
+		};
+	}
+
+	/**
+	 * 关闭缓冲，直接内存块放回全局池，解除文件映射并删除临时文件
+	 */
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		// 映射块都在firstMappedIndex之后，解除映射，之前的直接内存块放回全局池
+		final int chunkCount = this.chunks.size();
+		final int directCount = isMapped() ? this.firstMappedIndex : chunkCount;
+		for (int i = 0; i < directCount; i++) {
+			release(this.chunks.get(i));
+		}
+		for (int i = directCount; i < chunkCount; i++) {
+			unmap(this.chunks.get(i));
+		}
+		this.chunks.clear();
+		this.current = null;
+		this.size = 0;
+		IoUtil.close(this.mappedChannel);
+		this.mappedChannel = null;
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 获取有剩余空间的当前块，不足时分配新块
+	 *
+	 * @return 当前块
+	 */
+	private ByteBuffer writableChunk() {
+		checkOpen();
+		if (null == this.current || false == this.current.hasRemaining()) {
+			this.current = this.size >= this.mappedThreshold ? mapChunk() : allocateChunk();
+			this.chunks.add(this.current);
+		}
+		return this.current;
+	}
+
+	/**
+	 * 分配直接内存块，默认大小的块优先从全局池获取
+	 *
+	 * @return 块
+	 */
+	private ByteBuffer allocateChunk() {
+		if (DEFAULT_CHUNK_SIZE == this.chunkSize) {
+			final ByteBuffer pooled = POOL.poll();
+			if (null != pooled) {
+				POOLED_COUNT.decrementAndGet();
+				return pooled;
+			}
+		}
+		return ByteBuffer.allocateDirect(this.chunkSize);
+	}
+
+	/**
+	 * 从临时文件映射新块
+	 *
+	 * @return 块
+	 */
+	private ByteBuffer mapChunk() {
+		try {
+			if (null == this.mappedChannel) {
+				final Path tempFile = Files.createTempFile("hutool-buffer", ".tmp");
+				this.mappedChannel = FileChannel.open(tempFile, StandardOpenOption.READ,
+						StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+				this.firstMappedIndex = this.chunks.size();
+			}
+			final int mappedChunkSize = Math.max(this.chunkSize, MIN_MAPPED_CHUNK_SIZE);
+			final ByteBuffer chunk = this.mappedChannel.map(FileChannel.MapMode.READ_WRITE, this.mappedLength, mappedChunkSize);
+			this.mappedLength += mappedChunkSize;
+			return chunk;
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 释放直接内存块，默认大小的块放回全局池<br>
+	 * 不能通过instanceof MappedByteBuffer区分映射块，直接内存块（DirectByteBuffer）同样是其子类
+	 *
+	 * @param chunk 直接内存块
+	 */
+	private static void release(ByteBuffer chunk) {
+		if (DEFAULT_CHUNK_SIZE != chunk.capacity()) {
+			// 非默认大小的块交由GC回收
+			return;
+		}
+		if (POOLED_COUNT.incrementAndGet() <= MAX_POOLED_CHUNKS) {
+			chunk.clear();
+			POOL.offer(chunk);
+		} else {
+			POOLED_COUNT.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 解除文件映射，立即释放映射的地址空间，而不是等待GC<br>
+	 * 不支持时（如无法访问JDK内部类）交由GC回收
+	 *
+	 * @param chunk 映射块
+	 */
+	private static void unmap(ByteBuffer chunk) {
+		final Consumer<ByteBuffer> unmapper = Unmapper.INSTANCE;
+		if (null != unmapper) {
+			unmapper.accept(chunk);
+		}
+	}
+
+	/**
+	 * 获取块中已写入数据的只读视图
+	 *
+	 * @param chunk 块
+	 * @return 视图
+	 */
+	private static ByteBuffer readableView(ByteBuffer chunk) {
+		final ByteBuffer view = chunk.duplicate();
+		view.flip();
+		return view;
+	}
+
+	/**
+	 * 检查是否已关闭
+	 */
+	private void checkOpen() {
+		if (this.closed) {
+			throw new IORuntimeException("Buffer is closed!");
+		}
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 解除映射的实现，JDK9+使用{@code Unsafe.invokeCleaner}，JDK8使用{@code DirectBuffer.cleaner().clean()}
+	 */
+	private static class Unmapper {
+		/**
+		 * 解除映射的方法，不支持时为{@code null}
+		 */
+		static final Consumer<ByteBuffer> INSTANCE = create();
+
+		private static Consumer<ByteBuffer> create() {
+			try {
+				// JDK9+
+				final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				final Object unsafe = theUnsafe.get(null);
+				return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+			} catch (final Exception ignore) {
+				// 非JDK9+，尝试JDK8方式
+			}
+			try {
+				final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+				final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+				return buffer -> {
+					final Object bufferCleaner = invokeQuietly(cleaner, buffer);
+					if (null != bufferCleaner) {
+						invokeQuietly(clean, bufferCleaner);
+					}
+				};
+			} catch (final Exception ignore) {
+				return null;
+			}
+		}
+
+		/**
+		 * 调用方法，失败时返回{@code null}，交由GC回收
+		 *
+		 * @param method 方法
+		 * @param obj    对象
+		 * @param args   参数
+		 * @return 结果
+		 */
+		private static Object invokeQuietly(Method method, Object obj, Object... args) {
+			try {
+				return method.invoke(obj, args);
+			} catch (final Exception ignore) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * 按顺序读取各块视图的流，每次读取前检查缓冲是否已关闭
+	 */
+	private class ChunkInputStream extends InputStream {
+		private final ByteBuffer[] views;
+		private long remaining;
+		private int index;
+
+		ChunkInputStream(ByteBuffer[] views, long remaining) {
+			this.views = views;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public int read() {
+			checkOpen();
+			final ByteBuffer view = currentView();
+			if (null == view) {
+				return -1;
+			}
+			this.remaining--;
+			return view.get() & 0xff;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) {
+			checkOpen();
+			if (0 == len) {
+				return 0;
+			}
+			final ByteBuffer view = currentView();
+			if (null == view) {
+				return -1;
+			}
+			final int n = Math.min(len, view.remaining());
+			view.get(b, off, n);
+			this.remaining -= n;
+			return n;
+		}
+
+		@Override
+		public long skip(final long n) {
+			checkOpen();
+			long skipped = 0;
+			while (skipped < n) {
+				final ByteBuffer view = currentView();
+				if (null == view) {
+					break;
+				}
+				final int step = (int) Math.min(n - skipped, view.remaining());
+				view.position(view.position() + step);
+				skipped += step;
+			}
+			this.remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			checkOpen();
+			return (int) Math.min(this.remaining, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * 获取有剩余数据的视图
+		 *
+		 * @return 视图，无数据返回{@code null}
+		 */
+		private ByteBuffer currentView() {
+			while (this.index < this.views.length) {
+				if (this.views[this.index].hasRemaining()) {
+					return this.views[this.index];
+				}
+				this.index++;
+			}
+			return null;
+		}
+	}
+}
@@ -213,7 +213,7 @@ public enum FileMagicNumber {
 			if (bytes.length < 2) {
 				return false;
 			}
-			final boolean flag1 = Objects.equals(bytes[0], (byte) 0x49) && Objects.equals(bytes[1], (byte) 0x44) && Objects.equals(bytes[2], (byte) 0x33);
+			final boolean flag1 = bytes.length > 2 && Objects.equals(bytes[0], (byte) 0x49) && Objects.equals(bytes[1], (byte) 0x44) && Objects.equals(bytes[2], (byte) 0x33);
 			final boolean flag2 = Objects.equals(bytes[0], (byte) 0xFF) && Objects.equals(bytes[1], (byte) 0xFB);
 			final boolean flag3 = Objects.equals(bytes[0], (byte) 0xFF) && Objects.equals(bytes[1], (byte) 0xF3);
 			final boolean flag4 = Objects.equals(bytes[0], (byte) 0xFF) && Objects.equals(bytes[1], (byte) 0xF2);
@@ -251,7 +251,8 @@ public enum FileMagicNumber {
 					&& Objects.equals(bytes[8], (byte) 0x4d)
 					&& Objects.equals(bytes[9], (byte) 0x34)
 					&& Objects.equals(bytes[10], (byte) 0x41))
-					|| (Objects.equals(bytes[0], (byte) 0x4d)
+					|| (bytes.length > 3
+					&& Objects.equals(bytes[0], (byte) 0x4d)
 					&& Objects.equals(bytes[1], (byte) 0x34)
 					&& Objects.equals(bytes[2], (byte) 0x41)
 					&& Objects.equals(bytes[3], (byte) 0x20));
@@ -260,7 +261,7 @@ public enum FileMagicNumber {
 	AAC("audio/aac", "aac") {
 		@Override
 		public boolean match(final byte[] bytes) {
-			if (bytes.length < 1) {
+			if (bytes.length < 2) {
 				return false;
 			}
 			final boolean flag1 = Objects.equals(bytes[0], (byte) 0xFF) && Objects.equals(bytes[1], (byte) 0xF1);
@@ -1147,10 +1148,8 @@ public enum FileMagicNumber {
 			return UNKNOWN;
 		}
 
-		final FileMagicNumber number = Arrays.stream(values())
-				.filter(fileMagicNumber -> fileMagicNumber.match(bytes))
-				.findFirst()
-				.orElse(UNKNOWN);
+		// 通过前缀索引只匹配可能的类型，结果与按顺序逐个匹配一致
+		final FileMagicNumber number = FileMagicNumberIndex.match(bytes);
 		if (number.equals(FileMagicNumber.ZIP)) {
 			final FileMagicNumber fn = FileMagicNumber.matchDocument(bytes);
 			return fn == UNKNOWN ? ZIP : fn;
@@ -0,0 +1,212 @@
+package cn.hutool.core.io;
+
+import cn.hutool.core.util.HexUtil;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@link FileMagicNumber}的前缀索引<br>
+ * 对每种类型登记文件头必须满足的前缀（匹配时文件头一定以其中之一开头），编译为字节前缀树。
+ * 查找时沿文件头字节遍历一次前缀树，得到候选类型，再加上无固定前缀的类型（如偏移4的ftyp），
+ * 按照枚举定义的顺序依次调用{@link FileMagicNumber#match(byte[])}，结果与逐个匹配所有类型一致。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+final class FileMagicNumberIndex {
+
+	private static final FileMagicNumber[] VALUES = FileMagicNumber.values();
+	private static final int WORDS = (VALUES.length + 63) >>> 6;
+
+	private static final Node ROOT = new Node();
+	/**
+	 * 无固定前缀，始终需要匹配的类型
+	 */
+	private static final long[] ALWAYS = new long[WORDS];
+
+	static {
+		final Set<FileMagicNumber> indexed = EnumSet.noneOf(FileMagicNumber.class);
+		//image
+		register(indexed, FileMagicNumber.JPEG, "ffd8ff");
+		register(indexed, FileMagicNumber.JXR, "4949bc");
+		register(indexed, FileMagicNumber.APNG, "89504e470d0a1a0a");
+		register(indexed, FileMagicNumber.PNG, "89504e47");
+		register(indexed, FileMagicNumber.GIF, "474946");
+		register(indexed, FileMagicNumber.BMP, "424d");
+		register(indexed, FileMagicNumber.TIFF, "49492a00", "4d4d002a");
+		register(indexed, FileMagicNumber.DWG, "41433130");
+		register(indexed, FileMagicNumber.PSD, "38425053");
+		register(indexed, FileMagicNumber.ICO, "00000100");
+		register(indexed, FileMagicNumber.XCF, "67696d70207863662076");
+		//audio
+		register(indexed, FileMagicNumber.WAV, "52494646");
+		register(indexed, FileMagicNumber.MIDI, "4d546864");
+		register(indexed, FileMagicNumber.MP3, "494433", "fffb", "fff3", "fff2");
+		register(indexed, FileMagicNumber.OGG, "4f676753");
+		register(indexed, FileMagicNumber.FLAC, "664c6143");
+		register(indexed, FileMagicNumber.AAC, "fff1", "fff9");
+		register(indexed, FileMagicNumber.AMR, "2321414d52");
+		register(indexed, FileMagicNumber.AC3, "0b77");
+		register(indexed, FileMagicNumber.AIFF, "464f524d");
+		//font
+		register(indexed, FileMagicNumber.WOFF, "774f4646");
+		register(indexed, FileMagicNumber.WOFF2, "774f4632");
+		register(indexed, FileMagicNumber.TTF, "0001000000");
+		register(indexed, FileMagicNumber.OTF, "4f54544f00");
+		//archive
+		register(indexed, FileMagicNumber.EPUB, "504b0304");
+		for (final String third : new String[]{"03", "05", "07"}) {
+			for (final String fourth : new String[]{"04", "06", "08"}) {
+				register(indexed, FileMagicNumber.ZIP, "504b" + third + fourth);
+			}
+		}
+		register(indexed, FileMagicNumber.RAR, "526172211a07");
+		register(indexed, FileMagicNumber.GZ, "1f8b08");
+		register(indexed, FileMagicNumber.BZ2, "425a68");
+		register(indexed, FileMagicNumber.SevenZ, "377abcaf271c00");
+		// 可能带有UTF-8 BOM
+		register(indexed, FileMagicNumber.PDF, "25504446", "efbbbf25504446");
+		register(indexed, FileMagicNumber.EXE, "4d5a");
+		register(indexed, FileMagicNumber.SWF, "465753");
+		register(indexed, FileMagicNumber.RTF, "7b5c727466");
+		register(indexed, FileMagicNumber.NES, "4e45531a");
+		register(indexed, FileMagicNumber.CRX, "43723234");
+		register(indexed, FileMagicNumber.CAB, "4d534346", "49536328");
+		register(indexed, FileMagicNumber.PS, "2521");
+		register(indexed, FileMagicNumber.XZ, "fd377a585a00");
+		register(indexed, FileMagicNumber.SQLITE, "53514c69746520666f726d6174203300");
+		register(indexed, FileMagicNumber.DEB, "213c617263683e0a64656269616e2d62696e617279");
+		register(indexed, FileMagicNumber.AR, "213c617263683e");
+		register(indexed, FileMagicNumber.LZOP, "894c5a4f000d0a1a");
+		register(indexed, FileMagicNumber.LZ, "4c5a4950");
+		register(indexed, FileMagicNumber.ELF, "7f454c46");
+		register(indexed, FileMagicNumber.LZ4, "04224d18");
+		register(indexed, FileMagicNumber.BR, "ceb2cf81");
+		register(indexed, FileMagicNumber.RPM, "edabeedb");
+		for (int i = 0x22; i <= 0x28; i++) {
+			register(indexed, FileMagicNumber.ZSTD, HexUtil.toHex(i) + "b52ffd");
+		}
+		for (int i = 0x50; i <= 0x5f; i++) {
+			register(indexed, FileMagicNumber.ZSTD, HexUtil.toHex(i) + "2a4d18");
+		}
+		//video
+		register(indexed, FileMagicNumber.AVI, "52494646");
+		register(indexed, FileMagicNumber.WMV, "3026b2758e66cf11a6d9");
+		register(indexed, FileMagicNumber.FLV, "464c5601");
+		register(indexed, FileMagicNumber.MKV, "1a45dfa3");
+		register(indexed, FileMagicNumber.WEBM, "1a45dfa3");
+		for (int i = 0xb0; i <= 0xbf; i++) {
+			register(indexed, FileMagicNumber.MPEG, "000001" + HexUtil.toHex(i));
+		}
+		register(indexed, FileMagicNumber.RMVB, "2e524d46");
+		//document
+		register(indexed, FileMagicNumber.DOC, "d0cf11e0a1b11ae1");
+		register(indexed, FileMagicNumber.XLS, "d0cf11e0a1b11ae1");
+		register(indexed, FileMagicNumber.PPT, "d0cf11e0a1b11ae1");
+		//other
+		register(indexed, FileMagicNumber.WASM, "0061736d01000000");
+		register(indexed, FileMagicNumber.DEX, "6465780a");
+		register(indexed, FileMagicNumber.DEY, "6465790a");
+		register(indexed, FileMagicNumber.EML, "46726f6d", "52657475726e2d506174683a20");
+		register(indexed, FileMagicNumber.MDB, "000100005374616e64617264204a6574204442");
+		register(indexed, FileMagicNumber.CHM, "49545346");
+		register(indexed, FileMagicNumber.CLASS, "cafebabe");
+		register(indexed, FileMagicNumber.TORRENT, "64383a616e6e6f756e6365");
+		register(indexed, FileMagicNumber.WPD, "ff575043");
+		register(indexed, FileMagicNumber.DBX, "cfad12fe");
+		register(indexed, FileMagicNumber.PST, "2142444e");
+		register(indexed, FileMagicNumber.RAM, "2e7261fd00");
+
+		// 未登记前缀的类型（WEBP、TAR、MP4等检查非开头位置，DOCX等检查压缩包内容）始终匹配，UNKNOWN永不匹配
+		for (final FileMagicNumber number : VALUES) {
+			if (number != FileMagicNumber.UNKNOWN && false == indexed.contains(number)) {
+				set(ALWAYS, number.ordinal());
+			}
+		}
+	}
+
+	private FileMagicNumberIndex() {
+	}
+
+	/**
+	 * 查找第一个匹配的类型，即按照枚举顺序第一个{@link FileMagicNumber#match(byte[])}为true的类型
+	 *
+	 * @param bytes 文件头
+	 * @return 匹配的类型，未找到返回{@link FileMagicNumber#UNKNOWN}
+	 */
+	static FileMagicNumber match(final byte[] bytes) {
+		final long[] candidates = ALWAYS.clone();
+		Node node = ROOT;
+		for (int i = 0; i < bytes.length; i++) {
+			node = node.children[bytes[i] & 0xff];
+			if (null == node) {
+				break;
+			}
+			if (null != node.numbers) {
+				for (int w = 0; w < WORDS; w++) {
+					candidates[w] |= node.numbers[w];
+				}
+			}
+			if (null == node.children) {
+				break;
+			}
+		}
+
+		for (int w = 0; w < WORDS; w++) {
+			long word = candidates[w];
+			while (word != 0) {
+				final FileMagicNumber number = VALUES[(w << 6) + Long.numberOfTrailingZeros(word)];
+				if (number.match(bytes)) {
+					return number;
+				}
+				word &= word - 1;
+			}
+		}
+		return FileMagicNumber.UNKNOWN;
+	}
+
+	/**
+	 * 登记类型的必要前缀，文件头匹配此类型时，一定以其中一个前缀开头
+	 *
+	 * @param indexed  已登记的类型
+	 * @param number   类型
+	 * @param prefixes 16进制前缀
+	 */
+	private static void register(final Set<FileMagicNumber> indexed, final FileMagicNumber number, final String... prefixes) {
+		indexed.add(number);
+		for (final String prefix : prefixes) {
+			Node node = ROOT;
+			for (final byte b : HexUtil.decodeHex(prefix)) {
+				if (null == node.children) {
+					node.children = new Node[256];
+				}
+				Node child = node.children[b & 0xff];
+				if (null == child) {
+					child = new Node();
+					node.children[b & 0xff] = child;
+				}
+				node = child;
+			}
+			if (null == node.numbers) {
+				node.numbers = new long[WORDS];
+			}
+			set(node.numbers, number.ordinal());
+		}
+	}
+
+	private static void set(final long[] bits, final int index) {
+		bits[index >>> 6] |= 1L << (index & 63);
+	}
+
+	/**
+	 * 前缀树节点
+	 */
+	private static class Node {
+		Node[] children;
+		/**
+		 * 前缀在此结束的类型，按照序号存储的位集合
+		 */
+		long[] numbers;
+	}
+}
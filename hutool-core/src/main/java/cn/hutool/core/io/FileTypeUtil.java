@@ -5,11 +5,20 @@ import cn.hutool.core.util.HexUtil;
 import cn.hutool.core.util.StrUtil;
 
 import java.io.File;
+import java.io.FileFilter;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 文件类型判断工具类
@@ -23,6 +32,18 @@ import java.util.concurrent.ConcurrentSkipListMap;
 public class FileTypeUtil {
 
 	private static final Map<String, String> FILE_TYPE_MAP = new ConcurrentSkipListMap<>();
+	/**
+	 * 自定义映射的修改次数，用于判断前缀索引是否过期
+	 */
+	private static final AtomicInteger MOD_COUNT = new AtomicInteger();
+	/**
+	 * 自定义映射编译的前缀索引，映射修改后在下次识别时重建
+	 */
+	private static volatile HexHeadIndex hexHeadIndex;
+	/**
+	 * 批量识别时每个任务处理的最少文件数
+	 */
+	private static final int BATCH_THRESHOLD = 16;
 
 	/**
 	 * 增加文件类型映射<br>
@@ -33,7 +54,9 @@ public class FileTypeUtil {
 	 * @return 之前已经存在的文件扩展名
 	 */
 	public static String putFileType(String fileStreamHexHead, String extName) {
-		return FILE_TYPE_MAP.put(fileStreamHexHead, extName);
+		final String old = FILE_TYPE_MAP.put(fileStreamHexHead, extName);
+		MOD_COUNT.incrementAndGet();
+		return old;
 	}
 
 	/**
@@ -43,7 +66,9 @@ public class FileTypeUtil {
 	 * @return 移除的文件扩展名
 	 */
 	public static String removeFileType(String fileStreamHexHead) {
-		return FILE_TYPE_MAP.remove(fileStreamHexHead);
+		final String old = FILE_TYPE_MAP.remove(fileStreamHexHead);
+		MOD_COUNT.incrementAndGet();
+		return old;
 	}
 
 	/**
@@ -57,16 +82,36 @@ public class FileTypeUtil {
 			return null;
 		}
 		if (MapUtil.isNotEmpty(FILE_TYPE_MAP)) {
-			for (final Entry<String, String> fileTypeEntry : FILE_TYPE_MAP.entrySet()) {
-				if (StrUtil.startWithIgnoreCase(fileStreamHexHead, fileTypeEntry.getKey())) {
-					return fileTypeEntry.getValue();
-				}
+			final String extName = getHexHeadIndex().match(fileStreamHexHead);
+			if (null != extName) {
+				return extName;
 			}
 		}
 		byte[] bytes = HexUtil.decodeHex(fileStreamHexHead);
 		return FileMagicNumber.getMagicNumber(bytes).getExtension();
 	}
 
+	/**
+	 * 根据文件头部的bytes获得文件类型<br>
+	 * 直接按照字节匹配自定义映射和{@link FileMagicNumber}，无需转换为16进制字符串
+	 *
+	 * @param fileHead 文件头部bytes
+	 * @return 文件类型，未找到为{@code null}
+	 * @since 5.8.34
+	 */
+	public static String getType(byte[] fileHead) {
+		if (null == fileHead || 0 == fileHead.length) {
+			return null;
+		}
+		if (MapUtil.isNotEmpty(FILE_TYPE_MAP)) {
+			final String extName = getHexHeadIndex().match(fileHead);
+			if (null != extName) {
+				return extName;
+			}
+		}
+		return FileMagicNumber.getMagicNumber(fileHead).getExtension();
+	}
+
 	/**
 	 * 根据文件流的头部信息获得文件类型
 	 *
@@ -76,7 +121,7 @@ public class FileTypeUtil {
 	 * @throws IORuntimeException IO异常
 	 */
 	public static String getType(InputStream in, int fileHeadSize) throws IORuntimeException {
-		return getType((IoUtil.readHex(in, fileHeadSize, false)));
+		return getType(readHead(in, fileHeadSize));
 	}
 
 	/**
@@ -93,9 +138,11 @@ public class FileTypeUtil {
 		if (null == in) {
 			return null;
 		}
-		return isExact
-			? getType(IoUtil.readHex8192Upper(in))
-			: getType(IoUtil.readHex64Upper(in));
+		try {
+			return getType(readHead(in, isExact ? Math.min(8192, in.available()) : 64));
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
 	}
 
 	/**
@@ -258,5 +305,246 @@ public class FileTypeUtil {
 		return getTypeByPath(path, false);
 	}
 
+	/**
+	 * 批量获得目录下文件的类型，使用{@link ForkJoinPool#commonPool()}并行读取文件头识别
+	 *
+	 * @param dir     目录，递归遍历其中的文件
+	 * @param filter  文件过滤器，{@code null}表示不过滤
+	 * @param isExact 是否精确匹配，如果为false，使用前64个bytes匹配，如果为true，使用前8192bytes匹配
+	 * @return 文件和类型的Map，按照遍历顺序，未识别的类型为{@code null}
+	 * @throws IORuntimeException 读取文件引起的异常
+	 * @since 5.8.34
+	 */
+	public static Map<File, String> getTypes(File dir, FileFilter filter, boolean isExact) throws IORuntimeException {
+		return getTypes(FileUtil.loopFiles(dir, filter), isExact, null);
+	}
+
+	/**
+	 * 批量获得文件的类型，在给定线程池中并行读取文件头识别，适用于大量文件的分类扫描
+	 *
+	 * @param files   文件列表，须均为文件
+	 * @param isExact 是否精确匹配，如果为false，使用前64个bytes匹配，如果为true，使用前8192bytes匹配
+	 * @param pool    线程池，{@code null}表示使用{@link ForkJoinPool#commonPool()}
+	 * @return 文件和类型的Map，按照给定文件的顺序，未识别的类型为{@code null}
+	 * @throws IORuntimeException 读取文件引起的异常
+	 * @since 5.8.34
+	 */
+	public static Map<File, String> getTypes(Collection<File> files, boolean isExact, ForkJoinPool pool) throws IORuntimeException {
+		final File[] fileArray = files.toArray(new File[0]);
+		final String[] types = new String[fileArray.length];
+		if (fileArray.length > 0) {
+			(null == pool ? ForkJoinPool.commonPool() : pool).invoke(new TypeTask(fileArray, types, isExact, 0, fileArray.length));
+		}
+
+		final Map<File, String> result = MapUtil.newHashMap(fileArray.length, true);
+		for (int i = 0; i < fileArray.length; i++) {
+			result.put(fileArray[i], types[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * 读取流的头部bytes，最多读取给定长度，流中数据不足时返回实际读取的部分
+	 *
+	 * @param in     {@link InputStream}
+	 * @param length 最多读取的长度
+	 * @return 头部bytes
+	 * @throws IORuntimeException IO异常
+	 */
+	private static byte[] readHead(InputStream in, int length) throws IORuntimeException {
+		if (length <= 0) {
+			return new byte[0];
+		}
+		final byte[] head = new byte[length];
+		int size = 0;
+		try {
+			int read;
+			while (size < length && (read = in.read(head, size, length - size)) > NioUtil.EOF) {
+				size += read;
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return size == length ? head : Arrays.copyOf(head, size);
+	}
+
+	/**
+	 * 获取自定义映射的前缀索引，映射修改过则重建
+	 *
+	 * @return 前缀索引
+	 */
+	private static HexHeadIndex getHexHeadIndex() {
+		final int modCount = MOD_COUNT.get();
+		HexHeadIndex index = hexHeadIndex;
+		if (null == index || index.modCount != modCount) {
+			index = new HexHeadIndex(modCount);
+			hexHeadIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * 自定义文件头映射的前缀索引<br>
+	 * 16进制头部按照半字节（4位）编译为前缀树，识别时只需沿文件头遍历一次，
+	 * 多个头部同时匹配时，返回映射中排序最靠前的一个，与按顺序逐个匹配的结果一致。
+	 */
+	private static class HexHeadIndex {
+		private final int modCount;
+		private final Node root = new Node();
+		/**
+		 * 包含非16进制字符的头部，仅在按照16进制字符串识别时逐个匹配
+		 */
+		private final List<Entry<String, String>> irregularHeads = new ArrayList<>();
+		private final List<Integer> irregularRanks = new ArrayList<>();
+
+		HexHeadIndex(int modCount) {
+			this.modCount = modCount;
+			int rank = 0;
+			for (final Entry<String, String> entry : FILE_TYPE_MAP.entrySet()) {
+				final String head = entry.getKey();
+				Node node = root;
+				for (int i = 0; null != node && i < head.length(); i++) {
+					final int digit = hexDigit(head.charAt(i));
+					node = digit < 0 ? null : node.child(digit);
+				}
+				if (null == node) {
+					irregularHeads.add(entry);
+					irregularRanks.add(rank);
+				} else if (null == node.extName) {
+					// 忽略大小写后相同的头部，排序靠前的优先
+					node.extName = entry.getValue();
+					node.rank = rank;
+				}
+				rank++;
+			}
+		}
+
+		/**
+		 * 按照16进制字符串匹配
+		 *
+		 * @param hexHead 文件头16进制字符串
+		 * @return 扩展名，未匹配返回{@code null}
+		 */
+		String match(String hexHead) {
+			Node matched = root.extName == null ? null : root;
+			Node node = root;
+			for (int i = 0; i < hexHead.length() && null != node.children; i++) {
+				final int digit = hexDigit(hexHead.charAt(i));
+				if (digit < 0) {
+					break;
+				}
+				node = node.children[digit];
+				if (null == node) {
+					break;
+				}
+				if (null != node.extName && (null == matched || node.rank < matched.rank)) {
+					matched = node;
+				}
+			}
+
+			final int matchedRank = null == matched ? Integer.MAX_VALUE : matched.rank;
+			for (int i = 0; i < irregularHeads.size() && irregularRanks.get(i) < matchedRank; i++) {
+				final Entry<String, String> entry = irregularHeads.get(i);
+				if (StrUtil.startWithIgnoreCase(hexHead, entry.getKey())) {
+					return entry.getValue();
+				}
+			}
+			return null == matched ? null : matched.extName;
+		}
+
+		/**
+		 * 按照bytes匹配，每个byte依次匹配高4位和低4位
+		 *
+		 * @param bytes 文件头bytes
+		 * @return 扩展名，未匹配返回{@code null}
+		 */
+		String match(byte[] bytes) {
+			Node matched = root.extName == null ? null : root;
+			Node node = root;
+			for (int i = 0; i < (bytes.length << 1) && null != node.children; i++) {
+				final int b = bytes[i >> 1];
+				node = node.children[(i & 1) == 0 ? (b >> 4) & 0x0f : b & 0x0f];
+				if (null == node) {
+					break;
+				}
+				if (null != node.extName && (null == matched || node.rank < matched.rank)) {
+					matched = node;
+				}
+			}
+			return null == matched ? null : matched.extName;
+		}
+
+		/**
+		 * 16进制字符对应的值，仅支持0-9、a-f和A-F
+		 *
+		 * @param c 字符
+		 * @return 值，非16进制字符返回-1
+		 */
+		private static int hexDigit(char c) {
+			if (c >= '0' && c <= '9') {
+				return c - '0';
+			}
+			if (c >= 'a' && c <= 'f') {
+				return c - 'a' + 10;
+			}
+			if (c >= 'A' && c <= 'F') {
+				return c - 'A' + 10;
+			}
+			return -1;
+		}
+
+		/**
+		 * 前缀树节点
+		 */
+		private static class Node {
+			Node[] children;
+			String extName;
+			int rank;
+
+			Node child(int digit) {
+				if (null == children) {
+					children = new Node[16];
+				}
+				Node child = children[digit];
+				if (null == child) {
+					child = new Node();
+					children[digit] = child;
+				}
+				return child;
+			}
+		}
+	}
+
+	/**
+	 * 批量识别文件类型的任务，按照文件数拆分后并行执行
+	 */
+	private static class TypeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final File[] files;
+		private final String[] types;
+		private final boolean isExact;
+		private final int from;
+		private final int to;
 
+		TypeTask(File[] files, String[] types, boolean isExact, int from, int to) {
+			this.files = files;
+			this.types = types;
+			this.isExact = isExact;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH_THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					types[i] = getType(files[i], isExact);
+				}
+				return;
+			}
+			final int middle = (from + to) >>> 1;
+			invokeAll(new TypeTask(files, types, isExact, from, middle), new TypeTask(files, types, isExact, middle, to));
+		}
+	}
 }
@@ -222,6 +222,19 @@ public class FileUtil extends PathUtil {
 		return loopFiles(file, null);
 	}
 
+	/**
+	 * 并行递归遍历目录以及子目录中的所有文件，适用于文件数量很多的目录
+	 *
+	 * @param file       当前遍历文件或目录
+	 * @param fileFilter 文件过滤规则对象，选择要保留的文件，只对文件有效，不过滤目录，null表示接收全部文件
+	 * @return 文件列表，不保证顺序
+	 * @see ParallelWalker
+	 * @since 5.8.34
+	 */
+	public static List<File> loopFilesParallel(File file, FileFilter fileFilter) {
+		return PathUtil.loopFilesParallel(file.toPath(), fileFilter);
+	}
+
 	/**
 	 * 获得指定目录下所有文件<br>
 	 * 不会扫描子目录<br>
@@ -543,6 +556,36 @@ public class FileUtil extends PathUtil {
 		}
 	}
 
+	/**
+	 * 并行计算目录或文件的总大小，不包括目录本身和软链的大小，适用于文件数量很多的目录
+	 *
+	 * @param file 目录或文件,null或者文件不存在返回0
+	 * @return 总大小，bytes长度
+	 * @see ParallelWalker
+	 * @since 5.8.34
+	 */
+	public static long sizeParallel(File file) {
+		if (null == file || false == file.exists() || isSymlink(file)) {
+			return 0;
+		}
+		return ParallelWalker.of(file).size();
+	}
+
+	/**
+	 * 并行生成目录的文件清单，包括每个文件相对路径对应的大小、最后修改时间和摘要，用于目录同步和完整性校验
+	 *
+	 * @param dir       目录，不能为{@code null}
+	 * @param algorithm 摘要算法，例如MD5、SHA-1、SHA-256，{@code null}表示不计算摘要
+	 * @return 相对路径和清单项，按照路径排序
+	 * @throws IORuntimeException IO异常
+	 * @see ParallelWalker#manifest(String)
+	 * @since 5.8.34
+	 */
+	public static SortedMap<Path, ManifestEntry> manifest(File dir, String algorithm) throws IORuntimeException {
+		Assert.notNull(dir, "Directory must not be null !");
+		return ParallelWalker.of(dir).manifest(algorithm);
+	}
+
 	/**
 	 * 计算文件的总行数<br>
 	 * 参考：https://stackoverflow.com/questions/453018/number-of-lines-in-a-file-in-java
@@ -2512,6 +2555,33 @@ public class FileUtil extends PathUtil {
 		FileReader.create(file, charset).readLines(lineHandler);
 	}
 
+	/**
+	 * 使用内存映射按行处理文件内容，行以复用的字节片段{@link LineSlice}提供，不解码、不创建String，适用于大文件的扫描过滤
+	 *
+	 * @param file    文件
+	 * @param handler 行处理器，行片段只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 * @see MappedLineReader
+	 * @since 5.8.34
+	 */
+	public static void readLinesMapped(File file, Consumer<LineSlice> handler) throws IORuntimeException {
+		MappedLineReader.of(file).forEachLine(handler);
+	}
+
+	/**
+	 * 使用内存映射按行并行处理文件内容，文件在换行符处切分后在{@link java.util.concurrent.ForkJoinPool#commonPool()}中处理，
+	 * 处理器必须线程安全，行的处理顺序不确定
+	 *
+	 * @param file    文件
+	 * @param handler 行处理器，行片段只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 * @see MappedLineReader
+	 * @since 5.8.34
+	 */
+	public static void readLinesParallel(File file, Consumer<LineSlice> handler) throws IORuntimeException {
+		MappedLineReader.of(file).forEachLineParallel(handler);
+	}
+
 	/**
 	 * 按行处理文件内容
 	 *
@@ -5,6 +5,8 @@ import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.StrUtil;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -70,7 +72,12 @@ public class NioUtil {
 	 * @since 5.7.8
 	 */
 	public static long copyByNIO(InputStream in, OutputStream out, int bufferSize, long count, StreamProgress streamProgress) throws IORuntimeException {
-		final long copySize = copy(Channels.newChannel(in), Channels.newChannel(out), bufferSize, count, streamProgress);
+		// 原始文件流直接使用其通道，文件之间或文件到Socket时可使用零拷贝
+		final ReadableByteChannel inChannel = in.getClass() == FileInputStream.class ?
+				((FileInputStream) in).getChannel() : Channels.newChannel(in);
+		final WritableByteChannel outChannel = out.getClass() == FileOutputStream.class ?
+				((FileOutputStream) out).getChannel() : Channels.newChannel(out);
+		final long copySize = copy(inChannel, outChannel, bufferSize, count, streamProgress);
 		IoUtil.flush(out);
 		return copySize;
 	}
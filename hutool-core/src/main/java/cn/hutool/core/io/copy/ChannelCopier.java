@@ -6,20 +6,40 @@ import cn.hutool.core.io.StreamProgress;
 import cn.hutool.core.lang.Assert;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * {@link ReadableByteChannel} 向 {@link WritableByteChannel} 拷贝
+ * {@link ReadableByteChannel} 向 {@link WritableByteChannel} 拷贝<br>
+ * 源为{@link FileChannel}时使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}零拷贝，
+ * transferTo无法传输时（如/proc下的文件、管道等长度为0但有数据的源）继续按照读取方式拷贝剩余部分；
+ * 否则使用池中的直接内存缓存拷贝
  *
  * @author looly
  * @since 5.7.8
  */
 public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteChannel> {
 
+	/**
+	 * 使用transferTo时每次传输的最大长度：8MB
+	 */
+	private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+	/**
+	 * 池中最多保留的缓存数
+	 */
+	private static final int MAX_POOLED_BUFFERS = 16;
+	/**
+	 * 默认大小直接内存缓存的全局池
+	 */
+	private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger POOLED_COUNT = new AtomicInteger();
+
 	/**
 	 * 构造
 	 */
@@ -66,9 +86,16 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 		if (null != progress) {
 			progress.start();
 		}
-		final long size;
+		long size = 0;
 		try {
-			size = doCopy(source, target, ByteBuffer.allocate(bufferSize(this.count)), progress);
+			if (source instanceof FileChannel && isBlocking(target)) {
+				// 源为文件时使用transferTo，目标为文件或Socket时由操作系统直接传输（如sendfile），不经过用户态缓存
+				size = doTransfer((FileChannel) source, target, progress);
+			}
+			if (size < this.count) {
+				// transferTo传输结束后，继续读取直到末尾，用于长度未知的源（size()为0）
+				size += doCopy(source, target, progress, this.count - size, size);
+			}
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
 		}
@@ -80,37 +107,121 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 	}
 
 	/**
-	 * 执行拷贝，如果限制最大长度，则按照最大长度读取，否则一直读取直到遇到-1
+	 * 使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}拷贝，从源通道当前位置开始，拷贝后源通道位置移动到拷贝结束处<br>
+	 * 每次最多传输{@link #TRANSFER_SIZE}，以便报告进度，直到transferTo不再传输数据为止。
+	 * 不使用{@link FileChannel#size()}作为拷贝长度，因为/proc文件、字符设备、管道等的size()为0
 	 *
-	 * @param source   {@link InputStream}
-	 * @param target   {@link OutputStream}
-	 * @param buffer   缓存
+	 * @param source   {@link FileChannel}
+	 * @param target   {@link WritableByteChannel}
 	 * @param progress 进度条
 	 * @return 拷贝总长度
 	 * @throws IOException IO异常
 	 */
-	private long doCopy(ReadableByteChannel source, WritableByteChannel target, ByteBuffer buffer, StreamProgress progress) throws IOException {
-		long numToRead = this.count > 0 ? this.count : Long.MAX_VALUE;
+	private long doTransfer(FileChannel source, WritableByteChannel target, StreamProgress progress) throws IOException {
+		final long position = source.position();
 		long total = 0;
 
-		int read;
-		while (numToRead > 0) {
-			read = source.read(buffer);
-			if (read < 0) {
-				// 提前读取到末尾
+		long transferred;
+		while (total < this.count) {
+			transferred = source.transferTo(position + total, Math.min(this.count - total, TRANSFER_SIZE), target);
+			if (transferred <= 0) {
+				// 到达文件末尾，或源长度未知，剩余部分由读取方式拷贝
 				break;
 			}
-			buffer.flip();// 写转读
-			target.write(buffer);
-			buffer.clear();
 
-			numToRead -= read;
-			total += read;
+			total += transferred;
 			if (null != progress) {
 				progress.progress(this.count, total);
 			}
 		}
 
+		// transferTo不改变源通道的位置，与read保持一致
+		source.position(position + total);
 		return total;
 	}
+
+	/**
+	 * 执行拷贝，如果限制最大长度，则按照最大长度读取，否则一直读取直到遇到-1
+	 *
+	 * @param source    {@link ReadableByteChannel}
+	 * @param target    {@link WritableByteChannel}
+	 * @param progress  进度条
+	 * @param numToRead 最多读取的长度
+	 * @param copied    之前已经拷贝的长度，用于报告进度
+	 * @return 本次拷贝的长度
+	 * @throws IOException IO异常
+	 */
+	private long doCopy(ReadableByteChannel source, WritableByteChannel target, StreamProgress progress, long numToRead, long copied) throws IOException {
+		final ByteBuffer buffer = borrowBuffer();
+		try {
+			long total = 0;
+
+			int read;
+			while (numToRead > 0) {
+				buffer.clear();
+				// 限制读取长度，避免超过拷贝总数
+				buffer.limit(bufferSize(numToRead));
+				read = source.read(buffer);
+				if (read < 0) {
+					// 提前读取到末尾
+					break;
+				}
+				buffer.flip();// 写转读
+				while (buffer.hasRemaining()) {
+					target.write(buffer);
+				}
+
+				numToRead -= read;
+				total += read;
+				if (null != progress) {
+					progress.progress(this.count, copied + total);
+				}
+			}
+
+			return total;
+		} finally {
+			returnBuffer(buffer);
+		}
+	}
+
+	/**
+	 * 获取缓存，默认大小使用池中的直接内存缓存，通道读写直接内存时JDK无需再复制到临时直接内存中；
+	 * 其它大小使用堆内存，避免频繁分配直接内存
+	 *
+	 * @return 缓存
+	 */
+	private ByteBuffer borrowBuffer() {
+		if (this.bufferSize != IoUtil.DEFAULT_BUFFER_SIZE) {
+			return ByteBuffer.allocate(this.bufferSize);
+		}
+		final ByteBuffer buffer = POOL.poll();
+		if (null != buffer) {
+			POOLED_COUNT.decrementAndGet();
+			return buffer;
+		}
+		return ByteBuffer.allocateDirect(IoUtil.DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * 归还缓存，池满时丢弃
+	 *
+	 * @param buffer 缓存
+	 */
+	private static void returnBuffer(ByteBuffer buffer) {
+		if (buffer.isDirect() && POOLED_COUNT.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+			POOL.offer(buffer);
+		} else if (buffer.isDirect()) {
+			POOLED_COUNT.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 是否为阻塞通道，非阻塞通道（如非阻塞的SocketChannel）transferTo可能不写出任何数据，按照普通方式拷贝
+	 *
+	 * @param channel 通道
+	 * @return 是否为阻塞通道
+	 */
+	private static boolean isBlocking(WritableByteChannel channel) {
+		return false == (channel instanceof SelectableChannel) || ((SelectableChannel) channel).isBlocking();
+	}
 }
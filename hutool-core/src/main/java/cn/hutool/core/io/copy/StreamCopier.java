@@ -5,12 +5,15 @@ import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.io.StreamProgress;
 import cn.hutool.core.lang.Assert;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
 /**
- * {@link InputStream} 向 {@link OutputStream} 拷贝
+ * {@link InputStream} 向 {@link OutputStream} 拷贝<br>
+ * 源和目标分别为{@link FileInputStream}和{@link FileOutputStream}时，通过{@link ChannelCopier}使用零拷贝
  *
  * @author looly
  * @since 5.7.8
@@ -59,6 +62,12 @@ public class StreamCopier extends IoCopier<InputStream, OutputStream> {
 		Assert.notNull(source, "InputStream is null !");
 		Assert.notNull(target, "OutputStream is null !");
 
+		if (source.getClass() == FileInputStream.class && target.getClass() == FileOutputStream.class) {
+			// 文件之间通过通道零拷贝，只针对原始文件流，子类可能修改读写的内容
+			return new ChannelCopier(this.bufferSize, this.count, this.progress)
+					.copy(((FileInputStream) source).getChannel(), ((FileOutputStream) target).getChannel());
+		}
+
 		final StreamProgress progress = this.progress;
 		if (null != progress) {
 			progress.start();
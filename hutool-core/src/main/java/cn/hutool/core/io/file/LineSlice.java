@@ -0,0 +1,229 @@
+package cn.hutool.core.io.file;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * 文件中一行的字节片段，用于{@link MappedLineReader}<br>
+ * 片段直接指向内存映射的文件内容，不包含行尾的换行符（\n或\r\n），读取下一行时被复用，只在处理回调期间有效。
+ * 需要保留内容时调用{@link #toBytes()}或{@link #toString(Charset)}复制。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public final class LineSlice {
+
+	/**
+	 * 当前映射的内容，只使用绝对位置读取
+	 */
+	private ByteBuffer buffer;
+	/**
+	 * {@link #buffer}的视图，用于解码，避免每行创建新的Buffer
+	 */
+	private ByteBuffer view;
+	/**
+	 * {@link #buffer}开始位置在文件中的偏移
+	 */
+	private long bufferPosition;
+	private int offset;
+	private int length;
+
+	private CharsetDecoder decoder;
+	private CharBuffer chars;
+
+	/**
+	 * 构造，只能由{@link MappedLineReader}创建
+	 */
+	LineSlice() {
+	}
+
+	/**
+	 * 获取行开始位置在文件中的偏移
+	 *
+	 * @return 偏移
+	 */
+	public long getPosition() {
+		return this.bufferPosition + this.offset;
+	}
+
+	/**
+	 * 获取行的字节长度，不包括换行符
+	 *
+	 * @return 字节长度
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	/**
+	 * 是否为空行
+	 *
+	 * @return 是否为空行
+	 */
+	public boolean isEmpty() {
+		return 0 == this.length;
+	}
+
+	/**
+	 * 获取行中指定位置的字节
+	 *
+	 * @param index 位置
+	 * @return 字节
+	 */
+	public byte get(final int index) {
+		if (index < 0 || index >= this.length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + this.length);
+		}
+		return this.buffer.get(this.offset + index);
+	}
+
+	/**
+	 * 查找字节序列在行中第一次出现的位置
+	 *
+	 * @param pattern 字节序列
+	 * @return 位置，-1表示未找到
+	 */
+	public int indexOf(final byte[] pattern) {
+		final int patternLength = pattern.length;
+		if (0 == patternLength) {
+			return 0;
+		}
+		final ByteBuffer buffer = this.buffer;
+		final int offset = this.offset;
+		final byte first = pattern[0];
+		final int max = this.length - patternLength;
+		outer:
+		for (int i = 0; i <= max; i++) {
+			if (buffer.get(offset + i) != first) {
+				continue;
+			}
+			for (int j = 1; j < patternLength; j++) {
+				if (buffer.get(offset + i + j) != pattern[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * 行中是否包含指定字节序列，常用于不解码的grep
+	 *
+	 * @param pattern 字节序列
+	 * @return 是否包含
+	 */
+	public boolean contains(final byte[] pattern) {
+		return indexOf(pattern) >= 0;
+	}
+
+	/**
+	 * 行是否以指定字节序列开头
+	 *
+	 * @param prefix 字节序列
+	 * @return 是否以指定字节序列开头
+	 */
+	public boolean startsWith(final byte[] prefix) {
+		if (prefix.length > this.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (this.buffer.get(this.offset + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 复制行内容为字节数组
+	 *
+	 * @return 字节数组
+	 */
+	public byte[] toBytes() {
+		final byte[] bytes = new byte[this.length];
+		resetView().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 将行内容解码到复用的字符缓冲中，不创建String<br>
+	 * 返回的{@link CharSequence}在处理下一行时被覆盖，非法字节替换为替换字符
+	 *
+	 * @param charset 编码
+	 * @return 行内容
+	 */
+	public CharSequence decode(final Charset charset) {
+		CharsetDecoder decoder = this.decoder;
+		if (null == decoder || false == decoder.charset().equals(charset)) {
+			decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			this.decoder = decoder;
+		}
+		final int capacity = (int) (this.length * (double) decoder.maxCharsPerByte()) + 1;
+		if (null == this.chars || this.chars.capacity() < capacity) {
+			this.chars = CharBuffer.allocate(Math.max(capacity, 256));
+		}
+
+		final CharBuffer chars = this.chars;
+		chars.clear();
+		decoder.reset();
+		decoder.decode(resetView(), chars, true);
+		decoder.flush(chars);
+		chars.flip();
+		return chars;
+	}
+
+	/**
+	 * 复制行内容为字符串
+	 *
+	 * @param charset 编码
+	 * @return 字符串
+	 */
+	public String toString(final Charset charset) {
+		return new String(toBytes(), charset);
+	}
+
+	@Override
+	public String toString() {
+		return "LineSlice{position=" + getPosition() + ", length=" + this.length + "}";
+	}
+
+	/**
+	 * 切换到新的映射内容
+	 *
+	 * @param buffer         映射内容
+	 * @param bufferPosition 映射内容开始位置在文件中的偏移
+	 */
+	void reset(final ByteBuffer buffer, final long bufferPosition) {
+		this.buffer = buffer;
+		this.view = buffer.duplicate();
+		this.bufferPosition = bufferPosition;
+	}
+
+	/**
+	 * 设置当前行，去除行尾的\r
+	 *
+	 * @param start 行开始位置
+	 * @param end   行结束位置（不包括），即换行符位置
+	 */
+	void set(final int start, int end) {
+		if (end > start && this.buffer.get(end - 1) == '\r') {
+			end--;
+		}
+		this.offset = start;
+		this.length = end - start;
+	}
+
+	private ByteBuffer resetView() {
+		final ByteBuffer view = this.view;
+		view.clear();
+		view.limit(this.offset + this.length);
+		view.position(this.offset);
+		return view;
+	}
+}
@@ -0,0 +1,81 @@
+package cn.hutool.core.io.file;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 文件清单中的一项，记录文件的大小、最后修改时间和摘要，用于目录同步和完整性校验
+ *
+ * @author looly
+ * @see ParallelWalker#manifest(String)
+ * @since 5.8.34
+ */
+public class ManifestEntry implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long size;
+	private final long lastModified;
+	private final String digest;
+
+	/**
+	 * 构造
+	 *
+	 * @param size         文件大小
+	 * @param lastModified 最后修改时间，毫秒
+	 * @param digest       摘要的16进制字符串（小写），未计算摘要为{@code null}
+	 */
+	public ManifestEntry(final long size, final long lastModified, final String digest) {
+		this.size = size;
+		this.lastModified = lastModified;
+		this.digest = digest;
+	}
+
+	/**
+	 * 获取文件大小
+	 *
+	 * @return 文件大小
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * 获取最后修改时间
+	 *
+	 * @return 最后修改时间，毫秒
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * 获取摘要
+	 *
+	 * @return 摘要的16进制字符串（小写），未计算摘要为{@code null}
+	 */
+	public String getDigest() {
+		return digest;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (false == (o instanceof ManifestEntry)) {
+			return false;
+		}
+		final ManifestEntry that = (ManifestEntry) o;
+		return size == that.size && lastModified == that.lastModified && Objects.equals(digest, that.digest);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(size, lastModified, digest);
+	}
+
+	@Override
+	public String toString() {
+		return "ManifestEntry{size=" + size + ", lastModified=" + lastModified + ", digest=" + digest + "}";
+	}
+}
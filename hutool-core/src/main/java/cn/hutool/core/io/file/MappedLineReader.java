@@ -0,0 +1,342 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 基于内存映射的按行读取器，适用于大文件（如日志）的扫描和过滤<br>
+ * 与{@link java.io.BufferedReader#readLine()}不同：
+ * <ul>
+ *     <li>直接在映射的字节上查找换行符，每次比较8个字节（SWAR），不解码整个文件</li>
+ *     <li>行以复用的{@link LineSlice}字节片段提供，不为每行创建String，需要时再解码</li>
+ *     <li>支持按照换行符边界切分文件，在{@link ForkJoinPool}中并行处理</li>
+ * </ul>
+ * 行以\n分隔，行尾的\r被去除，文件末尾的换行符不产生空行，单独的\r不作为换行符。
+ *
+ * <pre>
+ * final byte[] error = "ERROR".getBytes();
+ * MappedLineReader.of(file).forEachLineParallel(line -&gt; {
+ *     if (line.contains(error)) {
+ *         // ...
+ *     }
+ * });
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class MappedLineReader {
+
+	/**
+	 * 默认并行处理的块大小：64MB
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+	/**
+	 * 默认每次映射的大小：256MB
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+	private static final long LF_PATTERN = 0x0A0A0A0A0A0A0A0AL;
+	private static final long LOW_BITS = 0x0101010101010101L;
+	private static final long HIGH_BITS = 0x8080808080808080L;
+	/**
+	 * 查找块开始位置时每次映射的大小
+	 */
+	private static final int SEEK_SIZE = 64 * 1024;
+	/**
+	 * 最小块大小，避免块过多导致映射数量过多
+	 */
+	private static final int MIN_CHUNK_SIZE = 4096;
+
+	private final Path path;
+	private long chunkSize = DEFAULT_CHUNK_SIZE;
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param file 文件
+	 * @return MappedLineReader
+	 */
+	public static MappedLineReader of(final File file) {
+		return new MappedLineReader(Assert.notNull(file, "file must not be null").toPath());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param path 文件路径
+	 */
+	public MappedLineReader(final Path path) {
+		this.path = Assert.notNull(path, "path must not be null");
+	}
+
+	/**
+	 * 设置并行处理的块大小，每个块在此大小附近的换行符处结束<br>
+	 * 每个块至少映射一次文件，为避免映射过多，小于4KB按照4KB处理
+	 *
+	 * @param chunkSize 块大小，单位字节
+	 * @return this
+	 */
+	public MappedLineReader setChunkSize(final long chunkSize) {
+		Assert.isTrue(chunkSize > 0, "Chunk size must be positive!");
+		this.chunkSize = Math.max(chunkSize, MIN_CHUNK_SIZE);
+		return this;
+	}
+
+	/**
+	 * 设置每次映射的大小，超过此长度的行会自动扩大映射，直到{@link Integer#MAX_VALUE}
+	 *
+	 * @param windowSize 映射大小，单位字节
+	 * @return this
+	 */
+	public MappedLineReader setWindowSize(final int windowSize) {
+		Assert.isTrue(windowSize > 0, "Window size must be positive!");
+		this.windowSize = windowSize;
+		return this;
+	}
+
+	/**
+	 * 设置并行处理使用的线程池，默认{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param pool {@link ForkJoinPool}
+	 * @return this
+	 */
+	public MappedLineReader setPool(final ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool, "pool must not be null");
+		return this;
+	}
+
+	/**
+	 * 按照顺序处理每一行
+	 *
+	 * @param handler 行处理器，行片段只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 */
+	public void forEachLine(final Consumer<LineSlice> handler) throws IORuntimeException {
+		Assert.notNull(handler, "handler must not be null");
+		try (final FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+			scan(channel, channel.size(), 0, Long.MAX_VALUE, new LineSlice(), handler);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 按照顺序处理每一行，行内容解码到复用的字符缓冲中
+	 *
+	 * @param charset 编码
+	 * @param handler 行处理器，行内容只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 */
+	public void forEachLine(final Charset charset, final Consumer<CharSequence> handler) throws IORuntimeException {
+		Assert.notNull(charset, "charset must not be null");
+		forEachLine(line -> handler.accept(line.decode(charset)));
+	}
+
+	/**
+	 * 并行处理每一行，文件按照块大小在换行符处切分，每个块在线程池中处理<br>
+	 * 处理器会被多个线程同时调用，必须线程安全，行的处理顺序不确定
+	 *
+	 * @param handler 行处理器，行片段只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 */
+	public void forEachLineParallel(final Consumer<LineSlice> handler) throws IORuntimeException {
+		Assert.notNull(handler, "handler must not be null");
+		try (final FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			final long chunkSize = this.chunkSize;
+			final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+			for (long chunkStart = 0; chunkStart < size; chunkStart += chunkSize) {
+				final long nominalStart = chunkStart;
+				final long limit = Math.min(size, chunkStart + chunkSize);
+				tasks.add(this.pool.submit(() -> scanChunk(channel, size, nominalStart, limit, handler)));
+			}
+			for (final ForkJoinTask<?> task : tasks) {
+				task.join();
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 并行处理每一行，行内容解码到每个线程复用的字符缓冲中，见{@link #forEachLineParallel(Consumer)}
+	 *
+	 * @param charset 编码
+	 * @param handler 行处理器，必须线程安全，行内容只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 */
+	public void forEachLineParallel(final Charset charset, final Consumer<CharSequence> handler) throws IORuntimeException {
+		Assert.notNull(charset, "charset must not be null");
+		forEachLineParallel(line -> handler.accept(line.decode(charset)));
+	}
+
+	/**
+	 * 并行统计行数
+	 *
+	 * @return 行数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long countLines() throws IORuntimeException {
+		final LongAdder count = new LongAdder();
+		forEachLineParallel(line -> count.increment());
+		return count.sum();
+	}
+
+	// ------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 处理一个块：开始位置落在[nominalStart, limit)中的所有行归属此块，行可以跨越limit
+	 *
+	 * @param channel      文件通道
+	 * @param size         文件大小
+	 * @param nominalStart 块名义开始位置
+	 * @param limit        块名义结束位置（不包括）
+	 * @param handler      行处理器
+	 */
+	private void scanChunk(final FileChannel channel, final long size, final long nominalStart, final long limit,
+						   final Consumer<LineSlice> handler) {
+		try {
+			final long start = 0 == nominalStart ? 0 : seekLineStart(channel, size, nominalStart);
+			if (start < limit) {
+				scan(channel, size, start, limit, new LineSlice(), handler);
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 查找位置之后（包括此位置）的第一个行开始位置，即position - 1之后第一个换行符的下一个位置
+	 *
+	 * @param channel  文件通道
+	 * @param size     文件大小
+	 * @param position 位置，大于0
+	 * @return 行开始位置，不存在返回文件大小
+	 * @throws IOException IO异常
+	 */
+	private static long seekLineStart(final FileChannel channel, final long size, final long position) throws IOException {
+		long from = position - 1;
+		while (from < size) {
+			final int length = (int) Math.min(SEEK_SIZE, size - from);
+			final ByteBuffer buffer = map(channel, from, length);
+			final int index = indexOfLf(buffer, 0, length);
+			if (index >= 0) {
+				return from + index + 1;
+			}
+			from += length;
+		}
+		return size;
+	}
+
+	/**
+	 * 从start开始逐行处理，直到行开始位置不小于limit或文件结束
+	 *
+	 * @param channel 文件通道
+	 * @param size    文件大小
+	 * @param start   开始位置，必须为行开始位置
+	 * @param limit   行开始位置的上限（不包括）
+	 * @param slice   复用的行片段
+	 * @param handler 行处理器
+	 * @throws IOException IO异常
+	 */
+	private void scan(final FileChannel channel, final long size, final long start, final long limit,
+					  final LineSlice slice, final Consumer<LineSlice> handler) throws IOException {
+		long windowStart = start;
+		// 并行处理时块通常小于映射大小，只映射块及少量余量，跨越块结尾的长行自动扩大映射
+		final long wanted = limit - start;
+		long windowSize = wanted < this.windowSize - SEEK_SIZE ? wanted + SEEK_SIZE : this.windowSize;
+		while (windowStart < size && windowStart < limit) {
+			final int length = (int) Math.min(windowSize, size - windowStart);
+			final ByteBuffer buffer = map(channel, windowStart, length);
+			slice.reset(buffer, windowStart);
+
+			int lineStart = 0;
+			int lf;
+			while (windowStart + lineStart < limit && (lf = indexOfLf(buffer, lineStart, length)) >= 0) {
+				slice.set(lineStart, lf);
+				handler.accept(slice);
+				lineStart = lf + 1;
+			}
+			if (windowStart + lineStart >= limit) {
+				return;
+			}
+			if (windowStart + length == size) {
+				// 文件末尾没有换行符的最后一行
+				if (lineStart < length) {
+					slice.set(lineStart, length);
+					handler.accept(slice);
+				}
+				return;
+			}
+			if (0 == lineStart) {
+				// 行长度超过映射大小，扩大映射
+				if (windowSize >= Integer.MAX_VALUE) {
+					throw new IORuntimeException("Line at position {} is longer than {} bytes", windowStart, Integer.MAX_VALUE);
+				}
+				windowSize = Math.min(Integer.MAX_VALUE, windowSize << 1);
+			}
+			windowStart += lineStart;
+		}
+	}
+
+	/**
+	 * 只读映射文件区域，使用小端字节序以便按照低位到高位的顺序读取long中的字节
+	 *
+	 * @param channel  文件通道
+	 * @param position 开始位置
+	 * @param length   长度
+	 * @return 映射内容
+	 * @throws IOException IO异常
+	 */
+	private static ByteBuffer map(final FileChannel channel, final long position, final int length) throws IOException {
+		final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return buffer;
+	}
+
+	/**
+	 * 查找换行符\n，每次读取8个字节，使用SWAR（SIMD within a register）方式判断其中是否有换行符：<br>
+	 * 与换行符异或后，等于换行符的字节变为0，{@code (x - 0x01..) & ~x & 0x80..}的最低非0字节即为第一个0字节
+	 *
+	 * @param buffer 小端字节序的内容
+	 * @param from   开始位置（包括）
+	 * @param to     结束位置（不包括）
+	 * @return 换行符位置，-1表示未找到
+	 */
+	static int indexOfLf(final ByteBuffer buffer, int from, final int to) {
+		while (from + Long.BYTES <= to) {
+			final long word = buffer.getLong(from) ^ LF_PATTERN;
+			final long found = (word - LOW_BITS) & ~word & HIGH_BITS;
+			if (0 != found) {
+				return from + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+			from += Long.BYTES;
+		}
+		for (; from < to; from++) {
+			if (buffer.get(from) == '\n') {
+				return from;
+			}
+		}
+		return -1;
+	}
+	// ------------------------------------------------------------------------------------------- Private method end
+}
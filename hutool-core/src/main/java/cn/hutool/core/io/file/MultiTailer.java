@@ -0,0 +1,486 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.LineHandler;
+import cn.hutool.core.io.watch.WatchServer;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 多文件内容跟随器，实现类似Linux下"tail -F"命令同时跟随多个文件的功能<br>
+ * 与{@link Tailer}每个文件一个定时任务轮询不同，所有文件共享一个{@link java.nio.file.WatchService}，
+ * 只有收到变更事件的文件才会读取，读取在固定大小的线程池中执行，同一文件同时只有一个读取任务，保证行的顺序。
+ *
+ * <ul>
+ *     <li>使用{@link FileChannel}从上次读取的位置读取新增内容，每个文件复用一个缓存</li>
+ *     <li>未以换行符结束的行会保留到下次读取，等待写入完整后再处理，超过最大行长度的部分被丢弃</li>
+ *     <li>{@link LineHandler}抛出的异常被记录后忽略，不影响后续行的处理</li>
+ *     <li>文件被截断时从头读取，文件被删除或重命名（日志轮转）时读完旧文件的剩余内容，新文件创建后从头读取</li>
+ * </ul>
+ *
+ * <p>注意：按照换行符（\n）字节拆分行，因此编码需兼容ASCII，例如UTF-8、GBK等。</p>
+ *
+ * <pre>
+ * MultiTailer tailer = new MultiTailer(CharsetUtil.CHARSET_UTF_8, 4);
+ * tailer.add(FileUtil.file("/var/log/a.log"), line -&gt; ...);
+ * tailer.add(FileUtil.file("/var/log/b.log"), line -&gt; ...);
+ * tailer.start();
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class MultiTailer extends WatchServer {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认最大行长度（字节）：1MB
+	 */
+	public static final int DEFAULT_MAX_LINE_LENGTH = 1024 * 1024;
+
+	/**
+	 * 编码
+	 */
+	private final Charset charset;
+	/**
+	 * 读取新增内容的线程池
+	 */
+	private final ExecutorService executor;
+	/**
+	 * 跟随的文件，key为文件的绝对路径
+	 */
+	private final Map<Path, TailFile> files = new ConcurrentHashMap<>();
+	/**
+	 * 已经注册监听的目录
+	 */
+	private final Set<Path> dirs = ConcurrentHashMap.newKeySet();
+	/**
+	 * 每个文件读取缓存的大小
+	 */
+	private int bufferSize = IoUtil.DEFAULT_BUFFER_SIZE;
+	/**
+	 * 最大行长度（字节）
+	 */
+	private int maxLineLength = DEFAULT_MAX_LINE_LENGTH;
+
+	/**
+	 * 构造，默认UTF-8编码，读取线程数为CPU核数
+	 */
+	public MultiTailer() {
+		this(CharsetUtil.CHARSET_UTF_8, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param charset    编码，须兼容ASCII
+	 * @param threadSize 读取线程数
+	 */
+	public MultiTailer(Charset charset, int threadSize) {
+		this(charset, ExecutorBuilder.create()
+				.setCorePoolSize(threadSize)
+				.setMaxPoolSize(threadSize)
+				// 每个文件最多只有一个等待的任务，因此队列长度不超过文件数
+				.setWorkQueue(new LinkedBlockingQueue<>())
+				.setThreadFactory(ThreadUtil.newNamedThreadFactory("tailer-", true))
+				.build());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param charset  编码，须兼容ASCII
+	 * @param executor 读取新增内容并调用{@link LineHandler}的线程池，关闭时一并关闭
+	 */
+	public MultiTailer(Charset charset, ExecutorService executor) {
+		this.charset = ObjUtil.defaultIfNull(charset, CharsetUtil.CHARSET_UTF_8);
+		this.executor = Assert.notNull(executor, "Executor must be not null!");
+		setName("MultiTailer");
+		setDaemon(true);
+		init();
+	}
+
+	/**
+	 * 设置每个文件读取缓存的大小，须在{@link #add(File, LineHandler)}之前设置
+	 *
+	 * @param bufferSize 缓存大小
+	 * @return this
+	 */
+	public MultiTailer setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "Buffer size must be positive!");
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	/**
+	 * 设置最大行长度（字节），超出部分被丢弃，避免没有换行符的文件无限占用内存，须在{@link #add(File, LineHandler)}之前设置
+	 *
+	 * @param maxLineLength 最大行长度（字节）
+	 * @return this
+	 */
+	public MultiTailer setMaxLineLength(int maxLineLength) {
+		Assert.isTrue(maxLineLength > 0, "Max line length must be positive!");
+		this.maxLineLength = maxLineLength;
+		return this;
+	}
+
+	/**
+	 * 增加跟随的文件，从文件当前末尾开始跟随，文件不存在时等待创建后从头读取<br>
+	 * 文件所在目录须存在，并且须在{@link #start()}之前调用
+	 *
+	 * @param file        文件
+	 * @param lineHandler 行处理器，在读取线程池中调用，同一文件的行按顺序调用，抛出的异常被记录后忽略
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public MultiTailer add(File file, LineHandler lineHandler) throws IORuntimeException {
+		Assert.notNull(lineHandler, "LineHandler must be not null!");
+		Assert.state(State.NEW == getState(), "Files must be added before start!");
+		final Path path = file.toPath().toAbsolutePath().normalize();
+		Assert.isFalse(Files.isDirectory(path), "Path [{}] is not a file !", path);
+		final Path dir = path.getParent();
+		Assert.isTrue(null != dir && Files.isDirectory(dir), "Directory of [{}] not exist !", path);
+
+		final TailFile tailFile = new TailFile(path, lineHandler, this.bufferSize, this.maxLineLength);
+		Assert.isNull(files.putIfAbsent(path, tailFile), "File [{}] is already added !", path);
+		try {
+			tailFile.openAtEnd();
+		} catch (IOException e) {
+			files.remove(path);
+			throw new IORuntimeException(e);
+		}
+		if (dirs.add(dir)) {
+			registerPath(dir, 0);
+		}
+		return this;
+	}
+
+	/**
+	 * 获取跟随的文件数
+	 *
+	 * @return 文件数
+	 */
+	public int size() {
+		return files.size();
+	}
+
+	@Override
+	public void run() {
+		while (false == isClosed) {
+			watch(this::onEvent, null);
+		}
+	}
+
+	/**
+	 * 关闭监听、线程池及打开的文件
+	 */
+	@Override
+	public void close() {
+		super.close();
+		this.executor.shutdown();
+		for (final TailFile tailFile : files.values()) {
+			tailFile.close();
+		}
+	}
+
+	// ---------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 处理目录的变更事件，只唤醒发生变更的文件
+	 *
+	 * @param event       事件
+	 * @param currentPath 事件所在目录
+	 */
+	private void onEvent(WatchEvent<?> event, Path currentPath) {
+		final Object context = event.context();
+		if (context instanceof Path) {
+			final TailFile tailFile = files.get(currentPath.resolve((Path) context));
+			if (null != tailFile) {
+				tailFile.signal();
+			}
+		} else {
+			// 事件溢出（OVERFLOW）时无法确定变更的文件，检查此目录下所有文件
+			for (final TailFile tailFile : files.values()) {
+				if (currentPath.equals(tailFile.path.getParent())) {
+					tailFile.signal();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 读取文件的唯一标识，用于判断文件是否被替换
+	 *
+	 * @param path 文件路径
+	 * @return 唯一标识，文件不存在返回{@code null}，系统不支持时返回路径本身
+	 * @throws IOException IO异常
+	 */
+	private static Object readFileKey(Path path) throws IOException {
+		try {
+			final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+			return null == fileKey ? path : fileKey;
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+	// ---------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 跟随的单个文件及其读取状态
+	 */
+	private class TailFile {
+		private final Path path;
+		private final LineHandler lineHandler;
+		private final ByteBuffer buffer;
+		private final int maxLineLength;
+		/**
+		 * 未以换行符结束的部分行，长度不超过{@link #maxLineLength}
+		 */
+		private final FastByteArrayOutputStream partial = new FastByteArrayOutputStream();
+		/**
+		 * 收到的信号数，大于0表示已经提交了读取任务
+		 */
+		private final AtomicInteger signals = new AtomicInteger();
+
+		private FileChannel channel;
+		private Object fileKey;
+		private long position;
+
+		TailFile(Path path, LineHandler lineHandler, int bufferSize, int maxLineLength) {
+			this.path = path;
+			this.lineHandler = lineHandler;
+			this.buffer = ByteBuffer.allocate(bufferSize);
+			this.maxLineLength = maxLineLength;
+		}
+
+		/**
+		 * 打开文件并定位到末尾
+		 *
+		 * @throws IOException IO异常
+		 */
+		void openAtEnd() throws IOException {
+			if (open()) {
+				this.position = this.channel.size();
+			}
+		}
+
+		/**
+		 * 收到变更信号，如果没有正在执行或等待的读取任务，提交一个读取任务，否则由当前任务再读取一次
+		 */
+		void signal() {
+			if (0 == signals.getAndIncrement()) {
+				try {
+					executor.execute(this::drain);
+				} catch (RuntimeException e) {
+					signals.set(0);
+					if (false == isClosed) {
+						throw e;
+					}
+				}
+			}
+		}
+
+		/**
+		 * 读取新增内容，直到读取期间没有新的信号
+		 */
+		private void drain() {
+			try {
+				do {
+					signals.set(1);
+					readAppended();
+				} while (signals.decrementAndGet() > 0);
+			} catch (IOException e) {
+				signals.set(0);
+				if (false == isClosed) {
+					throw new IORuntimeException(e);
+				}
+			} catch (RuntimeException | Error e) {
+				signals.set(0);
+				throw e;
+			}
+		}
+
+		/**
+		 * 检查文件状态并读取新增的内容
+		 *
+		 * @throws IOException IO异常
+		 */
+		private synchronized void readAppended() throws IOException {
+			if (isClosed) {
+				return;
+			}
+			final Object currentKey = readFileKey(this.path);
+			if (null != this.channel && false == ObjUtil.equals(currentKey, this.fileKey)) {
+				// 文件被删除或重命名，读完旧文件剩余的内容
+				readLines();
+				flushPartial();
+				closeChannel();
+			}
+			if (null == this.channel) {
+				if (null == currentKey || false == open()) {
+					return;
+				}
+				// 新创建的文件从头读取
+				this.position = 0;
+			}
+
+			if (this.channel.size() < this.position) {
+				// 文件被截断，丢弃未完成的行，从头读取
+				this.partial.reset();
+				this.position = 0;
+			}
+			readLines();
+		}
+
+		/**
+		 * 从上次读取的位置读取到当前文件末尾，按照换行符拆分为行
+		 *
+		 * @throws IOException IO异常
+		 */
+		private void readLines() throws IOException {
+			final long end = this.channel.size();
+			final ByteBuffer buffer = this.buffer;
+			final byte[] array = buffer.array();
+			while (this.position < end) {
+				buffer.clear();
+				if (end - this.position < buffer.capacity()) {
+					buffer.limit((int) (end - this.position));
+				}
+				final int read = this.channel.read(buffer, this.position);
+				if (read <= 0) {
+					// 文件在读取期间被截断
+					break;
+				}
+				this.position += read;
+
+				int lineStart = 0;
+				for (int i = 0; i < read; i++) {
+					if (CharUtil.LF == array[i]) {
+						handleLine(array, lineStart, i);
+						lineStart = i + 1;
+					}
+				}
+				if (lineStart < read) {
+					appendPartial(array, lineStart, read - lineStart);
+				}
+			}
+		}
+
+		/**
+		 * 保留未以换行符结束的部分行，超过最大行长度的部分被丢弃
+		 *
+		 * @param array 缓存
+		 * @param start 开始位置
+		 * @param len   长度
+		 */
+		private void appendPartial(byte[] array, int start, int len) {
+			final int writeLen = Math.min(len, this.maxLineLength - this.partial.size());
+			if (writeLen > 0) {
+				this.partial.write(array, start, writeLen);
+			}
+		}
+
+		/**
+		 * 处理一行，与之前保留的部分行合并，去掉末尾的\r，超过最大行长度的部分被丢弃
+		 *
+		 * @param array 缓存
+		 * @param start 行开始位置
+		 * @param end   行结束位置（换行符位置）
+		 */
+		private void handleLine(byte[] array, int start, int end) {
+			final String line;
+			if (this.partial.size() > 0) {
+				appendPartial(array, start, end - start);
+				final byte[] bytes = this.partial.toByteArray();
+				this.partial.reset();
+				line = newLine(bytes, 0, bytes.length);
+			} else {
+				line = newLine(array, start, Math.min(end, start + this.maxLineLength));
+			}
+			handle(line);
+		}
+
+		/**
+		 * 文件结束时，将剩余未以换行符结束的内容作为一行处理
+		 */
+		private void flushPartial() {
+			if (this.partial.size() > 0) {
+				final byte[] bytes = this.partial.toByteArray();
+				this.partial.reset();
+				handle(newLine(bytes, 0, bytes.length));
+			}
+		}
+
+		/**
+		 * 调用{@link LineHandler}，异常被记录后忽略，避免一行的处理失败导致后续的行丢失
+		 *
+		 * @param line 行
+		 */
+		private void handle(String line) {
+			try {
+				this.lineHandler.handle(line);
+			} catch (RuntimeException e) {
+				Console.error(e, "Handle line of [{}] error: {}", this.path, e.getMessage());
+			}
+		}
+
+		private String newLine(byte[] bytes, int start, int end) {
+			if (end > start && CharUtil.CR == bytes[end - 1]) {
+				end--;
+			}
+			return new String(bytes, start, end - start, charset);
+		}
+
+		/**
+		 * 打开文件并记录唯一标识
+		 *
+		 * @return 是否打开成功，文件不存在返回false
+		 * @throws IOException IO异常
+		 */
+		private boolean open() throws IOException {
+			try {
+				this.channel = FileChannel.open(this.path, StandardOpenOption.READ);
+			} catch (NoSuchFileException e) {
+				return false;
+			}
+			this.fileKey = readFileKey(this.path);
+			return true;
+		}
+
+		private void closeChannel() {
+			IoUtil.close(this.channel);
+			this.channel = null;
+			this.fileKey = null;
+		}
+
+		synchronized void close() {
+			closeChannel();
+			this.partial.reset();
+		}
+	}
+}
@@ -0,0 +1,392 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Filter;
+import cn.hutool.core.util.HexUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 并行目录遍历器，基于{@link ForkJoinPool}并行遍历目录树<br>
+ * 与{@link Files#walkFileTree(Path, java.util.Set, int, java.nio.file.FileVisitor)}单线程遍历不同：
+ * <ul>
+ *     <li>每个子目录作为一个任务并行列举，文件较多的目录按批拆分为多个任务访问</li>
+ *     <li>访问器在多个线程中并发调用，不保证顺序，访问器须线程安全</li>
+ *     <li>只访问文件（非目录），可通过目录过滤器跳过不需要进入的目录</li>
+ * </ul>
+ * 适用于在SSD等高IOPS存储上扫描大量文件、计算大小或生成文件清单。
+ *
+ * <pre>
+ * SortedMap&lt;Path, ManifestEntry&gt; manifest = ParallelWalker.of(dir).manifest("SHA-256");
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class ParallelWalker {
+
+	/**
+	 * 每个任务访问的文件数
+	 */
+	private static final int FILE_BATCH_SIZE = 64;
+	/**
+	 * 计算摘要时读取的缓存大小
+	 */
+	private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+	private static final LinkOption[] NOFOLLOW_LINKS = {LinkOption.NOFOLLOW_LINKS};
+	private static final LinkOption[] FOLLOW_LINKS = {};
+
+	private final Path start;
+	private int maxDepth = -1;
+	private boolean isFollowLinks;
+	private Filter<Path> dirFilter;
+	private Filter<Path> fileFilter;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	/**
+	 * 创建遍历器
+	 *
+	 * @param file 起始目录或文件
+	 * @return ParallelWalker
+	 */
+	public static ParallelWalker of(final File file) {
+		return new ParallelWalker(Assert.notNull(file, "file must not be null").toPath());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param start 起始目录或文件，为文件时只访问此文件
+	 */
+	public ParallelWalker(final Path start) {
+		this.start = Assert.notNull(start, "start path must not be null");
+	}
+
+	/**
+	 * 设置遍历最大深度，规则与{@link Files#walkFileTree(Path, java.util.Set, int, java.nio.file.FileVisitor)}一致：
+	 * 0表示只访问起始路径本身，1表示只遍历起始目录下的文件。<br>
+	 * 由于只访问文件，起始路径为目录且深度为0时不访问任何路径，而walkFileTree会将起始目录作为文件访问。
+	 *
+	 * @param maxDepth 最大深度，-1表示不限制深度
+	 * @return this
+	 */
+	public ParallelWalker setMaxDepth(final int maxDepth) {
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	/**
+	 * 设置是否跟踪软链，跟踪时通过文件唯一标识避免循环
+	 *
+	 * @param isFollowLinks 是否跟踪软链
+	 * @return this
+	 */
+	public ParallelWalker setFollowLinks(final boolean isFollowLinks) {
+		this.isFollowLinks = isFollowLinks;
+		return this;
+	}
+
+	/**
+	 * 设置目录过滤器，未通过的目录不进入遍历
+	 *
+	 * @param dirFilter 目录过滤器，{@code null}表示进入所有目录
+	 * @return this
+	 */
+	public ParallelWalker setDirFilter(final Filter<Path> dirFilter) {
+		this.dirFilter = dirFilter;
+		return this;
+	}
+
+	/**
+	 * 设置文件过滤器，未通过的文件不访问
+	 *
+	 * @param fileFilter 文件过滤器，{@code null}表示访问所有文件
+	 * @return this
+	 */
+	public ParallelWalker setFileFilter(final Filter<Path> fileFilter) {
+		this.fileFilter = fileFilter;
+		return this;
+	}
+
+	/**
+	 * 设置并行遍历使用的线程池，默认{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param pool 线程池
+	 * @return this
+	 */
+	public ParallelWalker setPool(final ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool, "pool must not be null");
+		return this;
+	}
+
+	/**
+	 * 并行遍历，对每个通过过滤的文件调用访问器<br>
+	 * 访问器在多个线程中并发调用，遍历期间被删除的文件和目录会被跳过
+	 *
+	 * @param visitor 访问器，参数为文件路径和属性
+	 * @throws IORuntimeException IO异常
+	 */
+	public void walk(final BiConsumer<Path, BasicFileAttributes> visitor) throws IORuntimeException {
+		Assert.notNull(visitor, "visitor must not be null");
+		final BasicFileAttributes attrs;
+		try {
+			attrs = readAttributes(this.start);
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		if (null == attrs) {
+			return;
+		}
+		if (false == attrs.isDirectory()) {
+			if (null == fileFilter || fileFilter.accept(this.start)) {
+				visitor.accept(this.start, attrs);
+			}
+			return;
+		}
+		if (0 == this.maxDepth) {
+			// 深度为0时只访问起始目录本身，目录不被访问
+			return;
+		}
+
+		final Set<Object> visited = isFollowLinks ? ConcurrentHashMap.newKeySet() : null;
+		if (null != visited && null != attrs.fileKey()) {
+			visited.add(attrs.fileKey());
+		}
+		this.pool.invoke(new DirTask(this.start, 0, visitor, visited));
+	}
+
+	/**
+	 * 并行遍历，获取所有通过过滤的文件
+	 *
+	 * @return 文件列表，不保证顺序
+	 * @throws IORuntimeException IO异常
+	 */
+	public List<File> loopFiles() throws IORuntimeException {
+		final ConcurrentLinkedQueue<File> files = new ConcurrentLinkedQueue<>();
+		walk((path, attrs) -> files.add(path.toFile()));
+		return new ArrayList<>(files);
+	}
+
+	/**
+	 * 并行计算所有通过过滤的文件的总大小，不包括目录本身和软链的大小
+	 *
+	 * @return 总大小，bytes长度
+	 * @throws IORuntimeException IO异常
+	 */
+	public long size() throws IORuntimeException {
+		final LongAdder size = new LongAdder();
+		walk((path, attrs) -> {
+			if (false == attrs.isSymbolicLink()) {
+				size.add(attrs.size());
+			}
+		});
+		return size.sum();
+	}
+
+	/**
+	 * 并行生成文件清单，包括每个普通文件的大小、最后修改时间和摘要<br>
+	 * 每个线程复用一个{@link MessageDigest}和读取缓存
+	 *
+	 * @param algorithm 摘要算法，例如MD5、SHA-1、SHA-256，{@code null}表示不计算摘要，只记录大小和修改时间
+	 * @return 相对于起始目录的路径和清单项，按照路径排序；起始路径为文件时，key为文件名
+	 * @throws IORuntimeException IO异常
+	 * @throws UtilException      摘要算法不支持
+	 */
+	public SortedMap<Path, ManifestEntry> manifest(final String algorithm) throws IORuntimeException, UtilException {
+		final ThreadLocal<MessageDigest> digests;
+		if (null == algorithm) {
+			digests = null;
+		} else {
+			// 提前检查算法是否支持
+			newDigest(algorithm);
+			digests = ThreadLocal.withInitial(() -> newDigest(algorithm));
+		}
+		final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(DIGEST_BUFFER_SIZE));
+		final Path base = Files.isDirectory(this.start) ? this.start : this.start.getParent();
+
+		final SortedMap<Path, ManifestEntry> manifest = new ConcurrentSkipListMap<>();
+		walk((path, attrs) -> {
+			if (false == attrs.isRegularFile()) {
+				return;
+			}
+			String digest = null;
+			if (null != digests) {
+				try {
+					digest = digest(path, digests.get(), buffers.get());
+				} catch (final NoSuchFileException e) {
+					// 遍历期间被删除
+					return;
+				} catch (final IOException e) {
+					throw new IORuntimeException(e);
+				}
+			}
+			final Path key = null == base ? path : base.relativize(path);
+			manifest.put(key, new ManifestEntry(attrs.size(), attrs.lastModifiedTime().toMillis(), digest));
+		});
+		return manifest;
+	}
+
+	// ---------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 读取文件属性，跟踪软链时，软链指向的文件不存在则读取软链本身的属性
+	 *
+	 * @param path 路径
+	 * @return 属性，文件不存在返回{@code null}
+	 * @throws IOException IO异常
+	 */
+	private BasicFileAttributes readAttributes(final Path path) throws IOException {
+		try {
+			return Files.readAttributes(path, BasicFileAttributes.class, isFollowLinks ? FOLLOW_LINKS : NOFOLLOW_LINKS);
+		} catch (final NoSuchFileException e) {
+			if (isFollowLinks) {
+				try {
+					return Files.readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+				} catch (final NoSuchFileException ignore) {
+					// 文件不存在
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 计算文件的摘要
+	 *
+	 * @param path   文件
+	 * @param digest 摘要
+	 * @param buffer 读取缓存
+	 * @return 摘要的16进制字符串
+	 * @throws IOException IO异常
+	 */
+	private static String digest(final Path path, final MessageDigest digest, final ByteBuffer buffer) throws IOException {
+		digest.reset();
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer.clear();
+			while (channel.read(buffer) > 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return HexUtil.encodeHexStr(digest.digest());
+	}
+
+	private static MessageDigest newDigest(final String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new UtilException(e, "Digest algorithm [{}] not supported!", algorithm);
+		}
+	}
+	// ---------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 遍历单个目录的任务，子目录拆分为新任务，文件按批拆分访问
+	 */
+	private class DirTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Path dir;
+		private final int depth;
+		private final BiConsumer<Path, BasicFileAttributes> visitor;
+		private final Set<Object> visited;
+
+		DirTask(final Path dir, final int depth, final BiConsumer<Path, BasicFileAttributes> visitor, final Set<Object> visited) {
+			this.dir = dir;
+			this.depth = depth;
+			this.visitor = visitor;
+			this.visited = visited;
+		}
+
+		@Override
+		protected void compute() {
+			final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+			final boolean descend = maxDepth < 0 || depth + 1 < maxDepth;
+			List<Path> paths = new ArrayList<>();
+			List<BasicFileAttributes> attrsList = new ArrayList<>();
+
+			try (final DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+				for (final Path path : stream) {
+					final BasicFileAttributes attrs = readAttributes(path);
+					if (null == attrs) {
+						continue;
+					}
+					if (attrs.isDirectory()) {
+						if (descend && (null == dirFilter || dirFilter.accept(path))
+								&& (null == visited || null == attrs.fileKey() || visited.add(attrs.fileKey()))) {
+							tasks.add(new DirTask(path, depth + 1, visitor, visited).fork());
+						}
+					} else if (null == fileFilter || fileFilter.accept(path)) {
+						paths.add(path);
+						attrsList.add(attrs);
+						if (paths.size() == FILE_BATCH_SIZE) {
+							tasks.add(new FileTask(paths, attrsList, visitor).fork());
+							paths = new ArrayList<>();
+							attrsList = new ArrayList<>();
+						}
+					}
+				}
+			} catch (final NoSuchFileException e) {
+				// 遍历期间目录被删除
+			} catch (final IOException e) {
+				throw new IORuntimeException(e);
+			}
+
+			new FileTask(paths, attrsList, visitor).compute();
+			for (final ForkJoinTask<?> task : tasks) {
+				task.join();
+			}
+		}
+	}
+
+	/**
+	 * 访问一批文件的任务
+	 */
+	private static class FileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<Path> paths;
+		private final List<BasicFileAttributes> attrsList;
+		private final BiConsumer<Path, BasicFileAttributes> visitor;
+
+		FileTask(final List<Path> paths, final List<BasicFileAttributes> attrsList, final BiConsumer<Path, BasicFileAttributes> visitor) {
+			this.paths = paths;
+			this.attrsList = attrsList;
+			this.visitor = visitor;
+		}
+
+		@Override
+		protected void compute() {
+			for (int i = 0; i < paths.size(); i++) {
+				visitor.accept(paths.get(i), attrsList.get(i));
+			}
+		}
+	}
+}
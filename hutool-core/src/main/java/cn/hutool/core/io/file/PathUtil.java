@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * NIO中Path对象操作封装
@@ -154,6 +155,36 @@ public class PathUtil {
 		}
 	}
 
+	/**
+	 * 并行遍历指定path下的文件并做处理，子目录在{@link java.util.concurrent.ForkJoinPool#commonPool()}中并行遍历<br>
+	 * 访问器在多个线程中并发调用，不保证顺序，只访问文件（非目录）
+	 *
+	 * @param start         起始路径，为文件时只访问此文件
+	 * @param maxDepth      最大遍历深度，-1表示不限制深度，规则见{@link ParallelWalker#setMaxDepth(int)}
+	 * @param isFollowLinks 是否追踪到软链对应的真实地址
+	 * @param visitor       访问器，参数为文件路径和属性，须线程安全
+	 * @see ParallelWalker
+	 * @since 5.8.34
+	 */
+	public static void walkFilesParallel(final Path start, final int maxDepth, final boolean isFollowLinks, final BiConsumer<Path, BasicFileAttributes> visitor) {
+		new ParallelWalker(start).setMaxDepth(maxDepth).setFollowLinks(isFollowLinks).walk(visitor);
+	}
+
+	/**
+	 * 并行递归遍历目录以及子目录中的所有文件
+	 *
+	 * @param path       当前遍历文件或目录
+	 * @param fileFilter 文件过滤规则对象，选择要保留的文件，只对文件有效，不过滤目录，null表示接收全部文件
+	 * @return 文件列表，不保证顺序
+	 * @see ParallelWalker
+	 * @since 5.8.34
+	 */
+	public static List<File> loopFilesParallel(final Path path, final FileFilter fileFilter) {
+		return new ParallelWalker(path)
+				.setFileFilter(null == fileFilter ? null : file -> fileFilter.accept(file.toFile()))
+				.loopFiles();
+	}
+
 	/**
 	 * 删除文件或者文件夹，不追踪软链<br>
 	 * 注意：删除文件夹时不会判断文件夹是否为空，如果不空则递归删除子文件或文件夹<br>
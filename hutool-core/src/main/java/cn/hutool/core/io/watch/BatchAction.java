@@ -0,0 +1,25 @@
+package cn.hutool.core.io.watch;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 批量监听事件处理函数接口，用于处理一个时间窗口内合并后的事件
+ *
+ * @author looly
+ * @see cn.hutool.core.io.watch.watchers.BatchWatcher
+ * @since 5.8.34
+ */
+@FunctionalInterface
+public interface BatchAction {
+
+	/**
+	 * 批量事件处理<br>
+	 * 同一路径的多个事件已经合并为一个，例如创建后修改合并为{@link WatchKind#CREATE}，
+	 * 删除后重新创建合并为{@link WatchKind#MODIFY}，创建后又删除的路径不出现在结果中。<br>
+	 * 值为{@link WatchKind#OVERFLOW}表示此目录的事件丢失且无法对比出变化，需要自行重新扫描。
+	 *
+	 * @param batch 事件发生的路径和合并后的事件类型，按照事件发生的先后顺序
+	 */
+	void onBatch(Map<Path, WatchKind> batch);
+}
@@ -0,0 +1,397 @@
+package cn.hutool.core.io.watch.watchers;
+
+import cn.hutool.core.io.watch.BatchAction;
+import cn.hutool.core.io.watch.WatchKind;
+import cn.hutool.core.io.watch.Watcher;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量观察者<br>
+ * 与{@link DelayWatcher}只合并modify事件不同，此观察者将一个时间窗口内的所有事件按照路径合并，
+ * 窗口结束后将合并结果作为一批交给{@link BatchAction}在工作线程池中处理，适用于批量部署等短时间内大量事件的场景：
+ * <ul>
+ *     <li>创建后修改合并为创建，修改后删除合并为删除，删除后重新创建合并为修改，创建后又删除则忽略</li>
+ *     <li>窗口从一批中的第一个事件开始计时，因此事件最多延迟一个窗口时长</li>
+ *     <li>事件丢失（OVERFLOW）时，重新扫描所在目录并与上次的快照对比，得出新增、修改和删除的路径；
+ *     尚无快照的目录无法对比，以{@link WatchKind#OVERFLOW}交给处理器自行扫描</li>
+ * </ul>
+ *
+ * <p>目录快照在目录第一次产生事件时建立，只记录直接子路径的修改时间和大小，目录被删除后其快照随之移除。</p>
+ *
+ * <pre>
+ * WatchMonitor.createAll(dir, new BatchWatcher(batch -&gt; ..., 200)).start();
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class BatchWatcher implements Watcher, Closeable {
+
+	/**
+	 * 批量事件处理
+	 */
+	private final BatchAction action;
+	/**
+	 * 合并事件的时间窗口，单位毫秒
+	 */
+	private final long window;
+	/**
+	 * 窗口结束时合并事件的定时线程
+	 */
+	private final ScheduledExecutorService scheduler;
+	/**
+	 * 执行{@link BatchAction}的线程池
+	 */
+	private final ExecutorService executor;
+
+	private final Object lock = new Object();
+	/**
+	 * 当前窗口内合并后的事件
+	 */
+	private Map<Path, WatchKind> pending = new LinkedHashMap<>();
+	/**
+	 * 当前窗口内事件丢失的目录
+	 */
+	private Set<Path> overflowDirs = new LinkedHashSet<>();
+	/**
+	 * 是否已经安排了窗口结束时的合并
+	 */
+	private boolean scheduled;
+	/**
+	 * 是否已经关闭，在锁内修改，锁外只用于快速返回
+	 */
+	private volatile boolean closed;
+	/**
+	 * 目录快照，目录 -&gt; (路径 -&gt; 文件状态)，只在合并时访问
+	 */
+	private final Map<Path, Map<Path, FileState>> snapshots = new HashMap<>();
+
+	//---------------------------------------------------------------------------------------------------------- Constructor start
+
+	/**
+	 * 构造，批量事件在单个工作线程中按顺序处理
+	 *
+	 * @param action 批量事件处理
+	 * @param window 合并事件的时间窗口，单位毫秒
+	 */
+	public BatchWatcher(BatchAction action, long window) {
+		this(action, window, ExecutorBuilder.create()
+				.setCorePoolSize(1)
+				.setMaxPoolSize(1)
+				.setWorkQueue(new LinkedBlockingQueue<>())
+				.setThreadFactory(ThreadUtil.newNamedThreadFactory("watch-batch-", true))
+				.build());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param action   批量事件处理
+	 * @param window   合并事件的时间窗口，单位毫秒
+	 * @param executor 执行{@link BatchAction}的线程池，多线程时批次可能并发处理，关闭时一并关闭
+	 */
+	public BatchWatcher(BatchAction action, long window, ExecutorService executor) {
+		this.action = Assert.notNull(action, "BatchAction must be not null!");
+		this.executor = Assert.notNull(executor, "Executor must be not null!");
+		this.window = Math.max(0, window);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadUtil.newNamedThreadFactory("watch-window-", true));
+	}
+	//---------------------------------------------------------------------------------------------------------- Constructor end
+
+	@Override
+	public void onCreate(WatchEvent<?> event, Path currentPath) {
+		add(event, currentPath, WatchKind.CREATE);
+	}
+
+	@Override
+	public void onModify(WatchEvent<?> event, Path currentPath) {
+		add(event, currentPath, WatchKind.MODIFY);
+	}
+
+	@Override
+	public void onDelete(WatchEvent<?> event, Path currentPath) {
+		add(event, currentPath, WatchKind.DELETE);
+	}
+
+	@Override
+	public void onOverflow(WatchEvent<?> event, Path currentPath) {
+		if (closed || null == currentPath) {
+			return;
+		}
+		synchronized (lock) {
+			// 关闭后定时线程已经停止，不再接收事件
+			if (closed) {
+				return;
+			}
+			overflowDirs.add(currentPath);
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * 立即处理当前窗口内的事件，并关闭定时线程和工作线程池
+	 */
+	@Override
+	public void close() {
+		synchronized (lock) {
+			closed = true;
+		}
+		this.scheduler.shutdownNow();
+		flush();
+		this.executor.shutdown();
+	}
+
+	//---------------------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 合并事件到当前窗口
+	 *
+	 * @param event       事件
+	 * @param currentPath 事件发生的目录
+	 * @param kind        事件类型
+	 */
+	private void add(WatchEvent<?> event, Path currentPath, WatchKind kind) {
+		if (closed) {
+			return;
+		}
+		final Path path = currentPath.resolve(event.context().toString());
+		synchronized (lock) {
+			if (closed) {
+				return;
+			}
+			final WatchKind merged = merge(pending.get(path), kind);
+			if (null == merged) {
+				pending.remove(path);
+			} else {
+				pending.put(path, merged);
+			}
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * 窗口内第一个事件到达时，安排窗口结束时的合并，须在锁内调用
+	 */
+	private void scheduleFlush() {
+		if (false == scheduled) {
+			scheduled = true;
+			scheduler.schedule(this::flush, this.window, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 结束当前窗口：对比事件丢失的目录，更新快照，将合并后的事件交给工作线程池处理
+	 */
+	private synchronized void flush() {
+		final Map<Path, WatchKind> batch;
+		final Set<Path> overflows;
+		synchronized (lock) {
+			batch = pending;
+			overflows = overflowDirs;
+			pending = new LinkedHashMap<>();
+			overflowDirs = new LinkedHashSet<>();
+			scheduled = false;
+		}
+
+		for (final Path dir : overflows) {
+			rescan(dir, batch);
+		}
+		updateSnapshots(batch, overflows);
+
+		if (false == batch.isEmpty()) {
+			this.executor.execute(() -> this.action.onBatch(batch));
+		}
+	}
+
+	/**
+	 * 重新扫描事件丢失的目录，与快照对比，将变化合并到批次中
+	 *
+	 * @param dir   目录
+	 * @param batch 批次
+	 */
+	private void rescan(Path dir, Map<Path, WatchKind> batch) {
+		final Map<Path, FileState> current = scan(dir);
+		final Map<Path, FileState> old;
+		if (current.isEmpty() && Files.notExists(dir, LinkOption.NOFOLLOW_LINKS)) {
+			// 目录已经删除，不再保留快照
+			old = snapshots.remove(dir);
+		} else {
+			old = snapshots.put(dir, current);
+		}
+		if (null == old) {
+			batch.put(dir, WatchKind.OVERFLOW);
+			return;
+		}
+
+		// 快照代表上一批结束时的状态，对比结果优先于本窗口内收到的事件
+		current.forEach((path, state) -> {
+			final FileState oldState = old.get(path);
+			if (null == oldState) {
+				batch.put(path, WatchKind.CREATE);
+			} else if (false == oldState.equals(state)) {
+				batch.put(path, WatchKind.MODIFY);
+			}
+		});
+		for (final Path path : old.keySet()) {
+			if (false == current.containsKey(path)) {
+				batch.put(path, WatchKind.DELETE);
+			}
+		}
+	}
+
+	/**
+	 * 按照批次中的路径更新目录快照，尚无快照的目录建立快照，被删除的目录移除其快照
+	 *
+	 * @param batch    批次
+	 * @param skipDirs 已经重新扫描过的目录
+	 */
+	private void updateSnapshots(Map<Path, WatchKind> batch, Set<Path> skipDirs) {
+		final Set<Path> scanned = new HashSet<>(skipDirs);
+		batch.forEach((path, kind) -> {
+			if (WatchKind.DELETE == kind) {
+				removeSnapshots(path);
+			}
+			final Path dir = path.getParent();
+			if (WatchKind.OVERFLOW == kind || null == dir || scanned.contains(dir)) {
+				return;
+			}
+			final Map<Path, FileState> snapshot = snapshots.get(dir);
+			if (null == snapshot) {
+				snapshots.put(dir, scan(dir));
+				scanned.add(dir);
+				return;
+			}
+			final FileState state = FileState.of(path);
+			if (null == state) {
+				snapshot.remove(path);
+			} else {
+				snapshot.put(path, state);
+			}
+		});
+	}
+
+	/**
+	 * 移除被删除路径及其下所有目录的快照，删除事件无法区分文件和目录，因此按路径前缀匹配
+	 *
+	 * @param deleted 被删除的路径
+	 */
+	private void removeSnapshots(Path deleted) {
+		if (snapshots.isEmpty()) {
+			return;
+		}
+		snapshots.keySet().removeIf(dir -> dir.startsWith(deleted));
+	}
+
+	/**
+	 * 扫描目录的直接子路径
+	 *
+	 * @param dir 目录
+	 * @return 路径和文件状态，目录不存在返回空
+	 */
+	private static Map<Path, FileState> scan(Path dir) {
+		final Map<Path, FileState> result = new HashMap<>();
+		try (final DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+			for (final Path path : stream) {
+				final FileState state = FileState.of(path);
+				if (null != state) {
+					result.put(path, state);
+				}
+			}
+		} catch (IOException e) {
+			// 目录已经删除或无法访问，按照空目录对待
+		}
+		return result;
+	}
+
+	/**
+	 * 合并同一路径的两个事件
+	 *
+	 * @param old     之前合并的事件，{@code null}表示无
+	 * @param current 新的事件
+	 * @return 合并后的事件，{@code null}表示相互抵消
+	 */
+	static WatchKind merge(WatchKind old, WatchKind current) {
+		if (null == old) {
+			return current;
+		}
+		switch (old) {
+			case CREATE:
+				// 窗口内新建的文件又被删除，相互抵消
+				return WatchKind.DELETE == current ? null : WatchKind.CREATE;
+			case DELETE:
+				// 删除后重新创建，视为修改
+				return WatchKind.DELETE == current ? WatchKind.DELETE : WatchKind.MODIFY;
+			default:
+				return WatchKind.DELETE == current ? WatchKind.DELETE : old;
+		}
+	}
+	//---------------------------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 快照中的文件状态
+	 */
+	private static class FileState {
+		private final long lastModified;
+		private final long size;
+
+		FileState(long lastModified, long size) {
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+
+		/**
+		 * 读取文件状态
+		 *
+		 * @param path 路径
+		 * @return 文件状态，不存在或无法读取返回{@code null}
+		 */
+		static FileState of(Path path) {
+			try {
+				final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+				return new FileState(attributes.lastModifiedTime().toMillis(), attributes.size());
+			} catch (IOException e) {
+				// 不存在或无法读取
+				return null;
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (false == (o instanceof FileState)) {
+				return false;
+			}
+			final FileState that = (FileState) o;
+			return lastModified == that.lastModified && size == that.size;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(lastModified) * 31 + Long.hashCode(size);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.date.SystemClock;
+import cn.hutool.core.lang.id.IdConstants;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁的Snowflake实现，ID结构与{@link Snowflake}一致<br>
+ * 将上次使用的时间戳和序号合并存放于一个{@link AtomicLong}中（时间戳相对值左移12位 | 序号），使用CAS更新，避免多线程竞争同一把锁。<br>
+ * 支持通过{@link #nextIds(int)}一次CAS预留同一毫秒内的一段连续序号，批量生成ID。
+ *
+ * <p>
+ * 时钟回拨容忍（timeOffset）、{@link SystemClock}、随机序号起点等规则与{@link Snowflake}相同。<br>
+ * 注意：同一机器节点上此对象必须单例，且不能和相同workerId、dataCenterId的{@link Snowflake}混用，否则ID会重复。
+ * </p>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class AtomicSnowflake extends Snowflake {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 数据中心和机器节点部分，生成ID时直接合并
+	 */
+	private final long nodeBits;
+	/**
+	 * 上次使用的状态：时间戳相对值左移12位 | 序号，初始值-1表示未生成过
+	 */
+	private final AtomicLong state = new AtomicLong(-1L);
+
+	/**
+	 * 构造，使用自动生成的工作节点ID和数据中心ID
+	 */
+	public AtomicSnowflake() {
+		this(IdConstants.DEFAULT_WORKER_ID);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param workerId 终端ID
+	 */
+	public AtomicSnowflake(long workerId) {
+		this(workerId, IdConstants.DEFAULT_DATACENTER_ID);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param workerId     终端ID
+	 * @param dataCenterId 数据中心ID
+	 */
+	public AtomicSnowflake(long workerId, long dataCenterId) {
+		this(workerId, dataCenterId, false);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param workerId         终端ID
+	 * @param dataCenterId     数据中心ID
+	 * @param isUseSystemClock 是否使用{@link SystemClock} 获取当前时间戳
+	 */
+	public AtomicSnowflake(long workerId, long dataCenterId, boolean isUseSystemClock) {
+		this(null, workerId, dataCenterId, isUseSystemClock, DEFAULT_TIME_OFFSET, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param epochDate           初始化时间起点（null表示默认起始日期）,后期修改会导致id重复,如果要修改连workerId dataCenterId，慎用
+	 * @param workerId            工作机器节点id
+	 * @param dataCenterId        数据中心id
+	 * @param isUseSystemClock    是否使用{@link SystemClock} 获取当前时间戳
+	 * @param timeOffset          允许时间回拨的毫秒数
+	 * @param randomSequenceLimit 限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题，0表示无随机，上限不包括值本身。
+	 */
+	public AtomicSnowflake(Date epochDate, long workerId, long dataCenterId,
+						   boolean isUseSystemClock, long timeOffset, long randomSequenceLimit) {
+		super(epochDate, workerId, dataCenterId, isUseSystemClock, timeOffset, randomSequenceLimit);
+		this.nodeBits = (this.dataCenterId << DATA_CENTER_ID_SHIFT) | (this.workerId << WORKER_ID_SHIFT);
+	}
+
+	/**
+	 * 下一个ID，无锁
+	 *
+	 * @return ID
+	 */
+	@Override
+	public long nextId() {
+		return toId(reserve(1));
+	}
+
+	/**
+	 * 批量获取下一组ID，每次CAS预留当前毫秒内剩余的连续序号，ID递增
+	 *
+	 * @param count ID个数，必须大于0
+	 * @return ID数组
+	 */
+	@Override
+	public long[] nextIds(int count) {
+		Assert.isTrue(count > 0, "Count must be greater than 0!");
+		final long[] ids = new long[count];
+		int filled = 0;
+		while (filled < count) {
+			final long first = reserve(count - filled);
+			final long reserved = reservedCount(first, count - filled);
+			for (long i = 0; i < reserved; i++) {
+				ids[filled++] = toId(first + i);
+			}
+		}
+		return ids;
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 预留最多max个连续序号，返回第一个序号对应的状态，实际预留个数见{@link #reservedCount(long, long)}
+	 *
+	 * @param max 最多预留个数
+	 * @return 第一个序号对应的状态
+	 */
+	private long reserve(long max) {
+		while (true) {
+			final long last = state.get();
+			final long lastTimestamp = last >> SEQUENCE_BITS;
+			final long timestamp = genTime() - twepoch;
+
+			final long first;
+			if (timestamp > lastTimestamp) {
+				// issue#I51EJY
+				first = (timestamp << SEQUENCE_BITS) | (randomSequenceLimit > 1 ? RandomUtil.randomLong(randomSequenceLimit) : 0L);
+			} else {
+				if (lastTimestamp - timestamp >= timeOffset && timestamp < lastTimestamp) {
+					// 如果服务器时间有问题(时钟后退) 报错。
+					throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+				}
+				// 容忍指定的回拨，避免NTP校时造成的异常，继续使用上次的时间
+				if ((last & SEQUENCE_MASK) == SEQUENCE_MASK) {
+					// 当前毫秒序号用尽，等待下一毫秒
+					if (timestamp < lastTimestamp) {
+						throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+					}
+					continue;
+				}
+				first = last + 1;
+			}
+
+			if (state.compareAndSet(last, first + reservedCount(first, max) - 1)) {
+				return first;
+			}
+		}
+	}
+
+	/**
+	 * 计算从给定状态开始，同一毫秒内实际可预留的序号个数
+	 *
+	 * @param first 第一个序号对应的状态
+	 * @param max   最多预留个数
+	 * @return 实际预留个数
+	 */
+	private static long reservedCount(long first, long max) {
+		return Math.min(max, SEQUENCE_MASK - (first & SEQUENCE_MASK) + 1);
+	}
+
+	/**
+	 * 状态转换为ID
+	 *
+	 * @param state 状态：时间戳相对值左移12位 | 序号
+	 * @return ID
+	 */
+	private long toId(long state) {
+		return ((state >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT) | nodeBits | (state & SEQUENCE_MASK);
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+}
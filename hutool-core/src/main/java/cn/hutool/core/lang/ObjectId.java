@@ -49,6 +49,8 @@ public class ObjectId {
 	private static final AtomicInteger NEXT_INC = new AtomicInteger(RandomUtil.randomInt());
 	/** 机器信息 */
 	private static final int MACHINE = getMachinePiece() | getProcessPiece();
+	/** 16进制小写字符 */
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
 
 	/**
 	 * 给定的字符串是否为有效的ObjectId
@@ -114,24 +116,67 @@ public class ObjectId {
 	 * @return objectId
 	 */
 	public static String next(boolean withHyphen) {
-		byte[] array = nextBytes();
-		final StringBuilder buf = new StringBuilder(withHyphen ? 26 : 24);
-		int t;
-		for (int i = 0; i < array.length; i++) {
-			if (withHyphen && i % 4 == 0 && i != 0) {
-				buf.append("-");
-			}
-			t = array[i] & 0xff;
-			if (t < 16) {
-				buf.append('0');
-			}
-			buf.append(Integer.toHexString(t));
+		return format((int) DateUtil.currentSeconds(), NEXT_INC.getAndIncrement(), withHyphen);
+	}
 
+	/**
+	 * 批量获取objectId，一次性预留自增计数器，同一批次使用相同的时间戳
+	 *
+	 * @param count      个数
+	 * @param withHyphen 是否包含分隔符
+	 * @return objectId数组
+	 * @since 5.8.34
+	 */
+	public static String[] next(int count, boolean withHyphen) {
+		Assert.isTrue(count > 0, "Count must be greater than 0!");
+		final int time = (int) DateUtil.currentSeconds();
+		final int inc = NEXT_INC.getAndAdd(count);
+		final String[] ids = new String[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = format(time, inc + i, withHyphen);
 		}
-		return buf.toString();
+		return ids;
 	}
 
 	// ----------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 将时间戳、机器信息和自增计数器按照16进制直接写入字符数组
+	 *
+	 * @param time       时间戳（秒）
+	 * @param inc        自增计数器
+	 * @param withHyphen 是否包含分隔符
+	 * @return objectId
+	 */
+	private static String format(int time, int inc, boolean withHyphen) {
+		final char[] chars = new char[withHyphen ? 26 : 24];
+		int offset = writeHex(time, chars, 0);
+		if (withHyphen) {
+			chars[offset++] = '-';
+		}
+		offset = writeHex(MACHINE, chars, offset);
+		if (withHyphen) {
+			chars[offset++] = '-';
+		}
+		writeHex(inc, chars, offset);
+		return new String(chars);
+	}
+
+	/**
+	 * 将int按照8位16进制写入字符数组
+	 *
+	 * @param val    值
+	 * @param chars  字符数组
+	 * @param offset 写入位置
+	 * @return 写入后的位置
+	 */
+	private static int writeHex(int val, char[] chars, int offset) {
+		for (int i = offset + 7; i >= offset; i--) {
+			chars[i] = DIGITS[val & 0xf];
+			val >>>= 4;
+		}
+		return offset + 8;
+	}
 	/**
 	 * 获取机器码片段
 	 *
@@ -55,34 +55,34 @@ public class Snowflake implements Serializable {
 	@SuppressWarnings({"PointlessBitwiseExpression", "FieldCanBeLocal"})
 	public static final long MAX_DATA_CENTER_ID = -1L ^ (-1L << DATA_CENTER_ID_BITS);
 	// 序列号12位（表示只允许workId的范围为：0-4095）
-	private static final long SEQUENCE_BITS = 12L;
+	static final long SEQUENCE_BITS = 12L;
 	// 机器节点左移12位
-	private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+	static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
 	// 数据中心节点左移17位
-	private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+	static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
 	// 时间毫秒数左移22位
-	private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+	static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 	// 序列掩码，用于限定序列最大值不能超过4095
-	private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);// 4095
+	static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);// 4095
 
 	/**
 	 * 初始化时间点
 	 */
-	private final long twepoch;
-	private final long workerId;
-	private final long dataCenterId;
+	final long twepoch;
+	final long workerId;
+	final long dataCenterId;
 	private final boolean useSystemClock;
 	/**
 	 * 允许的时钟回拨毫秒数
 	 */
-	private final long timeOffset;
+	final long timeOffset;
 	/**
 	 * 当在低频模式下时，序号始终为0，导致生成ID始终为偶数<br>
 	 * 此属性用于限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题。<br>
 	 * 注意次数必须小于{@link #SEQUENCE_MASK}，{@code 0}表示不使用随机数。<br>
 	 * 这个上限不包括值本身。
 	 */
-	private final long randomSequenceLimit;
+	final long randomSequenceLimit;
 
 	/**
 	 * 自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
@@ -273,6 +273,22 @@ public class Snowflake implements Serializable {
 				| sequence;
 	}
 
+	/**
+	 * 批量获取下一组ID，一次加锁生成全部ID，ID递增
+	 *
+	 * @param count ID个数，必须大于0
+	 * @return ID数组
+	 * @since 5.8.34
+	 */
+	public synchronized long[] nextIds(int count) {
+		Assert.isTrue(count > 0, "Count must be greater than 0!");
+		final long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = nextId();
+		}
+		return ids;
+	}
+
 	/**
 	 * 下一个ID（字符串形式）
 	 *
@@ -309,7 +325,7 @@ public class Snowflake implements Serializable {
 	 *
 	 * @return 时间戳
 	 */
-	private long genTime() {
+	long genTime() {
 		return this.useSystemClock ? SystemClock.now() : System.currentTimeMillis();
 	}
 	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
@@ -1,12 +1,12 @@
 package cn.hutool.core.lang;
 
 import cn.hutool.core.util.RandomUtil;
-import cn.hutool.core.util.StrUtil;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 提供通用唯一识别码（universally unique identifier）（UUID）实现，UUID表示一个128位的值。<br>
@@ -52,6 +52,11 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 		static final SecureRandom NUMBER_GENERATOR = RandomUtil.getSecureRandom();
 	}
 
+	/**
+	 * 16进制小写字符
+	 */
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
 	/**
 	 * 此UUID的最高64有效位
 	 */
@@ -117,8 +122,15 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 	 * @return 随机生成的 {@code UUID}
 	 */
 	public static UUID randomUUID(boolean isSecure) {
-		final Random ng = isSecure ? Holder.NUMBER_GENERATOR : RandomUtil.getRandom();
+		if (false == isSecure) {
+			// 直接生成两个long，避免创建字节数组
+			final ThreadLocalRandom random = ThreadLocalRandom.current();
+			final long mostSigBits = (random.nextLong() & ~0xf000L) | 0x4000L; /* set to version 4 */
+			final long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L; /* set to IETF variant */
+			return new UUID(mostSigBits, leastSigBits);
+		}
 
+		final Random ng = Holder.NUMBER_GENERATOR;
 		final byte[] randomBytes = new byte[16];
 		ng.nextBytes(randomBytes);
 
@@ -344,31 +356,29 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 	 * @return 此{@code UUID} 的字符串表现形式
 	 */
 	public String toString(boolean isSimple) {
-		final StringBuilder builder = StrUtil.builder(isSimple ? 32 : 36);
-		// time_low
-		builder.append(digits(mostSigBits >> 32, 8));
-		if (false == isSimple) {
-			builder.append('-');
-		}
-		// time_mid
-		builder.append(digits(mostSigBits >> 16, 4));
-		if (false == isSimple) {
-			builder.append('-');
+		final char[] chars;
+		if (isSimple) {
+			chars = new char[32];
+			formatUnsignedLong(mostSigBits, chars, 0, 16);
+			formatUnsignedLong(leastSigBits, chars, 16, 16);
+		} else {
+			chars = new char[36];
+			// time_low
+			formatUnsignedLong(mostSigBits >>> 32, chars, 0, 8);
+			chars[8] = '-';
+			// time_mid
+			formatUnsignedLong(mostSigBits >>> 16, chars, 9, 4);
+			chars[13] = '-';
+			// time_high_and_version
+			formatUnsignedLong(mostSigBits, chars, 14, 4);
+			chars[18] = '-';
+			// variant_and_sequence
+			formatUnsignedLong(leastSigBits >>> 48, chars, 19, 4);
+			chars[23] = '-';
+			// node
+			formatUnsignedLong(leastSigBits, chars, 24, 12);
 		}
-		// time_high_and_version
-		builder.append(digits(mostSigBits, 4));
-		if (false == isSimple) {
-			builder.append('-');
-		}
-		// variant_and_sequence
-		builder.append(digits(leastSigBits >> 48, 4));
-		if (false == isSimple) {
-			builder.append('-');
-		}
-		// node
-		builder.append(digits(leastSigBits, 12));
-
-		return builder.toString();
+		return new String(chars);
 	}
 
 	/**
@@ -424,15 +434,18 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 	// ------------------------------------------------------------------------------------------------------------------- Private method start
 
 	/**
-	 * 返回指定数字对应的hex值
+	 * 将数字的低位按照16进制写入字符数组，高位补0
 	 *
 	 * @param val    值
-	 * @param digits 位
-	 * @return 值
+	 * @param chars  字符数组
+	 * @param offset 写入位置
+	 * @param digits 16进制位数
 	 */
-	private static String digits(long val, int digits) {
-		long hi = 1L << (digits * 4);
-		return Long.toHexString(hi | (val & (hi - 1))).substring(1);
+	private static void formatUnsignedLong(long val, char[] chars, int offset, int digits) {
+		for (int i = offset + digits - 1; i >= offset; i--) {
+			chars[i] = DIGITS[(int) val & 0xf];
+			val >>>= 4;
+		}
 	}
 
 	/**
@@ -65,6 +65,31 @@ public class NanoId {
 	 * @return 伪随机的NanoId字符串
 	 */
 	public static String randomNanoId(Random random, char[] alphabet, int size) {
+		return randomNanoIds(random, alphabet, size, 1)[0];
+	}
+
+	/**
+	 * 批量生成伪随机的NanoId字符串，长度为默认的{@link #DEFAULT_SIZE}，使用密码安全的伪随机生成器
+	 *
+	 * @param count 个数
+	 * @return 伪随机的NanoId字符串数组
+	 * @since 5.8.34
+	 */
+	public static String[] randomNanoIds(int count) {
+		return randomNanoIds(null, null, DEFAULT_SIZE, count);
+	}
+
+	/**
+	 * 批量生成伪随机的NanoId字符串，复用随机字节和字符缓冲区，结果与逐个调用{@link #randomNanoId(Random, char[], int)}一致
+	 *
+	 * @param random   随机数生成器
+	 * @param alphabet 随机字母表
+	 * @param size     ID长度
+	 * @param count    个数
+	 * @return 伪随机的NanoId字符串数组
+	 * @since 5.8.34
+	 */
+	public static String[] randomNanoIds(Random random, char[] alphabet, int size, int count) {
 		if (random == null) {
 			random = DEFAULT_NUMBER_GENERATOR;
 		}
@@ -81,23 +106,30 @@ public class NanoId {
 			throw new IllegalArgumentException("Size must be greater than zero.");
 		}
 
+		if (count <= 0) {
+			throw new IllegalArgumentException("Count must be greater than zero.");
+		}
+
 		final int mask = (2 << (int) Math.floor(Math.log(alphabet.length - 1) / Math.log(2))) - 1;
 		final int step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
 
-		final StringBuilder idBuilder = new StringBuilder();
-
-		while (true) {
-			final byte[] bytes = new byte[step];
-			random.nextBytes(bytes);
-			for (int i = 0; i < step; i++) {
-				final int alphabetIndex = bytes[i] & mask;
-				if (alphabetIndex < alphabet.length) {
-					idBuilder.append(alphabet[alphabetIndex]);
-					if (idBuilder.length() == size) {
-						return idBuilder.toString();
+		// 每个ID的随机字节使用方式与单个生成时一致，批量时复用缓冲区
+		final String[] ids = new String[count];
+		final char[] chars = new char[size];
+		final byte[] bytes = new byte[step];
+		for (int idIndex = 0; idIndex < count; idIndex++) {
+			int charIndex = 0;
+			while (charIndex < size) {
+				random.nextBytes(bytes);
+				for (int i = 0; i < step && charIndex < size; i++) {
+					final int alphabetIndex = bytes[i] & mask;
+					if (alphabetIndex < alphabet.length) {
+						chars[charIndex++] = alphabet[alphabetIndex];
 					}
 				}
 			}
+			ids[idIndex] = new String(chars);
 		}
+		return ids;
 	}
 }
@@ -0,0 +1,296 @@
+package cn.hutool.core.lang.reflect;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 基于{@link LambdaMetafactory}的方法调用工厂，将Getter、Setter方法和无参构造方法转换为{@link Function}、{@link BiConsumer}、{@link Supplier}，
+ * 调用时与直接调用方法的性能接近，避免每次通过{@link Method#invoke(Object, Object...)}反射调用。<br>
+ * 生成的对象按照方法缓存，无法生成时（如JDK9+中未开放的模块）使用反射调用作为替代。<br>
+ * 字段无法通过{@link LambdaMetafactory}访问，字段读写函数基于预先设置为可访问的{@link Field}。
+ *
+ * <p>注意：生成的函数不做参数检查和转换，参数类型必须与方法参数类型一致，原始类型参数不能传入{@code null}，
+ * 方法执行中抛出的异常原样抛出。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class LambdaFactory {
+
+	private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_SAM_TYPE = MethodType.methodType(Object.class);
+
+	private static final WeakConcurrentMap<Method, Function<Object, Object>> GETTER_CACHE = new WeakConcurrentMap<>();
+	private static final WeakConcurrentMap<Method, BiConsumer<Object, Object>> SETTER_CACHE = new WeakConcurrentMap<>();
+	private static final WeakConcurrentMap<Constructor<?>, Supplier<?>> CONSTRUCTOR_CACHE = new WeakConcurrentMap<>();
+	private static final WeakConcurrentMap<Field, Function<Object, Object>> FIELD_GETTER_CACHE = new WeakConcurrentMap<>();
+	private static final WeakConcurrentMap<Field, BiConsumer<Object, Object>> FIELD_SETTER_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 将无参的对象方法（如Getter方法）转换为{@link Function}，参数为对象，返回值为方法返回值，原始类型返回值会被包装
+	 *
+	 * @param getter Getter方法，必须为无参非static方法
+	 * @return {@link Function}
+	 */
+	public static Function<Object, Object> buildGetter(final Method getter) {
+		Assert.notNull(getter, "Getter must be not null!");
+		Assert.isTrue(0 == getter.getParameterCount() && false == ClassUtil.isStatic(getter),
+				"[{}] is not a non-static method without parameters!", getter);
+		return GETTER_CACHE.computeIfAbsent(getter, LambdaFactory::createGetter);
+	}
+
+	/**
+	 * 将单参数的对象方法（如Setter方法）转换为{@link BiConsumer}，参数为对象和方法参数，方法返回值被忽略，因此支持链式Setter
+	 *
+	 * @param setter Setter方法，必须为单参数非static方法
+	 * @return {@link BiConsumer}
+	 */
+	public static BiConsumer<Object, Object> buildSetter(final Method setter) {
+		Assert.notNull(setter, "Setter must be not null!");
+		Assert.isTrue(1 == setter.getParameterCount() && false == ClassUtil.isStatic(setter),
+				"[{}] is not a non-static method with one parameter!", setter);
+		return SETTER_CACHE.computeIfAbsent(setter, LambdaFactory::createSetter);
+	}
+
+	/**
+	 * 将无参构造方法转换为{@link Supplier}，抽象类等无法生成时使用反射调用
+	 *
+	 * @param <T>         对象类型
+	 * @param constructor 无参构造方法
+	 * @return {@link Supplier}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> buildConstructor(final Constructor<T> constructor) {
+		Assert.notNull(constructor, "Constructor must be not null!");
+		Assert.isTrue(0 == constructor.getParameterCount(), "[{}] is not a constructor without parameters!", constructor);
+		return (Supplier<T>) CONSTRUCTOR_CACHE.computeIfAbsent(constructor, LambdaFactory::createConstructor);
+	}
+
+	/**
+	 * 将字段读取转换为{@link Function}，参数为对象，static字段参数被忽略
+	 *
+	 * @param field 字段
+	 * @return {@link Function}
+	 */
+	public static Function<Object, Object> buildFieldGetter(final Field field) {
+		Assert.notNull(field, "Field must be not null!");
+		return FIELD_GETTER_CACHE.computeIfAbsent(field, (key) -> {
+			final Field accessible = ReflectUtil.setAccessible(copyOf(key));
+			final boolean isStatic = Modifier.isStatic(key.getModifiers());
+			return bean -> {
+				try {
+					return accessible.get(isStatic ? null : bean);
+				} catch (final IllegalAccessException e) {
+					throw new UtilException(e, "IllegalAccess for {}.{}", bean, accessible.getName());
+				}
+			};
+		});
+	}
+
+	/**
+	 * 将字段赋值转换为{@link BiConsumer}，参数为对象和值，static字段对象参数被忽略，值类型必须与字段类型一致
+	 *
+	 * @param field 字段
+	 * @return {@link BiConsumer}
+	 */
+	public static BiConsumer<Object, Object> buildFieldSetter(final Field field) {
+		Assert.notNull(field, "Field must be not null!");
+		return FIELD_SETTER_CACHE.computeIfAbsent(field, (key) -> {
+			final Field accessible = ReflectUtil.setAccessible(copyOf(key));
+			final boolean isStatic = Modifier.isStatic(key.getModifiers());
+			return (bean, value) -> {
+				try {
+					accessible.set(isStatic ? null : bean, value);
+				} catch (final IllegalAccessException e) {
+					throw new UtilException(e, "IllegalAccess for {}.{}", bean, accessible.getName());
+				}
+			};
+		});
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public static void clearCache() {
+		GETTER_CACHE.clear();
+		SETTER_CACHE.clear();
+		CONSTRUCTOR_CACHE.clear();
+		FIELD_GETTER_CACHE.clear();
+		FIELD_SETTER_CACHE.clear();
+	}
+
+	// region ----- Private methods
+
+	/**
+	 * 生成Getter函数，失败使用反射
+	 *
+	 * @param getter Getter方法
+	 * @return {@link Function}
+	 */
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> createGetter(final Method getter) {
+		if (false == getter.isDefault()) {
+			try {
+				final MethodHandles.Lookup lookup = LookupFactory.lookup(getter.getDeclaringClass());
+				final MethodHandle handle = lookup.unreflect(getter);
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+						MethodType.methodType(Function.class), GETTER_SAM_TYPE, handle, handle.type().wrap());
+				return (Function<Object, Object>) site.getTarget().invokeExact();
+			} catch (final Throwable e) {
+				// 无法访问或生成失败，使用反射
+			}
+		}
+		// default方法在代理对象中需要特殊处理，交给ReflectUtil
+		final Method method = copyOf(getter);
+		return bean -> invokeRaw(method, bean);
+	}
+
+	/**
+	 * 生成Setter函数，失败使用反射
+	 *
+	 * @param setter Setter方法
+	 * @return {@link BiConsumer}
+	 */
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> createSetter(final Method setter) {
+		if (false == setter.isDefault()) {
+			try {
+				final MethodHandles.Lookup lookup = LookupFactory.lookup(setter.getDeclaringClass());
+				final MethodHandle handle = lookup.unreflect(setter);
+				// 返回值被忽略，因此先包装参数类型再将返回值改为void
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+						MethodType.methodType(BiConsumer.class), SETTER_SAM_TYPE, handle,
+						handle.type().wrap().changeReturnType(void.class));
+				return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+			} catch (final Throwable e) {
+				// 无法访问或生成失败，使用反射
+			}
+		}
+		final Method method = copyOf(setter);
+		return (bean, value) -> invokeRaw(method, bean, value);
+	}
+
+	/**
+	 * 生成构造函数，失败使用反射
+	 *
+	 * @param constructor 无参构造方法
+	 * @return {@link Supplier}
+	 */
+	private static Supplier<?> createConstructor(final Constructor<?> constructor) {
+		final Class<?> declaringClass = constructor.getDeclaringClass();
+		if (false == Modifier.isAbstract(declaringClass.getModifiers())) {
+			try {
+				final MethodHandles.Lookup lookup = LookupFactory.lookup(declaringClass);
+				final MethodHandle handle = lookup.unreflectConstructor(constructor);
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+						MethodType.methodType(Supplier.class), CONSTRUCTOR_SAM_TYPE, handle, handle.type());
+				return (Supplier<?>) site.getTarget().invokeExact();
+			} catch (final Throwable e) {
+				// 无法访问或生成失败，使用反射
+			}
+		}
+		final Constructor<?> accessible = ReflectUtil.setAccessible(copyOf(constructor));
+		return () -> {
+			try {
+				return accessible.newInstance();
+			} catch (final Exception e) {
+				throw new UtilException(e, "Instance class [{}] error!", declaringClass);
+			}
+		};
+	}
+
+	/**
+	 * 反射调用方法，与生成的函数一致，方法执行中抛出的异常原样抛出
+	 *
+	 * @param method 方法
+	 * @param bean   对象
+	 * @param args   参数
+	 * @return 返回值
+	 */
+	private static Object invokeRaw(final Method method, final Object bean, final Object... args) {
+		try {
+			return ReflectUtil.invokeRaw(bean, method, args);
+		} catch (final InvocationTargetException e) {
+			throw LambdaFactory.<RuntimeException>rethrow(e.getTargetException());
+		} catch (final IllegalAccessException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * 原样抛出异常，受检异常不做包装
+	 *
+	 * @param <E> 异常类型，由编译器推断为非受检异常
+	 * @param e   异常
+	 * @return 不会返回，仅用于throw语句
+	 * @throws E 给定的异常
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> E rethrow(final Throwable e) throws E {
+		throw (E) e;
+	}
+
+	/**
+	 * 获取与缓存键等价的另一个方法对象<br>
+	 * 缓存的值如果引用了弱引用的键，键将一直可达而无法回收，进而导致类和类加载器无法卸载，因此反射调用使用副本
+	 *
+	 * @param method 方法
+	 * @return 方法副本
+	 */
+	private static Method copyOf(final Method method) {
+		// getDeclaredMethods每次返回新的副本
+		for (final Method declared : method.getDeclaringClass().getDeclaredMethods()) {
+			if (declared.equals(method)) {
+				return declared;
+			}
+		}
+		throw new UtilException("No method [{}] declared in {}", method, method.getDeclaringClass());
+	}
+
+	/**
+	 * 获取与缓存键等价的另一个构造方法对象，见{@link #copyOf(Method)}
+	 *
+	 * @param constructor 构造方法
+	 * @return 构造方法副本
+	 */
+	private static Constructor<?> copyOf(final Constructor<?> constructor) {
+		try {
+			return constructor.getDeclaringClass().getDeclaredConstructor(constructor.getParameterTypes());
+		} catch (final NoSuchMethodException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * 获取与缓存键等价的另一个字段对象，见{@link #copyOf(Method)}
+	 *
+	 * @param field 字段
+	 * @return 字段副本
+	 */
+	private static Field copyOf(final Field field) {
+		try {
+			return field.getDeclaringClass().getDeclaredField(field.getName());
+		} catch (final NoSuchFieldException e) {
+			throw new UtilException(e);
+		}
+	}
+	// endregion
+}
@@ -0,0 +1,256 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 预编译的字符串模板，模板中的占位符（默认为{}）按照顺序替换为参数，规则与{@link StrFormatter#formatWith(String, String, Object...)}一致。<br>
+ * 编译时预先扫描模板，记录每个占位符和转义的位置，格式化时无需再次查找和判断转义，并可以精确计算结果长度。<br>
+ * 对于反复使用的模板（如日志模板），编译后的对象可以复用，此类线程安全。
+ *
+ * <pre>
+ * CompiledTemplate template = CompiledTemplate.of("this is {} for {}");
+ * template.format("a", "b"); // this is a for b
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class CompiledTemplate {
+
+	private final String pattern;
+	private final String placeHolder;
+	/**
+	 * 每个占位符或转义之前的文本结束位置
+	 */
+	private final int[] literalEnds;
+	/**
+	 * 每个占位符或转义之后的文本开始位置
+	 */
+	private final int[] nextStarts;
+	/**
+	 * 每个位置是否为被转义的占位符，被转义的占位符只输出占位符第一个字符，不消耗参数
+	 */
+	private final boolean[] escaped;
+	/**
+	 * 处理到每个位置为止输出的模板字符数（不含参数）
+	 */
+	private final int[] literalLengths;
+	/**
+	 * 第n个有效占位符所在位置
+	 */
+	private final int[] slotIndexes;
+
+	/**
+	 * 编译使用{}作为占位符的模板
+	 *
+	 * @param pattern 字符串模板
+	 * @return CompiledTemplate
+	 */
+	public static CompiledTemplate of(final String pattern) {
+		return of(pattern, StrUtil.EMPTY_JSON);
+	}
+
+	/**
+	 * 编译使用指定占位符的模板
+	 *
+	 * @param pattern     字符串模板
+	 * @param placeHolder 占位符，例如{}
+	 * @return CompiledTemplate
+	 */
+	public static CompiledTemplate of(final String pattern, final String placeHolder) {
+		return new CompiledTemplate(pattern, placeHolder);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param pattern     字符串模板
+	 * @param placeHolder 占位符，例如{}
+	 */
+	public CompiledTemplate(final String pattern, final String placeHolder) {
+		Assert.notNull(pattern, "Pattern must be not null!");
+		Assert.notEmpty(placeHolder, "PlaceHolder must be not empty!");
+		this.pattern = pattern;
+		this.placeHolder = placeHolder;
+
+		final int placeHolderLength = placeHolder.length();
+		int[] literalEnds = new int[4];
+		int[] nextStarts = new int[4];
+		boolean[] escaped = new boolean[4];
+		int size = 0;
+		int slotCount = 0;
+		int handledPosition = 0;
+		int delimIndex;
+		while ((delimIndex = pattern.indexOf(placeHolder, handledPosition)) >= 0) {
+			if (size == literalEnds.length) {
+				literalEnds = Arrays.copyOf(literalEnds, size << 1);
+				nextStarts = Arrays.copyOf(nextStarts, size << 1);
+				escaped = Arrays.copyOf(escaped, size << 1);
+			}
+			if (delimIndex > 0 && pattern.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {
+				literalEnds[size] = delimIndex - 1;
+				if (delimIndex > 1 && pattern.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {
+					// 双转义符，占位符依旧有效
+					nextStarts[size] = delimIndex + placeHolderLength;
+					slotCount++;
+				} else {
+					// 占位符被转义
+					nextStarts[size] = delimIndex + 1;
+					escaped[size] = true;
+				}
+			} else {
+				literalEnds[size] = delimIndex;
+				nextStarts[size] = delimIndex + placeHolderLength;
+				slotCount++;
+			}
+			handledPosition = nextStarts[size];
+			size++;
+		}
+
+		this.literalEnds = Arrays.copyOf(literalEnds, size);
+		this.nextStarts = Arrays.copyOf(nextStarts, size);
+		this.escaped = Arrays.copyOf(escaped, size);
+		this.literalLengths = new int[size];
+		this.slotIndexes = new int[slotCount];
+		int literalLength = 0;
+		int start = 0;
+		for (int i = 0, slot = 0; i < size; i++) {
+			literalLength += this.literalEnds[i] - start;
+			if (this.escaped[i]) {
+				literalLength++;
+			} else {
+				this.slotIndexes[slot++] = i;
+			}
+			this.literalLengths[i] = literalLength;
+			start = this.nextStarts[i];
+		}
+	}
+
+	/**
+	 * 获取字符串模板
+	 *
+	 * @return 字符串模板
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * 获取占位符
+	 *
+	 * @return 占位符
+	 */
+	public String getPlaceHolder() {
+		return this.placeHolder;
+	}
+
+	/**
+	 * 获取有效占位符（未被转义）的个数
+	 *
+	 * @return 占位符个数
+	 */
+	public int getPlaceHolderCount() {
+		return this.slotIndexes.length;
+	}
+
+	/**
+	 * 格式化，参数按照顺序替换占位符，参数多于占位符时多余的参数被忽略，少于占位符时剩余部分原样输出
+	 *
+	 * @param args 参数列表
+	 * @return 结果
+	 */
+	public String format(final Object... args) {
+		if (null == args || 0 == args.length || 0 == this.literalEnds.length) {
+			return this.pattern;
+		}
+
+		final int last = lastIndex(args.length);
+		final int argCount = Math.min(args.length, this.slotIndexes.length);
+		final String[] argStrs = new String[argCount];
+		// 精确计算结果长度，null按照"null"计算
+		int length = this.literalLengths[last] + this.pattern.length() - this.nextStarts[last];
+		for (int i = 0; i < argCount; i++) {
+			argStrs[i] = StrUtil.utf8Str(args[i]);
+			length += null == argStrs[i] ? 4 : argStrs[i].length();
+		}
+
+		final StringBuilder builder = new StringBuilder(length);
+		try {
+			render(builder, last, argStrs, null);
+		} catch (final IOException e) {
+			// StringBuilder不会抛出IO异常
+			throw new IORuntimeException(e);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 格式化并追加到给定的{@link Appendable}中，参数直接写出，不创建中间结果字符串
+	 *
+	 * @param <T>        {@link Appendable}类型
+	 * @param appendable {@link Appendable}，如{@link StringBuilder}、{@link java.io.Writer}
+	 * @param args       参数列表
+	 * @return 给定的{@link Appendable}
+	 * @throws IORuntimeException IO异常
+	 */
+	public <T extends Appendable> T formatTo(final T appendable, final Object... args) throws IORuntimeException {
+		Assert.notNull(appendable, "Appendable must be not null!");
+		try {
+			if (null == args || 0 == args.length || 0 == this.literalEnds.length) {
+				appendable.append(this.pattern);
+			} else {
+				render(appendable, lastIndex(args.length), null, args);
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return appendable;
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern;
+	}
+
+	/**
+	 * 获取给定参数个数时最后一个被处理的位置<br>
+	 * 参数多于占位符时所有位置都被处理，否则处理到最后一个参数对应的占位符为止，之后的转义不再处理
+	 *
+	 * @param argCount 参数个数，必须大于0
+	 * @return 最后一个被处理的位置
+	 */
+	private int lastIndex(final int argCount) {
+		return argCount > this.slotIndexes.length ? this.literalEnds.length - 1 : this.slotIndexes[argCount - 1];
+	}
+
+	/**
+	 * 输出结果，参数使用预先转换的字符串或原始参数
+	 *
+	 * @param out     输出
+	 * @param last    最后一个被处理的位置
+	 * @param argStrs 预先转换的参数字符串，{@code null}表示使用原始参数
+	 * @param args    原始参数
+	 * @throws IOException IO异常
+	 */
+	private void render(final Appendable out, final int last, final String[] argStrs, final Object[] args) throws IOException {
+		final String pattern = this.pattern;
+		int handledPosition = 0;
+		int argIndex = 0;
+		for (int i = 0; i <= last; i++) {
+			out.append(pattern, handledPosition, this.literalEnds[i]);
+			if (this.escaped[i]) {
+				out.append(this.placeHolder.charAt(0));
+			} else {
+				out.append(null != argStrs ? argStrs[argIndex] : StrUtil.utf8Str(args[argIndex]));
+				argIndex++;
+			}
+			handledPosition = this.nextStarts[i];
+		}
+		out.append(pattern, handledPosition, pattern.length());
+	}
+}
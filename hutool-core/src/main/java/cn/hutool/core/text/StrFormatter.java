@@ -1,9 +1,12 @@
 package cn.hutool.core.text;
 
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 字符串格式化工具
@@ -12,6 +15,23 @@ import java.util.Map;
  */
 public class StrFormatter {
 
+	/**
+	 * 编译后模板缓存的数量上限，超出后清理上次清理以来未被使用的模板，避免动态生成的模板占用过多内存
+	 */
+	private static final int TEMPLATE_CACHE_SIZE = 1024;
+	/**
+	 * 缓存的模板最大长度，超出的模板每次重新编译，避免大量一次性的长模板常驻内存
+	 */
+	private static final int MAX_CACHED_PATTERN_LENGTH = 1024;
+	/**
+	 * 编译后模板缓存，读取不加锁
+	 */
+	private static final Map<String, TemplateEntry> TEMPLATE_CACHE = new SafeConcurrentHashMap<>();
+	/**
+	 * 是否有线程正在清理缓存，同一时间只有一个线程清理
+	 */
+	private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
 	/**
 	 * 格式化字符串<br>
 	 * 此方法只是简单将占位符 {} 按照顺序替换为参数<br>
@@ -26,7 +46,83 @@ public class StrFormatter {
 	 * @return 结果
 	 */
 	public static String format(String strPattern, Object... argArray) {
-		return formatWith(strPattern, StrUtil.EMPTY_JSON, argArray);
+		if (StrUtil.isBlank(strPattern) || ArrayUtil.isEmpty(argArray)) {
+			return strPattern;
+		}
+		return compile(strPattern).format(argArray);
+	}
+
+	/**
+	 * 编译使用 {} 作为占位符的字符串模板，编译结果被缓存，规则同{@link #format(String, Object...)}<br>
+	 * 缓存数量有上限，超出后移除近期未使用的模板，长度超过1024的模板不缓存，适用于日志等反复使用固定模板的场景
+	 *
+	 * @param strPattern 字符串模板
+	 * @return {@link CompiledTemplate}
+	 * @since 5.8.34
+	 */
+	public static CompiledTemplate compile(String strPattern) {
+		Assert.notNull(strPattern, "Pattern must be not null!");
+		final TemplateEntry entry = TEMPLATE_CACHE.get(strPattern);
+		if (null != entry) {
+			// 已标记时不再写入，避免多线程读取常用模板时争用同一缓存行
+			if (false == entry.used) {
+				entry.used = true;
+			}
+			return entry.template;
+		}
+
+		// 编译不持有锁，并发编译同一模板时结果等价
+		final CompiledTemplate template = CompiledTemplate.of(strPattern);
+		if (strPattern.length() <= MAX_CACHED_PATTERN_LENGTH) {
+			if (TEMPLATE_CACHE.size() >= TEMPLATE_CACHE_SIZE) {
+				evict();
+			}
+			TEMPLATE_CACHE.putIfAbsent(strPattern, new TemplateEntry(template));
+		}
+		return template;
+	}
+
+	/**
+	 * 清空编译后模板的缓存
+	 *
+	 * @since 5.8.34
+	 */
+	public static void clearCache() {
+		TEMPLATE_CACHE.clear();
+	}
+
+	/**
+	 * 清理缓存：移除上次清理以来未被使用的模板，其余模板重置为未使用<br>
+	 * 常用模板在两次清理之间总会被使用而保留，一次性模板在下次清理时被移除
+	 */
+	private static void evict() {
+		if (false == EVICTING.compareAndSet(false, true)) {
+			// 其它线程正在清理，缓存可能暂时略超上限
+			return;
+		}
+		try {
+			TEMPLATE_CACHE.values().removeIf(entry -> {
+				if (entry.used) {
+					entry.used = false;
+					return false;
+				}
+				return true;
+			});
+		} finally {
+			EVICTING.set(false);
+		}
+	}
+
+	/**
+	 * 缓存项，记录上次清理以来是否被使用
+	 */
+	private static class TemplateEntry {
+		final CompiledTemplate template;
+		volatile boolean used;
+
+		TemplateEntry(CompiledTemplate template) {
+			this.template = template;
+		}
 	}
 
 	/**
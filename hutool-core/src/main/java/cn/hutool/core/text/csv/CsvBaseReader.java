@@ -270,6 +270,38 @@ public class CsvBaseReader implements Serializable {
 		read(parse(reader), close, rowHandler);
 	}
 
+	/**
+	 * 从Reader中以视图模式读取CSV数据，字段不创建String，读取后关闭Reader
+	 *
+	 * @param reader      Reader
+	 * @param viewHandler 行视图处理器，视图只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public void readView(Reader reader, CsvRowViewHandler viewHandler) throws IORuntimeException {
+		readView(reader, true, viewHandler);
+	}
+
+	/**
+	 * 从Reader中以视图模式读取CSV数据，字段不创建String
+	 *
+	 * @param reader      Reader
+	 * @param close       读取结束是否关闭Reader
+	 * @param viewHandler 行视图处理器，视图只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public void readView(Reader reader, boolean close, CsvRowViewHandler viewHandler) throws IORuntimeException {
+		final CsvParser csvParser = parse(reader);
+		try {
+			csvParser.readViews(viewHandler);
+		} finally {
+			if (close) {
+				IoUtil.close(csvParser);
+			}
+		}
+	}
+
 	//--------------------------------------------------------------------------------------------- Private method start
 
 	/**
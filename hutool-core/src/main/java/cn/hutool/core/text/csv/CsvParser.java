@@ -71,6 +71,26 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	 * 是否读取结束
 	 */
 	private boolean finished;
+	/**
+	 * 需要读取的列，null表示读取全部列
+	 */
+	private final boolean[] columns;
+	/**
+	 * 当前行的字段（投影后），视图模式下为null
+	 */
+	private List<String> currentFields;
+	/**
+	 * 视图模式下复用的行视图，null表示非视图模式
+	 */
+	private transient CsvRowView rowView;
+	/**
+	 * 当前行的原始字段数（投影前）
+	 */
+	private int lineFieldCount;
+	/**
+	 * 当前行第一个字段是否为空，用于判断空行
+	 */
+	private boolean firstFieldEmpty;
 
 	/**
 	 * CSV解析器
@@ -81,6 +101,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	public CsvParser(final Reader reader, CsvReadConfig config) {
 		this.reader = Objects.requireNonNull(reader, "reader must not be null");
 		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+		this.columns = toColumnFlags(this.config.columns);
 	}
 
 	/**
@@ -111,13 +132,56 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	 * @throws IORuntimeException IO读取异常
 	 */
 	public CsvRow nextRow() throws IORuntimeException {
-		List<String> currentFields;
+		if (nextLine()) {
+			return new CsvRow(lineNo, null == header ? null : header.headerMap, currentFields);
+		}
+		return null;
+	}
+
+	/**
+	 * 以视图模式读取剩余的所有行<br>
+	 * 字段以可复用的{@link CharSequence}片段形式提供，不为每个字段创建String，视图只在回调期间有效，
+	 * 需要保留的字段应调用{@link CsvRowView#getStr(int)}或{@link CsvRowView#toRow()}复制出来。
+	 *
+	 * @param handler 行视图处理器
+	 * @throws IORuntimeException IO读取异常
+	 * @since 5.8.34
+	 */
+	public void readViews(final CsvRowViewHandler handler) throws IORuntimeException {
+		final CsvRowView rowView = new CsvRowView();
+		this.rowView = rowView;
+		try {
+			while (nextLine()) {
+				rowView.lineNo = this.lineNo;
+				rowView.headerMap = null == header ? null : header.headerMap;
+				handler.handle(rowView);
+			}
+		} finally {
+			this.rowView = null;
+		}
+	}
+
+	/**
+	 * 获取当前行的原始字段数，即列投影前的字段数
+	 *
+	 * @return 原始字段数
+	 */
+	int getLineFieldCount() {
+		return this.lineFieldCount;
+	}
+
+	/**
+	 * 读取下一个有效行，行范围、空行、字段数检查和标题行在此处理
+	 *
+	 * @return 是否读取到有效行，false表示读取结束
+	 * @throws IORuntimeException IO读取异常
+	 */
+	private boolean nextLine() throws IORuntimeException {
 		int fieldCount;
 		while (false == finished) {
-			currentFields = readLine();
-			fieldCount = currentFields.size();
+			fieldCount = readLine();
 			if (fieldCount < 1) {
-				// 空List表示读取结束
+				// 无字段表示读取结束
 				break;
 			}
 
@@ -132,7 +196,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 			}
 
 			// 跳过空行
-			if (config.skipEmptyRows && fieldCount == 1 && currentFields.get(0).isEmpty()) {
+			if (config.skipEmptyRows && fieldCount == 1 && firstFieldEmpty) {
 				// [""]表示空行
 				continue;
 			}
@@ -150,18 +214,19 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 			if (fieldCount > maxFieldCount) {
 				maxFieldCount = fieldCount;
 			}
+			this.lineFieldCount = fieldCount;
 
 			//初始化标题
 			if (lineNo == config.headerLineNo && null == header) {
-				initHeader(currentFields);
+				initHeader(null == rowView ? currentFields : rowView.getRawList());
 				// 作为标题行后，此行跳过，下一行做为第一行
 				continue;
 			}
 
-			return new CsvRow(lineNo, null == header ? null : header.headerMap, currentFields);
+			return true;
 		}
 
-		return null;
+		return false;
 	}
 
 	/**
@@ -170,33 +235,44 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	 * @param currentFields 当前行字段列表
 	 */
 	private void initHeader(final List<String> currentFields) {
-		final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(currentFields.size());
-		for (int i = 0; i < currentFields.size(); i++) {
-			String field = currentFields.get(i);
-			if (MapUtil.isNotEmpty(this.config.headerAlias)) {
+		header = new CsvRow(this.lineNo, buildHeaderMap(currentFields, this.config), Collections.unmodifiableList(currentFields));
+	}
+
+	/**
+	 * 根据标题行字段构建标题与列号的对应关系，空标题忽略，重复标题以第一次出现为准
+	 *
+	 * @param headerFields 标题行字段列表
+	 * @param config       配置，用于获取标题别名
+	 * @return 不可变的标题与列号Map
+	 * @since 5.8.34
+	 */
+	static Map<String, Integer> buildHeaderMap(final List<String> headerFields, final CsvReadConfig config) {
+		final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(headerFields.size());
+		for (int i = 0; i < headerFields.size(); i++) {
+			String field = headerFields.get(i);
+			if (MapUtil.isNotEmpty(config.headerAlias)) {
 				// 自定义别名
-				field = ObjectUtil.defaultIfNull(this.config.headerAlias.get(field), field);
+				field = ObjectUtil.defaultIfNull(config.headerAlias.get(field), field);
 			}
 			if (StrUtil.isNotEmpty(field) && false == localHeaderMap.containsKey(field)) {
 				localHeaderMap.put(field, i);
 			}
 		}
-
-		header = new CsvRow(this.lineNo, Collections.unmodifiableMap(localHeaderMap), Collections.unmodifiableList(currentFields));
+		return Collections.unmodifiableMap(localHeaderMap);
 	}
 
 	/**
-	 * 读取一行数据，如果读取结束，返回size为0的List<br>
-	 * 空行是size为1的List，唯一元素是""
+	 * 读取一行数据，字段存入{@link #currentFields}或{@link #rowView}，返回原始字段数，如果读取结束，返回0<br>
+	 * 空行是只有一个空字段的行
 	 *
 	 * <p>
 	 *     行号要考虑注释行和引号包装的内容中的换行
 	 * </p>
 	 *
-	 * @return 一行数据
+	 * @return 原始字段数
 	 * @throws IORuntimeException IO异常
 	 */
-	private List<String> readLine() throws IORuntimeException {
+	private int readLine() throws IORuntimeException {
 		// 矫正行号
 		// 当一行内容包含多行数据时，记录首行行号，但是读取下一行时，需要把多行内容的行数加上
 		if(inQuotesLineCount > 0){
@@ -204,7 +280,12 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 			this.inQuotesLineCount = 0;
 		}
 
-		final List<String> currentFields = new ArrayList<>(maxFieldCount > 0 ? maxFieldCount : DEFAULT_ROW_CAPACITY);
+		if (null == this.rowView) {
+			this.currentFields = new ArrayList<>(maxFieldCount > 0 ? maxFieldCount : DEFAULT_ROW_CAPACITY);
+		} else {
+			this.rowView.reset();
+		}
+		int fieldIndex = 0;
 
 		final StrBuilder currentField = this.currentField;
 		final Buffer buf = this.buf;
@@ -225,7 +306,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 
 					if (currentField.hasContent() || preChar == config.fieldSeparator) {
 						//剩余部分作为一个字段
-						addField(currentFields, currentField.toStringAndReset());
+						endField(fieldIndex++, true);
 					}
 					break;
 				}
@@ -280,7 +361,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 						copyLen = 0;
 					}
 					buf.mark();
-					addField(currentFields, currentField.toStringAndReset());
+					endField(fieldIndex++, false);
 				} else if (c == config.textDelimiter && isFieldBegin(preChar)) {
 					// 引号开始且出现在字段开头
 					inQuotes = true;
@@ -291,7 +372,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 						buf.appendTo(currentField, copyLen);
 					}
 					buf.mark();
-					addField(currentFields, currentField.toStringAndReset());
+					endField(fieldIndex++, true);
 					preChar = c;
 					break;
 				} else if (c == CharUtil.LF) {
@@ -301,7 +382,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 							buf.appendTo(currentField, copyLen);
 						}
 						buf.mark();
-						addField(currentFields, currentField.toStringAndReset());
+						endField(fieldIndex++, true);
 						preChar = c;
 						break;
 					}
@@ -320,7 +401,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 		this.preChar = preChar;
 
 		lineNo++;
-		return currentFields;
+		return fieldIndex;
 	}
 
 	@Override
@@ -329,12 +410,43 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	}
 
 	/**
-	 * 将字段加入字段列表并自动去包装和去转义
+	 * 当前字段读取结束，按照列投影加入当前行，未选择的列不生成字段
+	 *
+	 * @param index   字段在行中的原始位置
+	 * @param lineEnd 是否为行的最后一个字段
+	 */
+	private void endField(final int index, final boolean lineEnd) {
+		if (null != this.columns && (index >= this.columns.length || false == this.columns[index])) {
+			if (0 == index && lineEnd) {
+				// 只有一个字段的行，需要判断是否为空行
+				this.firstFieldEmpty = processField(currentField.toStringAndReset()).isEmpty();
+			} else {
+				currentField.reset();
+			}
+			return;
+		}
+
+		final boolean empty;
+		if (null == this.rowView) {
+			final String field = processField(currentField.toStringAndReset());
+			empty = field.isEmpty();
+			this.currentFields.add(field);
+		} else {
+			empty = 0 == this.rowView.addField(currentField, config.textDelimiter, config.trimField);
+			currentField.reset();
+		}
+		if (0 == index) {
+			this.firstFieldEmpty = empty;
+		}
+	}
+
+	/**
+	 * 字段自动去包装和去转义
 	 *
-	 * @param currentFields 当前的字段列表（即为行）
-	 * @param field         字段
+	 * @param field 字段
+	 * @return 处理后的字段
 	 */
-	private void addField(List<String> currentFields, String field) {
+	private String processField(String field) {
 		final char textDelimiter = this.config.textDelimiter;
 
 		// 忽略多余引号后的换行符
@@ -351,7 +463,28 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 			// issue#I49M0C@Gitee
 			field = StrUtil.trim(field);
 		}
-		currentFields.add(field);
+		return field;
+	}
+
+	/**
+	 * 将列号数组转换为是否读取的标记数组
+	 *
+	 * @param columns 列号数组，null表示全部读取
+	 * @return 标记数组，null表示全部读取
+	 */
+	private static boolean[] toColumnFlags(final int[] columns) {
+		if (null == columns) {
+			return null;
+		}
+		int max = -1;
+		for (final int column : columns) {
+			max = Math.max(max, column);
+		}
+		final boolean[] flags = new boolean[max + 1];
+		for (final int column : columns) {
+			flags[column] = true;
+		}
+		return flags;
 	}
 
 	/**
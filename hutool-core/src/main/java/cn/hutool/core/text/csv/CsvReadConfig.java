@@ -1,5 +1,7 @@
 package cn.hutool.core.text.csv;
 
+import cn.hutool.core.lang.Assert;
+
 import java.io.Serializable;
 
 /**
@@ -23,6 +25,8 @@ public class CsvReadConfig extends CsvConfig<CsvReadConfig> implements Serializa
 	protected long endLineNo = Long.MAX_VALUE-1;
 	/** 每个字段是否去除两边空白符 */
 	protected boolean trimField;
+	/** 需要读取的列（原始列号，从0开始），null表示读取全部列 */
+	protected int[] columns;
 
 	/**
 	 * 默认配置
@@ -115,4 +119,25 @@ public class CsvReadConfig extends CsvConfig<CsvReadConfig> implements Serializa
 		this.trimField = trimField;
 		return this;
 	}
+
+	/**
+	 * 设置需要读取的列（列投影），未选择的列在解析时直接跳过，不生成字段<br>
+	 * 读取结果（包括标题行）只包含选择的列，按照列在文件中的原始顺序排列；
+	 * 行号、空行判断和字段数检查仍按照原始的全部列计算。
+	 *
+	 * @param columns 需要读取的列号，从0开始，{@code null}或空表示读取全部列
+	 * @return this
+	 * @since 5.8.34
+	 */
+	public CsvReadConfig setColumns(int... columns) {
+		if (null == columns || 0 == columns.length) {
+			this.columns = null;
+		} else {
+			for (int column : columns) {
+				Assert.isTrue(column >= 0, "Column index must be >= 0, but got: {}", column);
+			}
+			this.columns = columns.clone();
+		}
+		return this;
+	}
 }
@@ -124,6 +124,18 @@ public class CsvReader extends CsvBaseReader implements Iterable<CsvRow>, Closea
 		read(this.reader, false, rowHandler);
 	}
 
+	/**
+	 * 以视图模式读取CSV数据，字段不创建String，此方法只能调用一次<br>
+	 * 调用此方法的前提是构造中传入文件路径或Reader
+	 *
+	 * @param viewHandler 行视图处理器，视图只在回调期间有效
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public void readView(CsvRowViewHandler viewHandler) throws IORuntimeException {
+		readView(this.reader, false, viewHandler);
+	}
+
 	/**
 	 * 根据Reader创建{@link Stream}，以便使用stream方式读取csv行
 	 *
@@ -0,0 +1,243 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.text.StrBuilder;
+import cn.hutool.core.util.CharUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV中一行的视图，用于{@link CsvParser#readViews(CsvRowViewHandler)}<br>
+ * 一行中所有字段（去包装和去转义后）连续存放在解析器复用的字符数组中，字段以{@link CharSequence}片段的形式提供，
+ * 读取字段不创建String，需要时再通过{@link #getStr(int)}或{@link CharSequence#toString()}复制。<br>
+ * 视图及其字段片段在读取下一行时被覆盖，只在{@link CsvRowViewHandler#handle(CsvRowView)}回调期间有效。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public final class CsvRowView {
+
+	long lineNo;
+	Map<String, Integer> headerMap;
+
+	/**
+	 * 一行所有字段的字符
+	 */
+	private char[] chars = new char[256];
+	private int length;
+	/**
+	 * 每个字段在{@link #chars}中的开始和结束位置
+	 */
+	private int[] starts = new int[16];
+	private int[] ends = new int[16];
+	private int size;
+	/**
+	 * 复用的字段片段，第n个片段始终指向第n个字段
+	 */
+	private FieldView[] views = new FieldView[16];
+
+	/**
+	 * 构造，只能由解析器创建
+	 */
+	CsvRowView() {
+	}
+
+	/**
+	 * 获取原始行号，多行情况下为首行行号
+	 *
+	 * @return 原始行号
+	 */
+	public long getOriginalLineNumber() {
+		return this.lineNo;
+	}
+
+	/**
+	 * 获取字段数，使用列投影时为选择的列数
+	 *
+	 * @return 字段数
+	 */
+	public int getFieldCount() {
+		return this.size;
+	}
+
+	/**
+	 * 获取字段片段，片段只在回调期间有效
+	 *
+	 * @param index 字段位置
+	 * @return 字段片段
+	 */
+	public CharSequence get(final int index) {
+		checkIndex(index);
+		FieldView view = this.views[index];
+		if (null == view) {
+			view = new FieldView(index);
+			this.views[index] = view;
+		}
+		return view;
+	}
+
+	/**
+	 * 获取字段字符串，复制字段内容
+	 *
+	 * @param index 字段位置
+	 * @return 字段值
+	 */
+	public String getStr(final int index) {
+		checkIndex(index);
+		return new String(this.chars, this.starts[index], this.ends[index] - this.starts[index]);
+	}
+
+	/**
+	 * 获取标题对应的字段片段，无标题或标题不存在返回{@code null}
+	 *
+	 * @param name 标题名
+	 * @return 字段片段
+	 */
+	public CharSequence getByName(final String name) {
+		Assert.notNull(this.headerMap, "No header available!");
+		final Integer index = this.headerMap.get(name);
+		if (null != index && index < this.size) {
+			return get(index);
+		}
+		return null;
+	}
+
+	/**
+	 * 复制所有字段
+	 *
+	 * @return 字段值列表
+	 */
+	public List<String> getRawList() {
+		final List<String> list = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			list.add(getStr(i));
+		}
+		return list;
+	}
+
+	/**
+	 * 复制为{@link CsvRow}，可在回调结束后继续使用
+	 *
+	 * @return {@link CsvRow}
+	 */
+	public CsvRow toRow() {
+		return new CsvRow(this.lineNo, this.headerMap, getRawList());
+	}
+
+	@Override
+	public String toString() {
+		return getRawList().toString();
+	}
+
+	/**
+	 * 清空视图，准备读取新行
+	 */
+	void reset() {
+		this.length = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * 加入字段，规则与{@link CsvParser}一致：去除尾部换行符，去包装和去转义，可选去除两边空白符
+	 *
+	 * @param field         原始字段内容
+	 * @param textDelimiter 文本包装符
+	 * @param trimField     是否去除两边空白符
+	 * @return 处理后的字段长度
+	 */
+	int addField(final StrBuilder field, final char textDelimiter, final boolean trimField) {
+		int end = field.length();
+		// 忽略多余引号后的换行符
+		while (end > 0 && (field.charAt(end - 1) == CharUtil.CR || field.charAt(end - 1) == CharUtil.LF)) {
+			end--;
+		}
+
+		ensureCapacity(this.length + end);
+		final char[] chars = this.chars;
+		int start = this.length;
+		int pos = start;
+		if (end > 1 && field.charAt(0) == textDelimiter && field.charAt(end - 1) == textDelimiter) {
+			// 去包装，包装内成对的包装符转义为一个
+			for (int i = 1; i < end - 1; i++) {
+				final char c = field.charAt(i);
+				chars[pos++] = c;
+				if (c == textDelimiter && i + 1 < end - 1 && field.charAt(i + 1) == textDelimiter) {
+					i++;
+				}
+			}
+		} else {
+			field.getChars(0, end, chars, pos);
+			pos += end;
+		}
+		this.length = pos;
+
+		if (trimField) {
+			while (start < pos && CharUtil.isBlankChar(chars[start])) {
+				start++;
+			}
+			while (pos > start && CharUtil.isBlankChar(chars[pos - 1])) {
+				pos--;
+			}
+		}
+
+		if (this.size == this.starts.length) {
+			final int newSize = this.size << 1;
+			this.starts = Arrays.copyOf(this.starts, newSize);
+			this.ends = Arrays.copyOf(this.ends, newSize);
+			this.views = Arrays.copyOf(this.views, newSize);
+		}
+		this.starts[this.size] = start;
+		this.ends[this.size] = pos;
+		this.size++;
+		return pos - start;
+	}
+
+	private void ensureCapacity(final int minCapacity) {
+		if (minCapacity > this.chars.length) {
+			this.chars = Arrays.copyOf(this.chars, Math.max(minCapacity, this.chars.length << 1));
+		}
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+	/**
+	 * 字段片段，直接读取行视图中的字符
+	 */
+	private class FieldView implements CharSequence {
+		private final int index;
+
+		FieldView(final int index) {
+			this.index = index;
+		}
+
+		@Override
+		public int length() {
+			return ends[index] - starts[index];
+		}
+
+		@Override
+		public char charAt(final int i) {
+			if (i < 0 || i >= length()) {
+				throw new StringIndexOutOfBoundsException(i);
+			}
+			return chars[starts[index] + i];
+		}
+
+		@Override
+		public CharSequence subSequence(final int start, final int end) {
+			return toString().substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return getStr(index);
+		}
+	}
+}
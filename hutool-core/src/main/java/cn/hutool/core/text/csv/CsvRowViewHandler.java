@@ -0,0 +1,19 @@
+package cn.hutool.core.text.csv;
+
+/**
+ * CSV的行视图处理器，实现此接口用于按照行处理数据，字段不创建String
+ *
+ * @author looly
+ * @see CsvRowView
+ * @since 5.8.34
+ */
+@FunctionalInterface
+public interface CsvRowViewHandler {
+
+	/**
+	 * 处理行视图，视图只在此方法执行期间有效
+	 *
+	 * @param row 行视图
+	 */
+	void handle(CsvRowView row);
+}
@@ -1,6 +1,7 @@
 package cn.hutool.core.text.csv;
 
 import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
 import cn.hutool.core.collection.ArrayIter;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.convert.Convert;
@@ -8,22 +9,30 @@ import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.SimpleCache;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.ObjectUtil;
 
-import java.io.BufferedWriter;
 import java.io.Closeable;
 import java.io.File;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.io.Writer;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * CSV数据写出器
@@ -50,6 +59,14 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 	 * 是否首行，即CSV开始的位置，当初始化时默认为true，一旦写入内容，为false
 	 */
 	private boolean isFirstLine = true;
+	/**
+	 * 写出缓冲，字段内容直接写入此数组，满或flush时批量写出到{@link #writer}
+	 */
+	private final char[] buffer = new char[IoUtil.DEFAULT_BUFFER_SIZE];
+	/**
+	 * 缓冲中已写入的长度
+	 */
+	private int bufferLength;
 
 	// --------------------------------------------------------------------------------------------------- Constructor start
 
@@ -137,6 +154,18 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 		this(FileUtil.getWriter(file, charset, isAppend), isAppend?(config==null?CsvWriteConfig.defaultConfig().setEndingLineBreak(true):config.setEndingLineBreak(true)):config);
 	}
 
+	/**
+	 * 构造，字符通过{@link Charset}对应的编码器直接写出到流
+	 *
+	 * @param out     输出流
+	 * @param charset 编码，{@code null}表示系统默认编码
+	 * @param config  写出配置，null则使用默认配置
+	 * @since 5.8.34
+	 */
+	public CsvWriter(OutputStream out, Charset charset, CsvWriteConfig config) {
+		this(IoUtil.getWriter(Assert.notNull(out, "OutputStream must be not null!"), charset), config);
+	}
+
 	/**
 	 * 构造，使用默认配置
 	 *
@@ -149,11 +178,11 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 	/**
 	 * 构造
 	 *
-	 * @param writer Writer
+	 * @param writer Writer，写出器自带缓冲，无需再包装为{@link java.io.BufferedWriter}
 	 * @param config 写出配置，null则使用默认配置
 	 */
 	public CsvWriter(Writer writer, CsvWriteConfig config) {
-		this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer);
+		this.writer = Assert.notNull(writer, "Writer must be not null!");
 		this.config = ObjectUtil.defaultIfNull(config, CsvWriteConfig::defaultConfig);
 	}
 	// --------------------------------------------------------------------------------------------------- Constructor end
@@ -277,6 +306,83 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 		return this;
 	}
 
+	/**
+	 * 将Bean流写出到Writer，适用于大量数据的流式导出<br>
+	 * 与{@link #writeBeans(Iterable, boolean, String...)}输出一致，区别在于：
+	 * <ul>
+	 *     <li>每个类的列（属性读取器）只解析一次并缓存，不再为每个Bean创建Map</li>
+	 *     <li>整数、浮点数、布尔等类型的列不会包含分隔符或包装符，直接写出，不逐字符检查是否需要包装</li>
+	 * </ul>
+	 *
+	 * @param <T>             Bean类型
+	 * @param beanClass       Bean类
+	 * @param beans           Bean流，{@code null}元素跳过
+	 * @param writeHeaderLine 是否写出表头，即Bean的字段名称列表作为首行
+	 * @param properties      Bean 中指定的可以导出的属性，空表示全部
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public <T> CsvWriter writeBeans(Class<T> beanClass, Stream<? extends T> beans, boolean writeHeaderLine, String... properties) throws IORuntimeException {
+		if (null != beans) {
+			writeBeans(beanClass, beans.iterator(), writeHeaderLine, properties);
+		}
+		return this;
+	}
+
+	/**
+	 * 将Bean迭代器写出到Writer，适用于大量数据的流式导出，见{@link #writeBeans(Class, Stream, boolean, String...)}
+	 *
+	 * @param <T>             Bean类型
+	 * @param beanClass       Bean类
+	 * @param beans           Bean迭代器，{@code null}元素跳过
+	 * @param writeHeaderLine 是否写出表头，即Bean的字段名称列表作为首行
+	 * @param properties      Bean 中指定的可以导出的属性，空表示全部
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public <T> CsvWriter writeBeans(Class<T> beanClass, Iterator<? extends T> beans, boolean writeHeaderLine, String... properties) throws IORuntimeException {
+		Assert.notNull(beanClass, "Bean class must be not null!");
+		if (null == beans || false == beans.hasNext()) {
+			return this;
+		}
+
+		final BeanColumn[] columns = BeanColumn.of(beanClass, properties);
+		if (writeHeaderLine) {
+			final String[] names = new String[columns.length];
+			for (int i = 0; i < columns.length; i++) {
+				names[i] = columns[i].name;
+			}
+			writeHeaderLine(names);
+		}
+
+		final boolean plainSafe = isPlainSafe();
+		try {
+			T bean;
+			while (beans.hasNext()) {
+				bean = beans.next();
+				if (null == bean) {
+					continue;
+				}
+				if (isFirstLine) {
+					// 首行不补换行符
+					isFirstLine = false;
+				} else {
+					write(config.lineDelimiter);
+				}
+				for (final BeanColumn column : columns) {
+					appendBeanField(column, column.desc.getValue(bean), plainSafe);
+				}
+				newline = true;
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		flush();
+		return this;
+	}
+
 	/**
 	 * 写出一行头部行，支持标题别名
 	 *
@@ -324,7 +430,7 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 	 */
 	public CsvWriter writeLine() throws IORuntimeException {
 		try {
-			writer.write(config.lineDelimiter);
+			write(config.lineDelimiter);
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
 		}
@@ -348,10 +454,10 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 				// 首行不补换行符
 				isFirstLine = false;
 			}else {
-				writer.write(config.lineDelimiter);
+				write(config.lineDelimiter);
 			}
-			writer.write(this.config.commentCharacter);
-			writer.write(comment);
+			write(this.config.commentCharacter);
+			write(comment);
 			newline = true;
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
@@ -366,12 +472,19 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 			//https://gitee.com/dromara/hutool/issues/I75K5G
 			writeLine();
 		}
-		IoUtil.close(this.writer);
+		try {
+			flushBuffer();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			IoUtil.close(this.writer);
+		}
 	}
 
 	@Override
 	public void flush() throws IORuntimeException {
 		try {
+			flushBuffer();
 			writer.flush();
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
@@ -406,7 +519,7 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 				// 首行不补换行符
 				isFirstLine = false;
 			}else {
-				writer.write(config.lineDelimiter);
+				write(config.lineDelimiter);
 			}
 			for (String field : fields) {
 				appendField(field);
@@ -427,23 +540,25 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 		char fieldSeparator = config.fieldSeparator;
 
 		if (false == newline) {
-			writer.write(fieldSeparator);
+			write(fieldSeparator);
 		} else {
 			newline = false;
 		}
 
 		if (null == value) {
 			if (alwaysDelimitText) {
-				writer.write(new char[]{textDelimiter, textDelimiter});
+				write(textDelimiter);
+				write(textDelimiter);
 			}
 			return;
 		}
 
-		final char[] valueChars = value.toCharArray();
+		final int length = value.length();
 		boolean needsTextDelimiter = alwaysDelimitText;
 		boolean containsTextDelimiter = false;
 
-		for (final char c : valueChars) {
+		for (int i = 0; i < length; i++) {
+			final char c = value.charAt(i);
 			if (c == textDelimiter) {
 				// 字段值中存在包装符
 				containsTextDelimiter = needsTextDelimiter = true;
@@ -456,26 +571,259 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 
 		// 包装符开始
 		if (needsTextDelimiter) {
-			writer.write(textDelimiter);
+			write(textDelimiter);
 		}
 
 		// 正文
 		if (containsTextDelimiter) {
-			for (final char c : valueChars) {
+			for (int i = 0; i < length; i++) {
+				final char c = value.charAt(i);
 				// 转义文本包装符
 				if (c == textDelimiter) {
-					writer.write(textDelimiter);
+					write(textDelimiter);
 				}
-				writer.write(c);
+				write(c);
 			}
 		} else {
-			writer.write(valueChars);
+			write(value);
 		}
 
 		// 包装符结尾
 		if (needsTextDelimiter) {
-			writer.write(textDelimiter);
+			write(textDelimiter);
+		}
+	}
+
+	/**
+	 * 在当前行追加Bean的属性值，数字和布尔值直接写出，其它值转为字符串后按需包装
+	 *
+	 * @param column    列
+	 * @param value     属性值
+	 * @param plainSafe 数字和布尔值是否无需检查包装，见{@link #isPlainSafe()}
+	 * @throws IOException IO异常
+	 */
+	private void appendBeanField(final BeanColumn column, final Object value, final boolean plainSafe) throws IOException {
+		if (null == value || BeanColumn.KIND_TEXT == column.kind || false == plainSafe) {
+			appendField(Convert.toStr(value));
+			return;
+		}
+
+		if (false == newline) {
+			write(config.fieldSeparator);
+		} else {
+			newline = false;
+		}
+		final boolean alwaysDelimitText = config.alwaysDelimitText;
+		if (alwaysDelimitText) {
+			write(config.textDelimiter);
+		}
+		if (BeanColumn.KIND_INTEGER == column.kind) {
+			writeLong(((Number) value).longValue());
+		} else {
+			write(value.toString());
+		}
+		if (alwaysDelimitText) {
+			write(config.textDelimiter);
+		}
+	}
+
+	/**
+	 * 数字和布尔值的字符串形式只包含数字、字母和“.-+”，当分隔符和包装符都不是这些字符时，这些值无需包装
+	 *
+	 * @return 数字和布尔值是否无需检查包装
+	 */
+	private boolean isPlainSafe() {
+		return false == isPlainUnsafeChar(config.fieldSeparator) && false == isPlainUnsafeChar(config.textDelimiter);
+	}
+
+	/**
+	 * 字符是否可能出现在数字或布尔值的字符串形式中
+	 *
+	 * @param c 字符
+	 * @return 是否可能出现
+	 */
+	private static boolean isPlainUnsafeChar(final char c) {
+		return CharUtil.isLetterOrNumber(c) || c == '.' || c == '-' || c == '+';
+	}
+
+	/**
+	 * 直接将整数的十进制形式写入缓冲，不创建字符串
+	 *
+	 * @param value 整数
+	 * @throws IOException IO异常
+	 */
+	private void writeLong(long value) throws IOException {
+		if (Long.MIN_VALUE == value) {
+			write(String.valueOf(value));
+			return;
+		}
+		if (buffer.length - bufferLength < 20) {
+			flushBuffer();
+		}
+		if (value < 0) {
+			buffer[bufferLength++] = '-';
+			value = -value;
+		}
+		int digits = 1;
+		for (long v = value; v >= 10; v /= 10) {
+			digits++;
+		}
+		int pos = bufferLength + digits;
+		bufferLength = pos;
+		do {
+			buffer[--pos] = (char) ('0' + (value % 10));
+			value /= 10;
+		} while (value != 0);
+	}
+
+	/**
+	 * 写出字符到缓冲
+	 *
+	 * @param c 字符
+	 * @throws IOException IO异常
+	 */
+	private void write(final char c) throws IOException {
+		if (bufferLength == buffer.length) {
+			flushBuffer();
+		}
+		buffer[bufferLength++] = c;
+	}
+
+	/**
+	 * 写出字符数组到缓冲
+	 *
+	 * @param chars 字符数组
+	 * @throws IOException IO异常
+	 */
+	private void write(final char[] chars) throws IOException {
+		if (chars.length > buffer.length - bufferLength) {
+			flushBuffer();
+			if (chars.length > buffer.length) {
+				writer.write(chars);
+				return;
+			}
+		}
+		System.arraycopy(chars, 0, buffer, bufferLength, chars.length);
+		bufferLength += chars.length;
+	}
+
+	/**
+	 * 写出字符串到缓冲
+	 *
+	 * @param str 字符串
+	 * @throws IOException IO异常
+	 */
+	private void write(final String str) throws IOException {
+		final int length = str.length();
+		if (length > buffer.length - bufferLength) {
+			flushBuffer();
+			if (length > buffer.length) {
+				writer.write(str);
+				return;
+			}
+		}
+		str.getChars(0, length, buffer, bufferLength);
+		bufferLength += length;
+	}
+
+	/**
+	 * 将缓冲中的内容写出到{@link #writer}
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void flushBuffer() throws IOException {
+		if (bufferLength > 0) {
+			writer.write(buffer, 0, bufferLength);
+			bufferLength = 0;
 		}
 	}
 	// --------------------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * Bean的一列，即一个可读属性及其写出方式，每个类只解析一次
+	 */
+	private static class BeanColumn {
+		/**
+		 * 需要转为字符串并检查包装的值
+		 */
+		static final int KIND_TEXT = 0;
+		/**
+		 * 整数，直接写出十进制数字
+		 */
+		static final int KIND_INTEGER = 1;
+		/**
+		 * 浮点数、大数字和布尔值，直接写出toString结果
+		 */
+		static final int KIND_PLAIN = 2;
+
+		private static final SimpleCache<Class<?>, BeanColumn[]> CACHE = new SimpleCache<>();
+
+		final String name;
+		final PropDesc desc;
+		final int kind;
+
+		BeanColumn(final String name, final PropDesc desc) {
+			this.name = name;
+			this.desc = desc;
+			this.kind = kindOf(valueClassOf(desc));
+		}
+
+		/**
+		 * 获取Bean类的列，顺序与{@link BeanUtil#beanToMap(Object, String...)}一致
+		 *
+		 * @param beanClass  Bean类
+		 * @param properties 需要的属性，空表示全部
+		 * @return 列
+		 */
+		static BeanColumn[] of(final Class<?> beanClass, final String... properties) {
+			final BeanColumn[] columns = CACHE.get(beanClass, () -> {
+				final List<BeanColumn> list = new ArrayList<>();
+				BeanUtil.getBeanDesc(beanClass).getPropMap(false).forEach((name, desc) -> {
+					if (null != name && desc.isReadable(true)) {
+						list.add(new BeanColumn(name, desc));
+					}
+				});
+				return list.toArray(new BeanColumn[0]);
+			});
+			if (ArrayUtil.isEmpty(properties)) {
+				return columns;
+			}
+
+			final Set<String> propertiesSet = CollUtil.set(false, properties);
+			final List<BeanColumn> selected = new ArrayList<>(properties.length);
+			for (final BeanColumn column : columns) {
+				if (propertiesSet.contains(column.name)) {
+					selected.add(column);
+				}
+			}
+			return selected.toArray(new BeanColumn[0]);
+		}
+
+		/**
+		 * 获取{@link PropDesc#getValue(Object)}返回值的类型，有Getter方法时为其返回值类型（可能与字段类型不同），否则为字段类型
+		 *
+		 * @param desc 属性描述
+		 * @return 值类型
+		 */
+		private static Class<?> valueClassOf(final PropDesc desc) {
+			final Method getter = desc.getGetter();
+			return null != getter ? getter.getReturnType() : desc.getFieldClass();
+		}
+
+		private static int kindOf(final Class<?> clazz) {
+			if (null == clazz) {
+				return KIND_TEXT;
+			}
+			if (long.class == clazz || int.class == clazz || short.class == clazz || byte.class == clazz
+					|| Long.class == clazz || Integer.class == clazz || Short.class == clazz || Byte.class == clazz) {
+				return KIND_INTEGER;
+			}
+			if (double.class == clazz || float.class == clazz || boolean.class == clazz
+					|| Double.class == clazz || Float.class == clazz || Boolean.class == clazz
+					|| BigDecimal.class == clazz || BigInteger.class == clazz) {
+				return KIND_PLAIN;
+			}
+			return KIND_TEXT;
+		}
+	}
 }
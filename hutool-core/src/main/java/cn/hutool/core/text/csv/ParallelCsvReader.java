@@ -0,0 +1,492 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.collection.primitive.IntArrayList;
+import cn.hutool.core.collection.primitive.LongArrayList;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+
+import java.io.CharArrayReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 并行CSV文件读取器，适用于大文件的高吞吐读取<br>
+ * 读取过程如下：
+ * <ol>
+ *     <li>使用内存映射顺序扫描文件，按照与{@link CsvParser}一致的引号和注释规则找到记录边界（引号外的换行符），将文件切分为若干块，同时统计行号</li>
+ *     <li>每个块单独映射、解码，在{@link ForkJoinPool}中并行解析，行转换（如转Bean）也在工作线程中完成</li>
+ *     <li>按照文件顺序将结果交给调用者，同一时刻只有有限个块在内存中，因此可以读取远大于内存的文件</li>
+ * </ol>
+ * 读取结果（行号、标题、字段）与{@link CsvReader}一致。<br>
+ * 块边界在字节层面查找，因此要求编码为UTF-8、US-ASCII或ISO-8859-1，且分隔符、包装符和注释符为ASCII字符，否则退化为单线程顺序读取。
+ *
+ * <pre>
+ * ParallelCsvReader reader = new ParallelCsvReader(file, CharsetUtil.CHARSET_UTF_8, CsvReadConfig.defaultConfig().setContainsHeader(true));
+ * reader.read(row -&gt; row.toBean(User.class), user -&gt; dao.insert(user));
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class ParallelCsvReader {
+
+	/**
+	 * 默认块大小：16MB
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+	/**
+	 * 扫描边界时每次映射的大小
+	 */
+	private static final long SCAN_WINDOW_SIZE = 256 * 1024 * 1024;
+
+	private final Path path;
+	private final Charset charset;
+	private final CsvReadConfig config;
+	/**
+	 * 块大小，实际块在此大小后的第一个记录边界结束
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	/**
+	 * 并行解析使用的线程池
+	 */
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	/**
+	 * 构造
+	 *
+	 * @param file    CSV文件
+	 * @param charset 编码，{@code null}表示UTF-8
+	 * @param config  配置项，{@code null}表示默认配置
+	 */
+	public ParallelCsvReader(final File file, final Charset charset, final CsvReadConfig config) {
+		this(Assert.notNull(file, "file must not be null").toPath(), charset, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param path    CSV文件路径
+	 * @param charset 编码，{@code null}表示UTF-8
+	 * @param config  配置项，{@code null}表示默认配置
+	 */
+	public ParallelCsvReader(final Path path, final Charset charset, final CsvReadConfig config) {
+		this.path = Assert.notNull(path, "path must not be null");
+		this.charset = ObjectUtil.defaultIfNull(charset, CharsetUtil.CHARSET_UTF_8);
+		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+	}
+
+	/**
+	 * 设置块大小，块越大并行度越低，同时在内存中的数据越多
+	 *
+	 * @param chunkSize 块大小，单位字节
+	 * @return this
+	 */
+	public ParallelCsvReader setChunkSize(final int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "Chunk size must be positive!");
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * 设置并行解析使用的线程池，默认{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param pool {@link ForkJoinPool}
+	 * @return this
+	 */
+	public ParallelCsvReader setPool(final ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool, "pool must not be null");
+		return this;
+	}
+
+	/**
+	 * 读取全部行
+	 *
+	 * @return {@link CsvData}
+	 * @throws IORuntimeException IO异常
+	 */
+	public CsvData read() throws IORuntimeException {
+		final List<CsvRow> rows = new ArrayList<>();
+		final List<String> header = read(Function.identity(), rows::add);
+		return new CsvData(header, rows);
+	}
+
+	/**
+	 * 按照文件顺序处理每一行
+	 *
+	 * @param rowHandler 行处理器，在调用者线程中执行
+	 * @throws IORuntimeException IO异常
+	 */
+	public void read(final CsvRowHandler rowHandler) throws IORuntimeException {
+		read(Function.identity(), rowHandler::handle);
+	}
+
+	/**
+	 * 读取为Bean列表，必须包含标题，转换在工作线程中并行完成
+	 *
+	 * @param <T>   Bean类型
+	 * @param clazz Bean类
+	 * @return Bean列表
+	 * @throws IORuntimeException IO异常
+	 */
+	public <T> List<T> read(final Class<T> clazz) throws IORuntimeException {
+		// 此方法必须包含标题
+		this.config.setContainsHeader(true);
+
+		final List<T> result = new ArrayList<>();
+		read(row -> row.toBean(clazz), result::add);
+		return result;
+	}
+
+	/**
+	 * 读取并转换每一行<br>
+	 * mapper在工作线程中并行执行，用于将行解码为Bean或其它类型，必须线程安全；consumer在调用者线程中按照文件顺序执行。
+	 *
+	 * @param <T>      转换后的类型
+	 * @param mapper   行转换函数
+	 * @param consumer 转换结果消费者
+	 * @return 标题行字段，无标题返回{@code null}
+	 * @throws IORuntimeException IO异常
+	 */
+	public <T> List<String> read(final Function<CsvRow, ? extends T> mapper, final Consumer<? super T> consumer) throws IORuntimeException {
+		Assert.notNull(mapper, "mapper must not be null");
+		Assert.notNull(consumer, "consumer must not be null");
+		if (false == isSplittable()) {
+			return readSequential(mapper, consumer);
+		}
+
+		final List<String> header = readHeader();
+		final Map<String, Integer> headerMap = null == header ? null : CsvParser.buildHeaderMap(header, this.config);
+		final CsvReadConfig chunkConfig = ObjectUtil.cloneByStream(this.config)
+				.setHeaderLineNo(-1)
+				.setErrorOnDifferentFieldCount(false)
+				.setBeginLineNo(0)
+				.setEndLineNo(Long.MAX_VALUE - 1);
+
+		final Deque<ForkJoinTask<Chunk<T>>> window = new ArrayDeque<>();
+		final int windowSize = Math.max(2, this.pool.getParallelism() * 2);
+		final Emitter<T> emitter = new Emitter<>(this.config, consumer);
+		try (final FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+			final Scanner scanner = new Scanner(this.config);
+			final long size = channel.size();
+			final byte[] bytes = new byte[IoUtil.DEFAULT_LARGE_BUFFER_SIZE];
+			long chunkStart = 0;
+			long chunkLineNo = 0;
+			for (long windowStart = 0; windowStart < size && chunkLineNo <= this.config.endLineNo; windowStart += SCAN_WINDOW_SIZE) {
+				final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(SCAN_WINDOW_SIZE, size - windowStart));
+				long position = windowStart;
+				while (mapped.hasRemaining() && chunkLineNo <= this.config.endLineNo) {
+					final int length = Math.min(bytes.length, mapped.remaining());
+					mapped.get(bytes, 0, length);
+					for (int i = 0; i < length; i++) {
+						if (scanner.scan(bytes[i]) && position + i + 1 - chunkStart >= this.chunkSize) {
+							// 记录边界，提交此块
+							final long chunkEnd = position + i + 1;
+							final long start = chunkStart;
+							final long startLineNo = chunkLineNo;
+							submit(window, windowSize, emitter, () -> parseChunk(channel, start, chunkEnd, startLineNo, chunkConfig, headerMap, mapper));
+							chunkStart = chunkEnd;
+							chunkLineNo = scanner.lineCount;
+							if (chunkLineNo > this.config.endLineNo) {
+								break;
+							}
+						}
+					}
+					position += length;
+				}
+			}
+			if (chunkStart < size && chunkLineNo <= this.config.endLineNo) {
+				final long start = chunkStart;
+				final long startLineNo = chunkLineNo;
+				submit(window, windowSize, emitter, () -> parseChunk(channel, start, size, startLineNo, chunkConfig, headerMap, mapper));
+			}
+			while (false == window.isEmpty()) {
+				emitter.emit(window.poll().join());
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			for (final ForkJoinTask<Chunk<T>> task : window) {
+				task.cancel(true);
+			}
+		}
+		return header;
+	}
+
+	//--------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 是否可以在字节层面切分文件，需满足：
+	 * <ul>
+	 *     <li>编码中ASCII字符为单字节，且多字节字符不包含ASCII字节</li>
+	 *     <li>分隔符、包装符和注释符为ASCII字符</li>
+	 * </ul>
+	 *
+	 * @return 是否可以切分
+	 */
+	private boolean isSplittable() {
+		if (false == (StandardCharsets.UTF_8.equals(this.charset)
+				|| StandardCharsets.US_ASCII.equals(this.charset)
+				|| StandardCharsets.ISO_8859_1.equals(this.charset))) {
+			return false;
+		}
+		return this.config.fieldSeparator < 0x80 && this.config.textDelimiter < 0x80
+				&& (null == this.config.commentCharacter || this.config.commentCharacter < 0x80);
+	}
+
+	/**
+	 * 提交块解析任务，在途任务达到上限时先按顺序输出最早的块
+	 *
+	 * @param window     在途任务
+	 * @param windowSize 在途任务上限
+	 * @param emitter    结果输出器
+	 * @param task       块解析任务
+	 * @param <T>        转换后的类型
+	 */
+	private <T> void submit(final Deque<ForkJoinTask<Chunk<T>>> window, final int windowSize,
+							final Emitter<T> emitter, final Supplier<Chunk<T>> task) {
+		window.add(this.pool.submit(task::get));
+		while (window.size() >= windowSize) {
+			emitter.emit(window.poll().join());
+		}
+	}
+
+	/**
+	 * 映射并解码块内容，使用{@link CsvParser}解析，修正为文件中的行号后执行行范围过滤和转换
+	 *
+	 * @param channel     文件通道
+	 * @param start       块开始位置（包括）
+	 * @param end         块结束位置（不包括）
+	 * @param startLineNo 块第一行在文件中的行号
+	 * @param chunkConfig 块解析配置，不包含标题、行范围和字段数检查
+	 * @param headerMap   标题Map，{@code null}表示无标题
+	 * @param mapper      行转换函数
+	 * @param <T>         转换后的类型
+	 * @return 块解析结果
+	 */
+	private <T> Chunk<T> parseChunk(final FileChannel channel, final long start, final long end, final long startLineNo,
+									final CsvReadConfig chunkConfig, final Map<String, Integer> headerMap,
+									final Function<CsvRow, ? extends T> mapper) {
+		final CharBuffer chars;
+		try {
+			chars = this.charset.decode(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final CsvReadConfig config = this.config;
+		final Chunk<T> chunk = new Chunk<>();
+		final CsvParser parser = new CsvParser(new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining()), chunkConfig);
+		CsvRow row;
+		while (null != (row = parser.nextRow())) {
+			final long lineNo = startLineNo + row.getOriginalLineNumber();
+			if (lineNo < config.beginLineNo) {
+				continue;
+			}
+			if (lineNo > config.endLineNo) {
+				break;
+			}
+			if (null != headerMap && lineNo == config.headerLineNo) {
+				// 标题行已经预先读取，此处只参与字段数检查
+				chunk.addHeader(lineNo, parser.getLineFieldCount());
+				continue;
+			}
+			// 标题行之前的行没有标题信息，与CsvParser一致
+			final Map<String, Integer> rowHeaderMap = (null != headerMap && lineNo > config.headerLineNo) ? headerMap : null;
+			chunk.add(lineNo, parser.getLineFieldCount(), mapper.apply(new CsvRow(lineNo, rowHeaderMap, row.getRawList())));
+		}
+		return chunk;
+	}
+
+	/**
+	 * 顺序读取文件开头直到标题行，获取标题行字段
+	 *
+	 * @return 标题行字段，无标题行或标题行被跳过返回{@code null}
+	 */
+	private List<String> readHeader() {
+		final CsvReadConfig config = this.config;
+		final long headerLineNo = config.headerLineNo;
+		if (headerLineNo < 0 || headerLineNo < config.beginLineNo || headerLineNo > config.endLineNo) {
+			return null;
+		}
+
+		final CsvReadConfig headerConfig = ObjectUtil.cloneByStream(config)
+				.setHeaderLineNo(-1)
+				.setErrorOnDifferentFieldCount(false)
+				.setBeginLineNo(headerLineNo)
+				.setEndLineNo(headerLineNo);
+		try (final CsvParser parser = new CsvParser(FileUtil.getReader(this.path, this.charset), headerConfig)) {
+			final CsvRow row = parser.nextRow();
+			return null == row ? null : row.getRawList();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 无法切分时单线程顺序读取
+	 *
+	 * @param mapper   行转换函数
+	 * @param consumer 转换结果消费者
+	 * @param <T>      转换后的类型
+	 * @return 标题行字段，无标题返回{@code null}
+	 */
+	private <T> List<String> readSequential(final Function<CsvRow, ? extends T> mapper, final Consumer<? super T> consumer) {
+		try (final CsvParser parser = new CsvParser(FileUtil.getReader(this.path, this.charset), this.config)) {
+			CsvRow row;
+			while (null != (row = parser.nextRow())) {
+				consumer.accept(mapper.apply(row));
+			}
+			return this.config.headerLineNo > -1 ? parser.getHeader() : null;
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+	//--------------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 记录边界扫描器，逐字节模拟{@link CsvParser}的引号、注释和换行规则
+	 */
+	private static class Scanner {
+		private final int fieldSeparator;
+		private final int textDelimiter;
+		private final int commentCharacter;
+
+		private int preChar = -1;
+		private boolean inQuotes;
+		private boolean inComment;
+		/**
+		 * 已扫描的行数，规则与{@link CsvParser}的行号一致
+		 */
+		long lineCount;
+
+		Scanner(final CsvReadConfig config) {
+			this.fieldSeparator = config.fieldSeparator;
+			this.textDelimiter = config.textDelimiter;
+			this.commentCharacter = null == config.commentCharacter ? -1 : config.commentCharacter;
+		}
+
+		/**
+		 * 扫描一个字节
+		 *
+		 * @param b 字节
+		 * @return 此字节之后是否为记录边界
+		 */
+		boolean scan(final byte b) {
+			final int c = b & 0xFF;
+			final int preChar = this.preChar;
+			if ((preChar < 0 || preChar == CharUtil.CR || preChar == CharUtil.LF)
+					&& false == inQuotes && c == commentCharacter) {
+				inComment = true;
+			}
+
+			if (inComment) {
+				if (c == CharUtil.CR || c == CharUtil.LF) {
+					lineCount++;
+					inComment = false;
+				}
+			} else if (inQuotes) {
+				if (c == textDelimiter) {
+					inQuotes = false;
+				} else if ((c == CharUtil.CR || c == CharUtil.LF) && preChar != CharUtil.CR) {
+					lineCount++;
+				}
+			} else if (c == fieldSeparator) {
+				// 字段结束，无需处理
+			} else if (c == textDelimiter
+					&& (preChar < 0 || preChar == fieldSeparator || preChar == CharUtil.LF || preChar == CharUtil.CR)) {
+				inQuotes = true;
+			} else if (c == CharUtil.CR || (c == CharUtil.LF && preChar != CharUtil.CR)) {
+				lineCount++;
+			}
+
+			this.preChar = c;
+			return c == CharUtil.LF && false == inQuotes;
+		}
+	}
+
+	/**
+	 * 一个块的解析结果，除转换结果外记录每个有效行（含标题行）的行号和字段数，用于按顺序检查字段数
+	 *
+	 * @param <T> 转换后的类型
+	 */
+	private static class Chunk<T> {
+		final List<T> items = new ArrayList<>();
+		final LongArrayList lineNos = new LongArrayList();
+		final IntArrayList fieldCounts = new IntArrayList();
+		/**
+		 * 标题行在有效行中的位置，-1表示此块不包含标题行
+		 */
+		int headerIndex = -1;
+
+		void addHeader(final long lineNo, final int fieldCount) {
+			headerIndex = lineNos.size();
+			lineNos.add(lineNo);
+			fieldCounts.add(fieldCount);
+		}
+
+		void add(final long lineNo, final int fieldCount, final T item) {
+			lineNos.add(lineNo);
+			fieldCounts.add(fieldCount);
+			items.add(item);
+		}
+	}
+
+	/**
+	 * 按照文件顺序输出块结果，并检查字段数是否一致
+	 *
+	 * @param <T> 转换后的类型
+	 */
+	private static class Emitter<T> {
+		private final boolean errorOnDifferentFieldCount;
+		private final Consumer<? super T> consumer;
+		/**
+		 * 第一行字段数，用于检查每行的字段数是否一致
+		 */
+		private int firstLineFieldCount = -1;
+
+		Emitter(final CsvReadConfig config, final Consumer<? super T> consumer) {
+			this.errorOnDifferentFieldCount = config.errorOnDifferentFieldCount;
+			this.consumer = consumer;
+		}
+
+		void emit(final Chunk<T> chunk) {
+			int itemIndex = 0;
+			for (int i = 0; i < chunk.lineNos.size(); i++) {
+				if (errorOnDifferentFieldCount) {
+					final int fieldCount = chunk.fieldCounts.get(i);
+					if (firstLineFieldCount < 0) {
+						firstLineFieldCount = fieldCount;
+					} else if (fieldCount != firstLineFieldCount) {
+						throw new IORuntimeException(String.format("Line %d has %d fields, but first line has %d fields",
+								chunk.lineNos.get(i), fieldCount, firstLineFieldCount));
+					}
+				}
+				if (i != chunk.headerIndex) {
+					consumer.accept(chunk.items.get(itemIndex++));
+				}
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package cn.hutool.core.util;
 
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.AtomicSnowflake;
 import cn.hutool.core.lang.ObjectId;
 import cn.hutool.core.lang.Singleton;
 import cn.hutool.core.lang.Snowflake;
@@ -64,6 +65,22 @@ public class IdUtil {
 		return UUID.fastUUID().toString(true);
 	}
 
+	/**
+	 * 批量获取简化的UUID，去掉了横线，使用性能更好的ThreadLocalRandom生成UUID
+	 *
+	 * @param count 个数
+	 * @return 简化的UUID数组
+	 * @since 5.8.34
+	 */
+	public static String[] fastSimpleUUIDs(int count) {
+		Assert.isTrue(count > 0, "Count must be greater than 0!");
+		final String[] ids = new String[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = UUID.fastUUID().toString(true);
+		}
+		return ids;
+	}
+
 	/**
 	 * 创建MongoDB ID生成策略实现<br>
 	 * ObjectId由以下几部分组成：
@@ -83,6 +100,17 @@ public class IdUtil {
 		return ObjectId.next();
 	}
 
+	/**
+	 * 批量创建MongoDB ID，一次性预留自增计数器
+	 *
+	 * @param count 个数
+	 * @return ObjectId数组
+	 * @since 5.8.34
+	 */
+	public static String[] objectIds(int count) {
+		return ObjectId.next(count, false);
+	}
+
 	/**
 	 * 创建Twitter的Snowflake 算法生成器。
 	 * <p>
@@ -192,6 +220,30 @@ public class IdUtil {
 		return Singleton.get(Snowflake.class);
 	}
 
+	/**
+	 * 获取单例的无锁Snowflake 算法生成器对象，ID结构与{@link Snowflake}一致，使用CAS代替锁，适用于高并发场景<br>
+	 * 注意：不能和相同终端ID、数据中心ID的{@link #getSnowflake(long, long)}混用，否则ID会重复
+	 *
+	 * @param workerId     终端ID
+	 * @param datacenterId 数据中心ID
+	 * @return {@link AtomicSnowflake}
+	 * @since 5.8.34
+	 */
+	public static AtomicSnowflake getAtomicSnowflake(long workerId, long datacenterId) {
+		return Singleton.get(AtomicSnowflake.class, workerId, datacenterId);
+	}
+
+	/**
+	 * 获取单例的无锁Snowflake 算法生成器对象，终端ID 数据中心ID 默认为PID和MAC地址生成<br>
+	 * 注意：不能和{@link #getSnowflake()}混用，否则ID会重复
+	 *
+	 * @return {@link AtomicSnowflake}
+	 * @since 5.8.34
+	 */
+	public static AtomicSnowflake getAtomicSnowflake() {
+		return Singleton.get(AtomicSnowflake.class);
+	}
+
 	/**
 	 * 获取数据中心ID<br>
 	 * 数据中心ID依赖于本地网卡MAC地址。
@@ -274,6 +326,17 @@ public class IdUtil {
 		return NanoId.randomNanoId(size);
 	}
 
+	/**
+	 * 批量获取随机NanoId，长度为默认的21
+	 *
+	 * @param count 个数
+	 * @return 随机NanoId数组
+	 * @since 5.8.34
+	 */
+	public static String[] nanoIds(int count) {
+		return NanoId.randomNanoIds(count);
+	}
+
 	/**
 	 * 简单获取Snowflake 的 nextId
 	 * 终端ID 数据中心ID 默认为PID和MAC地址生成
@@ -296,4 +359,16 @@ public class IdUtil {
 		return getSnowflake().nextIdStr();
 	}
 
+	/**
+	 * 简单批量获取Snowflake 的 nextId，一次加锁生成全部ID
+	 * 终端ID 数据中心ID 默认为PID和MAC地址生成
+	 *
+	 * @param count ID个数
+	 * @return ID数组
+	 * @since 5.8.34
+	 */
+	public static long[] getSnowflakeNextIds(int count) {
+		return getSnowflake().nextIds(count);
+	}
+
 }
@@ -9,6 +9,7 @@ import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.Filter;
+import cn.hutool.core.lang.reflect.LambdaFactory;
 import cn.hutool.core.lang.reflect.MethodHandleUtil;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.map.WeakConcurrentMap;
@@ -858,7 +859,9 @@ public class ReflectUtil {
 				throw new UtilException("No constructor for [{}]", clazz);
 			}
 			try {
-				return constructor.newInstance();
+				return LambdaFactory.buildConstructor(constructor).get();
+			} catch (UtilException e) {
+				throw e;
 			} catch (Exception e) {
 				throw new UtilException(e, "Instance class [{}] error!", clazz);
 			}
@@ -3,6 +3,7 @@ package cn.hutool.core.util;
 import cn.hutool.core.collection.EnumerationIter;
 import cn.hutool.core.compress.Deflate;
 import cn.hutool.core.compress.Gzip;
+import cn.hutool.core.compress.ParallelZipWriter;
 import cn.hutool.core.compress.ZipCopyVisitor;
 import cn.hutool.core.compress.ZipReader;
 import cn.hutool.core.compress.ZipWriter;
@@ -33,6 +34,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -284,6 +286,40 @@ public class ZipUtil {
 		ZipWriter.of(out, charset).add(withSrcDir, filter, srcFiles).close();
 	}
 
+	/**
+	 * 对文件或文件目录进行并行压缩，每个文件在{@link ForkJoinPool#commonPool()}中独立压缩后按顺序写出，见{@link ParallelZipWriter}
+	 *
+	 * @param zipFile    生成的Zip文件，包括文件名。注意：zipPath不能是srcPath路径下的子文件夹
+	 * @param charset    编码
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩）
+	 * @param srcFiles   要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return 压缩文件
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public static File zipParallel(File zipFile, Charset charset, boolean withSrcDir, FileFilter filter, File... srcFiles) throws IORuntimeException {
+		validateFiles(zipFile, srcFiles);
+		//noinspection resource
+		ParallelZipWriter.of(zipFile, charset).add(withSrcDir, filter, srcFiles).close();
+		return zipFile;
+	}
+
+	/**
+	 * 对文件或文件目录进行并行压缩，每个文件在{@link ForkJoinPool#commonPool()}中独立压缩后按顺序写出，见{@link ParallelZipWriter}
+	 *
+	 * @param out        生成的Zip到的目标流
+	 * @param charset    编码
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩）
+	 * @param srcFiles   要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public static void zipParallel(OutputStream out, Charset charset, boolean withSrcDir, FileFilter filter, File... srcFiles) throws IORuntimeException {
+		ParallelZipWriter.of(out, charset).add(withSrcDir, filter, srcFiles).close();
+	}
+
 	/**
 	 * 对文件或文件目录进行压缩
 	 *
@@ -542,6 +578,27 @@ public class ZipUtil {
 		return unzip(toZipFile(zipFile, charset), outFile);
 	}
 
+	/**
+	 * 并行解压，文件通过{@link ZipFile}随机读取，在{@link ForkJoinPool#commonPool()}中同时解压写出
+	 *
+	 * @param zipFile zip文件
+	 * @param outFile 解压到的目录
+	 * @param charset 编码
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.34
+	 */
+	public static File unzipParallel(File zipFile, File outFile, Charset charset) throws IORuntimeException {
+		if (outFile.exists() && outFile.isFile()) {
+			throw new IllegalArgumentException(
+					StrUtil.format("Target path [{}] exist!", outFile.getAbsolutePath()));
+		}
+		try (final ZipReader reader = new ZipReader(toZipFile(zipFile, charset))) {
+			reader.readToParallel(outFile);
+		}
+		return outFile;
+	}
+
 	/**
 	 * 解压
 	 *
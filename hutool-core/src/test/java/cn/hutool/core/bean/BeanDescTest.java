@@ -1,9 +1,13 @@
 package cn.hutool.core.bean;
 
-import static org.junit.jupiter.api.Assertions.*;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * {@link BeanDesc} 单元测试类
  *
@@ -67,6 +71,52 @@ public class BeanDescTest {
 		assertEquals("张三", value);
 	}
 
+	@Test
+	public void getSetConvertTest() {
+		final BeanDesc desc = BeanUtil.getBeanDesc(User.class);
+		final User user = new User();
+
+		// 链式Setter，参数需要转换
+		desc.getProp("age").setValue(user, "18");
+		assertEquals(18, user.getAge());
+		// 原始类型注入null为默认值
+		desc.getProp("age").setValue(user, null);
+		assertEquals(0, user.getAge());
+		desc.getProp("age").setValue(user, 20);
+		assertEquals(20, desc.getProp("age").getValue(user));
+	}
+
+	@Test
+	public void invokeExceptionTest() {
+		final BeanDesc desc = BeanUtil.getBeanDesc(ErrorBean.class);
+		final ErrorBean bean = new ErrorBean();
+
+		// 异常链与反射调用一致：InvocationTargetRuntimeException -> InvocationTargetException -> 方法抛出的异常
+		InvocationTargetRuntimeException e = assertThrows(InvocationTargetRuntimeException.class,
+				() -> desc.getProp("value").getValue(bean));
+		assertInstanceOf(InvocationTargetException.class, e.getCause());
+		assertEquals("get error", ((InvocationTargetException) e.getCause()).getTargetException().getMessage());
+
+		e = assertThrows(InvocationTargetRuntimeException.class, () -> desc.getProp("value").setValue(bean, "a"));
+		assertInstanceOf(InvocationTargetException.class, e.getCause());
+		assertEquals("set error", ((InvocationTargetException) e.getCause()).getTargetException().getMessage());
+	}
+
+	@Test
+	public void publicFieldTest() {
+		final BeanDesc desc = BeanUtil.getBeanDesc(FieldBean.class);
+		final FieldBean bean = new FieldBean();
+
+		desc.getProp("count").setValue(bean, 3);
+		assertEquals(3, bean.count);
+		assertEquals(3, desc.getProp("count").getValue(bean));
+		// 类型不匹配时转换，原始类型注入null为默认值
+		desc.getProp("count").setValue(bean, "5");
+		assertEquals(5, bean.count);
+		desc.getProp("count").setValue(bean, null);
+		assertEquals(0, bean.count);
+	}
+
 	@Test
 	@Disabled
 	public void propDescOfBooleanTest3() {
@@ -151,4 +201,20 @@ public class BeanDescTest {
 			return "User [name=" + name + ", age=" + age + ", isAdmin=" + isAdmin + ", gender=" + gender + "]";
 		}
 	}
+
+	public static class ErrorBean {
+		private String value;
+
+		public String getValue() {
+			throw new IllegalStateException("get error");
+		}
+
+		public void setValue(final String value) {
+			throw new IllegalStateException("set error");
+		}
+	}
+
+	public static class FieldBean {
+		public int count;
+	}
 }
@@ -0,0 +1,207 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanException;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.BeanDescCache;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Converter;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.reflect.LambdaFactory;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ReflectUtil;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link CompiledBeanCopier}单元测试
+ *
+ * @author looly
+ */
+public class CompiledBeanCopierTest {
+
+	@Test
+	public void copyTest() {
+		final Source source = new Source();
+		source.setId(1);
+		source.setName("张三");
+		source.setAge("18");
+		source.setScore(null);
+		source.setTags(ListUtil.of(1, 2));
+
+		final Target target = BeanUtil.copyProperties(source, Target.class);
+		assertEquals(1, target.getId());
+		assertEquals("张三", target.getName());
+		// 类型不同需转换
+		assertEquals(18, target.getAge());
+		// 原始类型注入null为默认值
+		assertEquals(0, target.getScore());
+		// 集合按照泛型转换
+		assertEquals(ListUtil.of("1", "2"), target.getTags());
+
+		// 缓存的拷贝器多次使用结果一致
+		source.setName("李四");
+		final Target target2 = BeanUtil.copyProperties(source, Target.class);
+		assertEquals("李四", target2.getName());
+		assertSame(CompiledBeanCopier.of(Source.class, Target.class, Target.class, CopyOptions.create()),
+				CompiledBeanCopier.of(Source.class, Target.class, Target.class, CopyOptions.create()));
+	}
+
+	@Test
+	public void copyOptionsTest() {
+		final Source source = new Source();
+		source.setId(1);
+		source.setName("张三");
+		source.setAge("18");
+
+		final Target target = new Target();
+		target.setName("原值");
+		BeanUtil.copyProperties(source, target, CopyOptions.create().setIgnoreProperties("id").ignoreNullValue()
+				.setFieldValueEditor((name, value) -> "age".equals(name) ? 20 : value));
+		assertEquals(0, target.getId());
+		assertEquals("张三", target.getName());
+		assertEquals(20, target.getAge());
+
+		// 忽略的属性不同，使用不同的拷贝器
+		final Target target2 = new Target();
+		BeanUtil.copyProperties(source, target2, CopyOptions.create().setIgnoreProperties("name"));
+		assertEquals(1, target2.getId());
+		assertNull(target2.getName());
+
+		// 字段映射
+		final Target target3 = new Target();
+		BeanUtil.copyProperties(source, target3, CopyOptions.create().setFieldMapping(ListUtil.of("name").stream()
+				.collect(java.util.stream.Collectors.toMap(k -> k, k -> "nickName"))));
+		assertEquals("张三", target3.getNickName());
+		assertNull(target3.getName());
+	}
+
+	@Test
+	public void setterErrorTest() {
+		final Source source = new Source();
+		source.setName("error");
+		assertThrows(BeanException.class, () -> BeanUtil.copyProperties(source, new ErrorTarget(), CopyOptions.create()));
+		// 忽略错误
+		BeanUtil.copyProperties(source, new ErrorTarget(), CopyOptions.create().ignoreError());
+	}
+
+	@Test
+	public void primitiveCustomConverterTest() {
+		final ConverterRegistry registry = ConverterRegistry.getInstance();
+		registry.putCustom(int.class, (Converter<Integer>) (value, defaultValue) -> 100);
+		try {
+			final Source source = new Source();
+			source.setId(1);
+			// 注册在原始类型上的自定义转换器不能被跳过
+			assertEquals(100, BeanUtil.copyProperties(source, Target.class).getId());
+		} finally {
+			((Map<?, ?>) ReflectUtil.getFieldValue(registry, "customConverterMap")).remove(int.class);
+			ReflectUtil.setFieldValue(registry, "dispatchCache", new WeakConcurrentMap<>());
+			ReflectUtil.setFieldValue(registry, "customFirstDispatchCache", new WeakConcurrentMap<>());
+		}
+	}
+
+	@Test
+	public void cacheNotPinClassTest() throws Exception {
+		final WeakReference<ClassLoader> loaderRef = copyInIsolatedLoader();
+
+		// 以下缓存的值同样引用了类，清空后只剩下拷贝器缓存
+		BeanDescCache.INSTANCE.clear();
+		for (final String name : new String[]{"CONSTRUCTORS_CACHE", "FIELDS_CACHE", "METHODS_CACHE"}) {
+			((Map<?, ?>) ReflectUtil.getStaticFieldValue(ReflectUtil.getField(ReflectUtil.class, name))).clear();
+		}
+		LambdaFactory.clearCache();
+
+		for (int i = 0; i < 20 && null != loaderRef.get(); i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertNull(loaderRef.get());
+	}
+
+	/**
+	 * 在独立的类加载器中加载{@link Source}和{@link Target}并拷贝，返回类加载器的弱引用
+	 *
+	 * @return 类加载器的弱引用
+	 */
+	private static WeakReference<ClassLoader> copyInIsolatedLoader() throws Exception {
+		final ClassLoader loader = new IsolatedClassLoader(Source.class.getName(), Target.class.getName());
+		final Class<?> sourceClass = loader.loadClass(Source.class.getName());
+		final Class<?> targetClass = loader.loadClass(Target.class.getName());
+		assertNotSame(Source.class, sourceClass);
+
+		final Object source = sourceClass.newInstance();
+		ReflectUtil.invoke(source, "setName", "张三");
+		final Object target = BeanUtil.copyProperties(source, targetClass);
+		assertEquals("张三", ReflectUtil.invoke(target, "getName"));
+		return new WeakReference<>(loader);
+	}
+
+	/**
+	 * 从当前类路径重新定义指定类的类加载器
+	 */
+	private static class IsolatedClassLoader extends ClassLoader {
+		private final Set<String> names;
+
+		IsolatedClassLoader(final String... names) {
+			super(CompiledBeanCopierTest.class.getClassLoader());
+			this.names = CollUtil.newHashSet(names);
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (false == names.contains(name)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> clazz = findLoadedClass(name);
+				if (null == clazz) {
+					final byte[] bytes = IoUtil.readBytes(getParent().getResourceAsStream(name.replace('.', '/') + ".class"));
+					clazz = defineClass(name, bytes, 0, bytes.length);
+				}
+				return clazz;
+			}
+		}
+	}
+
+	@Data
+	public static class Source {
+		private int id;
+		private String name;
+		private String age;
+		private Integer score;
+		private List<Integer> tags;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	public static class Target {
+		private int id;
+		private String name;
+		private String nickName;
+		private int age;
+		private int score;
+		private List<String> tags;
+	}
+
+	public static class ErrorTarget {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			throw new IllegalArgumentException(name);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package cn.hutool.core.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link IntArrayList}和{@link LongArrayList}单元测试
+ *
+ * @author looly
+ */
+public class IntArrayListTest {
+
+	@Test
+	public void intListTest() {
+		final IntArrayList list = new IntArrayList();
+		assertTrue(list.isEmpty());
+		for (int i = 0; i < 100; i++) {
+			list.add(i);
+		}
+		assertEquals(100, list.size());
+		assertEquals(50, list.get(50));
+		assertEquals(50, list.set(50, -1));
+		assertEquals(50, list.indexOf(-1));
+		assertTrue(list.contains(99));
+		assertFalse(list.contains(100));
+
+		assertEquals(0, list.removeAt(0));
+		assertEquals(99, list.size());
+		assertEquals(1, list.get(0));
+		list.add(0, 100);
+		assertEquals(100, list.get(0));
+		assertEquals(4950 - 50 - 1 + 100, list.stream().sum());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.add(102, 1));
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		assertEquals("[]", list.toString());
+	}
+
+	@Test
+	public void ofTest() {
+		final IntArrayList list = IntArrayList.of(3, 1, 2);
+		assertEquals("[3, 1, 2]", list.toString());
+		assertArrayEquals(new int[]{1, 2, 3}, list.sort().toArray());
+		assertEquals(IntArrayList.of(1, 2, 3), list);
+		assertEquals(IntArrayList.of(1, 2, 3).hashCode(), list.hashCode());
+		list.trimToSize();
+		assertEquals(3, list.size());
+
+		final StringBuilder builder = new StringBuilder();
+		list.forEach(builder::append);
+		assertEquals("123", builder.toString());
+	}
+
+	@Test
+	public void longListTest() {
+		final LongArrayList list = LongArrayList.of(Long.MAX_VALUE, 0L);
+		list.addAll(1L, 2L);
+		assertEquals(4, list.size());
+		assertEquals(Long.MAX_VALUE, list.get(0));
+		assertArrayEquals(new long[]{0L, 1L, 2L, Long.MAX_VALUE}, list.sort().toArray());
+		assertEquals(Long.MAX_VALUE, list.removeAt(3));
+		assertEquals(3L, list.stream().sum());
+	}
+}
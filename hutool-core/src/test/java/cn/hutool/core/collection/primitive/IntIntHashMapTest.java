@@ -0,0 +1,72 @@
+package cn.hutool.core.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link IntIntHashMap}单元测试
+ *
+ * @author looly
+ */
+public class IntIntHashMapTest {
+
+	@Test
+	public void putAndGetTest() {
+		final IntIntHashMap map = new IntIntHashMap(2);
+		assertEquals(0, map.put(1, 10));
+		assertEquals(10, map.put(1, 11));
+		assertEquals(0, map.put(0, 5));
+		assertEquals(11, map.get(1));
+		assertEquals(5, map.get(0));
+		assertEquals(-1, map.getOrDefault(2, -1));
+		assertTrue(map.containsKey(0));
+		assertFalse(map.containsKey(2));
+		assertEquals(2, map.size());
+
+		assertEquals(12, map.addTo(1, 1));
+		assertEquals(3, map.addTo(-7, 3));
+		assertEquals(3, map.size());
+
+		assertEquals(5, map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(12, map.remove(1));
+		assertEquals(1, map.size());
+		assertArrayEquals(new int[]{-7}, map.keys());
+		assertEquals("{-7=3}", map.toString());
+
+		map.clear();
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	public void sameAsHashMapTest() {
+		final IntIntHashMap map = new IntIntHashMap();
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final Random random = new Random(1);
+		for (int i = 0; i < 100000; i++) {
+			// 小范围的key制造更多冲突和删除
+			final int key = random.nextInt(2000) - 1000;
+			switch (random.nextInt(3)) {
+				case 0:
+					assertEquals(expected.getOrDefault(key, 0), map.put(key, i));
+					expected.put(key, i);
+					break;
+				case 1:
+					assertEquals(expected.getOrDefault(key, 0) + 1, map.addTo(key, 1));
+					expected.merge(key, 1, Integer::sum);
+					break;
+				default:
+					final Integer old = expected.remove(key);
+					assertEquals(null == old ? 0 : old, map.remove(key));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		expected.forEach((key, value) -> assertEquals(value.intValue(), map.get(key)));
+		map.forEach((key, value) -> assertEquals(expected.get(key).intValue(), value));
+	}
+}
@@ -0,0 +1,42 @@
+package cn.hutool.core.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link LongHashSet}单元测试
+ *
+ * @author looly
+ */
+public class LongHashSetTest {
+
+	@Test
+	public void addAndRemoveTest() {
+		final LongHashSet set = LongHashSet.of(3L, 0L, -1L, 3L);
+		assertEquals(3, set.size());
+		assertTrue(set.contains(0L));
+		assertFalse(set.add(-1L));
+		assertTrue(set.remove(0L));
+		assertFalse(set.remove(0L));
+		assertEquals("[-1, 3]", set.toString());
+
+		final Set<Long> expected = new HashSet<>();
+		final LongHashSet random = new LongHashSet();
+		final Random rnd = new Random(3);
+		for (int i = 0; i < 100000; i++) {
+			final long value = rnd.nextInt(5000);
+			if (rnd.nextInt(3) > 0) {
+				assertEquals(expected.add(value), random.add(value));
+			} else {
+				assertEquals(expected.remove(value), random.remove(value));
+			}
+		}
+		assertEquals(expected.size(), random.size());
+		random.forEach(value -> assertTrue(expected.contains(value)));
+	}
+}
@@ -0,0 +1,69 @@
+package cn.hutool.core.collection.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link LongObjectHashMap}和{@link CharObjectHashMap}单元测试
+ *
+ * @author looly
+ */
+public class LongObjectHashMapTest {
+
+	@Test
+	public void putAndGetTest() {
+		final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+		assertNull(map.put(Long.MIN_VALUE, "min"));
+		assertNull(map.put(0L, "zero"));
+		assertEquals("min", map.put(Long.MIN_VALUE, "min2"));
+		assertEquals("min2", map.get(Long.MIN_VALUE));
+		assertEquals("zero", map.get(0L));
+		assertEquals("none", map.getOrDefault(1L, "none"));
+		assertEquals(2, map.size());
+		assertEquals("one", map.computeIfAbsent(1L, key -> "one"));
+		assertEquals("one", map.computeIfAbsent(1L, key -> "other"));
+		assertEquals(3, map.values().size());
+
+		assertThrows(NullPointerException.class, () -> map.put(2L, null));
+		assertEquals("zero", map.remove(0L));
+		assertNull(map.remove(0L));
+		assertEquals(2, map.keys().length);
+	}
+
+	@Test
+	public void sameAsHashMapTest() {
+		final LongObjectHashMap<Long> map = new LongObjectHashMap<>(0);
+		final Map<Long, Long> expected = new HashMap<>();
+		final Random random = new Random(2);
+		for (int i = 0; i < 100000; i++) {
+			final long key = (random.nextInt(2000) - 1000) * 1024L;
+			if (random.nextBoolean()) {
+				assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+			} else {
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		map.forEach((key, value) -> assertEquals(expected.get(key), value));
+	}
+
+	@Test
+	public void charMapTest() {
+		final CharObjectHashMap<Integer> map = new CharObjectHashMap<>();
+		final String text = "hutool工具类库，hutool";
+		for (int i = 0; i < text.length(); i++) {
+			map.computeIfAbsent(text.charAt(i), key -> 0);
+			map.put(text.charAt(i), map.get(text.charAt(i)) + 1);
+		}
+		assertEquals(2, map.get('h').intValue());
+		assertEquals(4, map.get('o').intValue());
+		assertEquals(1, map.get('具').intValue());
+		assertNull(map.get('x'));
+		assertEquals(10, map.size());
+	}
+}
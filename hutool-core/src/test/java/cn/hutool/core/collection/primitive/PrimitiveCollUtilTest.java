@@ -0,0 +1,31 @@
+package cn.hutool.core.collection.primitive;
+
+import cn.hutool.core.collection.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PrimitiveCollUtil}单元测试
+ *
+ * @author looly
+ */
+public class PrimitiveCollUtilTest {
+
+	@Test
+	public void convertTest() {
+		assertEquals(IntArrayList.of(1, 2), PrimitiveCollUtil.toIntList(ListUtil.of(1, null, 2L)));
+		assertEquals(LongArrayList.of(1L, 2L), PrimitiveCollUtil.toLongList(ListUtil.of(1, 2.5D)));
+		assertEquals(2, PrimitiveCollUtil.toLongSet(ListUtil.of(1, 1L, 2)).size());
+	}
+
+	@Test
+	public void countAndDistinctTest() {
+		final IntIntHashMap countMap = PrimitiveCollUtil.countMap(1, 2, 2, 0, 2);
+		assertEquals(3, countMap.get(2));
+		assertEquals(1, countMap.get(0));
+		assertEquals(0, countMap.get(5));
+
+		assertArrayEquals(new long[]{3L, 1L, 0L}, PrimitiveCollUtil.distinct(3L, 1L, 3L, 0L, 1L));
+	}
+}
@@ -0,0 +1,147 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ParallelZipWriter}及并行解压、并行gzip单元测试
+ *
+ * @author looly
+ */
+public class ParallelZipWriterTest {
+
+	@Test
+	public void zipParallelTest() throws Exception {
+		final File root = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "parallelZip" + RandomUtil.randomString(6)));
+		try {
+			final File src = FileUtil.mkdir(FileUtil.file(root, "src"));
+			for (int i = 0; i < 50; i++) {
+				FileUtil.writeUtf8String("内容" + i + RandomUtil.randomString(i * 100), FileUtil.file(src, "dir" + (i % 5), "file" + i + ".txt"));
+			}
+			FileUtil.writeBytes(RandomUtil.randomBytes(300 * 1024), FileUtil.file(src, "random.bin"));
+			FileUtil.mkdir(FileUtil.file(src, "empty"));
+
+			final File serialZip = ZipUtil.zip(FileUtil.file(root, "serial.zip"), CharsetUtil.CHARSET_UTF_8, true, (FileFilter) null, src);
+			final File parallelZip = ZipUtil.zipParallel(FileUtil.file(root, "parallel.zip"), CharsetUtil.CHARSET_UTF_8, true, (FileFilter) null, src);
+
+			// 条目顺序和内容与顺序压缩一致
+			try (final ZipFile serial = new ZipFile(serialZip, CharsetUtil.CHARSET_UTF_8);
+				 final ZipFile parallel = new ZipFile(parallelZip, CharsetUtil.CHARSET_UTF_8)) {
+				final List<String> names = CollUtil.map(Collections.list(parallel.entries()), ZipEntry::getName, true);
+				final List<String> expectedNames = CollUtil.map(Collections.list(serial.entries()), ZipEntry::getName, true);
+				assertEquals(expectedNames, names);
+				assertTrue(names.contains("src/empty/"));
+
+				for (final String name : names) {
+					final ZipEntry entry = parallel.getEntry(name);
+					if (false == entry.isDirectory()) {
+						assertArrayEquals(IoUtil.readBytes(serial.getInputStream(serial.getEntry(name))),
+								IoUtil.readBytes(parallel.getInputStream(entry)), name);
+					}
+				}
+			}
+
+			// 并行解压和流式解压
+			final File parallelOut = ZipUtil.unzipParallel(parallelZip, FileUtil.file(root, "parallelOut"), CharsetUtil.CHARSET_UTF_8);
+			final File streamOut = ZipUtil.unzip(FileUtil.getInputStream(parallelZip), FileUtil.file(root, "streamOut"), CharsetUtil.CHARSET_UTF_8);
+			for (final File out : new File[]{parallelOut, streamOut}) {
+				assertTrue(FileUtil.isDirectory(FileUtil.file(out, "src", "empty")));
+				assertArrayEquals(FileUtil.readBytes(FileUtil.file(src, "random.bin")), FileUtil.readBytes(FileUtil.file(out, "src", "random.bin")));
+				assertEquals(FileUtil.readUtf8String(FileUtil.file(src, "dir3", "file13.txt")),
+						FileUtil.readUtf8String(FileUtil.file(out, "src", "dir3", "file13.txt")));
+			}
+		} finally {
+			FileUtil.del(root);
+		}
+	}
+
+	@Test
+	public void addStreamTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final ForkJoinPool pool = new ForkJoinPool(2);
+		final ParallelZipWriter writer = ParallelZipWriter.of(out, CharsetUtil.CHARSET_UTF_8)
+				.setPool(pool).setLevel(9).setComment("注释");
+		for (int i = 0; i < 20; i++) {
+			writer.add("中文/" + i + ".txt", new ByteArrayInputStream(StrUtil.utf8Bytes(StrUtil.repeat('a', i))));
+		}
+		assertThrows(IORuntimeException.class, () -> writer.add("中文/0.txt", new ByteArrayInputStream(new byte[0])));
+		writer.close();
+		pool.shutdown();
+
+		final List<String> contents = new ArrayList<>();
+		ZipUtil.read(new ZipInputStream(new ByteArrayInputStream(out.toByteArray()), CharsetUtil.CHARSET_UTF_8),
+				entry -> contents.add(entry.getName()));
+		assertEquals(20, contents.size());
+		assertEquals("中文/19.txt", contents.get(19));
+		assertArrayEquals(StrUtil.utf8Bytes(StrUtil.repeat('a', 7)),
+				ZipUtil.unzipFileBytes(writeTemp(out.toByteArray()), CharsetUtil.CHARSET_UTF_8, "中文/7.txt"));
+	}
+
+	@Test
+	public void pendingBytesTest() {
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			final ParallelZipWriter writer = ParallelZipWriter.of(out, CharsetUtil.CHARSET_UTF_8)
+					.setPool(pool).setLevel(0).setMaxPendingBytes(1024 * 1024);
+			// 不可压缩的数据超过单个文件的直接内存上限，映射到临时文件
+			final List<byte[]> dataList = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				final byte[] data = RandomUtil.randomBytes(3 * 1024 * 1024 + i);
+				dataList.add(data);
+				writer.add("big" + i + ".bin", new ByteArrayInputStream(data));
+				assertTrue(((AtomicLong) ReflectUtil.getFieldValue(writer, "pendingBytes")).get() < 20 * 1024 * 1024);
+			}
+			writer.close();
+			assertEquals(0, ((AtomicLong) ReflectUtil.getFieldValue(writer, "pendingBytes")).get());
+
+			final File zip = writeTemp(out.toByteArray());
+			for (int i = 0; i < dataList.size(); i++) {
+				assertArrayEquals(dataList.get(i), ZipUtil.unzipFileBytes(zip, CharsetUtil.CHARSET_UTF_8, "big" + i + ".bin"));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void gzipParallelTest() {
+		final ForkJoinPool pool = new ForkJoinPool(3);
+		for (final int length : new int[]{0, 10, 1000, 3000, 3500}) {
+			final byte[] data = StrUtil.utf8Bytes(RandomUtil.randomString("abc", length));
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Gzip.of(new ByteArrayInputStream(data), out).gzipParallel(pool, 1000).close();
+			assertArrayEquals(data, ZipUtil.unGzip(out.toByteArray()), "length: " + length);
+		}
+		pool.shutdown();
+	}
+
+	private static File writeTemp(byte[] bytes) {
+		final File file = FileUtil.createTempFile("parallel", ".zip", true);
+		file.deleteOnExit();
+		return FileUtil.writeBytes(bytes, file);
+	}
+}
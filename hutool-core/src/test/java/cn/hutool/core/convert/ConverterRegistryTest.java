@@ -1,8 +1,18 @@
 package cn.hutool.core.convert;
 
-import static org.junit.jupiter.api.Assertions.*;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.lang.TypeReference;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.ReflectUtil;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * ConverterRegistry 单元测试
  * @author Looly
@@ -31,6 +41,74 @@ public class ConverterRegistryTest {
 		assertEquals("Custom: 454553", result);
 	}
 
+	@Test
+	public void dispatchCacheTest() {
+		final ConverterRegistry converterRegistry = new ConverterRegistry();
+
+		// 已经是目标类型，直接返回
+		final String str = "dispatch";
+		assertSame(str, converterRegistry.convert(String.class, str));
+		assertSame(str, converterRegistry.convert(CharSequence.class, str));
+		final StringBuilder builder = new StringBuilder("builder");
+		assertSame(builder, converterRegistry.convert(Appendable.class, builder));
+
+		// 数字转原始类型
+		assertEquals(12L, (long) converterRegistry.convert(long.class, 12));
+		assertEquals(0.1D, (double) converterRegistry.convert(double.class, 0.1F));
+		assertEquals(3, (int) converterRegistry.convert(int.class, 3.9D));
+		assertEquals(1, (int) converterRegistry.convert(int.class, "1"));
+
+		// 缓存后结果一致
+		for (int i = 0; i < 3; i++) {
+			assertEquals("12", converterRegistry.convert(String.class, 12));
+			assertEquals(12, (int) converterRegistry.convert(Integer.class, "12"));
+		}
+
+		// 登记自定义转换器后缓存失效
+		converterRegistry.putCustom(CharSequence.class, new CustomConverter());
+		assertEquals("Custom: dispatch", converterRegistry.convert(CharSequence.class, str));
+		assertSame(str, converterRegistry.convert(CharSequence.class, str, null, false));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void dispatchCacheNotReferenceKeyTest() throws IllegalAccessException {
+		final ConverterRegistry converterRegistry = new ConverterRegistry();
+		final Type listType = new TypeReference<List<Integer>>() {}.getType();
+		assertEquals(ListUtil.of(1, 2), converterRegistry.convert(listType, new String[]{"1", "2"}));
+		final CustomBean bean = converterRegistry.convert(CustomBean.class, MapUtil.of("name", "a"));
+		assertEquals("a", bean.getName());
+		final int[] ints = converterRegistry.convert(int[].class, "1");
+		assertArrayEquals(new int[]{1}, ints);
+		assertEquals(3, (int) converterRegistry.convert(int.class, 3L));
+
+		// 缓存的键为弱引用，值不能引用键，否则键无法回收
+		final Map<Type, Map<Class<?>, Object>> cache = (Map<Type, Map<Class<?>, Object>>) ReflectUtil.getFieldValue(converterRegistry, "customFirstDispatchCache");
+		assertEquals(4, cache.size());
+		for (final Map.Entry<Type, Map<Class<?>, Object>> entry : cache.entrySet()) {
+			for (final Map.Entry<Class<?>, Object> dispatcher : entry.getValue().entrySet()) {
+				for (final Field field : dispatcher.getValue().getClass().getDeclaredFields()) {
+					field.setAccessible(true);
+					final Object captured = field.get(dispatcher.getValue());
+					assertNotSame(entry.getKey(), captured);
+					assertNotSame(dispatcher.getKey(), captured);
+				}
+			}
+		}
+	}
+
+	public static class CustomBean {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+	}
+
 	public static class CustomConverter implements Converter<CharSequence>{
 		@Override
 		public CharSequence convert(Object value, CharSequence defaultValue) throws IllegalArgumentException {
@@ -0,0 +1,80 @@
+package cn.hutool.core.date;
+
+import cn.hutool.core.date.format.FastDateFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link DateLexer}单元测试
+ *
+ * @author looly
+ */
+public class DateLexerTest {
+
+	@Test
+	public void parsePureTest() {
+		assertParse(DatePattern.PURE_DATE_FORMAT, "20240105", "20240105");
+		assertParse(DatePattern.PURE_DATETIME_FORMAT, "20240105103015", "20240105103015");
+		assertParse(DatePattern.PURE_DATETIME_MS_FORMAT, "20240105103015123", "20240105103015123");
+		assertParse(DatePattern.PURE_TIME_FORMAT, "103015", "103015");
+		assertEquals(1704421815123L, DateLexer.parse("1704421815123").getTime());
+	}
+
+	@Test
+	public void parseNormTest() {
+		assertParse(DatePattern.NORM_DATE_FORMAT, "2024-01-05", "2024/1/5", "2024.01.05", "2024年1月5日", "2024-01-05日");
+		assertParse(DatePattern.NORM_DATETIME_MINUTE_FORMAT, "2024-01-05 10:30", "2024-01-05 10:30", "2024-1-5  10:30:", "2024年01月05日 10时30分");
+		assertParse(DatePattern.NORM_DATETIME_FORMAT, "2024-01-05 10:30:15", "2024-01-05 10:30:15", "2024年01月05日 10时30分15秒");
+		// 毫秒超出3位截断
+		assertParse(DatePattern.NORM_DATETIME_MS_FORMAT, "2024-01-05 10:30:15.123", "2024-01-05 10:30:15.123", "2024-01-05 10:30:15,123456");
+		// 宽松模式
+		assertParse(DatePattern.NORM_DATETIME_FORMAT, "2024-03-02 01:00:00", "2024-02-30 25:00:00");
+
+		final DateTime time = DateLexer.parse("10时30分15秒");
+		assertNotNull(time);
+		assertEquals(DateUtil.today() + " 10:30:15", time.toString());
+	}
+
+	@Test
+	public void parseIsoTest() {
+		assertParse(DatePattern.UTC_FORMAT, "2018-09-13T05:34:31Z", "2018-09-13T05:34:31Z");
+		assertParse(DatePattern.UTC_MS_FORMAT, "2018-09-13T05:34:31.009Z", "2018-09-13T05:34:31.9Z");
+		assertParse(DatePattern.UTC_SIMPLE_FORMAT, "2018-09-13T05:34:00", "2018-09-13T05:34");
+		assertParse(DatePattern.UTC_SIMPLE_MS_FORMAT, "2018-09-13T05:34:31.123", "2018-09-13T05:34:31.123456");
+		assertParse(DatePattern.UTC_WITH_XXX_OFFSET_FORMAT, "2018-09-13T05:34:31+08:00",
+				"2018-09-13T05:34:31+08:00", "2018-09-13T05:34:31 +0800");
+		assertParse(DatePattern.UTC_MS_WITH_XXX_OFFSET_FORMAT, "2018-09-13T05:34:31.123+05:30", "2018-09-13T05:34:31.1234+05:30");
+		assertParse(DatePattern.UTC_WITH_XXX_OFFSET_FORMAT, "2018-09-13T05:34:31-08:00", "2018-09-13T05:34:31-0800");
+
+		final DateTime dateTime = DateLexer.parse("2018-09-13T05:34:31+08:00");
+		assertNotNull(dateTime);
+		assertEquals("GMT+08:00", dateTime.getTimeZone().getID());
+	}
+
+	@Test
+	public void unsupportedTest() {
+		assertNull(DateLexer.parse("Wed Aug 01 00:00:00 CST 2012"));
+		assertNull(DateLexer.parse("2024-01-05 10:30.123"));
+		assertNull(DateLexer.parse("2018-09-13T05:34:31+0530"));
+		assertNull(DateLexer.parse("2024"));
+		assertNull(DateLexer.parse("10:30:15.123"));
+	}
+
+	/**
+	 * 词法解析结果与按照格式解析的结果一致
+	 *
+	 * @param format   格式
+	 * @param expected 按照格式解析的字符串
+	 * @param strs     词法解析的字符串
+	 */
+	private static void assertParse(final FastDateFormat format, final String expected, final String... strs) {
+		final DateTime expectedDate = DateUtil.parse(expected, format);
+		for (final String str : strs) {
+			final DateTime dateTime = DateLexer.parse(str);
+			assertNotNull(dateTime, str);
+			assertEquals(expectedDate, dateTime, str);
+			assertEquals(expectedDate.getTimeZone().getID(), dateTime.getTimeZone().getID(), str);
+		}
+	}
+}
@@ -3,11 +3,17 @@ package cn.hutool.core.date;
 import cn.hutool.core.date.format.FastDateFormat;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.nio.CharBuffer;
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class FastDateFormatTest {
 	private static final TimeZone timezone = TimeZone.getTimeZone("Etc/Utc");
@@ -56,4 +62,73 @@ public class FastDateFormatTest {
 			getHutoolInstance("YY").format(date)
 		);
 	}
+
+	@Test
+	public void fastFormatTest() {
+		final String[] patterns = {DatePattern.NORM_DATETIME_PATTERN, DatePattern.NORM_DATETIME_MS_PATTERN,
+				DatePattern.PURE_DATETIME_MS_PATTERN, DatePattern.UTC_MS_WITH_XXX_OFFSET_PATTERN, DatePattern.UTC_MS_PATTERN,
+				"yy/M/d H:m:s.S Z X XX ZZ", "yyyyy-MM-dd"};
+		final String[] zones = {"Asia/Shanghai", "America/New_York", "Asia/Kathmandu", "UTC", "Europe/London"};
+		final Random random = new Random(1);
+		for (final String pattern : patterns) {
+			for (final String zone : zones) {
+				final FastDateFormat format = FastDateFormat.getInstance(pattern, TimeZone.getTimeZone(zone), Locale.CHINA);
+				final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+				// 包括超出快速格式化范围的年份
+				for (int i = 0; i < 200; i++) {
+					final long millis = random.nextLong() % 400_000_000_000_000L;
+					calendar.setTimeInMillis(millis);
+					final String expected = format.format(calendar);
+					assertEquals(expected, format.format(millis));
+					assertEquals(expected, format.format(millis, new StringBuilder()).toString());
+
+					final char[] buf = new char[64];
+					final int end = format.format(millis, buf, 3);
+					assertEquals(expected, new String(buf, 3, end - 3));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void formatToBufferTest() {
+		final DateTime date = DateUtil.parse("2024-01-05 10:30:15.123");
+		final char[] buf = new char[19];
+		assertEquals(19, DateUtil.formatDateTime(date, buf, 0));
+		assertEquals("2024-01-05 10:30:15", new String(buf));
+
+		final CharBuffer charBuffer = CharBuffer.allocate(64);
+		DateUtil.format(date, DatePattern.NORM_DATETIME_MS_FORMAT, charBuffer.put('['));
+		charBuffer.flip();
+		assertEquals("[2024-01-05 10:30:15.123", charBuffer.toString());
+
+		// 空间不足
+		assertThrows(IndexOutOfBoundsException.class, () -> DateUtil.formatDateTime(date, new char[10], 0));
+	}
+
+	@Test
+	public void formatDateTimeNoAllocationTest() {
+		final DateTime date = DateUtil.parse("2024-01-05 10:30:15");
+		final char[] buf = new char[19];
+		assertEquals(19, DateUtil.formatDateTime(date, buf, 0));
+		assertEquals("2024-01-05 10:30:15", new String(buf));
+
+		final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+		final long threadId = Thread.currentThread().getId();
+		final StringBuilder builder = new StringBuilder(64);
+		final long before = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 10000; i++) {
+			DateUtil.formatDateTime(date, buf, 0);
+			builder.setLength(0);
+			DatePattern.NORM_DATETIME_FORMAT.format(date, builder);
+		}
+		final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+		// 回退到创建字符串的方式时每次调用至少分配数十字节，此处只允许统计本身的少量分配
+		assertTrue(allocated < 10000, "allocated bytes: " + allocated);
+		assertEquals("2024-01-05 10:30:15", builder.toString());
+	}
 }
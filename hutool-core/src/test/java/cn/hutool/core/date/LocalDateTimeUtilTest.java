@@ -294,4 +294,19 @@ public class LocalDateTimeUtilTest {
 		final LocalDateTime parse = LocalDateTimeUtil.parse("");
 		assertNull(parse);
 	}
+
+	@Test
+	public void formatNormalToBufferTest() {
+		final LocalDateTime time = LocalDateTime.of(2024, 1, 5, 10, 30, 15, 123_000_000);
+		final char[] buf = new char[21];
+		assertEquals(20, LocalDateTimeUtil.formatNormal(time, buf, 1));
+		assertEquals("2024-01-05 10:30:15", new String(buf, 1, 19));
+		assertEquals("[2024-01-05 10:30:15", LocalDateTimeUtil.formatNormal(time, new StringBuilder("[")).toString());
+
+		// 儒略历范围内的年份回退到DateTimeFormatter
+		final LocalDateTime old = LocalDateTime.of(1000, 3, 1, 0, 0, 0);
+		assertEquals(LocalDateTimeUtil.formatNormal(old), LocalDateTimeUtil.formatNormal(old, new StringBuilder()).toString());
+		assertEquals(19, LocalDateTimeUtil.formatNormal(old, buf, 0));
+		assertEquals(LocalDateTimeUtil.formatNormal(old), new String(buf, 0, 19));
+	}
 }
@@ -0,0 +1,172 @@
+package cn.hutool.core.io;
+
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ChunkedByteBuffer}单元测试
+ *
+ * @author looly
+ */
+public class ChunkedByteBufferTest {
+
+	@Test
+	public void writeAndReadTest() throws Exception {
+		final byte[] data = RandomUtil.randomBytes(10000);
+		try (final ChunkedByteBuffer buffer = new ChunkedByteBuffer(1024, Long.MAX_VALUE)) {
+			buffer.write(data[0]);
+			buffer.write(data, 1, 4999);
+			buffer.getOutputStream().write(data, 5000, 3000);
+			buffer.getWritableChannel().write(ByteBuffer.wrap(data, 8000, 2000));
+			assertEquals(10000, buffer.size());
+			assertFalse(buffer.isMapped());
+			assertArrayEquals(data, buffer.toByteArray());
+
+			final InputStream in = buffer.getInputStream();
+			assertEquals(10000, in.available());
+			assertEquals(100, in.skip(100));
+			assertEquals(data[100] & 0xff, in.read());
+			assertArrayEquals(data, concat(data, 101, IoUtil.readBytes(in)));
+
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			assertEquals(10000, buffer.writeTo(out));
+			assertArrayEquals(data, out.toByteArray());
+		}
+	}
+
+	@Test
+	public void mappedTest() throws Exception {
+		final byte[] data = RandomUtil.randomBytes(20000);
+		final File file = FileUtil.createTempFile();
+		try (final ChunkedByteBuffer buffer = new ChunkedByteBuffer(4096, 6000)) {
+			assertEquals(20000, buffer.readFrom(new ByteArrayInputStream(data)));
+			assertTrue(buffer.isMapped());
+			assertArrayEquals(data, buffer.toByteArray());
+			assertArrayEquals(data, IoUtil.readBytes(buffer.getInputStream()));
+
+			try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+				assertEquals(20000, buffer.transferTo(channel));
+			}
+			assertArrayEquals(data, FileUtil.readBytes(file));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void closeTest() {
+		final ChunkedByteBuffer buffer = new ChunkedByteBuffer();
+		buffer.write(new byte[]{1, 2, 3}, 0, 3);
+		buffer.close();
+		assertEquals(0, buffer.size());
+		assertThrows(IORuntimeException.class, () -> buffer.write(1));
+
+		// 池中的块被复用时不包含旧数据
+		try (final ChunkedByteBuffer reused = new ChunkedByteBuffer()) {
+			reused.write(9);
+			assertArrayEquals(new byte[]{9}, reused.toByteArray());
+		}
+	}
+
+	@Test
+	public void releaseToPoolTest() {
+		final ChunkedByteBuffer buffer = new ChunkedByteBuffer();
+		buffer.write(1);
+		final ByteBuffer chunk = chunks(buffer).get(0);
+		buffer.close();
+
+		// 取出池中所有的块，关闭时释放的块应被复用
+		final int pooled = ((Queue<?>) ReflectUtil.getStaticFieldValue(ReflectUtil.getField(ChunkedByteBuffer.class, "POOL"))).size();
+		assertTrue(pooled > 0);
+		try (final ChunkedByteBuffer reused = new ChunkedByteBuffer()) {
+			final byte[] data = new byte[pooled * ChunkedByteBuffer.DEFAULT_CHUNK_SIZE];
+			reused.write(data, 0, data.length);
+			assertTrue(chunks(reused).stream().anyMatch(c -> c == chunk));
+		}
+	}
+
+	@Test
+	public void staleStreamTest() throws Exception {
+		final ChunkedByteBuffer buffer = new ChunkedByteBuffer();
+		buffer.write(new byte[]{1, 2, 3}, 0, 3);
+		final InputStream in = buffer.getInputStream();
+		assertEquals(1, in.read());
+		buffer.close();
+
+		// 块已放回全局池并被其它缓冲复用，关闭前创建的流不能读到其数据
+		try (final ChunkedByteBuffer reused = new ChunkedByteBuffer()) {
+			reused.write(new byte[]{7, 8, 9}, 0, 3);
+			assertThrows(IORuntimeException.class, in::read);
+			assertThrows(IORuntimeException.class, () -> in.read(new byte[3], 0, 3));
+			assertThrows(IORuntimeException.class, () -> in.skip(1));
+		}
+	}
+
+	@Test
+	public void staleMappedStreamTest() throws Exception {
+		final ChunkedByteBuffer buffer = new ChunkedByteBuffer(4096, 0);
+		buffer.write(new byte[]{1, 2, 3}, 0, 3);
+		assertTrue(buffer.isMapped());
+		final InputStream in = buffer.getInputStream();
+		buffer.close();
+		// 映射已解除，读取不能访问已释放的地址
+		assertThrows(IORuntimeException.class, in::read);
+	}
+
+	@Test
+	public void readFromNonBlockingTest() {
+		// 模拟非阻塞通道：先返回数据，之后一直返回0
+		final ReadableByteChannel channel = new ReadableByteChannel() {
+			private boolean first = true;
+
+			@Override
+			public int read(final ByteBuffer dst) {
+				if (first) {
+					first = false;
+					dst.put(new byte[]{1, 2});
+					return 2;
+				}
+				return 0;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		try (final ChunkedByteBuffer buffer = new ChunkedByteBuffer()) {
+			assertEquals(2, buffer.readFrom(channel));
+			assertArrayEquals(new byte[]{1, 2}, buffer.toByteArray());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<ByteBuffer> chunks(final ChunkedByteBuffer buffer) {
+		return (List<ByteBuffer>) ReflectUtil.getFieldValue(buffer, "chunks");
+	}
+
+	private static byte[] concat(final byte[] data, final int prefixLength, final byte[] rest) {
+		final byte[] result = new byte[prefixLength + rest.length];
+		System.arraycopy(data, 0, result, 0, prefixLength);
+		System.arraycopy(rest, 0, result, prefixLength, rest.length);
+		return result;
+	}
+}
@@ -1,11 +1,19 @@
 package cn.hutool.core.io;
 
 import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
  * 文件类型判断单元测试
@@ -90,6 +98,89 @@ public class FileTypeUtilTest {
 		assertEquals("txt", type);
 	}
 
+	@Test
+	public void magicNumberIndexTest() {
+		final String[] heads = {"ffd8ffe0", "89504e470d0a1a0a", "474946383961", "504b0304", "504b0506", "52494646",
+				"494433", "fffb", "1f8b08", "25504446", "efbbbf25504446", "d0cf11e0a1b11ae1", "000001ba", "000000206674797069736f6d",
+				"00000018667479704d344120", "2321414d520a", "1a45dfa3", "4d5a", "cafebabe", "46726f6d3a20", "285a2ffd"};
+		for (int i = 0; i < 20000; i++) {
+			final byte[] tail = RandomUtil.randomBytes(RandomUtil.randomInt(0, 64));
+			byte[] bytes = i % 2 == 0 ? tail : ArrayUtil.addAll(HexUtil.decodeHex(RandomUtil.randomEle(heads)), tail);
+			if (i % 4 == 1) {
+				// 截断的文件头
+				bytes = Arrays.copyOf(bytes, RandomUtil.randomInt(0, Math.min(bytes.length, 4) + 1));
+			}
+			final byte[] head = bytes;
+			// 结果或异常均须一致
+			final Object expected = outcome(() -> Arrays.stream(FileMagicNumber.values()).filter(number -> number.match(head))
+					.findFirst().orElse(FileMagicNumber.UNKNOWN));
+			assertEquals(expected, outcome(() -> FileMagicNumberIndex.match(head)), HexUtil.encodeHexStr(head));
+		}
+		// 过短的文件头不越界
+		assertEquals(FileMagicNumber.UNKNOWN, FileMagicNumber.getMagicNumber(new byte[0]));
+		assertEquals(FileMagicNumber.UNKNOWN, FileMagicNumber.getMagicNumber(new byte[]{(byte) 0xff}));
+		assertEquals(FileMagicNumber.UNKNOWN, FileMagicNumber.getMagicNumber(new byte[]{0x49, 0x44}));
+		assertEquals(FileMagicNumber.AAC, FileMagicNumber.getMagicNumber(new byte[]{(byte) 0xff, (byte) 0xf1}));
+		assertEquals(FileMagicNumber.M4A, FileMagicNumber.getMagicNumber(new byte[]{0x4d, 0x34, 0x41, 0x20}));
+		assertEquals(FileMagicNumber.JPEG, FileMagicNumber.getMagicNumber(FileUtil.readBytes("hutool.jpg")));
+	}
+
+	/**
+	 * 执行匹配，返回匹配结果或抛出异常的类型
+	 *
+	 * @param matcher 匹配过程
+	 * @return 匹配结果或异常类型
+	 */
+	private static Object outcome(final Supplier<FileMagicNumber> matcher) {
+		try {
+			return matcher.get();
+		} catch (final RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	@Test
+	public void customTypeTest() {
+		FileTypeUtil.putFileType("ffd8ffe000104a4649", "jfif");
+		FileTypeUtil.putFileType("FFD8FF", "custom_jpg");
+		FileTypeUtil.putFileType("ffd8-", "irregular");
+		try {
+			final byte[] head = FileUtil.readBytes("hutool.jpg");
+			// 按照映射的排序，"FFD8FF"排在前面
+			assertEquals("custom_jpg", FileTypeUtil.getType(head));
+			assertEquals("custom_jpg", FileTypeUtil.getType(HexUtil.encodeHexStr(head)));
+			assertEquals("irregular", FileTypeUtil.getType("ffd8-ff"));
+
+			FileTypeUtil.removeFileType("FFD8FF");
+			assertEquals("jfif", FileTypeUtil.getType(head));
+			assertEquals("jfif", FileTypeUtil.getType(new ByteArrayInputStream(head)));
+		} finally {
+			FileTypeUtil.removeFileType("ffd8ffe000104a4649");
+			FileTypeUtil.removeFileType("ffd8-");
+		}
+		assertEquals("jpg", FileTypeUtil.getType(FileUtil.file("hutool.jpg")));
+		assertNull(FileTypeUtil.getType(new byte[0]));
+	}
+
+	@Test
+	public void getTypesTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "fileTypes" + RandomUtil.randomString(6)));
+		try {
+			for (int i = 0; i < 40; i++) {
+				FileUtil.copy(FileUtil.file("hutool.jpg"), FileUtil.file(dir, "sub" + (i % 3), i + ".jpg"), true);
+				FileUtil.writeUtf8String(StrUtil.repeat('a', i), FileUtil.file(dir, i + ".txt"));
+			}
+			final Map<File, String> types = FileTypeUtil.getTypes(FileUtil.loopFiles(dir), false, new ForkJoinPool(4));
+			assertEquals(80, types.size());
+			types.forEach((file, type) -> assertEquals(FileTypeUtil.getType(file), type, file.getName()));
+			assertEquals(40, types.values().stream().filter("jpg"::equals).count());
+
+			assertEquals(types, FileTypeUtil.getTypes(dir, null, false));
+		} finally {
+			FileUtil.del(dir);
+		}
+	}
+
 	@Test
 	@Disabled
 	public void issue3024Test() {
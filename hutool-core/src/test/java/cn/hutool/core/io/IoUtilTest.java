@@ -2,13 +2,26 @@ package cn.hutool.core.io;
 
 import cn.hutool.core.io.resource.ResourceUtil;
 import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class IoUtilTest {
 
@@ -34,4 +47,81 @@ public class IoUtilTest {
 			throw new IORuntimeException(e);
 		}
 	}
+
+	@Test
+	public void copyFileStreamTest() throws IOException {
+		final File src = FileUtil.createTempFile("copySrc", ".bin", true);
+		final File dest = FileUtil.createTempFile("copyDest", ".bin", true);
+		final byte[] data = RandomUtil.randomBytes(100 * 1024);
+		FileUtil.writeBytes(data, src);
+		try {
+			final AtomicLong progressSize = new AtomicLong();
+			final StreamProgress progress = new StreamProgress() {
+				@Override
+				public void start() {
+				}
+
+				@Override
+				public void progress(final long total, final long size) {
+					progressSize.set(size);
+				}
+
+				@Override
+				public void finish() {
+				}
+			};
+
+			// 文件流之间零拷贝，从当前位置开始，拷贝后移动源流的位置
+			try (final FileInputStream in = new FileInputStream(src);
+				 final FileOutputStream out = new FileOutputStream(dest)) {
+				assertEquals(10, in.skip(10));
+				assertEquals(1000, IoUtil.copy(in, out, IoUtil.DEFAULT_BUFFER_SIZE, 1000, progress));
+				assertEquals(1000, progressSize.get());
+				assertEquals(data[1010], (byte) in.read());
+				assertEquals(data.length - 1011, NioUtil.copyByNIO(in, out, IoUtil.DEFAULT_BUFFER_SIZE, progress));
+				assertEquals(-1, in.read());
+			}
+			final byte[] copied = FileUtil.readBytes(dest);
+			assertArrayEquals(Arrays.copyOfRange(data, 10, 1010), Arrays.copyOfRange(copied, 0, 1000));
+			assertArrayEquals(Arrays.copyOfRange(data, 1011, data.length), Arrays.copyOfRange(copied, 1000, copied.length));
+
+			// 普通通道使用直接内存缓存，不超过限制长度
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			final ByteArrayInputStream in = new ByteArrayInputStream(data);
+			assertEquals(10000, NioUtil.copy(Channels.newChannel(in), Channels.newChannel(out), IoUtil.DEFAULT_BUFFER_SIZE, 10000, null));
+			assertArrayEquals(Arrays.copyOf(data, 10000), out.toByteArray());
+			assertEquals(data[10000], (byte) in.read());
+		} finally {
+			FileUtil.del(src);
+			FileUtil.del(dest);
+		}
+	}
+
+	@Test
+	public void copyZeroSizeFileStreamTest() throws IOException {
+		// /proc下的文件size()为0但有数据，不能按照size()限制拷贝长度
+		final File src = new File("/proc/self/status");
+		Assumptions.assumeTrue(src.canRead() && 0 == src.length());
+		final File dest = FileUtil.createTempFile("copyProc", ".txt", true);
+		try {
+			long copied;
+			try (final FileInputStream in = new FileInputStream(src);
+				 final FileOutputStream out = new FileOutputStream(dest)) {
+				// 原始文件流经StreamCopier转为通道拷贝
+				copied = IoUtil.copy((InputStream) in, out);
+			}
+			assertTrue(copied > 0);
+			assertEquals(copied, dest.length());
+			assertTrue(StrUtil.startWith(FileUtil.readUtf8String(dest), "Name:"));
+
+			try (final FileInputStream in = new FileInputStream(src);
+				 final FileOutputStream out = new FileOutputStream(dest)) {
+				copied = NioUtil.copyByNIO(in, out, IoUtil.DEFAULT_BUFFER_SIZE, null);
+			}
+			assertTrue(copied > 0);
+			assertEquals(copied, dest.length());
+		} finally {
+			FileUtil.del(dest);
+		}
+	}
 }
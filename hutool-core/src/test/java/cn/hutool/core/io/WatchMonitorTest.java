@@ -1,17 +1,32 @@
 package cn.hutool.core.io;
 
 import cn.hutool.core.io.watch.SimpleWatcher;
+import cn.hutool.core.io.watch.WatchKind;
 import cn.hutool.core.io.watch.WatchMonitor;
 import cn.hutool.core.io.watch.Watcher;
+import cn.hutool.core.io.watch.watchers.BatchWatcher;
 import cn.hutool.core.io.watch.watchers.DelayWatcher;
 import cn.hutool.core.lang.Console;
 import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * 文件监听单元测试
@@ -83,4 +98,87 @@ public class WatchMonitorTest {
 		}, 500));
 		monitor.run();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchWatcherTest() throws InterruptedException {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "batchWatch" + RandomUtil.randomString(6)));
+		final Path dirPath = dir.toPath();
+		final BlockingQueue<Map<Path, WatchKind>> batches = new LinkedBlockingQueue<>();
+		final BatchWatcher batchWatcher = new BatchWatcher(batches::add, 50);
+		try {
+			FileUtil.writeUtf8String("a", FileUtil.file(dir, "a.txt"));
+			FileUtil.writeUtf8String("b", FileUtil.file(dir, "b.txt"));
+
+			// 同一窗口内的事件按照路径合并
+			batchWatcher.onModify(event(WatchKind.MODIFY, "a.txt"), dirPath);
+			batchWatcher.onCreate(event(WatchKind.CREATE, "c.txt"), dirPath);
+			batchWatcher.onModify(event(WatchKind.MODIFY, "c.txt"), dirPath);
+			batchWatcher.onCreate(event(WatchKind.CREATE, "tmp.txt"), dirPath);
+			batchWatcher.onDelete(event(WatchKind.DELETE, "tmp.txt"), dirPath);
+			batchWatcher.onDelete(event(WatchKind.DELETE, "b.txt"), dirPath);
+			batchWatcher.onCreate(event(WatchKind.CREATE, "b.txt"), dirPath);
+			Map<Path, WatchKind> batch = batches.poll(5, TimeUnit.SECONDS);
+			assertNotNull(batch);
+			assertEquals(3, batch.size());
+			assertEquals(WatchKind.MODIFY, batch.get(dirPath.resolve("a.txt")));
+			assertEquals(WatchKind.CREATE, batch.get(dirPath.resolve("c.txt")));
+			assertEquals(WatchKind.MODIFY, batch.get(dirPath.resolve("b.txt")));
+
+			// 事件丢失时与快照对比
+			FileUtil.del(FileUtil.file(dir, "a.txt"));
+			FileUtil.writeUtf8String("bbb", FileUtil.file(dir, "b.txt"));
+			FileUtil.writeUtf8String("d", FileUtil.file(dir, "d.txt"));
+			batchWatcher.onOverflow(event(WatchKind.OVERFLOW, null), dirPath);
+			batch = batches.poll(5, TimeUnit.SECONDS);
+			assertNotNull(batch);
+			assertEquals(3, batch.size());
+			assertEquals(WatchKind.DELETE, batch.get(dirPath.resolve("a.txt")));
+			assertEquals(WatchKind.MODIFY, batch.get(dirPath.resolve("b.txt")));
+			assertEquals(WatchKind.CREATE, batch.get(dirPath.resolve("d.txt")));
+
+			// 没有快照的目录交给处理器自行扫描
+			final Path other = Paths.get(dir.getAbsolutePath(), "other");
+			batchWatcher.onOverflow(event(WatchKind.OVERFLOW, null), other);
+			batch = batches.poll(5, TimeUnit.SECONDS);
+			assertNotNull(batch);
+			assertEquals(WatchKind.OVERFLOW, batch.get(other));
+
+			// 目录删除后移除其快照
+			final Map<Path, ?> snapshots = (Map<Path, ?>) ReflectUtil.getFieldValue(batchWatcher, "snapshots");
+			assertFalse(snapshots.containsKey(other));
+			final File sub = FileUtil.mkdir(FileUtil.file(dir, "sub"));
+			FileUtil.writeUtf8String("x", FileUtil.file(sub, "x.txt"));
+			batchWatcher.onCreate(event(WatchKind.CREATE, "x.txt"), sub.toPath());
+			assertNotNull(batches.poll(5, TimeUnit.SECONDS));
+			assertTrue(snapshots.containsKey(sub.toPath()));
+			FileUtil.del(sub);
+			batchWatcher.onDelete(event(WatchKind.DELETE, "sub"), dirPath);
+			assertNotNull(batches.poll(5, TimeUnit.SECONDS));
+			assertFalse(snapshots.containsKey(sub.toPath()));
+		} finally {
+			batchWatcher.close();
+			FileUtil.del(dir);
+		}
+	}
+
+	private static WatchEvent<Path> event(final WatchKind kind, final String name) {
+		return new WatchEvent<Path>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public Kind<Path> kind() {
+				return (Kind<Path>) kind.getValue();
+			}
+
+			@Override
+			public int count() {
+				return 1;
+			}
+
+			@Override
+			public Path context() {
+				return null == name ? null : Paths.get(name);
+			}
+		};
+	}
 }
@@ -0,0 +1,117 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MappedLineReader}单元测试
+ *
+ * @author looly
+ */
+public class MappedLineReaderTest {
+
+	@Test
+	public void indexOfLfTest() {
+		final byte[] bytes = StrUtil.utf8Bytes("0123456789abcdef\nxyz");
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		for (int from = 0; from <= 16; from++) {
+			assertEquals(16, MappedLineReader.indexOfLf(buffer, from, bytes.length));
+		}
+		assertEquals(-1, MappedLineReader.indexOfLf(buffer, 17, bytes.length));
+		assertEquals(-1, MappedLineReader.indexOfLf(buffer, 0, 16));
+
+		// 0x8A等高位字节不应被误判
+		final byte[] high = {(byte) 0x8A, (byte) 0x0B, (byte) 0x09, (byte) 0xFF, 0x00, 0x01, (byte) 0x8A, 0x0A, 0x0A};
+		assertEquals(7, MappedLineReader.indexOfLf(ByteBuffer.wrap(high).order(ByteOrder.LITTLE_ENDIAN), 0, high.length));
+	}
+
+	@Test
+	public void forEachLineTest() {
+		final String content = "第一行\r\n\nthird line with a longer content\r\n\r\n中文，最后一行";
+		final File file = FileUtil.createTempFile("mapped", ".log", true);
+		FileUtil.writeUtf8String(content, file);
+		try {
+			final List<String> expected = FileUtil.readUtf8Lines(file);
+			for (final int windowSize : new int[]{3, 8, 1024}) {
+				final List<String> lines = new ArrayList<>();
+				final MappedLineReader reader = MappedLineReader.of(file).setWindowSize(windowSize);
+				reader.forEachLine(line -> lines.add(line.toString(CharsetUtil.CHARSET_UTF_8)));
+				assertEquals(expected, lines);
+
+				final List<String> decoded = new ArrayList<>();
+				reader.forEachLine(CharsetUtil.CHARSET_UTF_8, line -> decoded.add(line.toString()));
+				assertEquals(expected, decoded);
+			}
+
+			// 末尾换行符不产生空行
+			FileUtil.writeUtf8String("a\nb\n", file);
+			final List<String> lines = new ArrayList<>();
+			FileUtil.readLinesMapped(file, line -> lines.add(line.toString(CharsetUtil.CHARSET_UTF_8)));
+			assertEquals(FileUtil.readUtf8Lines(file), lines);
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void forEachLineParallelTest() {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			builder.append(i % 7 == 0 ? "ERROR " : "INFO ").append(i);
+			if (i % 100 == 0) {
+				builder.append(StrUtil.repeat('x', 300));
+			}
+			builder.append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+		final File file = FileUtil.createTempFile("mapped", ".log", true);
+		FileUtil.writeUtf8String(builder.toString(), file);
+		try {
+			final List<String> expected = FileUtil.readUtf8Lines(file);
+			final byte[] error = StrUtil.utf8Bytes("ERROR");
+			for (final int chunkSize : new int[]{1, 5000, 65536, Integer.MAX_VALUE}) {
+				final Map<Long, String> lines = Collections.synchronizedMap(new TreeMap<>());
+				final AtomicInteger errorCount = new AtomicInteger();
+				final MappedLineReader reader = MappedLineReader.of(file).setChunkSize(chunkSize).setPool(new ForkJoinPool(4));
+				reader.forEachLineParallel(line -> {
+					assertNull(lines.put(line.getPosition(), line.toString(CharsetUtil.CHARSET_UTF_8)));
+					if (line.startsWith(error)) {
+						errorCount.incrementAndGet();
+					}
+				});
+				assertEquals(expected, new ArrayList<>(lines.values()));
+				assertEquals(715, errorCount.get());
+				assertEquals(5000, reader.countLines());
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void emptyFileTest() {
+		final File file = FileUtil.createTempFile("mapped", ".log", true);
+		try {
+			assertEquals(0, MappedLineReader.of(file).countLines());
+			final AtomicInteger count = new AtomicInteger();
+			MappedLineReader.of(file).forEachLine(line -> count.incrementAndGet());
+			assertEquals(0, count.get());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ParallelWalker}单元测试
+ *
+ * @author looly
+ */
+public class ParallelWalkerTest {
+
+	@Test
+	public void walkTest() throws Exception {
+		final File root = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "parallelWalk" + RandomUtil.randomString(6)));
+		try {
+			for (int i = 0; i < 300; i++) {
+				// 平铺目录中的文件超过一批
+				FileUtil.writeBytes(RandomUtil.randomBytes(i), FileUtil.file(root, "flat", i + ".bin"));
+			}
+			for (int i = 0; i < 30; i++) {
+				FileUtil.writeUtf8String("content" + i, FileUtil.file(root, "d" + (i % 3), "s" + (i % 2), i + ".txt"));
+			}
+			FileUtil.mkdir(FileUtil.file(root, "empty"));
+
+			final List<File> expected = FileUtil.loopFiles(root);
+			final List<File> files = FileUtil.loopFilesParallel(root, null);
+			assertEquals(330, files.size());
+			assertEquals(CollUtil.sort(expected, null), CollUtil.sort(files, null));
+			assertEquals(FileUtil.size(root), FileUtil.sizeParallel(root));
+			assertEquals(30, FileUtil.loopFilesParallel(root, file -> file.getName().endsWith(".txt")).size());
+
+			// 深度和目录过滤，深度规则与Files.walkFileTree一致
+			assertEquals(0, new ParallelWalker(root.toPath()).setMaxDepth(0).loopFiles().size());
+			assertEquals(0, new ParallelWalker(root.toPath()).setMaxDepth(1).loopFiles().size());
+			FileUtil.writeUtf8String("top", FileUtil.file(root, "top.txt"));
+			assertEquals(0, new ParallelWalker(root.toPath()).setMaxDepth(0).loopFiles().size());
+			assertEquals(1, new ParallelWalker(root.toPath()).setMaxDepth(1).loopFiles().size());
+			assertEquals(1, ParallelWalker.of(FileUtil.file(root, "top.txt")).setMaxDepth(0).loopFiles().size());
+			FileUtil.del(FileUtil.file(root, "top.txt"));
+			assertEquals(300, new ParallelWalker(root.toPath()).setMaxDepth(2).loopFiles().size());
+			final ForkJoinPool pool = new ForkJoinPool(3);
+			try {
+				assertEquals(320, ParallelWalker.of(root).setPool(pool)
+						.setDirFilter(dir -> false == dir.getFileName().toString().equals("d1")).loopFiles().size());
+			} finally {
+				pool.shutdown();
+			}
+
+			final SortedMap<Path, ManifestEntry> manifest = FileUtil.manifest(root, "SHA-256");
+			assertEquals(330, manifest.size());
+			final File file = FileUtil.file(root, "d2", "s1", "5.txt");
+			final ManifestEntry entry = manifest.get(Paths.get("d2", "s1", "5.txt"));
+			assertEquals(file.length(), entry.getSize());
+			assertEquals(file.lastModified(), entry.getLastModified());
+			assertEquals(HexUtil.encodeHexStr(MessageDigest.getInstance("SHA-256").digest(FileUtil.readBytes(file))), entry.getDigest());
+			assertEquals(HexUtil.encodeHexStr(MessageDigest.getInstance("SHA-256").digest(new byte[0])),
+					manifest.get(Paths.get("flat", "0.bin")).getDigest());
+
+			// 不计算摘要及单个文件
+			assertNull(FileUtil.manifest(root, null).get(Paths.get("flat", "1.bin")).getDigest());
+			final SortedMap<Path, ManifestEntry> single = ParallelWalker.of(file).manifest("MD5");
+			assertEquals(1, single.size());
+			assertEquals(32, single.get(Paths.get("5.txt")).getDigest().length());
+			assertThrows(IllegalArgumentException.class, () -> FileUtil.manifest(null, "MD5"));
+		} finally {
+			FileUtil.del(root);
+		}
+	}
+}
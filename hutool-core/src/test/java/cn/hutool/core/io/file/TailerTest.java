@@ -4,7 +4,16 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TailerTest {
 
@@ -20,4 +29,88 @@ public class TailerTest {
 		Tailer tailer = new Tailer(FileUtil.file("f:/test/test.log"), Tailer.CONSOLE_HANDLER, 2);
 		tailer.start();
 	}
+
+	@Test
+	public void multiTailerTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "multiTailer" + RandomUtil.randomString(6)));
+		final File a = FileUtil.file(dir, "a.log");
+		final File b = FileUtil.file(dir, "b.log");
+		FileUtil.writeUtf8String("old line\n", a);
+		final List<String> linesA = new CopyOnWriteArrayList<>();
+		final List<String> linesB = new CopyOnWriteArrayList<>();
+		final MultiTailer tailer = new MultiTailer(CharsetUtil.CHARSET_UTF_8, 2);
+		try {
+			// b.log尚未创建，创建后从头读取
+			tailer.add(a, linesA::add).add(b, linesB::add);
+			tailer.start();
+
+			// 未结束的行等待换行符
+			FileUtil.appendUtf8String("第一行\r\nsecond", a);
+			waitFor(linesA, 1);
+			FileUtil.appendUtf8String(" line\n", a);
+			waitFor(linesA, 2);
+			assertEquals(Arrays.asList("第一行", "second line"), linesA);
+
+			FileUtil.writeUtf8String("b1\nb2\n", b);
+			waitFor(linesB, 2);
+			assertEquals(Arrays.asList("b1", "b2"), linesB);
+
+			// 截断后从头读取
+			FileUtil.writeUtf8String("", a);
+			FileUtil.appendUtf8String("after truncate\n", a);
+			waitFor(linesA, 3);
+			assertEquals("after truncate", linesA.get(2));
+
+			// 轮转：重命名后创建新文件
+			FileUtil.appendUtf8String("b3\n", b);
+			waitFor(linesB, 3);
+			FileUtil.rename(b, "b.log.1", true);
+			FileUtil.writeUtf8String("new b\n", b);
+			waitFor(linesB, 4);
+			assertEquals(Arrays.asList("b1", "b2", "b3", "new b"), linesB);
+		} finally {
+			tailer.close();
+			FileUtil.del(dir);
+		}
+	}
+
+	@Test
+	public void multiTailerLineLimitAndErrorTest() {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "multi-tailer-limit-" + RandomUtil.randomString(8)));
+		final File file = FileUtil.touch(FileUtil.file(dir, "a.log"));
+		final List<String> lines = new CopyOnWriteArrayList<>();
+		final MultiTailer tailer = new MultiTailer(CharsetUtil.CHARSET_UTF_8, 1)
+				.setBufferSize(4).setMaxLineLength(8);
+		try {
+			tailer.add(file, line -> {
+				if ("bad".equals(line)) {
+					throw new IllegalStateException("bad line");
+				}
+				lines.add(line);
+			});
+			tailer.start();
+
+			// 处理异常不影响后续的行
+			FileUtil.appendUtf8String("bad\nok\n", file);
+			waitFor(lines, 1);
+			assertEquals("ok", lines.get(0));
+
+			// 没有换行符的超长行只保留最大行长度
+			FileUtil.appendUtf8String("0123456789abcdef", file);
+			ThreadUtil.sleep(200);
+			FileUtil.appendUtf8String("ghij\nshort\n", file);
+			waitFor(lines, 3);
+			assertEquals(Arrays.asList("ok", "01234567", "short"), lines);
+		} finally {
+			tailer.close();
+			FileUtil.del(dir);
+		}
+	}
+
+	private static void waitFor(List<String> lines, int size) {
+		for (int i = 0; i < 500 && lines.size() < size; i++) {
+			ThreadUtil.sleep(20);
+		}
+		assertEquals(size, lines.size(), () -> String.join("|", lines));
+	}
 }
@@ -0,0 +1,87 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.collection.ConcurrentHashSet;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.IdUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link AtomicSnowflake}单元测试
+ *
+ * @author looly
+ */
+public class AtomicSnowflakeTest {
+
+	@Test
+	public void nextIdTest() {
+		final AtomicSnowflake snowflake = new AtomicSnowflake(1, 2);
+		long last = 0;
+		for (int i = 0; i < 10000; i++) {
+			final long id = snowflake.nextId();
+			assertTrue(id > last);
+			last = id;
+		}
+
+		assertEquals(1, snowflake.getWorkerId(last));
+		assertEquals(2, snowflake.getDataCenterId(last));
+		assertTrue(Math.abs(snowflake.getGenerateDateTime(last) - System.currentTimeMillis()) < 1000);
+	}
+
+	@Test
+	public void nextIdsTest() {
+		final AtomicSnowflake snowflake = new AtomicSnowflake(3, 4);
+		final long single = snowflake.nextId();
+		final long[] ids = snowflake.nextIds(10000);
+		assertEquals(10000, ids.length);
+		long last = single;
+		final Set<Long> set = new HashSet<>();
+		for (final long id : ids) {
+			assertTrue(id > last);
+			assertEquals(3, snowflake.getWorkerId(id));
+			assertEquals(4, snowflake.getDataCenterId(id));
+			set.add(id);
+			last = id;
+		}
+		assertEquals(10000, set.size());
+		assertTrue(snowflake.nextId() > last);
+
+		assertThrows(IllegalArgumentException.class, () -> snowflake.nextIds(0));
+	}
+
+	@Test
+	public void concurrentTest() throws InterruptedException {
+		final AtomicSnowflake snowflake = new AtomicSnowflake(null, 5, 6, false, Snowflake.DEFAULT_TIME_OFFSET, 100);
+		final Set<Long> ids = new ConcurrentHashSet<>();
+		final int threadCount = 8;
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			ThreadUtil.execute(() -> {
+				for (int j = 0; j < 5000; j++) {
+					ids.add(snowflake.nextId());
+				}
+				for (final long id : snowflake.nextIds(5000)) {
+					ids.add(id);
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		assertEquals(threadCount * 10000, ids.size());
+	}
+
+	@Test
+	public void idUtilTest() {
+		assertSame(IdUtil.getAtomicSnowflake(7, 8), IdUtil.getAtomicSnowflake(7, 8));
+		final long[] ids = IdUtil.getSnowflakeNextIds(100);
+		assertEquals(100, ids.length);
+		for (int i = 1; i < ids.length; i++) {
+			assertTrue(ids[i] > ids[i - 1]);
+		}
+	}
+}
@@ -57,6 +57,20 @@ public class NanoIdTest {
 
 	}
 
+	@Test
+	public void randomNanoIdsTest() {
+		final char[] alphabet = "0123456789abcdef".toCharArray();
+		final Random random = new Random(12345);
+		final String[] ids = NanoId.randomNanoIds(new Random(12345), alphabet, 10, 5);
+		assertEquals(5, ids.length);
+		for (final String id : ids) {
+			assertEquals(NanoId.randomNanoId(random, alphabet, 10), id);
+		}
+
+		assertEquals(100, new HashSet<>(Arrays.asList(NanoId.randomNanoIds(100))).size());
+		assertThrows(IllegalArgumentException.class, () -> NanoId.randomNanoIds(0));
+	}
+
 	@Test
 	public void nanoIdVariousAlphabetsSuccessTest() {
 
@@ -25,6 +25,23 @@ public class ObjectIdTest {
 		assertEquals(10000, set.size());
 	}
 
+	@Test
+	public void batchTest() {
+		final String[] ids = ObjectId.next(1000, true);
+		final HashSet<String> set = new HashSet<>();
+		for (final String id : ids) {
+			assertEquals(26, id.length());
+			assertTrue(ObjectId.isValid(id));
+			set.add(id);
+		}
+		assertEquals(1000, set.size());
+
+		final String id = ObjectId.next();
+		assertEquals(24, id.length());
+		assertTrue(ObjectId.isValid(id));
+		assertEquals(id.substring(8, 16), ids[0].substring(9, 17));
+	}
+
 	@Test
 	@Disabled
 	public void nextTest() {
@@ -18,4 +18,18 @@ public class UUIDTest {
 		ThreadUtil.concurrencyTest(100, ()-> set.add(UUID.fastUUID().toString()));
 		assertEquals(100, set.size());
 	}
+
+	@Test
+	public void toStringTest() {
+		for (int i = 0; i < 100; i++) {
+			final UUID uuid = UUID.fastUUID();
+			assertEquals(4, uuid.version());
+			assertEquals(2, uuid.variant());
+
+			final java.util.UUID jdkUUID = new java.util.UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+			assertEquals(jdkUUID.toString(), uuid.toString());
+			assertEquals(jdkUUID.toString().replace("-", ""), uuid.toString(true));
+		}
+		assertEquals("00000000-0000-0001-0000-00000000000f", new UUID(1L, 15L).toString());
+	}
 }
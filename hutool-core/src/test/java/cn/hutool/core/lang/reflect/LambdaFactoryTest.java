@@ -0,0 +1,122 @@
+package cn.hutool.core.lang.reflect;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.util.ReflectUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link LambdaFactory}单元测试
+ *
+ * @author looly
+ */
+public class LambdaFactoryTest {
+
+	@Test
+	public void getterAndSetterTest() {
+		final PrivateBean bean = new PrivateBean();
+
+		final BiConsumer<Object, Object> setName = LambdaFactory.buildSetter(ReflectUtil.getMethod(PrivateBean.class, "setName", String.class));
+		final BiConsumer<Object, Object> setAge = LambdaFactory.buildSetter(ReflectUtil.getMethod(PrivateBean.class, "setAge", int.class));
+		setName.accept(bean, "hutool");
+		setAge.accept(bean, 18);
+
+		final Function<Object, Object> getName = LambdaFactory.buildGetter(ReflectUtil.getMethod(PrivateBean.class, "getName"));
+		final Function<Object, Object> getAge = LambdaFactory.buildGetter(ReflectUtil.getMethod(PrivateBean.class, "getAge"));
+		assertEquals("hutool", getName.apply(bean));
+		assertEquals(18, getAge.apply(bean));
+
+		// 生成的Lambda类位于Bean所在类中，而非反射调用
+		assertTrue(getName.getClass().getName().startsWith(PrivateBean.class.getName()));
+		assertTrue(setName.getClass().getName().startsWith(PrivateBean.class.getName()));
+
+		// 缓存
+		assertSame(getName, LambdaFactory.buildGetter(ReflectUtil.getMethod(PrivateBean.class, "getName")));
+	}
+
+	@Test
+	public void constructorAndFieldTest() {
+		final Supplier<PrivateBean> constructor = LambdaFactory.buildConstructor(ReflectUtil.getConstructor(PrivateBean.class));
+		final PrivateBean bean = constructor.get();
+		assertNotNull(bean);
+		assertNotSame(bean, constructor.get());
+
+		final Field nameField = ReflectUtil.getField(PrivateBean.class, "name");
+		LambdaFactory.buildFieldSetter(nameField).accept(bean, "field");
+		assertEquals("field", bean.getName());
+		assertEquals("field", LambdaFactory.buildFieldGetter(nameField).apply(bean));
+
+		// 抽象类无法实例化
+		final Supplier<AbstractBean> abstractConstructor = LambdaFactory.buildConstructor(ReflectUtil.getConstructor(AbstractBean.class));
+		assertThrows(UtilException.class, abstractConstructor::get);
+	}
+
+	@Test
+	public void illegalMethodTest() {
+		assertThrows(IllegalArgumentException.class,
+				() -> LambdaFactory.buildGetter(ReflectUtil.getMethod(PrivateBean.class, "setName", String.class)));
+	}
+
+	@Test
+	public void fallbackNotReferenceKeyTest() throws IllegalAccessException {
+		// 缓存的值引用弱引用的键会导致键无法回收
+		final Field nameField = ReflectUtil.getField(PrivateBean.class, "name");
+		assertNotCaptured(nameField, LambdaFactory.buildFieldGetter(nameField));
+		assertNotCaptured(nameField, LambdaFactory.buildFieldSetter(nameField));
+
+		final Constructor<AbstractBean> constructor = ReflectUtil.getConstructor(AbstractBean.class);
+		assertNotCaptured(constructor, LambdaFactory.buildConstructor(constructor));
+
+		final Method getter = ReflectUtil.getMethod(DefaultGetter.class, "getValue");
+		final Function<Object, Object> getValue = LambdaFactory.buildGetter(getter);
+		assertNotCaptured(getter, getValue);
+		assertEquals("default", getValue.apply(new DefaultGetter() {
+		}));
+	}
+
+	private static void assertNotCaptured(final Object key, final Object value) throws IllegalAccessException {
+		for (final Field field : value.getClass().getDeclaredFields()) {
+			field.setAccessible(true);
+			assertNotSame(key, field.get(value));
+		}
+	}
+
+	public interface DefaultGetter {
+		default String getValue() {
+			return "default";
+		}
+	}
+
+	public abstract static class AbstractBean {
+	}
+
+	private static class PrivateBean {
+		private String name;
+		private int age;
+
+		private String getName() {
+			return name;
+		}
+
+		private PrivateBean setName(final String name) {
+			this.name = name;
+			return this;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(final int age) {
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link CompiledTemplate}单元测试
+ *
+ * @author looly
+ */
+public class CompiledTemplateTest {
+
+	@Test
+	public void formatTest() {
+		final CompiledTemplate template = CompiledTemplate.of("this is {} for {}");
+		assertEquals(2, template.getPlaceHolderCount());
+		assertEquals("this is a for b", template.format("a", "b"));
+		assertEquals("this is null for {}", template.format((Object) null));
+		assertEquals("this is a for b", template.format("a", "b", "c"));
+		assertEquals("this is {} for {}", template.format());
+
+		// 转义
+		assertEquals("this is {} for a", CompiledTemplate.of("this is \\{} for {}").format("a", "b"));
+		assertEquals("this is \\a for b", CompiledTemplate.of("this is \\\\{} for {}").format("a", "b"));
+		// 数组参数
+		assertEquals("[1, 2]", CompiledTemplate.of("{}").format((Object) new int[]{1, 2}));
+	}
+
+	@Test
+	public void sameAsFormatWithTest() {
+		final String[] patterns = {"", "abc", "{}", "{}{}", "a{}b{}c", "\\{}", "\\\\{}", "\\{}{}", "{}\\{}",
+				"{}\\{}{}", "{} \\\\{} \\{} {}", "{{}}", "\\", "{", "}{", "a\\{}b\\\\{}c{}d"};
+		final Object[][] argsList = {{"x"}, {"x", 1}, {"x", null, 3}, {1, 2, 3, 4, 5}};
+		for (final String pattern : patterns) {
+			for (final String placeHolder : new String[]{"{}", "$$"}) {
+				final String p = pattern.replace("{}", placeHolder);
+				final CompiledTemplate template = CompiledTemplate.of(p, placeHolder);
+				for (final Object[] args : argsList) {
+					final String expected = StrFormatter.formatWith(p, placeHolder, args);
+					assertEquals(expected, template.format(args), p);
+					assertEquals(expected, template.formatTo(new StringBuilder(), args).toString(), p);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void formatToTest() {
+		final StringBuilder builder = new StringBuilder("log: ");
+		StrFormatter.compile("{} = {}").formatTo(builder, "a", 1);
+		assertEquals("log: a = 1", builder.toString());
+
+		final StringWriter writer = new StringWriter();
+		CompiledTemplate.of("[{}]").formatTo(writer, "w");
+		assertEquals("[w]", writer.toString());
+
+		final Writer errorWriter = new Writer() {
+			@Override
+			public void write(final char[] cbuf, final int off, final int len) throws IOException {
+				throw new IOException("error");
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		assertThrows(IORuntimeException.class, () -> CompiledTemplate.of("[{}]").formatTo(errorWriter, "w"));
+	}
+
+	@Test
+	public void compileCacheTest() {
+		assertSame(StrFormatter.compile("cached {}"), StrFormatter.compile("cached {}"));
+		StrFormatter.clearCache();
+		assertEquals("cached 1", StrFormatter.format("cached {}", 1));
+
+		// 大量动态模板只淘汰最久未使用的模板，常用模板保留在缓存中
+		final CompiledTemplate hot = StrFormatter.compile("hot {}");
+		for (int i = 0; i < 10000; i++) {
+			assertEquals("dynamic " + i + " x", StrFormatter.format("dynamic " + i + " {}", "x"));
+			assertSame(hot, StrFormatter.compile("hot {}"));
+		}
+	}
+
+	@Test
+	public void compileLongPatternTest() {
+		// 过长的模板不缓存
+		final String pattern = StrUtil.repeat('a', 2000) + " {}";
+		assertNotSame(StrFormatter.compile(pattern), StrFormatter.compile(pattern));
+		assertEquals(StrUtil.repeat('a', 2000) + " 1", StrFormatter.format(pattern, 1));
+	}
+
+	@Test
+	public void compileNullTest() {
+		assertThrows(IllegalArgumentException.class, () -> StrFormatter.compile(null));
+	}
+}
@@ -0,0 +1,129 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.CharsetUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link CsvRowView}及列投影单元测试
+ *
+ * @author looly
+ */
+public class CsvRowViewTest {
+
+	private static final String CONTENT = "name,age,desc\r\n" +
+			"张三,18,\"多行\n内容,含分隔符\"\n" +
+			"\n" +
+			"\"\"\n" +
+			"李四,20,\"转义\"\"引号\"\"\"\r\n" +
+			"# 注释\n" +
+			" 王五 ,22,\" 包装 \"\n" +
+			"\"\n" +
+			"赵六,,";
+
+	@Test
+	public void readViewSameAsRowTest() {
+		final CsvReadConfig[] configs = {
+				CsvReadConfig.defaultConfig(),
+				CsvReadConfig.defaultConfig().setContainsHeader(true),
+				CsvReadConfig.defaultConfig().setSkipEmptyRows(false),
+				CsvReadConfig.defaultConfig().setTrimField(true),
+				CsvReadConfig.defaultConfig().setBeginLineNo(2).setEndLineNo(6),
+		};
+		for (final CsvReadConfig config : configs) {
+			final CsvData expected = CsvUtil.getReader(config).readFromStr(CONTENT);
+			final List<CsvRow> rows = new ArrayList<>();
+			CsvUtil.getReader(config).readView(new StringReader(CONTENT), view -> rows.add(view.toRow()));
+			assertEquals(expected.getRowCount(), rows.size());
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(expected.getRow(i).getOriginalLineNumber(), rows.get(i).getOriginalLineNumber());
+				assertEquals(expected.getRow(i).getRawList(), rows.get(i).getRawList());
+				assertEquals(expected.getRow(i).headerMap, rows.get(i).headerMap);
+			}
+		}
+	}
+
+	@Test
+	public void fieldViewTest() {
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true);
+		final List<String> names = new ArrayList<>();
+		final List<Integer> ages = new ArrayList<>();
+		CsvUtil.getReader(config).readView(new StringReader(CONTENT), view -> {
+			names.add(view.getByName("name").toString());
+			if (view.getFieldCount() > 1 && view.get(1).length() > 0) {
+				ages.add(Integer.parseInt(view.getStr(1)));
+			}
+		});
+		final List<String> expectedNames = new ArrayList<>();
+		CsvUtil.getReader(config).readFromStr(CONTENT, row -> expectedNames.add(row.getByName("name")));
+		assertEquals(expectedNames, names);
+		assertEquals("张三", names.get(0));
+		assertEquals(" 王五 ", names.get(2));
+		assertEquals(3, ages.size());
+
+		CsvUtil.getReader().readView(new StringReader("a,\"b\"\"c\"\n"), view -> {
+			final CharSequence field = view.get(1);
+			assertEquals(3, field.length());
+			assertEquals('"', field.charAt(1));
+			assertEquals("b\"", field.subSequence(0, 2));
+			assertSame(field, view.get(1));
+			assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+		});
+	}
+
+	@Test
+	public void columnsTest() {
+		final String csv = "id,name,age,desc\n1,张三,18,a\n\n2,李四,20\n3\n";
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true).setColumns(3, 1);
+		final CsvData data = CsvUtil.getReader(config).readFromStr(csv);
+		assertEquals(3, data.getRowCount());
+		assertEquals("张三", data.getRow(0).getByName("name"));
+		assertEquals("a", data.getRow(0).getByName("desc"));
+		assertEquals(2, data.getRow(0).getFieldCount());
+		assertEquals(1, data.getRow(1).getFieldCount());
+		assertEquals(0, data.getRow(2).getFieldCount());
+		assertEquals(4, data.getRow(2).getOriginalLineNumber());
+
+		// 视图模式同样适用列投影
+		final List<String> names = new ArrayList<>();
+		CsvUtil.getReader(config).readView(new StringReader(csv), view -> {
+			if (view.getFieldCount() > 0) {
+				names.add(view.getStr(0));
+			}
+		});
+		assertEquals("张三", names.get(0));
+		assertEquals("李四", names.get(1));
+
+		// 字段数检查按照原始列数
+		final CsvReadConfig errorConfig = CsvReadConfig.defaultConfig().setColumns(0).setErrorOnDifferentFieldCount(true);
+		final IORuntimeException e = assertThrows(IORuntimeException.class, () -> CsvUtil.getReader(errorConfig).readFromStr(csv));
+		assertEquals("Line 3 has 3 fields, but first line has 4 fields", e.getMessage());
+	}
+
+	@Test
+	public void parallelColumnsTest() {
+		final File file = FileUtil.createTempFile("columns", ".csv", true);
+		FileUtil.writeUtf8String("id,name,age\n1,张三,18\n2,李四\n", file);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true)
+					.setColumns(1).setErrorOnDifferentFieldCount(true);
+			final ParallelCsvReader reader = new ParallelCsvReader(file, CharsetUtil.CHARSET_UTF_8, config).setChunkSize(1);
+			final List<String> names = new ArrayList<>();
+			final IORuntimeException e = assertThrows(IORuntimeException.class,
+					() -> reader.read(row -> row.getByName("name"), names::add));
+			assertEquals("Line 2 has 2 fields, but first line has 3 fields", e.getMessage());
+			assertEquals(1, names.size());
+			assertEquals("张三", names.get(0));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
@@ -3,12 +3,20 @@ package cn.hutool.core.text.csv;
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.lang.Console;
 import cn.hutool.core.util.CharsetUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class CsvWriterTest {
 
@@ -60,4 +68,91 @@ public class CsvWriterTest {
 		writer.writeLine("李四2", "男", "XX市XX区,01号");
 		writer.close();
 	}
+
+	@Test
+	public void writeBeanStreamTest() {
+		final List<WriteBean> beans = new ArrayList<>();
+		beans.add(new WriteBean(1L, "张三", 18, 1.5D, true, new BigDecimal("12.30")));
+		beans.add(new WriteBean(-2L, "李四,\"小李\"", Integer.MIN_VALUE, null, false, null));
+		beans.add(null);
+		beans.add(new WriteBean(Long.MIN_VALUE, "多行\n内容", 0, -0.25D, null, BigDecimal.ONE));
+
+		final List<WriteBean> nonNullBeans = new ArrayList<>(beans);
+		nonNullBeans.remove(null);
+		for (final CsvWriteConfig config : new CsvWriteConfig[]{
+				CsvWriteConfig.defaultConfig(),
+				CsvWriteConfig.defaultConfig().setAlwaysDelimitText(true),
+				CsvWriteConfig.defaultConfig().setFieldSeparator('1').addHeaderAlias("name", "姓名")}) {
+			final StringWriter expected = new StringWriter();
+			CsvUtil.getWriter(expected, config).writeBeans(nonNullBeans);
+
+			final StringWriter result = new StringWriter();
+			CsvUtil.getWriter(result, config).writeBeans(WriteBean.class, beans.stream(), true);
+			assertEquals(expected.toString(), result.toString());
+
+			final StringWriter expected2 = new StringWriter();
+			CsvUtil.getWriter(expected2, config).writeBeans(nonNullBeans, false, "age", "id");
+			final StringWriter result2 = new StringWriter();
+			CsvUtil.getWriter(result2, config).writeBeans(WriteBean.class, beans.iterator(), false, "age", "id");
+			assertEquals(expected2.toString(), result2.toString());
+		}
+	}
+
+	@Test
+	public void writeBeanGetterTypeTest() {
+		// Getter返回值类型与字段类型不同时，按照Getter返回值写出
+		final MismatchBean bean = new MismatchBean();
+		bean.setId(12L);
+		bean.setCode("7");
+
+		final StringWriter result = new StringWriter();
+		CsvUtil.getWriter(result, CsvWriteConfig.defaultConfig()).writeBeans(MismatchBean.class, Stream.of(bean), true);
+		assertEquals("id,code\r\n\"12,000\",7", result.toString());
+	}
+
+	@Test
+	public void writeOutputStreamTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final CsvWriter writer = new CsvWriter(out, CharsetUtil.CHARSET_GBK, null);
+		writer.writeLine("张三", "a,b");
+		final StringBuilder longField = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			longField.append(i % 10);
+		}
+		writer.writeLine(longField.toString());
+		writer.close();
+		assertEquals("张三,\"a,b\"\r\n" + longField, new String(out.toByteArray(), CharsetUtil.CHARSET_GBK));
+	}
+
+	public static class MismatchBean {
+		private Long id;
+		private String code;
+
+		public String getId() {
+			return String.format("%,d", id * 1000);
+		}
+
+		public void setId(final Long id) {
+			this.id = id;
+		}
+
+		public Integer getCode() {
+			return Integer.valueOf(code);
+		}
+
+		public void setCode(final String code) {
+			this.code = code;
+		}
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class WriteBean {
+		private Long id;
+		private String name;
+		private int age;
+		private Double score;
+		private Boolean vip;
+		private BigDecimal amount;
+	}
 }
@@ -0,0 +1,158 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.CharsetUtil;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ParallelCsvReader}单元测试
+ *
+ * @author looly
+ */
+public class ParallelCsvReaderTest {
+
+	private static final String CONTENT = "name,age,desc\r\n" +
+			"# 注释行 \"未闭合引号\n" +
+			"张三,18,\"多行\n内容,含分隔符\"\n" +
+			"\n" +
+			"李四,20,\"转义\"\"引号\"\"\"\r\n" +
+			"王五,22,普通\n" +
+			"#注释\r\n" +
+			"赵六,24,\"a\r\nb\r\nc\"\n" +
+			"钱七,26,尾部\"引号\n" +
+			"孙八,28,";
+
+	@Test
+	public void readSameAsCsvReaderTest() {
+		final CsvReadConfig[] configs = {
+				CsvReadConfig.defaultConfig(),
+				CsvReadConfig.defaultConfig().setContainsHeader(true),
+				CsvReadConfig.defaultConfig().setContainsHeader(true).setSkipEmptyRows(false),
+				CsvReadConfig.defaultConfig().setHeaderLineNo(2).setEndLineNo(8),
+				CsvReadConfig.defaultConfig().setBeginLineNo(5).setTrimField(true),
+				CsvReadConfig.defaultConfig().disableComment(),
+		};
+		final File file = writeTemp(CONTENT, CharsetUtil.CHARSET_UTF_8);
+		try {
+			for (final CsvReadConfig config : configs) {
+				final CsvData expected = new CsvReader(file, config).read();
+				for (final int chunkSize : new int[]{1, 7, 30, 1024}) {
+					final CsvData data = new ParallelCsvReader(file, CharsetUtil.CHARSET_UTF_8, config)
+							.setChunkSize(chunkSize).setPool(new ForkJoinPool(3)).read();
+					assertData(expected, data);
+				}
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void readLargeTest() {
+		final StringBuilder builder = new StringBuilder("id,name,remark\n");
+		for (int i = 0; i < 20000; i++) {
+			builder.append(i).append(",名称").append(i).append(',');
+			if (i % 3 == 0) {
+				builder.append("\"带\n换行,").append(i).append('"');
+			} else {
+				builder.append("r").append(i);
+			}
+			builder.append(i % 2 == 0 ? "\r\n" : "\n");
+		}
+		final File file = writeTemp(builder.toString(), CharsetUtil.CHARSET_UTF_8);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true);
+			final CsvData expected = new CsvReader(file, config).read();
+			final List<CsvRow> rows = new ArrayList<>();
+			new ParallelCsvReader(file, CharsetUtil.CHARSET_UTF_8, config).setChunkSize(4096).read(rows::add);
+			assertData(expected, new CsvData(expected.getHeader(), rows));
+			assertEquals(20000, rows.size());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void readBeanTest() {
+		final File file = writeTemp("id,name,age\n1,张三,18\n2,李四,20\n3,王五,22\n", CharsetUtil.CHARSET_UTF_8);
+		try {
+			final List<TestBean> beans = new ParallelCsvReader(file, null, null).setChunkSize(8).read(TestBean.class);
+			assertEquals(3, beans.size());
+			assertEquals("张三", beans.get(0).getName());
+			assertEquals(Integer.valueOf(20), beans.get(1).getAge());
+			assertEquals(Long.valueOf(3), beans.get(2).getId());
+
+			// 行转换在工作线程中执行
+			final List<Integer> ages = new ArrayList<>();
+			new ParallelCsvReader(file, null, CsvReadConfig.defaultConfig().setContainsHeader(true))
+					.setChunkSize(1).read(row -> Integer.parseInt(row.getByName("age")), ages::add);
+			assertEquals(3, ages.size());
+			assertEquals(Integer.valueOf(22), ages.get(2));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void errorOnDifferentFieldCountTest() {
+		final File file = writeTemp("a,b\n1,2\n3,4\n5\n", CharsetUtil.CHARSET_UTF_8);
+		try {
+			final List<CsvRow> rows = new ArrayList<>();
+			final ParallelCsvReader reader = new ParallelCsvReader(file, null,
+					CsvReadConfig.defaultConfig().setErrorOnDifferentFieldCount(true)).setChunkSize(1);
+			final IORuntimeException e = assertThrows(IORuntimeException.class, () -> reader.read(rows::add));
+			assertEquals("Line 3 has 1 fields, but first line has 2 fields", e.getMessage());
+			assertEquals(3, rows.size());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void readGbkTest() {
+		// 非UTF-8编码退化为顺序读取
+		final Charset gbk = CharsetUtil.CHARSET_GBK;
+		final File file = writeTemp(CONTENT, gbk);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true);
+			assertData(new CsvReader(file, gbk, config).read(), new ParallelCsvReader(file, gbk, config).setChunkSize(1).read());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	private static File writeTemp(final String content, final Charset charset) {
+		final File file = FileUtil.createTempFile("parallel", ".csv", true);
+		FileUtil.writeString(content, file, charset);
+		return file;
+	}
+
+	private static void assertData(final CsvData expected, final CsvData data) {
+		assertEquals(expected.getHeader(), data.getHeader());
+		assertEquals(expected.getRowCount(), data.getRowCount());
+		for (int i = 0; i < expected.getRowCount(); i++) {
+			final CsvRow expectedRow = expected.getRow(i);
+			final CsvRow row = data.getRow(i);
+			assertEquals(expectedRow.getOriginalLineNumber(), row.getOriginalLineNumber());
+			assertEquals(expectedRow.getRawList(), row.getRawList());
+			assertEquals(expectedRow.headerMap, row.headerMap);
+		}
+	}
+
+	@Data
+	public static class TestBean {
+		private Long id;
+		private String name;
+		private Integer age;
+	}
+}
@@ -41,6 +41,17 @@ public class IdUtilTest {
 		assertEquals(36, randomUUID.length());
 	}
 
+	@Test
+	public void batchTest() {
+		final String[] uuids = IdUtil.fastSimpleUUIDs(10);
+		assertEquals(10, uuids.length);
+		for (final String uuid : uuids) {
+			assertEquals(32, uuid.length());
+		}
+		assertEquals(10, IdUtil.objectIds(10).length);
+		assertEquals(21, IdUtil.nanoIds(3)[2].length());
+	}
+
 	/**
 	 * UUID的性能测试
 	 */
@@ -100,7 +100,8 @@ public class HandleHelper {
 			setter = (null == pd) ? null : pd.getSetter();
 			if(null != setter) {
 				value = getColumnValue(rs, i,  meta.getColumnType(i), TypeUtil.getFirstParamType(setter));
-				ReflectUtil.invokeWithCheck(bean, setter, value);
+				// 使用PropDesc缓存的Setter函数注入，避免每行反射调用，参数检查和转换与ReflectUtil.invokeWithCheck一致
+				pd.setValue(bean, value);
 			}
 		}
 		return bean;
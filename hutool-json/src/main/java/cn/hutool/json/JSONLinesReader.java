@@ -0,0 +1,334 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines（NDJSON）文件并行读取器<br>
+ * 文件按照换行符切分为多个块，每个块通过内存映射读取，并在{@link ForkJoinPool}中并行解析，
+ * 解析结果按照文件中的行顺序依次返回。空行会被忽略。
+ *
+ * <pre>
+ * try (JSONLinesReader reader = JSONLinesReader.of(file)) {
+ *     reader.read(json -&gt; handle(json));
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class JSONLinesReader implements Closeable {
+
+	/**
+	 * 默认块大小：8MB
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	private final FileChannel channel;
+	private final long size;
+	private final JSONConfig config;
+	/**
+	 * 解析使用的线程池
+	 */
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	/**
+	 * 每个块的大小，实际块会延伸到下一个换行符
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * 创建JSONLinesReader，使用UTF-8编码
+	 *
+	 * @param file JSON Lines文件
+	 * @return JSONLinesReader
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesReader of(File file) throws IORuntimeException {
+		return of(file, null);
+	}
+
+	/**
+	 * 创建JSONLinesReader，使用UTF-8编码
+	 *
+	 * @param file   JSON Lines文件
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return JSONLinesReader
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesReader of(File file, JSONConfig config) throws IORuntimeException {
+		return new JSONLinesReader(file.toPath(), config);
+	}
+
+	/**
+	 * 构造，使用UTF-8编码
+	 *
+	 * @param path   JSON Lines文件路径
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesReader(Path path, JSONConfig config) throws IORuntimeException {
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+			this.size = this.channel.size();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+	}
+
+	/**
+	 * 设置解析使用的线程池，默认{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param pool {@link ForkJoinPool}
+	 * @return this
+	 */
+	public JSONLinesReader setPool(ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool);
+		return this;
+	}
+
+	/**
+	 * 设置每个块的大小，默认{@link #DEFAULT_CHUNK_SIZE}
+	 *
+	 * @param chunkSize 块大小
+	 * @return this
+	 */
+	public JSONLinesReader setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0");
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * 按顺序读取每一行JSON并交给处理器处理，处理器在调用线程中执行
+	 *
+	 * @param consumer 处理器
+	 * @throws IORuntimeException IO异常
+	 * @throws JSONException      JSON格式错误
+	 */
+	public void read(Consumer<? super JSON> consumer) throws IORuntimeException, JSONException {
+		final ChunkIterator<JSON> iterator = new ChunkIterator<>(Function.identity());
+		try {
+			while (iterator.hasNext()) {
+				consumer.accept(iterator.next());
+			}
+		} finally {
+			iterator.cancel();
+		}
+	}
+
+	/**
+	 * 按顺序读取每一行JSON为{@link Stream}，空行被忽略，流中不包含{@code null}元素
+	 *
+	 * @return {@link Stream}
+	 */
+	public Stream<JSON> stream() {
+		return stream(Function.identity());
+	}
+
+	/**
+	 * 按顺序读取每一行JSON并转换为Bean，转换结果为{@code null}的行被忽略，流中不包含{@code null}元素
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类型
+	 * @return {@link Stream}
+	 */
+	public <T> Stream<T> stream(Class<T> beanClass) {
+		return stream((json) -> json.toBean(beanClass));
+	}
+
+	/**
+	 * 按顺序读取每一行JSON并转换为{@link Stream}，转换函数在解析线程中并行执行<br>
+	 * 转换结果为{@code null}的行被忽略，因此流中不包含{@code null}元素（{@link Spliterator#NONNULL}）
+	 *
+	 * @param <T>    结果类型
+	 * @param mapper 转换函数
+	 * @return {@link Stream}
+	 */
+	public <T> Stream<T> stream(Function<? super JSON, ? extends T> mapper) {
+		final ChunkIterator<T> iterator = new ChunkIterator<>(mapper);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::cancel);
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.channel);
+	}
+
+	/**
+	 * 查找块的结束位置，即指定位置后第一个换行符的下一个位置
+	 *
+	 * @param position 查找开始位置
+	 * @return 块结束位置（不包含）
+	 */
+	private long chunkEnd(long position) {
+		if (position >= this.size) {
+			return this.size;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(8192);
+		try {
+			while (position < this.size) {
+				buffer.clear();
+				final int read = this.channel.read(buffer, position);
+				if (read <= 0) {
+					break;
+				}
+				for (int i = 0; i < read; i++) {
+					if (buffer.get(i) == '\n') {
+						return position + i + 1;
+					}
+				}
+				position += read;
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this.size;
+	}
+
+	/**
+	 * 解析一个块中的所有行
+	 *
+	 * @param <T>    结果类型
+	 * @param start  块起始位置
+	 * @param end    块结束位置（不包含）
+	 * @param mapper 转换函数
+	 * @return 解析结果
+	 */
+	private <T> List<T> parseChunk(long start, long end, Function<? super JSON, ? extends T> mapper) {
+		final MappedByteBuffer buffer;
+		try {
+			buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final List<T> result = new ArrayList<>();
+		final int limit = buffer.limit();
+		byte[] lineBytes = new byte[256];
+		int lineStart = 0;
+		for (int i = 0; i <= limit; i++) {
+			if (i < limit && buffer.get(i) != '\n') {
+				continue;
+			}
+
+			// [lineStart, i)为一行，去掉末尾的\r
+			int lineEnd = i;
+			if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+				lineEnd--;
+			}
+			final int length = lineEnd - lineStart;
+			if (length > 0) {
+				if (length > lineBytes.length) {
+					lineBytes = new byte[Math.max(length, lineBytes.length << 1)];
+				}
+				buffer.position(lineStart);
+				buffer.get(lineBytes, 0, length);
+				final String line = new String(lineBytes, 0, length, CharsetUtil.CHARSET_UTF_8);
+				if (StrUtil.isNotBlank(line)) {
+					final T value;
+					try {
+						value = mapper.apply(JSONUtil.parse(line, this.config));
+					} catch (RuntimeException e) {
+						throw new JSONException(e, "Invalid JSON line at byte {}", start + lineStart);
+					}
+					if (null != value) {
+						result.add(value);
+					}
+				}
+			}
+			lineStart = i + 1;
+		}
+		return result;
+	}
+
+	/**
+	 * 按块并行解析，并按顺序返回结果的迭代器，同时执行的块数量受限，避免读取过快导致内存占用过高
+	 *
+	 * @param <T> 结果类型
+	 */
+	private class ChunkIterator<T> implements Iterator<T> {
+		private final Function<? super JSON, ? extends T> mapper;
+		private final int maxInFlight;
+		private final Deque<ForkJoinTask<List<T>>> inFlight = new ArrayDeque<>();
+		private long nextStart;
+		private Iterator<T> current = Collections.emptyIterator();
+
+		ChunkIterator(Function<? super JSON, ? extends T> mapper) {
+			this.mapper = mapper;
+			this.maxInFlight = pool.getParallelism() * 2;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (false == current.hasNext()) {
+				submit();
+				final ForkJoinTask<List<T>> task = inFlight.poll();
+				if (null == task) {
+					return false;
+				}
+				current = task.join().iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (false == hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+
+		/**
+		 * 取消所有未完成的解析任务
+		 */
+		void cancel() {
+			ForkJoinTask<List<T>> task;
+			while (null != (task = inFlight.poll())) {
+				task.cancel(false);
+			}
+		}
+
+		/**
+		 * 提交解析任务直到达到并发上限或文件结尾
+		 */
+		private void submit() {
+			while (inFlight.size() < maxInFlight && nextStart < size) {
+				final long start = nextStart;
+				final long end = chunkEnd(start + chunkSize);
+				inFlight.add(pool.submit(() -> parseChunk(start, end, mapper)));
+				nextStart = end;
+			}
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Iterator;
+
+/**
+ * JSON Lines（NDJSON）写出器<br>
+ * 每个对象写出为一行JSON，使用缓冲写出，适用于批量导出场景。
+ *
+ * <pre>
+ * try (JSONLinesWriter writer = JSONLinesWriter.of(file)) {
+ *     writer.writeAll(beans);
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+
+	/**
+	 * 默认缓冲大小：64KB
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * 缓冲写出器
+	 */
+	private final BufferedWriter writer;
+	/**
+	 * 写出JSON使用的Writer，忽略JSONWriter每次写出后的flush，保证缓冲有效
+	 */
+	private final Writer jsonWriter;
+	private final JSONConfig config;
+
+	/**
+	 * 创建JSONLinesWriter，覆盖已有文件，使用UTF-8编码
+	 *
+	 * @param file 文件
+	 * @return JSONLinesWriter
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesWriter of(File file) throws IORuntimeException {
+		return of(file, false);
+	}
+
+	/**
+	 * 创建JSONLinesWriter，使用UTF-8编码
+	 *
+	 * @param file     文件
+	 * @param isAppend 是否追加
+	 * @return JSONLinesWriter
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesWriter of(File file, boolean isAppend) throws IORuntimeException {
+		return new JSONLinesWriter(FileUtil.getWriter(file, CharsetUtil.CHARSET_UTF_8, isAppend), null);
+	}
+
+	/**
+	 * 创建JSONLinesWriter，使用UTF-8编码
+	 *
+	 * @param out {@link OutputStream}
+	 * @return JSONLinesWriter
+	 */
+	public static JSONLinesWriter of(OutputStream out) {
+		return new JSONLinesWriter(IoUtil.getUtf8Writer(out), null);
+	}
+
+	/**
+	 * 创建JSONLinesWriter
+	 *
+	 * @param writer {@link Writer}
+	 * @return JSONLinesWriter
+	 */
+	public static JSONLinesWriter of(Writer writer) {
+		return new JSONLinesWriter(writer, null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param writer {@link Writer}
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONLinesWriter(Writer writer, JSONConfig config) {
+		this.writer = new BufferedWriter(writer, DEFAULT_BUFFER_SIZE);
+		this.jsonWriter = new FilterWriter(this.writer) {
+			@Override
+			public void flush() {
+				// 由JSONLinesWriter控制flush
+			}
+		};
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+	}
+
+	/**
+	 * 写出一行JSON<br>
+	 * <ul>
+	 *     <li>字符串被视为JSON文本原样写出（去除首尾空白），包含换行符的（如格式化后的JSON）解析后紧凑写出</li>
+	 *     <li>数字、Boolean、字符、枚举等简单值写出为对应的JSON值</li>
+	 *     <li>其它对象转为JSON后写出</li>
+	 *     <li>{@code null}被忽略</li>
+	 * </ul>
+	 *
+	 * @param obj 对象、Map、JSON或JSON字符串
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter write(Object obj) throws IORuntimeException {
+		if (null == obj) {
+			return this;
+		}
+		try {
+			if (obj instanceof CharSequence) {
+				final String str = StrUtil.trim((CharSequence) obj);
+				if (StrUtil.containsAny(str, CharUtil.LF, CharUtil.CR)) {
+					// 换行会破坏每行一个JSON的格式，解析后紧凑写出
+					JSONUtil.parse(str, this.config).write(this.jsonWriter);
+				} else {
+					this.writer.write(str);
+				}
+			} else if (isSimpleValue(obj)) {
+				this.writer.write(InternalJSONUtil.valueToString(obj));
+			} else {
+				JSONUtil.parse(obj, this.config).write(this.jsonWriter);
+			}
+			this.writer.write(CharUtil.LF);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多行JSON
+	 *
+	 * @param objs 对象列表
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter writeAll(Iterable<?> objs) throws IORuntimeException {
+		if (null != objs) {
+			writeAll(objs.iterator());
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多行JSON，可通过{@code stream.iterator()}写出{@link java.util.stream.Stream}
+	 *
+	 * @param objs 对象迭代器
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter writeAll(Iterator<?> objs) throws IORuntimeException {
+		if (null != objs) {
+			while (objs.hasNext()) {
+				write(objs.next());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 是否为简单值，即数字、Boolean、字符、枚举、{@link JSONString}或{@link JSONNull}
+	 *
+	 * @param obj 对象
+	 * @return 是否为简单值
+	 */
+	private static boolean isSimpleValue(Object obj) {
+		return obj instanceof Number
+				|| obj instanceof Enum
+				|| obj instanceof JSONString
+				|| obj instanceof JSONNull
+				|| ObjectUtil.isBasicType(obj);
+	}
+
+	@Override
+	public void flush() throws IORuntimeException {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.writer);
+	}
+}
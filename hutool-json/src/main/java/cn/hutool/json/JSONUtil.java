@@ -229,6 +229,31 @@ public class JSONUtil {
 		return json;
 	}
 
+	/**
+	 * JSON字符串转为惰性解析的{@link LazyJSON}<br>
+	 * 只建立结构索引，按路径访问时仅解析命中的值，适用于从大JSON中读取少量字段的场景。
+	 *
+	 * @param jsonStr JSON字符串，必须以'{'或'['开头
+	 * @return {@link LazyJSON}
+	 * @since 5.8.34
+	 */
+	public static LazyJSON parseLazy(CharSequence jsonStr) {
+		return parseLazy(jsonStr, null);
+	}
+
+	/**
+	 * JSON字符串转为惰性解析的{@link LazyJSON}<br>
+	 * 只建立结构索引，按路径访问时仅解析命中的值，适用于从大JSON中读取少量字段的场景。
+	 *
+	 * @param jsonStr JSON字符串，必须以'{'或'['开头
+	 * @param config  JSON配置，{@code null}使用默认配置
+	 * @return {@link LazyJSON}
+	 * @since 5.8.34
+	 */
+	public static LazyJSON parseLazy(CharSequence jsonStr, JSONConfig config) {
+		return LazyJSON.of(jsonStr, config);
+	}
+
 	/**
 	 * XML字符串转为JSONObject
 	 *
@@ -0,0 +1,712 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanPath;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 惰性解析的JSON<br>
+ * 构建时只对JSON字符串做一次结构扫描，记录每个对象和数组的起止位置，并不生成{@link JSONObject}或{@link JSONArray}。
+ * 通过{@link #getByPath(String)}或{@link #getByPointer(String)}访问时，借助结构索引直接跳过无关的子树，
+ * 仅将命中的值（或子树）解析为对应的对象，适用于只读取大JSON中少量字段的场景。
+ *
+ * <pre>
+ * LazyJSON json = JSONUtil.parseLazy(message);
+ * String traceId = json.getByPath("$.header.traceId", String.class);
+ * </pre>
+ * <p>
+ * 注意：{@link #putByPath(String, Object)}、{@link #write(Writer, int, int)}等需要完整对象的操作会解析整个JSON，
+ * 此后的读取都通过解析后的{@link #toJSON()}完成，从而能读取到修改后的值。<br>
+ * 读取操作是线程安全的，修改操作与{@link JSONObject}一样不是线程安全的。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class LazyJSON implements JSON {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 表示路径未命中
+	 */
+	private static final int NOT_FOUND = -1;
+
+	/**
+	 * 原始JSON字符串
+	 */
+	private final String text;
+	/**
+	 * 配置项
+	 */
+	private final JSONConfig config;
+	/**
+	 * 根节点起始位置
+	 */
+	private final int rootStart;
+	/**
+	 * 所有对象和数组的起始位置，按位置升序排列
+	 */
+	private int[] opens;
+	/**
+	 * 与{@link #opens}一一对应的结束位置
+	 */
+	private int[] closes;
+	/**
+	 * 对象和数组的数量
+	 */
+	private int count;
+	/**
+	 * 已解析的子树缓存，key为子树起始位置
+	 */
+	private transient volatile Map<Integer, Object> materialized;
+	/**
+	 * 解析后的整个JSON，非{@code null}时所有读取都通过它完成
+	 */
+	private volatile JSON root;
+
+	/**
+	 * 创建LazyJSON
+	 *
+	 * @param text   JSON字符串，必须以'{'或'['开头
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return LazyJSON
+	 * @throws JSONException JSON格式错误
+	 */
+	public static LazyJSON of(CharSequence text, JSONConfig config) throws JSONException {
+		return new LazyJSON(text, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param text   JSON字符串，必须以'{'或'['开头
+	 * @param config JSON配置，{@code null}使用默认配置（不忽略null值）
+	 * @throws JSONException JSON格式错误
+	 */
+	public LazyJSON(CharSequence text, JSONConfig config) throws JSONException {
+		this.text = StrUtil.str(text);
+		if (null == this.text) {
+			throw new JSONException("JSON text must be not null!");
+		}
+		// 与JSONObject解析字符串时一致，默认不忽略null值
+		this.config = ObjectUtil.defaultIfNull(config, () -> JSONConfig.create().setIgnoreNullValue(false));
+		this.rootStart = skipWhitespace(0, this.text.length());
+		if (this.rootStart >= this.text.length()) {
+			throw new JSONException("JSON text must be not blank!");
+		}
+		final char first = this.text.charAt(this.rootStart);
+		if (first != '{' && first != '[') {
+			throw new JSONException("A JSON text must begin with '{' or '[' at {}", this.rootStart);
+		}
+		index();
+	}
+
+	@Override
+	public JSONConfig getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * 根节点是否为JSON对象
+	 *
+	 * @return 是否为JSON对象
+	 */
+	public boolean isObject() {
+		return this.text.charAt(this.rootStart) == '{';
+	}
+
+	/**
+	 * 解析整个JSON，返回{@link JSONObject}或{@link JSONArray}，结果会被缓存<br>
+	 * 对返回对象的修改在此后的读取中可见
+	 *
+	 * @return {@link JSONObject}或{@link JSONArray}
+	 */
+	public JSON toJSON() {
+		JSON root = this.root;
+		if (null == root) {
+			root = (JSON) materialize(this.rootStart, closeOf(this.rootStart) + 1);
+			this.root = root;
+		}
+		return root;
+	}
+
+	/**
+	 * 通过表达式获取JSON中嵌套的对象，表达式规则与{@link BeanPath}一致<br>
+	 * 路径上的对象和数组只做定位，不会被解析，仅命中的值会被解析并返回。
+	 *
+	 * @param expression 表达式
+	 * @return 对象，不存在返回{@code null}
+	 * @see BeanPath#get(Object)
+	 */
+	@Override
+	public Object getByPath(String expression) {
+		final JSON root = this.root;
+		if (null != root) {
+			return root.getByPath(expression);
+		}
+
+		final List<String> parts = BeanPath.create(expression).getPatternParts();
+		final boolean isStartWith = StrUtil.startWith(expression, '$');
+
+		int start = this.rootStart;
+		boolean isFirst = true;
+		String part;
+		for (int i = 0; i < parts.size(); i++) {
+			part = parts.get(i);
+			if (StrUtil.isBlank(part)) {
+				return null;
+			}
+			if (false == isSimplePart(start, part)) {
+				// 切片、多键等复杂表达式，解析当前子树后交给BeanPath处理
+				final Object subBean = materialize(start, valueEnd(start));
+				return BeanPath.create(toExpression(parts.subList(i, parts.size()))).get(subBean);
+			}
+
+			final int found = find(start, part);
+			if (NOT_FOUND == found) {
+				// 与BeanPath一致，支持表达式的第一个对象为Bean本身
+				if (isFirst && false == isStartWith && isMatchRootName(part)) {
+					isFirst = false;
+					start = this.rootStart;
+					continue;
+				}
+				return null;
+			}
+			start = found;
+		}
+		return valueAt(start);
+	}
+
+	@Override
+	public <T> T getByPath(String expression, Class<T> resultType) {
+		return JSONConverter.jsonConvert(resultType, getByPath(expression), getConfig());
+	}
+
+	/**
+	 * 通过JSON Pointer（RFC 6901）获取JSON中嵌套的对象，如：
+	 *
+	 * <pre>
+	 * /header/traceId
+	 * /items/0/name
+	 * </pre>
+	 *
+	 * @param pointer JSON Pointer，空字符串表示整个JSON
+	 * @return 对象，不存在返回{@code null}
+	 * @throws JSONException Pointer格式错误
+	 */
+	public Object getByPointer(String pointer) throws JSONException {
+		if (StrUtil.isEmpty(pointer)) {
+			return toJSON();
+		}
+		if (pointer.charAt(0) != '/') {
+			throw new JSONException("JSON Pointer must start with '/': {}", pointer);
+		}
+		final List<String> tokens = StrUtil.split(pointer.substring(1), '/');
+		final JSON root = this.root;
+		if (null != root) {
+			return getByPointer(root, tokens);
+		}
+
+		int start = this.rootStart;
+		for (String token : tokens) {
+			token = unescape(token);
+			final char c = this.text.charAt(start);
+			if (c == '[' && false == NumberUtil.isInteger(token)) {
+				return null;
+			}
+			start = (c == '{' || c == '[') ? find(start, token) : NOT_FOUND;
+			if (NOT_FOUND == start) {
+				return null;
+			}
+		}
+		return valueAt(start);
+	}
+
+	/**
+	 * 通过JSON Pointer（RFC 6901）获取JSON中嵌套的对象，并转换为指定类型
+	 *
+	 * @param <T>        返回值类型
+	 * @param pointer    JSON Pointer
+	 * @param resultType 返回值类型
+	 * @return 对象
+	 */
+	public <T> T getByPointer(String pointer, Class<T> resultType) {
+		return JSONConverter.jsonConvert(resultType, getByPointer(pointer), getConfig());
+	}
+
+	/**
+	 * 设置表达式指定位置的值，此操作会解析整个JSON
+	 *
+	 * @param expression 表达式
+	 * @param value      值
+	 */
+	@Override
+	public void putByPath(String expression, Object value) {
+		toJSON().putByPath(expression, value);
+	}
+
+	@Override
+	public Writer write(Writer writer, int indentFactor, int indent) throws JSONException {
+		return toJSON().write(writer, indentFactor, indent);
+	}
+
+	@Override
+	public <T> T toBean(Type type) {
+		return toJSON().toBean(type);
+	}
+
+	@Override
+	public String toString() {
+		return toJSON().toString();
+	}
+
+	// region ----- Private methods
+
+	/**
+	 * 在解析后的JSON中按照JSON Pointer查找
+	 *
+	 * @param root   解析后的JSON
+	 * @param tokens JSON Pointer各部分
+	 * @return 对象，不存在返回{@code null}
+	 */
+	private static Object getByPointer(JSON root, List<String> tokens) {
+		Object current = root;
+		String token;
+		for (String rawToken : tokens) {
+			token = unescape(rawToken);
+			if (current instanceof JSONObject) {
+				current = ((JSONObject) current).get(token);
+			} else if (current instanceof JSONArray && NumberUtil.isInteger(token)) {
+				final JSONArray array = (JSONArray) current;
+				final int index = Integer.parseInt(token);
+				current = (index >= 0 && index < array.size()) ? array.get(index) : null;
+			} else {
+				return null;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * 还原JSON Pointer中转义的'/'和'~'
+	 *
+	 * @param token JSON Pointer的一部分
+	 * @return 还原后的key
+	 */
+	private static String unescape(String token) {
+		return token.replace("~1", "/").replace("~0", "~");
+	}
+
+	/**
+	 * 扫描整个字符串，建立对象和数组的起止位置索引
+	 */
+	private void index() {
+		final String text = this.text;
+		final int length = text.length();
+		int[] opens = new int[16];
+		int[] closes = new int[16];
+		int[] stack = new int[16];
+		int depth = 0;
+		int count = 0;
+
+		char c;
+		for (int i = this.rootStart; i < length; i++) {
+			c = text.charAt(i);
+			switch (c) {
+				case '"':
+				case '\'':
+					i = stringEnd(i, length);
+					break;
+				case '{':
+				case '[':
+					if (count == opens.length) {
+						opens = Arrays.copyOf(opens, count << 1);
+						closes = Arrays.copyOf(closes, count << 1);
+					}
+					if (depth == stack.length) {
+						stack = Arrays.copyOf(stack, depth << 1);
+					}
+					opens[count] = i;
+					stack[depth++] = count++;
+					break;
+				case '}':
+				case ']':
+					if (0 == depth) {
+						throw new JSONException("Unexpected '{}' at {}", c, i);
+					}
+					final int open = stack[--depth];
+					if ((c == '}') != (text.charAt(opens[open]) == '{')) {
+						throw new JSONException("Mismatched '{}' at {}", c, i);
+					}
+					closes[open] = i;
+					if (0 == depth) {
+						// 根节点结束，忽略后续内容
+						this.opens = opens;
+						this.closes = closes;
+						this.count = count;
+						return;
+					}
+					break;
+				default:
+					break;
+			}
+		}
+		throw new JSONException("Unclosed '{}' at {}", text.charAt(opens[stack[depth - 1]]), opens[stack[depth - 1]]);
+	}
+
+	/**
+	 * 查找字符串结束的引号位置
+	 *
+	 * @param quoteIndex 起始引号位置
+	 * @param end        查找截止位置
+	 * @return 结束引号位置
+	 */
+	private int stringEnd(int quoteIndex, int end) {
+		final char quote = this.text.charAt(quoteIndex);
+		char c;
+		for (int i = quoteIndex + 1; i < end; i++) {
+			c = this.text.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == quote) {
+				return i;
+			}
+		}
+		throw new JSONException("Unterminated string at {}", quoteIndex);
+	}
+
+	/**
+	 * 获取对象或数组的结束位置
+	 *
+	 * @param openIndex 起始位置
+	 * @return 结束位置
+	 */
+	private int closeOf(int openIndex) {
+		return this.closes[Arrays.binarySearch(this.opens, 0, this.count, openIndex)];
+	}
+
+	/**
+	 * 获取值的结束位置（不包含）
+	 *
+	 * @param start 值起始位置
+	 * @return 值结束位置（不包含）
+	 */
+	private int valueEnd(int start) {
+		final String text = this.text;
+		final int length = text.length();
+		char c = text.charAt(start);
+		switch (c) {
+			case '{':
+			case '[':
+				return closeOf(start) + 1;
+			case '"':
+			case '\'':
+				return stringEnd(start, length) + 1;
+			default:
+				int i = start;
+				while (i < length) {
+					c = text.charAt(i);
+					if (c == ',' || c == ';' || c == '}' || c == ']') {
+						break;
+					}
+					i++;
+				}
+				return i;
+		}
+	}
+
+	/**
+	 * 跳过空白符
+	 *
+	 * @param start 起始位置
+	 * @param end   截止位置
+	 * @return 第一个非空白符位置
+	 */
+	private int skipWhitespace(int start, int end) {
+		while (start < end && this.text.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	/**
+	 * 在对象或数组中查找key或下标对应值的起始位置
+	 *
+	 * @param start 对象或数组起始位置
+	 * @param part  key或下标
+	 * @return 值起始位置，未找到返回{@link #NOT_FOUND}
+	 */
+	private int find(int start, String part) {
+		if (this.text.charAt(start) == '{') {
+			return findInObject(start, part);
+		}
+		return findInArray(start, Integer.parseInt(part));
+	}
+
+	/**
+	 * 在对象中查找key对应值的起始位置，重复key以最后一个为准
+	 *
+	 * @param start 对象起始位置
+	 * @param key   key
+	 * @return 值起始位置，未找到返回{@link #NOT_FOUND}
+	 */
+	private int findInObject(int start, String key) {
+		final String text = this.text;
+		final int end = closeOf(start);
+		final boolean ignoreCase = this.config.isIgnoreCase();
+
+		int found = NOT_FOUND;
+		int i = start + 1;
+		int keyStart;
+		int keyEnd;
+		int valueEnd;
+		boolean matched;
+		while (true) {
+			i = skipWhitespace(i, end);
+			if (i >= end) {
+				return found;
+			}
+
+			// key
+			final char c = text.charAt(i);
+			if (c == '"' || c == '\'') {
+				keyEnd = stringEnd(i, end);
+				matched = keyEquals(i, keyEnd, key, ignoreCase);
+				i = keyEnd + 1;
+			} else {
+				keyStart = i;
+				while (i < end && text.charAt(i) != ':') {
+					i++;
+				}
+				matched = StrUtil.equals(text.substring(keyStart, i).trim(), key, ignoreCase);
+			}
+
+			i = skipWhitespace(i, end);
+			if (i >= end || text.charAt(i) != ':') {
+				throw new JSONException("Expected a ':' after a key at {}", i);
+			}
+			i = skipWhitespace(i + 1, end);
+
+			// value，忽略null模式下null值等同于移除key
+			valueEnd = valueEnd(i);
+			if (matched) {
+				found = (this.config.isIgnoreNullValue() && isNullValue(i, valueEnd)) ? NOT_FOUND : i;
+			}
+			i = skipWhitespace(valueEnd, end);
+			if (i < end) {
+				final char separator = text.charAt(i);
+				if (separator != ',' && separator != ';') {
+					throw new JSONException("Expected a ',' or '}' at {}", i);
+				}
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * 在数组中查找指定下标值的起始位置，忽略null模式下null值不计入下标
+	 *
+	 * @param start 数组起始位置
+	 * @param index 下标
+	 * @return 值起始位置，未找到返回{@link #NOT_FOUND}
+	 */
+	private int findInArray(int start, int index) {
+		final String text = this.text;
+		final int end = closeOf(start);
+		final boolean ignoreNullValue = this.config.isIgnoreNullValue();
+
+		int current = 0;
+		int i = start + 1;
+		int valueEnd;
+		while (true) {
+			i = skipWhitespace(i, end);
+			if (i >= end) {
+				return NOT_FOUND;
+			}
+
+			valueEnd = text.charAt(i) == ',' ? i : valueEnd(i);
+			if (false == (ignoreNullValue && isNullValue(i, valueEnd))) {
+				if (current == index) {
+					return i;
+				}
+				current++;
+			}
+
+			i = skipWhitespace(valueEnd, end);
+			if (i < end) {
+				if (text.charAt(i) != ',') {
+					throw new JSONException("Expected a ',' or ']' at {}", i);
+				}
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * 比较带引号的key是否与给定key相等，不含转义符时不产生新字符串
+	 *
+	 * @param quoteStart 起始引号位置
+	 * @param quoteEnd   结束引号位置
+	 * @param key        给定key
+	 * @param ignoreCase 是否忽略大小写
+	 * @return 是否相等
+	 */
+	private boolean keyEquals(int quoteStart, int quoteEnd, String key, boolean ignoreCase) {
+		boolean hasEscape = false;
+		for (int i = quoteStart + 1; i < quoteEnd; i++) {
+			if (this.text.charAt(i) == '\\') {
+				hasEscape = true;
+				break;
+			}
+		}
+		if (false == hasEscape) {
+			final int length = quoteEnd - quoteStart - 1;
+			return length == key.length() && this.text.regionMatches(ignoreCase, quoteStart + 1, key, 0, length);
+		}
+		final String decoded = new JSONTokener(this.text.substring(quoteStart + 1, quoteEnd + 1), this.config)
+				.nextString(this.text.charAt(quoteStart));
+		return StrUtil.equals(decoded, key, ignoreCase);
+	}
+
+	/**
+	 * 值是否为null
+	 *
+	 * @param start 值起始位置
+	 * @param end   值结束位置（不包含）
+	 * @return 是否为null
+	 */
+	private boolean isNullValue(int start, int end) {
+		if (end - start > 8) {
+			// 过长的值不可能是null，避免截取大的子串
+			return false;
+		}
+		final String value = this.text.substring(start, end).trim();
+		return value.isEmpty() || StrUtil.NULL.equalsIgnoreCase(value);
+	}
+
+	/**
+	 * 当前位置是否可以直接定位，否则需要解析子树后交给{@link BeanPath}处理
+	 *
+	 * @param start 当前值起始位置
+	 * @param part  表达式块
+	 * @return 是否可以直接定位
+	 */
+	private boolean isSimplePart(int start, String part) {
+		if (StrUtil.containsAny(part, ':', ',')) {
+			return false;
+		}
+		switch (this.text.charAt(start)) {
+			case '{':
+				return true;
+			case '[':
+				// 负数下标和非数字（对每个元素取值）交给BeanPath处理
+				return NumberUtil.isInteger(part) && false == StrUtil.startWith(part, '-');
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * 表达式块是否与根节点的类名匹配，与{@link cn.hutool.core.bean.BeanUtil#isMatchName(Object, String, boolean)}一致
+	 *
+	 * @param part 表达式块
+	 * @return 是否匹配
+	 */
+	private boolean isMatchRootName(String part) {
+		final String rootName = isObject() ? JSONObject.class.getSimpleName() : JSONArray.class.getSimpleName();
+		return rootName.equals(StrUtil.upperFirst(part));
+	}
+
+	/**
+	 * 解析指定位置的值
+	 *
+	 * @param start 值起始位置
+	 * @return 值
+	 */
+	private Object valueAt(int start) {
+		return materialize(start, valueEnd(start));
+	}
+
+	/**
+	 * 解析指定区间的值，对象和数组会被缓存
+	 *
+	 * @param start 起始位置
+	 * @param end   结束位置（不包含）
+	 * @return 值
+	 */
+	private Object materialize(int start, int end) {
+		final char c = this.text.charAt(start);
+		final boolean isContainer = c == '{' || c == '[';
+		Map<Integer, Object> materialized = null;
+		if (isContainer) {
+			materialized = materializedMap();
+			final Object cached = materialized.get(start);
+			if (null != cached) {
+				return cached;
+			}
+		}
+
+		final Object value;
+		if (start == end) {
+			// 数组中的空元素
+			value = JSONNull.NULL;
+		} else {
+			value = JSONUtil.wrap(new JSONTokener(this.text.substring(start, end), this.config).nextValue(), this.config);
+		}
+		if (isContainer) {
+			// 并发解析同一子树时以先放入的为准，保证返回同一对象
+			final Object existing = materialized.putIfAbsent(start, value);
+			if (null != existing) {
+				return existing;
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 获取已解析子树缓存，不存在时创建
+	 *
+	 * @return 已解析子树缓存
+	 */
+	private Map<Integer, Object> materializedMap() {
+		Map<Integer, Object> materialized = this.materialized;
+		if (null == materialized) {
+			synchronized (this) {
+				materialized = this.materialized;
+				if (null == materialized) {
+					materialized = new SafeConcurrentHashMap<>();
+					this.materialized = materialized;
+				}
+			}
+		}
+		return materialized;
+	}
+
+	/**
+	 * 将表达式块重新组装为{@link BeanPath}表达式
+	 *
+	 * @param parts 表达式块
+	 * @return 表达式
+	 */
+	private static String toExpression(List<String> parts) {
+		final StringBuilder builder = new StringBuilder("$");
+		for (String part : parts) {
+			builder.append('[');
+			if (StrUtil.containsAny(part, ':', ',') || NumberUtil.isInteger(part)) {
+				builder.append(part);
+			} else {
+				builder.append('\'').append(part).append('\'');
+			}
+			builder.append(']');
+		}
+		return builder.toString();
+	}
+	// endregion
+}
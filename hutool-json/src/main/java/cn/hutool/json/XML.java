@@ -3,14 +3,19 @@ package cn.hutool.json;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.json.xml.JSONXMLParser;
 import cn.hutool.json.xml.JSONXMLSerializer;
+import cn.hutool.json.xml.JSONXMLStreamParser;
 import cn.hutool.json.xml.ParseConfig;
 
+import java.io.InputStream;
+import java.io.Reader;
+
 /**
  * 提供静态方法在XML和JSONObject之间转换
  *
  * @author JSON.org, looly
  * @see JSONXMLParser
  * @see JSONXMLSerializer
+ * @see JSONXMLStreamParser
  */
 public class XML {
 
@@ -135,6 +140,34 @@ public class XML {
 		return jo;
 	}
 
+	/**
+	 * 使用StAX流式转换XML为JSONObject，无需将XML读取为字符串，适用于大XML<br>
+	 * 转换规则与{@link #toJSONObject(String, ParseConfig)}一致，XML须格式正确，DTD和外部实体不被解析。
+	 *
+	 * @param reader      XML内容，由调用者关闭
+	 * @param parseConfig XML解析选项，{@code null}使用默认选项
+	 * @return JSONObject
+	 * @throws JSONException 解析异常
+	 * @since 5.8.34
+	 */
+	public static JSONObject toJSONObject(final Reader reader, final ParseConfig parseConfig) throws JSONException {
+		return JSONXMLStreamParser.parseJSONObject(reader, parseConfig, null);
+	}
+
+	/**
+	 * 使用StAX流式转换XML为JSONObject，编码由XML声明决定，默认UTF-8<br>
+	 * 转换规则与{@link #toJSONObject(String, ParseConfig)}一致，XML须格式正确，DTD和外部实体不被解析。
+	 *
+	 * @param in          XML内容，由调用者关闭
+	 * @param parseConfig XML解析选项，{@code null}使用默认选项
+	 * @return JSONObject
+	 * @throws JSONException 解析异常
+	 * @since 5.8.34
+	 */
+	public static JSONObject toJSONObject(final InputStream in, final ParseConfig parseConfig) throws JSONException {
+		return JSONXMLStreamParser.parseJSONObject(in, parseConfig, null);
+	}
+
 	/**
 	 * 转换JSONObject为XML
 	 *
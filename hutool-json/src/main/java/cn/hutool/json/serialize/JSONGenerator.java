@@ -0,0 +1,374 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONUtil;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * JSON流式生成器<br>
+ * 基于{@link JSONWriter}，通过beginObject、name、value、beginArray等方法直接将JSON写出到{@link Writer}，
+ * 无需先在内存中构建{@link cn.hutool.json.JSONObject}或{@link cn.hutool.json.JSONArray}，适用于生成大JSON文档。
+ *
+ * <pre>
+ * try (JSONGenerator generator = JSONGenerator.of(out)) {
+ *     generator.beginObject()
+ *         .field("total", 100)
+ *         .name("rows").writeArray(beanStream)
+ *         .endObject();
+ * }
+ * </pre>
+ * <p>
+ * 缩进、忽略null值、日期格式等均遵循{@link JSONConfig}中的配置。
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class JSONGenerator implements Closeable, Flushable {
+
+	/**
+	 * 默认缓冲大小：64KB
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * 原始Writer
+	 */
+	private final Writer writer;
+	/**
+	 * 传递给{@link JSONWriter}的Writer，忽略其在每个对象结束时的flush，保证缓冲有效
+	 */
+	private final Writer noFlushWriter;
+	/**
+	 * 缩进因子
+	 */
+	private final int indentFactor;
+	/**
+	 * JSON选项
+	 */
+	private final JSONConfig config;
+	/**
+	 * 当前嵌套的对象或数组
+	 */
+	private final Deque<Context> stack = new ArrayDeque<>();
+	/**
+	 * 根节点是否已经写出
+	 */
+	private boolean rootWritten;
+
+	/**
+	 * 创建JSONGenerator，使用UTF-8编码，无缩进
+	 *
+	 * @param out {@link OutputStream}
+	 * @return JSONGenerator
+	 */
+	public static JSONGenerator of(OutputStream out) {
+		return of(out, 0, null);
+	}
+
+	/**
+	 * 创建JSONGenerator，使用UTF-8编码
+	 *
+	 * @param out          {@link OutputStream}
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量，0表示不缩进
+	 * @param config       JSON选项，{@code null}使用默认配置
+	 * @return JSONGenerator
+	 */
+	public static JSONGenerator of(OutputStream out, int indentFactor, JSONConfig config) {
+		return of(IoUtil.getUtf8Writer(out), indentFactor, config);
+	}
+
+	/**
+	 * 创建JSONGenerator，无缩进
+	 *
+	 * @param writer {@link Writer}
+	 * @return JSONGenerator
+	 */
+	public static JSONGenerator of(Writer writer) {
+		return of(writer, 0, null);
+	}
+
+	/**
+	 * 创建JSONGenerator
+	 *
+	 * @param writer       {@link Writer}
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量，0表示不缩进
+	 * @param config       JSON选项，{@code null}使用默认配置
+	 * @return JSONGenerator
+	 */
+	public static JSONGenerator of(Writer writer, int indentFactor, JSONConfig config) {
+		return new JSONGenerator(writer, indentFactor, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param writer       {@link Writer}，非{@link BufferedWriter}时自动包装缓冲
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量，0表示不缩进
+	 * @param config       JSON选项，{@code null}使用默认配置
+	 */
+	public JSONGenerator(Writer writer, int indentFactor, JSONConfig config) {
+		this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer, DEFAULT_BUFFER_SIZE);
+		this.noFlushWriter = new FilterWriter(this.writer) {
+			@Override
+			public void flush() {
+				// 由JSONGenerator控制flush
+			}
+		};
+		this.indentFactor = indentFactor;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+	}
+
+	/**
+	 * 开始写出JSONObject，写出"{"
+	 *
+	 * @return this
+	 * @throws JSONException 当前位置不能写出值
+	 */
+	public JSONGenerator beginObject() throws JSONException {
+		final int indent = beginValue();
+		stack.push(new Context(JSONWriter.of(noFlushWriter, indentFactor, indent, config).beginObj(), false, indent));
+		return this;
+	}
+
+	/**
+	 * 结束当前JSONObject，写出"}"
+	 *
+	 * @return this
+	 * @throws JSONException 当前不在JSONObject中
+	 */
+	public JSONGenerator endObject() throws JSONException {
+		return end(false);
+	}
+
+	/**
+	 * 开始写出JSONArray，写出"["
+	 *
+	 * @return this
+	 * @throws JSONException 当前位置不能写出值
+	 */
+	public JSONGenerator beginArray() throws JSONException {
+		final int indent = beginValue();
+		stack.push(new Context(JSONWriter.of(noFlushWriter, indentFactor, indent, config).beginArray(), true, indent));
+		return this;
+	}
+
+	/**
+	 * 结束当前JSONArray，写出"]"
+	 *
+	 * @return this
+	 * @throws JSONException 当前不在JSONArray中
+	 */
+	public JSONGenerator endArray() throws JSONException {
+		return end(true);
+	}
+
+	/**
+	 * 写出字段名，之后必须调用value、beginObject或beginArray写出对应的值
+	 *
+	 * @param name 字段名
+	 * @return this
+	 * @throws JSONException 当前不在JSONObject中，或上一个字段名还未写出值
+	 */
+	public JSONGenerator name(String name) throws JSONException {
+		final Context context = stack.peek();
+		if (null == context || context.array) {
+			throw new JSONException("Name must be written in a JSONObject: {}", name);
+		}
+		if (null != context.name) {
+			throw new JSONException("Name [{}] is waiting for a value", context.name);
+		}
+		context.name = name;
+		return this;
+	}
+
+	/**
+	 * 写出值，值可以是基本类型、字符串、日期、JSON、Map、集合、数组或Bean，复杂对象按照{@link JSONConfig}转换后写出<br>
+	 * 如果值为{@code null}且配置忽略null值，在JSONObject中对应的字段名也不会写出。
+	 *
+	 * @param value 值
+	 * @return this
+	 * @throws JSONException 当前位置不能写出值
+	 */
+	public JSONGenerator value(Object value) throws JSONException {
+		final Context context = stack.peek();
+		if (null == context) {
+			// 根节点
+			final Object wrapped = JSONUtil.wrap(value, config);
+			if (false == (wrapped instanceof JSON)) {
+				throw new JSONException("Root value must be a JSONObject or JSONArray: {}", value);
+			}
+			checkRoot();
+			((JSON) wrapped).write(noFlushWriter, indentFactor, 0);
+			return this;
+		}
+
+		if (false == context.array && null == context.name) {
+			throw new JSONException("Value must be written after a name in a JSONObject: {}", value);
+		}
+		if (JSONUtil.isNull(value) && config.isIgnoreNullValue()) {
+			// 忽略null值，字段名同样不写出
+			context.name = null;
+			return this;
+		}
+		writeName(context).writeValue(JSONUtil.wrap(value, config));
+		return this;
+	}
+
+	/**
+	 * 写出字段名和值，等同于{@code name(name).value(value)}
+	 *
+	 * @param name  字段名
+	 * @param value 值
+	 * @return this
+	 * @throws JSONException 当前不在JSONObject中
+	 */
+	public JSONGenerator field(String name, Object value) throws JSONException {
+		return name(name).value(value);
+	}
+
+	/**
+	 * 将迭代器中的元素逐个写出为JSONArray，元素按需转换，不会一次性加载到内存中
+	 *
+	 * @param values 元素迭代器
+	 * @return this
+	 * @throws JSONException 当前位置不能写出值
+	 */
+	public JSONGenerator writeArray(Iterator<?> values) throws JSONException {
+		beginArray();
+		if (null != values) {
+			while (values.hasNext()) {
+				value(values.next());
+			}
+		}
+		return endArray();
+	}
+
+	/**
+	 * 将{@link Stream}中的元素逐个写出为JSONArray，元素按需转换，不会一次性加载到内存中
+	 *
+	 * @param values 元素流
+	 * @return this
+	 * @throws JSONException 当前位置不能写出值
+	 */
+	public JSONGenerator writeArray(Stream<?> values) throws JSONException {
+		return writeArray(null == values ? null : values.iterator());
+	}
+
+	@Override
+	public void flush() throws IORuntimeException {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 关闭，会先flush写出所有内容
+	 */
+	@Override
+	public void close() {
+		flush();
+		IoUtil.close(this.writer);
+	}
+
+	// region ----- Private methods
+
+	/**
+	 * 在当前位置开始一个对象或数组，写出所需的字段名、分隔符和缩进
+	 *
+	 * @return 新对象或数组的缩进量
+	 */
+	private int beginValue() {
+		final Context parent = stack.peek();
+		if (null == parent) {
+			checkRoot();
+			return 0;
+		}
+
+		if (false == parent.array && null == parent.name) {
+			throw new JSONException("JSONObject or JSONArray must be written after a name in a JSONObject");
+		}
+		writeName(parent).writeValuePrefix();
+		return parent.indent + indentFactor;
+	}
+
+	/**
+	 * 结束当前对象或数组
+	 *
+	 * @param array 是否为数组
+	 * @return this
+	 */
+	private JSONGenerator end(boolean array) {
+		final Context context = stack.peek();
+		if (null == context || context.array != array) {
+			throw new JSONException("No {} to end", array ? "JSONArray" : "JSONObject");
+		}
+		if (null != context.name) {
+			throw new JSONException("Name [{}] is waiting for a value", context.name);
+		}
+		stack.pop();
+		context.writer.end();
+		return this;
+	}
+
+	/**
+	 * 如果当前为JSONObject，写出等待中的字段名
+	 *
+	 * @param context 当前对象或数组
+	 * @return 当前对象或数组的{@link JSONWriter}
+	 */
+	private JSONWriter writeName(Context context) {
+		if (null != context.name) {
+			context.writer.writeKey(context.name);
+			context.name = null;
+		}
+		return context.writer;
+	}
+
+	/**
+	 * 检查根节点只能写出一次
+	 */
+	private void checkRoot() {
+		if (rootWritten) {
+			throw new JSONException("Root value has already been written");
+		}
+		rootWritten = true;
+	}
+
+	/**
+	 * 正在写出的对象或数组
+	 */
+	private static class Context {
+		final JSONWriter writer;
+		final boolean array;
+		final int indent;
+		/**
+		 * 等待写出值的字段名
+		 */
+		String name;
+
+		Context(JSONWriter writer, boolean array, int indent) {
+			this.writer = writer;
+			this.array = array;
+			this.indent = indent;
+		}
+	}
+	// endregion
+}
@@ -220,6 +220,16 @@ public class JSONWriter extends Writer {
 	 * @return this
 	 */
 	private JSONWriter writeValueDirect(Object value, Filter<MutablePair<Object, Object>> filter) {
+		return writeValuePrefix().writeObjValue(value, filter);
+	}
+
+	/**
+	 * 写出值前的分隔符和缩进：JSONArray模式下写出逗号和缩进，JSONObject模式下写出冒号<br>
+	 * 用于{@link JSONGenerator}在当前位置开始写出嵌套的对象或数组
+	 *
+	 * @return this
+	 */
+	JSONWriter writeValuePrefix() {
 		if (arrayMode) {
 			if (needSeparator) {
 				writeRaw(CharUtil.COMMA);
@@ -230,7 +240,7 @@ public class JSONWriter extends Writer {
 			writeRaw(CharUtil.COLON).writeSpace(1);
 		}
 		needSeparator = true;
-		return writeObjValue(value, filter);
+		return this;
 	}
 
 	/**
@@ -0,0 +1,425 @@
+package cn.hutool.json.xml;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.InternalJSONUtil;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.serialize.JSONGenerator;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * 基于StAX（{@link XMLStreamReader}）的XML解析器，将XML解析为JSON对象<br>
+ * 转换规则与{@link JSONXMLParser}一致：属性和子节点作为键值，文本放在"content"中，相同的节点处理为JSONArray，
+ * 仅包含文本的节点直接转换为值，{@link ParseConfig}中的选项同样生效。与{@link JSONXMLParser}相比：
+ * <ul>
+ *     <li>直接读取{@link Reader}或{@link InputStream}，无需先将XML读取为字符串；</li>
+ *     <li>支持按记录节点逐条输出（{@link #parseRecords(Reader, String, ParseConfig, JSONConfig, Consumer)}），
+ *     解析大XML时内存占用只与单条记录大小有关；</li>
+ *     <li>XML必须格式正确（如只能有一个根节点），DTD和外部实体不会被解析，防止XXE。</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.34
+ */
+public class JSONXMLStreamParser {
+
+	private static final String CONTENT = "content";
+	private static final String XMLNS = "xmlns";
+
+	/**
+	 * 转换XML为JSONObject
+	 *
+	 * @param reader      XML内容
+	 * @param parseConfig 解析选项，{@code null}使用默认选项
+	 * @param jsonConfig  JSON选项，{@code null}使用默认选项
+	 * @return JSONObject
+	 * @throws JSONException 解析异常
+	 */
+	public static JSONObject parseJSONObject(final Reader reader, final ParseConfig parseConfig, final JSONConfig jsonConfig) throws JSONException {
+		return parseJSONObject(createReader(reader), parseConfig, jsonConfig);
+	}
+
+	/**
+	 * 转换XML为JSONObject，编码由XML声明决定，默认UTF-8
+	 *
+	 * @param in          XML内容
+	 * @param parseConfig 解析选项，{@code null}使用默认选项
+	 * @param jsonConfig  JSON选项，{@code null}使用默认选项
+	 * @return JSONObject
+	 * @throws JSONException 解析异常
+	 */
+	public static JSONObject parseJSONObject(final InputStream in, final ParseConfig parseConfig, final JSONConfig jsonConfig) throws JSONException {
+		return parseJSONObject(createReader(in), parseConfig, jsonConfig);
+	}
+
+	/**
+	 * 按记录节点读取XML，每个名称为recordTag的节点解析完毕后立即转换为JSONObject交给consumer，之后即被丢弃<br>
+	 * 记录节点可以出现在任意层级，其属性、子节点和文本按照通用规则放入JSONObject（即使只有文本也不会被展开为值），
+	 * 记录节点之外的内容被忽略，记录节点中嵌套的同名节点作为普通子节点处理。
+	 *
+	 * @param reader      XML内容
+	 * @param recordTag   记录节点名，可以是带前缀的名称或本地名称
+	 * @param parseConfig 解析选项，{@code null}使用默认选项
+	 * @param jsonConfig  JSON选项，{@code null}使用默认选项
+	 * @param consumer    记录消费者
+	 * @throws JSONException 解析异常
+	 */
+	public static void parseRecords(final Reader reader, final String recordTag, final ParseConfig parseConfig,
+									final JSONConfig jsonConfig, final Consumer<JSONObject> consumer) throws JSONException {
+		parseRecords(createReader(reader), recordTag, parseConfig, jsonConfig, consumer);
+	}
+
+	/**
+	 * 按记录节点读取XML，每个名称为recordTag的节点解析完毕后立即转换为JSONObject交给consumer，之后即被丢弃<br>
+	 * 编码由XML声明决定，默认UTF-8，其它规则见{@link #parseRecords(Reader, String, ParseConfig, JSONConfig, Consumer)}
+	 *
+	 * @param in          XML内容
+	 * @param recordTag   记录节点名，可以是带前缀的名称或本地名称
+	 * @param parseConfig 解析选项，{@code null}使用默认选项
+	 * @param jsonConfig  JSON选项，{@code null}使用默认选项
+	 * @param consumer    记录消费者
+	 * @throws JSONException 解析异常
+	 */
+	public static void parseRecords(final InputStream in, final String recordTag, final ParseConfig parseConfig,
+									final JSONConfig jsonConfig, final Consumer<JSONObject> consumer) throws JSONException {
+		parseRecords(createReader(in), recordTag, parseConfig, jsonConfig, consumer);
+	}
+
+	/**
+	 * 按记录节点读取XML，并将所有记录作为JSONArray写出到{@link JSONGenerator}，整个过程中内存中最多只保留一条记录<br>
+	 * 记录规则见{@link #parseRecords(Reader, String, ParseConfig, JSONConfig, Consumer)}
+	 *
+	 * @param reader      XML内容
+	 * @param recordTag   记录节点名，可以是带前缀的名称或本地名称
+	 * @param parseConfig 解析选项，{@code null}使用默认选项
+	 * @param generator   {@link JSONGenerator}，当前位置必须可以写出值
+	 * @throws JSONException 解析异常
+	 */
+	public static void writeRecords(final Reader reader, final String recordTag, final ParseConfig parseConfig,
+									final JSONGenerator generator) throws JSONException {
+		generator.beginArray();
+		parseRecords(reader, recordTag, parseConfig, null, generator::value);
+		generator.endArray();
+	}
+
+	/**
+	 * 按记录节点读取XML，并将所有记录作为JSONArray写出到{@link JSONGenerator}，整个过程中内存中最多只保留一条记录<br>
+	 * 编码由XML声明决定，默认UTF-8，记录规则见{@link #parseRecords(Reader, String, ParseConfig, JSONConfig, Consumer)}
+	 *
+	 * @param in          XML内容
+	 * @param recordTag   记录节点名，可以是带前缀的名称或本地名称
+	 * @param parseConfig 解析选项，{@code null}使用默认选项
+	 * @param generator   {@link JSONGenerator}，当前位置必须可以写出值
+	 * @throws JSONException 解析异常
+	 */
+	public static void writeRecords(final InputStream in, final String recordTag, final ParseConfig parseConfig,
+									final JSONGenerator generator) throws JSONException {
+		generator.beginArray();
+		parseRecords(in, recordTag, parseConfig, null, generator::value);
+		generator.endArray();
+	}
+
+	// region ----- Private methods
+
+	/**
+	 * 解析整个XML为JSONObject
+	 *
+	 * @param xr          {@link XMLStreamReader}
+	 * @param parseConfig 解析选项
+	 * @param jsonConfig  JSON选项
+	 * @return JSONObject
+	 */
+	private static JSONObject parseJSONObject(final XMLStreamReader xr, final ParseConfig parseConfig, final JSONConfig jsonConfig) {
+		final JSONObject root = new JSONObject(jsonConfig);
+		final Handler handler = new Handler(parseConfig, jsonConfig, root);
+		try {
+			handler.run(xr, null, null);
+		} finally {
+			close(xr);
+		}
+		return root;
+	}
+
+	/**
+	 * 按记录节点读取XML
+	 *
+	 * @param xr          {@link XMLStreamReader}
+	 * @param recordTag   记录节点名
+	 * @param parseConfig 解析选项
+	 * @param jsonConfig  JSON选项
+	 * @param consumer    记录消费者
+	 */
+	private static void parseRecords(final XMLStreamReader xr, final String recordTag, final ParseConfig parseConfig,
+									 final JSONConfig jsonConfig, final Consumer<JSONObject> consumer) {
+		Assert.notBlank(recordTag, "Record tag must be not blank!");
+		Assert.notNull(consumer, "Consumer must be not null!");
+		final Handler handler = new Handler(parseConfig, jsonConfig, null);
+		try {
+			handler.run(xr, recordTag, consumer);
+		} finally {
+			close(xr);
+		}
+	}
+
+	/**
+	 * 创建{@link XMLStreamReader}
+	 *
+	 * @param source {@link Reader}或{@link InputStream}
+	 * @return {@link XMLStreamReader}
+	 */
+	private static XMLStreamReader createReader(final Object source) {
+		Assert.notNull(source, "XML source must be not null!");
+		try {
+			return (source instanceof Reader)
+					? FactoryHolder.FACTORY.createXMLStreamReader((Reader) source)
+					: FactoryHolder.FACTORY.createXMLStreamReader((InputStream) source);
+		} catch (final XMLStreamException e) {
+			throw new JSONException(e);
+		}
+	}
+
+	/**
+	 * 关闭{@link XMLStreamReader}，底层的流由调用者关闭
+	 *
+	 * @param xr {@link XMLStreamReader}
+	 */
+	private static void close(final XMLStreamReader xr) {
+		try {
+			xr.close();
+		} catch (final XMLStreamException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * 获取带前缀的节点名或属性名，与原始XML中的写法一致
+	 *
+	 * @param prefix    前缀
+	 * @param localName 本地名称
+	 * @return 名称
+	 */
+	private static String qualifiedName(final String prefix, final String localName) {
+		return StrUtil.isEmpty(prefix) ? localName : prefix + StrUtil.C_COLON + localName;
+	}
+
+	/**
+	 * 延迟初始化的{@link XMLInputFactory}，配置后的工厂创建Reader是线程安全的
+	 */
+	private static class FactoryHolder {
+		static final XMLInputFactory FACTORY = createFactory();
+
+		private static XMLInputFactory createFactory() {
+			final XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+			// 文本和CDATA需要分别处理，不合并
+			factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+			// 防止XXE
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			return factory;
+		}
+	}
+
+	/**
+	 * 解析过程，维护当前打开的节点栈
+	 */
+	private static class Handler {
+		private final boolean keepStrings;
+		private final int maxNestingDepth;
+		private final JSONConfig jsonConfig;
+		/**
+		 * 根JSONObject，记录模式下为{@code null}
+		 */
+		private final JSONObject root;
+		/**
+		 * 当前打开的节点，记录模式下只包含记录节点及其子节点
+		 */
+		private final Deque<Element> stack = new ArrayDeque<>();
+		/**
+		 * 未写入的文本
+		 */
+		private final StringBuilder text = new StringBuilder();
+
+		Handler(final ParseConfig parseConfig, final JSONConfig jsonConfig, final JSONObject root) {
+			final ParseConfig config = ObjectUtil.defaultIfNull(parseConfig, ParseConfig::of);
+			this.keepStrings = config.isKeepStrings();
+			this.maxNestingDepth = config.getMaxNestingDepth();
+			this.jsonConfig = jsonConfig;
+			this.root = root;
+		}
+
+		/**
+		 * 读取所有事件
+		 *
+		 * @param xr        {@link XMLStreamReader}
+		 * @param recordTag 记录节点名，{@code null}表示解析整个XML
+		 * @param consumer  记录消费者
+		 */
+		void run(final XMLStreamReader xr, final String recordTag, final Consumer<JSONObject> consumer) {
+			// 当前节点层级，根节点为0
+			int depth = -1;
+			try {
+				while (xr.hasNext()) {
+					switch (xr.next()) {
+						case XMLStreamConstants.START_ELEMENT:
+							depth++;
+							// 与JSONXMLParser一致，层级达到最大深度的节点不可再包含内容
+							if (maxNestingDepth > -1 && depth >= maxNestingDepth) {
+								throw new JSONException("Maximum nesting depth of {} reached at {}", maxNestingDepth, xr.getLocation());
+							}
+							if (null != recordTag && stack.isEmpty()) {
+								if (recordTag.equals(xr.getLocalName())
+										|| recordTag.equals(qualifiedName(xr.getPrefix(), xr.getLocalName()))) {
+									startElement(xr);
+								}
+							} else {
+								startElement(xr);
+							}
+							break;
+						case XMLStreamConstants.END_ELEMENT:
+							depth--;
+							if (false == stack.isEmpty()) {
+								endElement(consumer);
+							}
+							break;
+						case XMLStreamConstants.CHARACTERS:
+						case XMLStreamConstants.SPACE:
+						case XMLStreamConstants.ENTITY_REFERENCE:
+							if (false == stack.isEmpty()) {
+								text.append(xr.getTextCharacters(), xr.getTextStart(), xr.getTextLength());
+							}
+							break;
+						case XMLStreamConstants.CDATA:
+							if (false == stack.isEmpty()) {
+								flushText();
+								// CDATA保持原样
+								if (xr.getTextLength() > 0) {
+									stack.peek().object.accumulate(CONTENT, xr.getText());
+								}
+							}
+							break;
+						default:
+							// 注释、指令、DTD等忽略，但会分隔文本，与JSONXMLParser一致
+							if (false == stack.isEmpty()) {
+								flushText();
+							}
+							break;
+					}
+				}
+			} catch (final XMLStreamException e) {
+				throw new JSONException(e);
+			}
+		}
+
+		/**
+		 * 节点开始，读取属性
+		 *
+		 * @param xr {@link XMLStreamReader}
+		 */
+		private void startElement(final XMLStreamReader xr) {
+			if (false == stack.isEmpty()) {
+				flushText();
+			}
+			final JSONObject object = new JSONObject(jsonConfig);
+			// 命名空间声明在原始XML中也是属性
+			final int nsCount = xr.getNamespaceCount();
+			for (int i = 0; i < nsCount; i++) {
+				final String prefix = xr.getNamespacePrefix(i);
+				final String name = StrUtil.isEmpty(prefix) ? XMLNS : qualifiedName(XMLNS, prefix);
+				object.accumulate(name, toValue(StrUtil.nullToEmpty(xr.getNamespaceURI(i))));
+			}
+			final int attrCount = xr.getAttributeCount();
+			for (int i = 0; i < attrCount; i++) {
+				object.accumulate(qualifiedName(xr.getAttributePrefix(i), xr.getAttributeLocalName(i)), toValue(xr.getAttributeValue(i)));
+			}
+			stack.push(new Element(qualifiedName(xr.getPrefix(), xr.getLocalName()), object));
+		}
+
+		/**
+		 * 节点结束，将节点放入父节点，记录节点则交给consumer
+		 *
+		 * @param consumer 记录消费者
+		 */
+		private void endElement(final Consumer<JSONObject> consumer) {
+			flushText();
+			final Element element = stack.pop();
+			final JSONObject object = element.object;
+			if (stack.isEmpty()) {
+				if (null == root) {
+					// 记录节点
+					consumer.accept(object);
+					return;
+				}
+				accumulate(root, element.name, object);
+			} else {
+				accumulate(stack.peek().object, element.name, object);
+			}
+		}
+
+		/**
+		 * 将节点放入父节点：空节点为""，只包含文本的节点为文本值，其它为JSONObject
+		 *
+		 * @param parent 父节点
+		 * @param name   节点名
+		 * @param object 节点内容
+		 */
+		private void accumulate(final JSONObject parent, final String name, final JSONObject object) {
+			if (object.isEmpty()) {
+				parent.accumulate(name, StrUtil.EMPTY);
+			} else if (object.size() == 1 && null != object.get(CONTENT)) {
+				parent.accumulate(name, object.get(CONTENT));
+			} else {
+				parent.accumulate(name, object);
+			}
+		}
+
+		/**
+		 * 将缓存的文本去除首尾空白后作为"content"放入当前节点
+		 */
+		private void flushText() {
+			if (text.length() > 0) {
+				final String str = StrUtil.trim(text);
+				text.setLength(0);
+				if (false == str.isEmpty()) {
+					stack.peek().object.accumulate(CONTENT, toValue(str));
+				}
+			}
+		}
+
+		/**
+		 * 按照keepStrings选项转换值
+		 *
+		 * @param str 字符串
+		 * @return 值
+		 */
+		private Object toValue(final String str) {
+			return keepStrings ? str : InternalJSONUtil.stringToValue(str);
+		}
+	}
+
+	/**
+	 * 打开的节点
+	 */
+	private static class Element {
+		final String name;
+		final JSONObject object;
+
+		Element(final String name, final JSONObject object) {
+			this.name = name;
+			this.object = object;
+		}
+	}
+	// endregion
+}
@@ -0,0 +1,92 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.map.MapUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link JSONLinesReader}和{@link JSONLinesWriter}单元测试
+ *
+ * @author looly
+ */
+public class JSONLinesTest {
+
+	@Test
+	public void writeAndReadTest() {
+		final File file = FileUtil.createTempFile(".jsonl", true);
+		try {
+			try (JSONLinesWriter writer = JSONLinesWriter.of(file)) {
+				writer.writeAll(IntStream.range(0, 1000)
+						.mapToObj(i -> MapUtil.builder("id", (Object) i).put("name", "名称" + i).build())
+						.iterator());
+				writer.write("  [1,2]  ");
+				writer.write(null);
+			}
+			// 模拟Windows换行和空行
+			FileUtil.appendUtf8String("\r\n{\"id\":1000}\r\n", file);
+
+			final List<JSON> result = new ArrayList<>();
+			final ForkJoinPool pool = new ForkJoinPool(4);
+			try (JSONLinesReader reader = JSONLinesReader.of(file).setChunkSize(100).setPool(pool)) {
+				reader.read(result::add);
+			} finally {
+				pool.shutdown();
+			}
+			assertEquals(1002, result.size());
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(i, ((JSONObject) result.get(i)).getInt("id"));
+				assertEquals("名称" + i, ((JSONObject) result.get(i)).getStr("name"));
+			}
+			assertEquals(JSONUtil.parseArray("[1,2]"), result.get(1000));
+			assertEquals(1000, ((JSONObject) result.get(1001)).getInt("id"));
+
+			try (JSONLinesReader reader = JSONLinesReader.of(file).setChunkSize(333);
+				 Stream<JSON> stream = reader.stream(json -> json instanceof JSONObject ? json : null)) {
+				final List<Integer> ids = stream.map(json -> ((JSONObject) json).getInt("id")).collect(Collectors.toList());
+				assertEquals(IntStream.rangeClosed(0, 1000).boxed().collect(Collectors.toList()), ids);
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void writeValueTest() {
+		final StringWriter out = new StringWriter();
+		try (JSONLinesWriter writer = JSONLinesWriter.of(out)) {
+			writer.write(JSONUtil.toJsonPrettyStr(MapUtil.builder("a", (Object) 1).put("b", "x").build()));
+			writer.write("[1,\r\n2]");
+			writer.write(12);
+			writer.write(1.5D);
+			writer.write(true);
+			writer.write('c');
+		}
+		assertEquals("{\"a\":1,\"b\":\"x\"}\n[1,2]\n12\n1.5\ntrue\n\"c\"\n", out.toString());
+	}
+
+	@Test
+	public void readErrorTest() {
+		final File file = FileUtil.createTempFile(".jsonl", true);
+		try {
+			FileUtil.writeUtf8String("{\"a\":1}\n{\"a\":\n", file);
+			try (JSONLinesReader reader = JSONLinesReader.of(file)) {
+				final JSONException e = assertThrows(JSONException.class, () -> reader.read(json -> {
+				}));
+				assertTrue(e.getMessage().contains("byte 8"));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
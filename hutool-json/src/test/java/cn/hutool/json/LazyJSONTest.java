@@ -0,0 +1,90 @@
+package cn.hutool.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link LazyJSON}单元测试
+ *
+ * @author looly
+ */
+public class LazyJSONTest {
+
+	private static final String JSON_STR = "{\"header\":{\"traceId\":\"abc\",\"ts\":1700000000000},"
+			+ "\"body\":{\"items\":[{\"name\":\"a\",\"tags\":[\"x\",\"y\"]},{\"name\":\"b\\\"c\"},null,3.5],"
+			+ "\"text\":\"{not [a] structure}\",\"nil\":null},"
+			+ "\"dup\":1,\"dup\":2}";
+
+	@Test
+	public void getByPathTest() {
+		final LazyJSON json = JSONUtil.parseLazy(JSON_STR);
+		final JSONObject full = JSONUtil.parseObj(JSON_STR);
+
+		for (String expression : Arrays.asList("header.traceId", "$.header.ts", "body.items[0].name",
+				"body.items[1].name", "body.items[0].tags[1]", "body.items[2]", "body.text", "body.nil",
+				"body.notExist", "dup", "body.items[0]", "body.items[-1]", "body.items[0:2]", "body.items.name",
+				"header['traceId','ts']")) {
+			assertEquals(full.getByPath(expression), json.getByPath(expression), expression);
+		}
+
+		assertEquals("abc", JSONUtil.getByPath(json, "header.traceId", ""));
+		assertEquals(Long.valueOf(1700000000000L), json.getByPath("header.ts", Long.class));
+	}
+
+	@Test
+	public void getByPathIgnoreNullTest() {
+		final JSONConfig config = JSONConfig.create().setIgnoreNullValue(true);
+		final LazyJSON json = JSONUtil.parseLazy(JSON_STR, config);
+		final JSONObject full = JSONUtil.parseObj(JSON_STR, config);
+
+		assertNull(json.getByPath("body.nil"));
+		// null元素被忽略，下标前移
+		assertEquals(full.getByPath("body.items[2]"), json.getByPath("body.items[2]"));
+		assertEquals(full.getByPath("body.items[3]"), json.getByPath("body.items[3]"));
+	}
+
+	@Test
+	public void getByPointerTest() {
+		final LazyJSON json = JSONUtil.parseLazy("{\"a/b\":{\"m~n\":[1,{\"k\":true}]}}");
+		assertEquals(Boolean.TRUE, json.getByPointer("/a~1b/m~0n/1/k"));
+		assertEquals(1, json.getByPointer("/a~1b/m~0n/0", Integer.class));
+		assertNull(json.getByPointer("/a~1b/m~0n/x"));
+		assertEquals(json.toJSON(), json.getByPointer(""));
+	}
+
+	@Test
+	public void arrayRootTest() {
+		final String str = "[{\"id\":1},{\"id\":2,\"sub\":[[1],[2,3]]}]";
+		final LazyJSON json = JSONUtil.parseLazy(str);
+		assertFalse(json.isObject());
+		assertEquals(3, json.getByPath("[1].sub[1][1]"));
+		assertEquals(JSONUtil.parseArray(str).toString(), json.toString());
+	}
+
+	@Test
+	public void putByPathTest() {
+		final LazyJSON json = JSONUtil.parseLazy(JSON_STR);
+		assertEquals("abc", json.getByPath("header.traceId"));
+
+		// 修改后读取解析后的JSON
+		json.putByPath("header.traceId", "def");
+		json.putByPath("body.items[0].tags[0]", "z");
+		assertEquals("def", json.getByPath("header.traceId"));
+		assertEquals("def", json.getByPointer("/header/traceId"));
+		assertEquals("z", json.getByPath("body.items[0].tags[0]"));
+		assertEquals("z", json.getByPointer("/body/items/0/tags/0"));
+		assertNull(json.getByPointer("/body/items/9"));
+		assertNull(json.getByPointer("/header/traceId/x"));
+		assertEquals("def", JSONUtil.parseObj(json.toString()).getByPath("header.traceId"));
+	}
+
+	@Test
+	public void badJsonTest() {
+		assertThrows(JSONException.class, () -> JSONUtil.parseLazy("{\"a\":[1,2}"));
+		assertThrows(JSONException.class, () -> JSONUtil.parseLazy("{\"a\":1"));
+		assertThrows(JSONException.class, () -> JSONUtil.parseLazy("abc"));
+	}
+}
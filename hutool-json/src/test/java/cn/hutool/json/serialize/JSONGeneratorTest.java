@@ -0,0 +1,78 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link JSONGenerator}单元测试
+ *
+ * @author looly
+ */
+public class JSONGeneratorTest {
+
+	@Test
+	public void generateTest() {
+		for (int indentFactor : new int[]{0, 2}) {
+			final StringWriter writer = new StringWriter();
+			final List<User> users = IntStream.range(0, 3).mapToObj(i -> new User(i, "用户" + i)).collect(Collectors.toList());
+			try (JSONGenerator generator = JSONGenerator.of(writer, indentFactor, null)) {
+				generator.beginObject()
+						.field("total", 3)
+						.field("skip", null)
+						.name("meta").beginObject().field("tags", ListUtil.of("a", "b")).endObject()
+						.name("users").writeArray(users.stream())
+						.name("empty").beginArray().endArray()
+						.endObject();
+			}
+
+			final JSONObject expected = JSONUtil.createObj(JSONConfig.create().setIgnoreNullValue(true))
+					.set("total", 3)
+					.set("meta", JSONUtil.createObj().set("tags", ListUtil.of("a", "b")))
+					.set("users", new JSONArray(users))
+					.set("empty", new JSONArray());
+			assertEquals(expected.toJSONString(indentFactor), writer.toString());
+		}
+	}
+
+	@Test
+	public void outputStreamTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final JSONGenerator generator = JSONGenerator.of(out, 0, JSONConfig.create().setIgnoreNullValue(false));
+		generator.beginArray().value(1).value(null).value("中文").value(new User(1, "a")).endArray().flush();
+		assertEquals("[1,null,\"中文\",{\"id\":1,\"name\":\"a\"}]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void illegalStateTest() {
+		final JSONGenerator generator = JSONGenerator.of(new StringWriter());
+		assertThrows(JSONException.class, () -> generator.name("a"));
+		generator.beginObject();
+		assertThrows(JSONException.class, () -> generator.value(1));
+		assertThrows(JSONException.class, generator::endArray);
+		generator.name("a");
+		assertThrows(JSONException.class, generator::endObject);
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class User {
+		private int id;
+		private String name;
+	}
+}
@@ -0,0 +1,102 @@
+package cn.hutool.json.xml;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.json.XML;
+import cn.hutool.json.serialize.JSONGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link JSONXMLStreamParser}单元测试
+ *
+ * @author looly
+ */
+public class JSONXMLStreamParserTest {
+
+	private static final String SOAP = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+			"<!-- 注释 -->\n" +
+			"<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n" +
+			"  <soap:Body>\n" +
+			"    <GetOrdersResponse total=\"3\" status=\"ok\">\n" +
+			"      <order id=\"001\"><name>书 &amp; 笔</name><price>12.50</price><paid>true</paid></order>\n" +
+			"      <order id=\"2\"><name><![CDATA[<b>纸</b>]]></name><price>3</price><paid/></order>\n" +
+			"      <order id=\"3\">文本<name>墨</name>尾部<?pi data?><empty></empty></order>\n" +
+			"    </GetOrdersResponse>\n" +
+			"  </soap:Body>\n" +
+			"</soap:Envelope>";
+
+	@Test
+	public void sameAsJSONXMLParserTest() {
+		for (boolean keepStrings : new boolean[]{false, true}) {
+			final ParseConfig config = ParseConfig.of().setKeepStrings(keepStrings);
+			final JSONObject expected = XML.toJSONObject(SOAP, config);
+			assertEquals(expected, XML.toJSONObject(new StringReader(SOAP), config));
+			assertEquals(expected, XML.toJSONObject(new ByteArrayInputStream(SOAP.getBytes(StandardCharsets.UTF_8)), config));
+		}
+
+		final JSONObject json = XML.toJSONObject(new StringReader(SOAP), null);
+		final JSONArray orders = json.getJSONObject("soap:Envelope").getJSONObject("soap:Body")
+				.getJSONObject("GetOrdersResponse").getJSONArray("order");
+		assertEquals(3, orders.size());
+		assertEquals("书 & 笔", orders.getJSONObject(0).getStr("name"));
+		assertEquals("<b>纸</b>", orders.getJSONObject(1).getStr("name"));
+		assertEquals("", orders.getJSONObject(1).getStr("paid"));
+		assertEquals(JSONUtil.parseArray("[\"文本\",\"尾部\"]"), orders.getJSONObject(2).getJSONArray("content"));
+	}
+
+	@Test
+	public void maxNestingDepthTest() {
+		final String xml = "<a><b><c>1</c></b></a>";
+		final ParseConfig config = ParseConfig.of().setMaxNestingDepth(3);
+		assertEquals(XML.toJSONObject(xml, config), XML.toJSONObject(new StringReader(xml), config));
+
+		config.setMaxNestingDepth(2);
+		assertThrows(JSONException.class, () -> XML.toJSONObject(xml, config));
+		assertThrows(JSONException.class, () -> XML.toJSONObject(new StringReader(xml), config));
+	}
+
+	@Test
+	public void parseRecordsTest() {
+		final List<JSONObject> records = new ArrayList<>();
+		JSONXMLStreamParser.parseRecords(new StringReader(SOAP), "order", null, null, records::add);
+		assertEquals(3, records.size());
+		assertEquals(1, records.get(0).getInt("id"));
+		assertEquals(12.5D, records.get(0).getDouble("price"));
+		assertEquals("墨", records.get(2).getStr("name"));
+
+		final StringWriter writer = new StringWriter();
+		try (JSONGenerator generator = JSONGenerator.of(writer)) {
+			generator.beginObject().name("orders");
+			JSONXMLStreamParser.writeRecords(new StringReader(SOAP), "order", ParseConfig.of().setKeepStrings(true), generator);
+			generator.endObject();
+		}
+		final JSONArray orders = JSONUtil.parseObj(writer.toString()).getJSONArray("orders");
+		assertEquals(3, orders.size());
+		assertEquals("001", orders.getJSONObject(0).getStr("id"));
+	}
+
+	@Test
+	public void xxeTest() {
+		final String xml = "<?xml version=\"1.0\"?><!DOCTYPE a [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><a>&xxe;</a>";
+		try {
+			final JSONObject json = XML.toJSONObject(new StringReader(xml), null);
+			// 实体未被解析
+			assertFalse(StrUtil.contains(json.toString(), "root:"));
+		} catch (final JSONException e) {
+			// 禁用DTD后未声明的实体报错同样可以接受
+			assertNotNull(e.getCause());
+		}
+	}
+}